@@ -0,0 +1,107 @@
+#!/usr/bin/env python3
+"""Compares two JMH result files (JSON format, as written by `-rf json`).
+
+Usage:
+    compare.py BASELINE.json CURRENT.json [--threshold PERCENT]
+
+Prints one row per benchmark/parameter combination present in both files, with
+the relative change of the primary score.  A change is flagged as a regression
+when it is worse than the baseline by more than the threshold (default 10%) and
+the difference is larger than the combined error of both measurements.
+
+Exits with status 1 if any regression was found, so it can gate a release.
+"""
+
+import argparse
+import json
+import sys
+
+# Modes in which a lower score is better.  Throughput ("thrpt") is the only
+# mode where a higher score is better.
+LOWER_IS_BETTER = {"avgt", "sample", "ss"}
+
+
+def load(path):
+    with open(path) as f:
+        results = json.load(f)
+    by_key = {}
+    for result in results:
+        params = tuple(sorted(result.get("params", {}).items()))
+        by_key[(result["benchmark"], params)] = result
+    return by_key
+
+
+def short_name(benchmark):
+    parts = benchmark.split(".")
+    return ".".join(parts[-2:])
+
+
+def format_params(params):
+    return ", ".join("%s=%s" % (k, v) for k, v in params)
+
+
+def relative_change(baseline, current, mode):
+    """Positive means better, negative means worse."""
+    if baseline == 0:
+        return 0.0
+    change = (current - baseline) / baseline
+    return -change if mode in LOWER_IS_BETTER else change
+
+
+def error_of(result):
+    error = result["primaryMetric"].get("scoreError")
+    try:
+        error = float(error)
+    except (TypeError, ValueError):
+        return 0.0
+    return 0.0 if error != error else error  # NaN when only one iteration was run
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Compare two JMH JSON result files.")
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=10.0,
+                        help="regression threshold in percent (default: 10)")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+
+    rows = []
+    regressions = 0
+    for key in sorted(baseline.keys() & current.keys()):
+        old, new = baseline[key], current[key]
+        mode = new["mode"]
+        old_score = old["primaryMetric"]["score"]
+        new_score = new["primaryMetric"]["score"]
+        change = relative_change(old_score, new_score, mode)
+        noise = error_of(old) + error_of(new)
+        flag = ""
+        if -change * 100 > args.threshold and abs(new_score - old_score) > noise:
+            flag = "REGRESSION"
+            regressions += 1
+        elif change * 100 > args.threshold and abs(new_score - old_score) > noise:
+            flag = "improved"
+        rows.append((short_name(key[0]), format_params(key[1]), old_score, new_score,
+                     new["primaryMetric"]["scoreUnit"], change * 100, flag))
+
+    if rows:
+        name_width = max(len(r[0]) for r in rows)
+        param_width = max(len(r[1]) for r in rows)
+        for name, params, old_score, new_score, unit, change, flag in rows:
+            print("%-*s  %-*s  %14.3f -> %14.3f %-8s %+7.1f%%  %s"
+                  % (name_width, name, param_width, params, old_score, new_score, unit, change, flag))
+
+    only_baseline = len(baseline.keys() - current.keys())
+    only_current = len(current.keys() - baseline.keys())
+    if only_baseline or only_current:
+        print("\n%d result(s) only in baseline, %d only in current (not compared)"
+              % (only_baseline, only_current))
+
+    print("\n%d compared, %d regression(s) beyond %.1f%%" % (len(rows), regressions, args.threshold))
+    return 1 if regressions else 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
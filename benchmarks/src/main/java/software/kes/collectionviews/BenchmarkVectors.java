@@ -0,0 +1,41 @@
+package software.kes.collectionviews;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Constructs the concrete {@code Vector} implementations under benchmark directly, so that
+ * a benchmark parameter always exercises the same view type, regardless of which type a
+ * public factory method happens to choose in a given release.
+ */
+public final class BenchmarkVectors {
+
+    private BenchmarkVectors() {
+
+    }
+
+    public static Vector<Integer> wrappedArray(int size) {
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = i;
+        }
+        return new WrappedArrayVector<>(arr);
+    }
+
+    public static ImmutableVector<Integer> immutableList(int size) {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return new ImmutableListVector<>(list);
+    }
+
+    public static ImmutableVector<Integer> lazy(int size) {
+        return new LazyVector<>(size, 0, i -> i);
+    }
+
+    public static ImmutableVector<Integer> repeating(int size) {
+        return new RepeatingVector<>(size, 1);
+    }
+
+}
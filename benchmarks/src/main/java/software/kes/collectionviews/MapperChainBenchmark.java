@@ -0,0 +1,67 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
+
+/**
+ * Per-element cost of applying a chain of mappers, comparing {@link MapperChain} against the
+ * previous implementation, which folded over a list of functions on every application.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class MapperChainBenchmark {
+
+    @Param({"1", "3", "5", "10"})
+    public int length;
+
+    private Fn1<Object, Object> fused;
+    private Fn1<Object, Object> folded;
+    private Integer input;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MapperChain chain = MapperChain.empty();
+        ArrayList<Function<Object, Object>> fns = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            int k = i;
+            Fn1<Object, Object> f = x -> (Integer) x + k;
+            chain = chain.add(f);
+            fns.add(f::apply);
+        }
+        fused = chain.getFn();
+        folded = o -> foldLeft((x, fn) -> fn.apply(x), o, fns);
+        input = 42;
+    }
+
+    @Benchmark
+    public Object fused() {
+        return fused.apply(input);
+    }
+
+    @Benchmark
+    public Object folded() {
+        return folded.apply(input);
+    }
+
+}
@@ -0,0 +1,145 @@
+package software.kes.collectionviews.benchmarks;
+
+import com.jnape.palatable.lambda.functions.builtin.fn2.Take;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.kes.collectionviews.ImmutableSet;
+import software.kes.collectionviews.ImmutableVector;
+import software.kes.collectionviews.Set;
+import software.kes.collectionviews.Vector;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copying {@code Iterable}s of various kinds into {@code ImmutableVector}s and {@code ImmutableSet}s.
+ * <p>
+ * Each benchmark has a {@code Baseline} counterpart that takes the path used up to 2.0.0, which iterated every source
+ * other than a {@code Vector} into a growing {@code ArrayList}, and went through a lazy {@code Take} for a
+ * {@code maxCount}.
+ * <p>
+ * Run with {@code -prof gc} to see the bytes allocated per copy ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CopyFromBenchmark {
+
+    public enum SourceKind {
+        ARRAY_LIST,
+        ARRAY_DEQUE,
+        LINKED_HASH_SET,
+        VECTOR_SLICE,
+        UNSIZED_ITERABLE
+    }
+
+    @State(Scope.Benchmark)
+    public static class SourceState {
+
+        @Param({"ARRAY_LIST", "ARRAY_DEQUE", "LINKED_HASH_SET", "VECTOR_SLICE", "UNSIZED_ITERABLE"})
+        public SourceKind kind;
+
+        @Param({"10", "1000", "100000"})
+        public int size;
+
+        public Iterable<Integer> source;
+
+        /**
+         * Iterates {@code source}, but hides its type, so that copying it takes the path for an unsized
+         * {@code Iterable}.
+         */
+        public Iterable<Integer> unsized;
+
+        @Setup
+        public void setUp() {
+            ArrayList<Integer> elements = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                elements.add(i);
+            }
+            switch (kind) {
+                case ARRAY_LIST:
+                    source = elements;
+                    break;
+                case ARRAY_DEQUE:
+                    source = new ArrayDeque<>(elements);
+                    break;
+                case LINKED_HASH_SET:
+                    source = new LinkedHashSet<>(elements);
+                    break;
+                case VECTOR_SLICE:
+                    source = Vector.wrap(elements).drop(0);
+                    break;
+                default:
+                    source = elements::iterator;
+                    break;
+            }
+            Iterable<Integer> sized = source;
+            unsized = sized::iterator;
+        }
+
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> vectorCopyFrom(SourceState state) {
+        return Vector.copyFrom(state.source);
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> vectorCopyFromBaseline(SourceState state) {
+        return Vector.copyFrom(state.source instanceof Vector<?> ? state.source : state.unsized);
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> vectorCopyFromMaxCount(SourceState state) {
+        return Vector.copyFrom(state.size / 2, state.source);
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> vectorCopyFromMaxCountBaseline(SourceState state) {
+        return Vector.copyFrom(Take.take(state.size / 2, state.source));
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> vectorCopySliceFrom(SourceState state) {
+        return Vector.copySliceFrom(state.size / 4, state.size - state.size / 4, state.source);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public ImmutableVector<Integer> vectorCopySliceFromBaseline(SourceState state) {
+        int from = state.size / 4;
+        int to = state.size - state.size / 4;
+        if (state.source instanceof Vector<?>) {
+            return ((Vector<Integer>) state.source).slice(from, to).toImmutable();
+        } else if (state.source instanceof List<?>) {
+            return Vector.wrap((List<Integer>) state.source).slice(from, to).toImmutable();
+        } else {
+            return Vector.copySliceFrom(from, to, state.unsized);
+        }
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> setCopyFromMaxCount(SourceState state) {
+        return Set.copyFrom(state.size / 2, state.source);
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> setCopyFromMaxCountBaseline(SourceState state) {
+        return Set.copyFrom(Take.take(state.size / 2, state.source));
+    }
+
+}
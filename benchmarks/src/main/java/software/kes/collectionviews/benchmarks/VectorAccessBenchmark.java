@@ -0,0 +1,56 @@
+package software.kes.collectionviews.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Element access on untransformed vectors.  Every operation touches every element once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class VectorAccessBenchmark {
+
+    @Benchmark
+    public void unsafeGet(VectorState state, Blackhole blackhole) {
+        VectorState.consumeAll(state.vector, blackhole);
+    }
+
+    @Benchmark
+    public void iterate(VectorState state, Blackhole blackhole) {
+        for (Integer element : state.vector) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public long streamSum(VectorState state) {
+        return state.vector.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelStreamSum(VectorState state) {
+        return state.vector.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public boolean equalsEqualCopy(VectorState state) {
+        return state.vector.equals(state.equalCopy);
+    }
+
+    @Benchmark
+    public int hashCode(VectorState state) {
+        return state.vector.hashCode();
+    }
+
+}
@@ -0,0 +1,33 @@
+package software.kes.collectionviews.benchmarks;
+
+import software.kes.collectionviews.BenchmarkVectors;
+import software.kes.collectionviews.Vector;
+
+public enum VectorKind {
+    WRAPPED_ARRAY {
+        @Override
+        Vector<Integer> create(int size) {
+            return BenchmarkVectors.wrappedArray(size);
+        }
+    },
+    IMMUTABLE_LIST {
+        @Override
+        Vector<Integer> create(int size) {
+            return BenchmarkVectors.immutableList(size);
+        }
+    },
+    LAZY {
+        @Override
+        Vector<Integer> create(int size) {
+            return BenchmarkVectors.lazy(size);
+        }
+    },
+    REPEATING {
+        @Override
+        Vector<Integer> create(int size) {
+            return BenchmarkVectors.repeating(size);
+        }
+    };
+
+    abstract Vector<Integer> create(int size);
+}
@@ -0,0 +1,42 @@
+package software.kes.collectionviews.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import software.kes.collectionviews.Vector;
+
+@State(Scope.Benchmark)
+public class VectorState {
+
+    @Param({"WRAPPED_ARRAY", "IMMUTABLE_LIST", "LAZY", "REPEATING"})
+    public VectorKind kind;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * The vector under test.
+     */
+    public Vector<Integer> vector;
+
+    /**
+     * A distinct instance with the same elements as {@code vector}, for equality benchmarks.
+     */
+    public Vector<Integer> equalCopy;
+
+    @Setup
+    public void setUp() {
+        vector = kind.create(size);
+        equalCopy = kind.create(size);
+    }
+
+    static void consumeAll(Vector<?> vector, Blackhole blackhole) {
+        int size = vector.size();
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(vector.unsafeGet(i));
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package software.kes.collectionviews.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.kes.collectionviews.Vector;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction of transformed views, followed by a full read of the result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class VectorTransformBenchmark {
+
+    private static final Vector<Integer> CROSS_OTHER = Vector.of(1, 2, 3, 4);
+
+    @Benchmark
+    public void fmapChain(VectorState state, Blackhole blackhole) {
+        Vector<Integer> mapped = state.vector
+                .fmap(n -> n + 1)
+                .fmap(n -> n * 2)
+                .fmap(n -> n - 3)
+                .fmap(n -> n ^ 5);
+        VectorState.consumeAll(mapped, blackhole);
+    }
+
+    @Benchmark
+    public void sliceNesting(VectorState state, Blackhole blackhole) {
+        int size = state.size;
+        Vector<Integer> sliced = state.vector
+                .drop(1)
+                .take(size - 2)
+                .slice(1, size - 3)
+                .dropRight(1)
+                .takeRight(size - 6);
+        VectorState.consumeAll(sliced, blackhole);
+    }
+
+    @Benchmark
+    public void reverse(VectorState state, Blackhole blackhole) {
+        VectorState.consumeAll(state.vector.reverse(), blackhole);
+    }
+
+    @Benchmark
+    public void cross(VectorState state, Blackhole blackhole) {
+        VectorState.consumeAll(state.vector.cross(CROSS_OTHER), blackhole);
+    }
+
+    @Benchmark
+    public void zipWith(VectorState state, Blackhole blackhole) {
+        VectorState.consumeAll(state.vector.zipWith(Integer::sum, state.equalCopy), blackhole);
+    }
+
+}
@@ -0,0 +1,69 @@
+package software.kes.collectionviews;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@code Vector} of fixed-width records that are decoded from a {@code ByteBuffer} each time they are read.
+ * <p>
+ * Slices of a {@code ByteBufferVector} are {@code ByteBufferVector}s over the same buffer, with a different offset.
+ */
+final class ByteBufferVector<A> extends ConcreteVector<A>
+        implements NonEmptyVector<A>, Primitive {
+    /**
+     * A read-only view of the wrapped buffer, positioned so that index 0 is the first byte of the first record.
+     */
+    private final ByteBuffer underlying;
+    private final int offset;
+    private final int size; // must be >= 1
+    private final int recordSize;
+    private final RecordDecoder<? extends A> decoder;
+
+    private ByteBufferVector(ByteBuffer underlying, int offset, int size, int recordSize,
+                             RecordDecoder<? extends A> decoder) {
+        assert (size >= 1);
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+        this.recordSize = recordSize;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return decoder.decode(underlying, offset + index * recordSize);
+    }
+
+    /**
+     * {@code startIndex} and {@code count} must describe a non-empty range within this vector.
+     */
+    ByteBufferVector<A> subVector(int startIndex, int count) {
+        return new ByteBufferVector<>(underlying, offset + startIndex * recordSize, count, recordSize, decoder);
+    }
+
+    static <A> Vector<A> byteBufferVector(ByteBuffer underlying, int recordSize, RecordDecoder<? extends A> decoder) {
+        Validation.requirePositive("recordSize", recordSize);
+        int remaining = underlying.remaining();
+        if (remaining % recordSize != 0) {
+            throw new IllegalArgumentException("remaining bytes in buffer must be a multiple of recordSize");
+        }
+        if (remaining == 0) {
+            return Vectors.empty();
+        }
+        ByteBuffer view = underlying.slice().asReadOnlyBuffer().order(underlying.order());
+        return new ByteBufferVector<>(view, 0, remaining / recordSize, recordSize, decoder);
+    }
+
+}
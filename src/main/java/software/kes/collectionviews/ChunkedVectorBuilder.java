@@ -0,0 +1,180 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A mutable builder for very large {@code ImmutableVector}s, which stores its elements in fixed-size chunks.
+ * <p>
+ * A {@link TransientVectorBuilder} keeps its elements in a single array, which has to be copied to a larger one as it
+ * grows, so building a vector briefly needs room for both the old and the new array.
+ * A {@code ChunkedVectorBuilder} instead appends to a chunk of 2<sup>14</sup> elements at a time and never copies a
+ * full chunk, so its peak memory overhead is bounded by a single chunk, and no single allocation grows with the
+ * number of elements.
+ * The resulting {@link ImmutableVector} reads an element by locating its chunk with a shift and a mask, in O(1).
+ * <p>
+ * Like a {@code TransientVectorBuilder}, a {@code ChunkedVectorBuilder} is mutated in place, is not safe to share
+ * between threads, and is invalidated by {@link ChunkedVectorBuilder#build}.
+ *
+ * @param <A> the element type
+ */
+public final class ChunkedVectorBuilder<A> {
+    private static final int DEFAULT_CHUNK_SHIFT = 14;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int chunkShift;
+    private Object[][] chunks;
+    private int chunkCount;
+    /**
+     * The last chunk in use.
+     */
+    private Object[] current;
+    private int currentSize;
+    private int size;
+
+    private ChunkedVectorBuilder(int chunkShift) {
+        this.chunkShift = chunkShift;
+        this.chunks = new Object[1][];
+    }
+
+    /**
+     * Adds an element to this {@code ChunkedVectorBuilder}.
+     *
+     * @param element the element to add
+     * @return this {@code ChunkedVectorBuilder}
+     * @throws IllegalStateException if this {@code ChunkedVectorBuilder} has already been built
+     */
+    public ChunkedVectorBuilder<A> add(A element) {
+        if (currentSize == capacity()) {
+            grow();
+        }
+        current[currentSize] = element;
+        currentSize += 1;
+        size += 1;
+        return this;
+    }
+
+    /**
+     * Adds all elements of an {@code Iterable} to this {@code ChunkedVectorBuilder}.
+     * <p>
+     * {@link Vector}s are copied in bulk, one chunk at a time, using {@link Vector#copyInto}.
+     *
+     * @param elements the elements to add.
+     *                 Not null.
+     * @return this {@code ChunkedVectorBuilder}
+     * @throws IllegalStateException if this {@code ChunkedVectorBuilder} has already been built
+     */
+    public ChunkedVectorBuilder<A> addAll(Iterable<? extends A> elements) {
+        Objects.requireNonNull(elements);
+        ensureNotBuilt();
+        if (elements instanceof Vector<?>) {
+            Vector<?> vector = (Vector<?>) elements;
+            int count = vector.size();
+            if (count > Integer.MAX_VALUE - size) {
+                throw new IllegalStateException("ChunkedVectorBuilder is full");
+            }
+            int copied = 0;
+            while (copied < count) {
+                if (currentSize == capacity()) {
+                    grow();
+                }
+                int n = Math.min(count - copied, current.length - currentSize);
+                vector.copyInto(current, currentSize, copied, copied + n);
+                currentSize += n;
+                size += n;
+                copied += n;
+            }
+        } else {
+            for (A element : elements) {
+                add(element);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Builds a new {@code ImmutableVector} containing the elements added to this {@code ChunkedVectorBuilder}, and
+     * invalidates this builder.
+     * <p>
+     * Does not copy the elements, unless they all fit within a single chunk.
+     *
+     * @return an {@code ImmutableVector<A>}
+     * @throws IllegalStateException if this {@code ChunkedVectorBuilder} has already been built
+     */
+    @SuppressWarnings("unchecked")
+    public ImmutableVector<A> build() {
+        ensureNotBuilt();
+        Object[][] result = Arrays.copyOf(chunks, chunkCount);
+        Object[] last = current;
+        chunks = null;
+        current = null;
+        if (size == 0) {
+            return Vectors.empty();
+        } else if (result.length == 1) {
+            return new ImmutableArrayVector<>((A[]) (last.length == size ? last : Arrays.copyOf(last, size)));
+        } else {
+            return new ImmutableChunkedVector<>(result, chunkShift, size);
+        }
+    }
+
+    /**
+     * Returns the number of elements added to this {@code ChunkedVectorBuilder} so far.
+     *
+     * @return an {@code int}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates a new, empty {@code ChunkedVectorBuilder}.
+     *
+     * @param <A> the element type
+     * @return an empty {@link ChunkedVectorBuilder}
+     */
+    public static <A> ChunkedVectorBuilder<A> chunkedBuilder() {
+        return new ChunkedVectorBuilder<>(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Creates a {@code ChunkedVectorBuilder} whose chunks hold {@code 1 << chunkShift} elements.
+     */
+    static <A> ChunkedVectorBuilder<A> chunkedBuilder(int chunkShift) {
+        assert (chunkShift >= 0 && chunkShift <= DEFAULT_CHUNK_SHIFT);
+        return new ChunkedVectorBuilder<>(chunkShift);
+    }
+
+    private int capacity() {
+        ensureNotBuilt();
+        return current == null ? 0 : current.length;
+    }
+
+    private void ensureNotBuilt() {
+        if (chunks == null) {
+            throw new IllegalStateException("ChunkedVectorBuilder has already been built");
+        }
+    }
+
+    /**
+     * Doubles the capacity of the first chunk until it is full size, and from then on starts a new full size chunk.
+     */
+    private void grow() {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("ChunkedVectorBuilder is full");
+        }
+        int chunkSize = 1 << chunkShift;
+        if (current != null && current.length < chunkSize) {
+            current = Arrays.copyOf(current, Math.min(current.length * 2, chunkSize));
+            chunks[chunkCount - 1] = current;
+        } else {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            current = new Object[chunkCount == 0 ? Math.min(INITIAL_CAPACITY, chunkSize) : chunkSize];
+            chunks[chunkCount] = current;
+            chunkCount += 1;
+            currentSize = 0;
+        }
+    }
+
+}
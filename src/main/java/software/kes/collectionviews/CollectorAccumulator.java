@@ -0,0 +1,134 @@
+package software.kes.collectionviews;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Collector;
+
+/**
+ * Accumulates the elements of a stream into a list of segments.
+ * <p>
+ * Segments are never copied while accumulating: when the last segment is full, a new one is started, and combining
+ * two accumulators concatenates their lists of segments.
+ * The elements are only copied once, into an array of the exact size, when the result is built.
+ * <p>
+ * A {@code Collector} is not told the size of the stream it is applied to, so segments start small and grow with the
+ * number of elements accumulated so far, up to a fixed maximum.
+ */
+final class CollectorAccumulator<A> implements Iterable<A> {
+    private static final int MIN_SEGMENT_SIZE = 16;
+    private static final int MAX_SEGMENT_SIZE = 1 << 14;
+
+    private final ArrayList<Segment> segments;
+    private int size;
+
+    CollectorAccumulator() {
+        this.segments = new ArrayList<>();
+    }
+
+    void add(A element) {
+        Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (last == null || last.count == last.elements.length) {
+            if (size == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Too many elements for a Vector");
+            }
+            last = new Segment(Math.min(Math.max(size, MIN_SEGMENT_SIZE), MAX_SEGMENT_SIZE));
+            segments.add(last);
+        }
+        last.elements[last.count] = element;
+        last.count += 1;
+        size += 1;
+    }
+
+    CollectorAccumulator<A> combine(CollectorAccumulator<A> other) {
+        if (other.size == 0) {
+            return this;
+        } else if (size == 0) {
+            return other;
+        } else if (other.size > Integer.MAX_VALUE - size) {
+            throw new IllegalStateException("Too many elements for a Vector");
+        }
+        segments.addAll(other.segments);
+        size += other.size;
+        return this;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new Iterator<A>() {
+            private int segmentIndex = 0;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (segmentIndex < segments.size() && index >= segments.get(segmentIndex).count) {
+                    segmentIndex += 1;
+                    index = 0;
+                }
+                return segmentIndex < segments.size();
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public A next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                A result = (A) segments.get(segmentIndex).elements[index];
+                index += 1;
+                return result;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    ImmutableVector<A> buildVector() {
+        if (size == 0) {
+            return Vectors.empty();
+        }
+        Segment first = segments.get(0);
+        Object[] result;
+        if (first.count == size && first.elements.length == size) {
+            result = first.elements;
+        } else {
+            result = new Object[size];
+            int offset = 0;
+            for (Segment segment : segments) {
+                System.arraycopy(segment.elements, 0, result, offset, segment.count);
+                offset += segment.count;
+            }
+        }
+        return new ImmutableArrayVector<>((A[]) result);
+    }
+
+    ImmutableSet<A> buildSet() {
+        return size == 0 ? Sets.empty() : ImmutableSets.copyFrom(this);
+    }
+
+    static <A> Collector<A, ?, ImmutableNonEmptyVector<A>> nonEmptyVectorCollector() {
+        return Collector.<A, CollectorAccumulator<A>, ImmutableNonEmptyVector<A>>of(CollectorAccumulator::new,
+                CollectorAccumulator::add, CollectorAccumulator::combine,
+                accumulator -> accumulator.buildVector().toNonEmptyOrThrow());
+    }
+
+    static <A> Collector<A, ?, ImmutableSet<A>> setCollector() {
+        return Collector.<A, CollectorAccumulator<A>, ImmutableSet<A>>of(CollectorAccumulator::new,
+                CollectorAccumulator::add, CollectorAccumulator::combine, CollectorAccumulator::buildSet,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    static <A> Collector<A, ?, ImmutableVector<A>> vectorCollector() {
+        return Collector.<A, CollectorAccumulator<A>, ImmutableVector<A>>of(CollectorAccumulator::new,
+                CollectorAccumulator::add, CollectorAccumulator::combine, CollectorAccumulator::buildVector);
+    }
+
+    private static final class Segment {
+        final Object[] elements;
+        int count;
+
+        Segment(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package software.kes.collectionviews;
+
+import software.kes.enhancediterables.FiniteIterable;
+
+import java.util.Iterator;
+
+/**
+ * A view of the union, intersection, difference or symmetric difference of two {@code Set}s.
+ * <p>
+ * Membership is tested by probing the operands, so {@link CombinedSet#contains} executes in O(1).
+ * Wherever the result does not depend on the order of the operands, the smaller one is iterated and the larger one
+ * is probed.
+ * <p>
+ * The size is computed from the size of the intersection, in O(min(m, n)).
+ * It is recomputed every time it is needed, since the operands may be views of mutable sets; see
+ * {@link ImmutableCombinedSet}, which caches it.
+ */
+final class CombinedSet<A> extends ConcreteSet<A> {
+    private final Operation operation;
+    private final Set<A> first;
+    private final Set<A> second;
+
+    CombinedSet(Operation operation, Set<A> first, Set<A> second) {
+        this.operation = operation;
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public boolean contains(A element) {
+        switch (operation) {
+            case UNION:
+                return first.contains(element) || second.contains(element);
+            case INTERSECTION:
+                return first.contains(element) && second.contains(element);
+            case DIFFERENCE:
+                return first.contains(element) && !second.contains(element);
+            default:
+                return first.contains(element) != second.contains(element);
+        }
+    }
+
+    /**
+     * Stops at the first element found, rather than computing the size.
+     */
+    @Override
+    public boolean isEmpty() {
+        if (operation == Operation.UNION) {
+            return first.isEmpty() && second.isEmpty();
+        } else {
+            return !iterator().hasNext();
+        }
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        Set<A> smaller = first.size() <= second.size() ? first : second;
+        Set<A> larger = smaller == first ? second : first;
+        FiniteIterable<A> elements;
+        switch (operation) {
+            case UNION:
+                elements = larger.concat(smaller.filter(a -> !larger.contains(a)));
+                break;
+            case INTERSECTION:
+                elements = smaller.filter(larger::contains);
+                break;
+            case DIFFERENCE:
+                elements = first.filter(a -> !second.contains(a));
+                break;
+            default:
+                elements = first.filter(a -> !second.contains(a))
+                        .concat(second.filter(a -> !first.contains(a)));
+        }
+        return ProtectedIterator.protectedIterator(elements.iterator());
+    }
+
+    @Override
+    public int size() {
+        int common = Sets.intersectionSize(first, second);
+        switch (operation) {
+            case UNION:
+                return first.size() + second.size() - common;
+            case INTERSECTION:
+                return common;
+            case DIFFERENCE:
+                return first.size() - common;
+            default:
+                return first.size() + second.size() - 2 * common;
+        }
+    }
+
+    enum Operation {
+        UNION,
+        INTERSECTION,
+        DIFFERENCE,
+        SYMMETRIC_DIFFERENCE
+    }
+
+}
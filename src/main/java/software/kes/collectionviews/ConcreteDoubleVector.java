@@ -0,0 +1,21 @@
+package software.kes.collectionviews;
+
+abstract class ConcreteDoubleVector extends ConcreteVector<Double> implements DoubleVector {
+
+    @Override
+    public boolean equals(Object o) {
+        if (knownHashCodesDiffer(this, o)) {
+            return false;
+        } else if (o instanceof DoubleVector) {
+            return DoubleVectors.doubleVectorEquals(this, (DoubleVector) o);
+        } else {
+            return super.equals(o);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return DoubleVectors.doubleVectorHashCode(this);
+    }
+
+}
@@ -0,0 +1,21 @@
+package software.kes.collectionviews;
+
+abstract class ConcreteIntVector extends ConcreteVector<Integer> implements IntVector {
+
+    @Override
+    public boolean equals(Object o) {
+        if (knownHashCodesDiffer(this, o)) {
+            return false;
+        } else if (o instanceof IntVector) {
+            return IntVectors.intVectorEquals(this, (IntVector) o);
+        } else {
+            return super.equals(o);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return IntVectors.intVectorHashCode(this);
+    }
+
+}
@@ -0,0 +1,21 @@
+package software.kes.collectionviews;
+
+abstract class ConcreteLongVector extends ConcreteVector<Long> implements LongVector {
+
+    @Override
+    public boolean equals(Object o) {
+        if (knownHashCodesDiffer(this, o)) {
+            return false;
+        } else if (o instanceof LongVector) {
+            return LongVectors.longVectorEquals(this, (LongVector) o);
+        } else {
+            return super.equals(o);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return LongVectors.longVectorHashCode(this);
+    }
+
+}
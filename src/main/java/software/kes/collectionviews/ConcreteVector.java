@@ -7,7 +7,7 @@ abstract class ConcreteVector<A> implements Vector<A> {
         if (o == this) {
             return true;
         }
-        if (!(o instanceof Vector<?>)) {
+        if (!(o instanceof Vector<?>) || knownHashCodesDiffer(this, o)) {
             return false;
         }
         return VectorHelpers.vectorEquals(this, (Vector<?>) o);
@@ -23,4 +23,25 @@ abstract class ConcreteVector<A> implements Vector<A> {
         return VectorHelpers.vectorToString(this);
     }
 
+    /**
+     * Returns the hash code of this {@code Vector} if it has already been computed and cached, otherwise 0.
+     */
+    int knownHashCode() {
+        return 0;
+    }
+
+    /**
+     * Two {@code Vector}s with different hash codes cannot be equal, so if both have already cached their hash codes,
+     * a comparison of elements can be skipped.
+     */
+    static boolean knownHashCodesDiffer(ConcreteVector<?> vector, Object other) {
+        if (other instanceof ConcreteVector<?>) {
+            int hashCode = vector.knownHashCode();
+            int otherHashCode = ((ConcreteVector<?>) other).knownHashCode();
+            return hashCode != 0 && otherHashCode != 0 && hashCode != otherHashCode;
+        } else {
+            return false;
+        }
+    }
+
 }
@@ -24,6 +24,11 @@ final class CrossJoinVector<A, B> extends ConcreteVector<Tuple2<A, B>>
         return size;
     }
 
+    @Override
+    public int viewDepth() {
+        return 1 + Math.max(first.viewDepth(), second.viewDepth());
+    }
+
     @Override
     public Tuple2<A, B> unsafeGet(int index) {
         if (index < 0 || index >= size) {
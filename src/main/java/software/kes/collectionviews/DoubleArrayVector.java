@@ -0,0 +1,81 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class DoubleArrayVector extends ConcreteDoubleVector
+        implements NonEmptyDoubleVector, Primitive {
+    private final double[] underlying;
+    private final int offset;
+    private final int size; // must be >= 1
+    private final boolean reversed;
+
+    DoubleArrayVector(double[] underlying) {
+        this(underlying, 0, underlying.length, false);
+    }
+
+    private DoubleArrayVector(double[] underlying, int offset, int size, boolean reversed) {
+        assert (size >= 1);
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+        this.reversed = reversed;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return reversed ? underlying[offset + size - 1 - index] : underlying[offset + index];
+    }
+
+    @Override
+    public NonEmptyDoubleVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new DoubleArrayVector(underlying, offset, size, !reversed);
+        }
+    }
+
+    @Override
+    public DoubleVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return DoubleVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            int newOffset = reversed ? offset + size - endIndex : offset + startIndex;
+            return new DoubleArrayVector(underlying, newOffset, endIndex - startIndex, reversed);
+        }
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        double[] result = Arrays.copyOfRange(underlying, offset, offset + size);
+        if (reversed) {
+            DoubleVectors.reverseInPlace(result);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableNonEmptyDoubleVector toImmutable() {
+        return new ImmutableDoubleArrayVector(toDoubleArray());
+    }
+
+}
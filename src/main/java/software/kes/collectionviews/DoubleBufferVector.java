@@ -0,0 +1,92 @@
+package software.kes.collectionviews;
+
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class DoubleBufferVector extends ConcreteDoubleVector
+        implements NonEmptyDoubleVector, Primitive {
+    /**
+     * A read-only view of the wrapped buffer, positioned so that index 0 is its first remaining element.
+     */
+    private final DoubleBuffer underlying;
+    private final int offset;
+    private final int size; // must be >= 1
+    private final boolean reversed;
+
+    /**
+     * underlying must have at least one element remaining
+     */
+    DoubleBufferVector(DoubleBuffer underlying) {
+        this(underlying.slice().asReadOnlyBuffer(), 0, underlying.remaining(), false);
+    }
+
+    private DoubleBufferVector(DoubleBuffer underlying, int offset, int size, boolean reversed) {
+        assert (size >= 1);
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+        this.reversed = reversed;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return reversed ? underlying.get(offset + size - 1 - index) : underlying.get(offset + index);
+    }
+
+    @Override
+    public NonEmptyDoubleVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new DoubleBufferVector(underlying, offset, size, !reversed);
+        }
+    }
+
+    @Override
+    public DoubleVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return DoubleVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            int newOffset = reversed ? offset + size - endIndex : offset + startIndex;
+            return new DoubleBufferVector(underlying, newOffset, endIndex - startIndex, reversed);
+        }
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        double[] result = new double[size];
+        DoubleBuffer source = underlying.duplicate();
+        // Called through Buffer, since the covariant position override does not exist on Java 8.
+        ((Buffer) source).position(offset);
+        source.get(result);
+        if (reversed) {
+            DoubleVectors.reverseInPlace(result);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableNonEmptyDoubleVector toImmutable() {
+        return new ImmutableDoubleArrayVector(toDoubleArray());
+    }
+
+}
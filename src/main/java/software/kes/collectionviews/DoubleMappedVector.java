@@ -0,0 +1,97 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+/**
+ * Applies a sequence of functions, in order, to the elements of a non-empty source.
+ * <p>
+ * The functions are held in an array and applied in a loop, so application neither allocates
+ * nor grows the stack with the number of functions.
+ * With no functions at all, this is simply a non-empty view of the source.
+ */
+final class DoubleMappedVector extends ConcreteDoubleVector implements NonEmptyDoubleVector {
+    private static final DoubleUnaryOperator[] NO_FUNCTIONS = new DoubleUnaryOperator[0];
+
+    private final DoubleVector source; // must be non-empty
+    private final DoubleUnaryOperator[] fns;
+    private final int size;
+
+    private DoubleMappedVector(DoubleVector source, DoubleUnaryOperator[] fns) {
+        this.source = source;
+        this.fns = fns;
+        this.size = source.size();
+        assert (size >= 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int viewDepth() {
+        return 1 + source.viewDepth();
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        double result = source.unsafeGetDouble(index);
+        for (DoubleUnaryOperator fn : fns) {
+            result = fn.applyAsDouble(result);
+        }
+        return result;
+    }
+
+    @Override
+    public NonEmptyDoubleVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new DoubleMappedVector(source.reverse(), fns);
+        }
+    }
+
+    @Override
+    public DoubleVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return DoubleVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            return new DoubleMappedVector(source.slice(startIndex, endIndex), fns);
+        }
+    }
+
+    static NonEmptyDoubleVector nonEmptyView(DoubleVector source) {
+        return new DoubleMappedVector(source, NO_FUNCTIONS);
+    }
+
+    static NonEmptyDoubleVector doubleMappedVector(DoubleUnaryOperator f, DoubleVector source) {
+        if (source instanceof DoubleMappedVector) {
+            DoubleMappedVector mapped = (DoubleMappedVector) source;
+            return new DoubleMappedVector(mapped.source, append(mapped.fns, f));
+        } else {
+            return new DoubleMappedVector(source, new DoubleUnaryOperator[]{f});
+        }
+    }
+
+    static DoubleUnaryOperator[] append(DoubleUnaryOperator[] fns, DoubleUnaryOperator f) {
+        DoubleUnaryOperator[] result = Arrays.copyOf(fns, fns.length + 1);
+        result[fns.length] = f;
+        return result;
+    }
+
+}
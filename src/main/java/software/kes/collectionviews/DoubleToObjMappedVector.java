@@ -0,0 +1,35 @@
+package software.kes.collectionviews;
+
+import java.util.function.DoubleFunction;
+
+final class DoubleToObjMappedVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
+    private final DoubleFunction<? extends A> f;
+    private final DoubleVector source; // must be non-empty
+    private final int size;
+
+    DoubleToObjMappedVector(DoubleFunction<? extends A> f, DoubleVector source) {
+        this.f = f;
+        this.source = source;
+        this.size = source.size();
+        assert (size >= 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int viewDepth() {
+        return 1 + source.viewDepth();
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return f.apply(source.unsafeGetDouble(index));
+    }
+
+}
@@ -0,0 +1,441 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.nio.DoubleBuffer;
+import java.util.Spliterator;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import static software.kes.collectionviews.Validation.validateDrop;
+import static software.kes.collectionviews.Validation.validateTake;
+
+/**
+ * A {@code Vector} of {@code double}s that stores its elements unboxed.
+ * <p>
+ * In addition to the guarantees of {@link Vector}, provides the following benefits:
+ * <ul>
+ * <li>{@link DoubleVector#unsafeGetDouble} retrieves an element without boxing it.</li>
+ * <li>{@link DoubleVector#slice}, {@link DoubleVector#drop}, {@link DoubleVector#take} and {@link DoubleVector#reverse}
+ * always return a {@code DoubleVector}.</li>
+ * <li>{@link DoubleVector#mapToDouble} maps to another {@code DoubleVector} without boxing.</li>
+ * <li>{@link DoubleVector#mapToObj} maps to a {@code Vector} of any type without boxing the elements of this one.</li>
+ * <li>{@link DoubleVector#doubleStream} and {@link DoubleVector#spliterator} traverse the elements without boxing them.</li>
+ * </ul>
+ * <p>
+ * Elements are boxed when they are accessed through the {@code Vector<Double>} interface,
+ * for example by {@link Vector#unsafeGet} or by iteration.
+ */
+public interface DoubleVector extends Vector<Double> {
+
+    /**
+     * Gets an element from this {@code DoubleVector} at an index, without boxing it.
+     * <p>
+     * Executes in O(1).
+     *
+     * @param index the index of the element to retrieve.
+     *              Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than or equal to {@code size()}
+     */
+    double unsafeGetDouble(int index);
+
+    /**
+     * Gets an element from this {@code DoubleVector} at an index.
+     * <p>
+     * The element is boxed; use {@link DoubleVector#unsafeGetDouble} to avoid this.
+     *
+     * @param index the index of the element to retrieve.
+     *              Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}.  Never null.
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than or equal to {@code size()}
+     */
+    @Override
+    default Double unsafeGet(int index) {
+        return unsafeGetDouble(index);
+    }
+
+    /**
+     * Returns a new {@code DoubleVector} that drops the first {@code count} elements of this {@code DoubleVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from this {@code DoubleVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code DoubleVector}, in which case, the result will be an
+     *              empty {@code DoubleVector}.
+     * @return a {@code DoubleVector}
+     */
+    @Override
+    default DoubleVector drop(int count) {
+        validateDrop(count);
+        return slice(count, size());
+    }
+
+    /**
+     * Returns a new {@code DoubleVector} that drops all except the last {@code count} elements of this {@code DoubleVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from the end of this {@code DoubleVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code DoubleVector}, in which case, the result will be an
+     *              empty {@code DoubleVector}.
+     * @return a {@code DoubleVector}
+     */
+    @Override
+    default DoubleVector dropRight(int count) {
+        validateDrop(count);
+        return slice(0, Math.max(size() - count, 0));
+    }
+
+    /**
+     * Returns a sequential {@code DoubleStream} with this {@code DoubleVector} as its source.
+     * <p>
+     * Does not box the elements of this {@code DoubleVector}.
+     * Call {@link DoubleStream#parallel} on the result to process it in parallel.
+     *
+     * @return a sequential {@code DoubleStream}
+     */
+    default DoubleStream doubleStream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    /**
+     * Maps a function over this {@code DoubleVector}, producing a {@code Vector} of any type.
+     * <p>
+     * Returns a new {@link Vector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code DoubleVector}.
+     *
+     * @param f   a function from {@code double} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code Vector}
+     * @return a {@code Vector<A>} of the same size
+     */
+    default <A> Vector<A> mapToObj(DoubleFunction<? extends A> f) {
+        return DoubleVectors.mapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code DoubleVector}, producing another {@code DoubleVector}.
+     * <p>
+     * Returns a new {@link DoubleVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code double} to {@code double}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return a {@code DoubleVector} of the same size
+     */
+    default DoubleVector mapToDouble(DoubleUnaryOperator f) {
+        return DoubleVectors.mapToDouble(f, this);
+    }
+
+    /**
+     * Creates a {@code DoubleVector} with this {@code DoubleVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code DoubleVector}
+     */
+    @Override
+    DoubleVector reverse();
+
+    /**
+     * Creates a slice of this {@code DoubleVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     * <p>
+     * Use caution when taking a small slice of a huge {@code DoubleVector} that you no longer need.
+     * The smaller slice will hold onto a reference of the larger one, and will prevent it from being GC'ed.
+     *
+     * @param startIndex        the index of the element to begin the slice.
+     *                          Must be &gt;= 0.
+     *                          May exceed the size of this {@code DoubleVector}, in which case an empty {@code DoubleVector} will be returned.
+     * @param endIndexExclusive the end index (exclusive) of the slice.  Must be &gt;= {@code startIndex}.
+     *                          May exceed the size of this {@code DoubleVector}, in which case the slice will
+     *                          contain as many elements as available.
+     * @return a {@code DoubleVector}
+     */
+    @Override
+    DoubleVector slice(int startIndex, int endIndexExclusive);
+
+    /**
+     * Finds the greatest element in each window of {@code k} elements, as the window slides across this
+     * {@code DoubleVector} by one element at a time, without boxing.
+     * <p>
+     * Produces one result for each window returned by {@link Vector#slide}, in O(n) regardless of {@code k}.
+     * <p>
+     * Elements are ordered as by {@link Double#compare}, so NaN is greater than any other value, and 0.0 is greater
+     * than -0.0.
+     * <p>
+     * Example:
+     *
+     * <code>DoubleVector.of(1.0, 3.0, 2.0, 5.0, 4.0).slidingMax(3); // [3.0, 5.0, 5.0]</code>
+     *
+     * @param k the number of elements in the sliding window.  Must be &gt;= 1.
+     * @return an {@code ImmutableDoubleVector}, empty if this {@code DoubleVector} is empty
+     */
+    default ImmutableDoubleVector slidingMax(int k) {
+        return SlidingWindows.slidingMax(k, this);
+    }
+
+    /**
+     * Finds the least element in each window of {@code k} elements, as the window slides across this
+     * {@code DoubleVector} by one element at a time, without boxing.
+     * <p>
+     * Produces one result for each window returned by {@link Vector#slide}, in O(n) regardless of {@code k}.
+     * <p>
+     * Elements are ordered as by {@link Double#compare}, so NaN is greater than any other value, and 0.0 is greater
+     * than -0.0.
+     * <p>
+     * Example:
+     *
+     * <code>DoubleVector.of(1.0, 3.0, 2.0, 5.0, 4.0).slidingMin(3); // [1.0, 2.0, 2.0]</code>
+     *
+     * @param k the number of elements in the sliding window.  Must be &gt;= 1.
+     * @return an {@code ImmutableDoubleVector}, empty if this {@code DoubleVector} is empty
+     */
+    default ImmutableDoubleVector slidingMin(int k) {
+        return SlidingWindows.slidingMin(k, this);
+    }
+
+    /**
+     * Finds the sum of the elements in each window of {@code k} elements, as the window slides across this
+     * {@code DoubleVector} by one element at a time, without boxing.
+     * <p>
+     * Produces one result for each window returned by {@link Vector#slide}, in O(n) regardless of {@code k}.
+     * <p>
+     * Sums are accumulated with compensated (Neumaier) summation, so rounding errors do not build up as the window
+     * slides.
+     * A window that contains NaN, or both positive and negative infinity, sums to NaN; otherwise a window that
+     * contains an infinity sums to that infinity.
+     * <p>
+     * Example:
+     *
+     * <code>DoubleVector.of(1.0, 3.0, 2.0, 5.0, 4.0).slidingSum(2); // [4.0, 5.0, 7.0, 9.0]</code>
+     *
+     * @param k the number of elements in the sliding window.  Must be &gt;= 1.
+     * @return an {@code ImmutableDoubleVector}, empty if this {@code DoubleVector} is empty
+     */
+    default ImmutableDoubleVector slidingSum(int k) {
+        return SlidingWindows.slidingSum(k, this);
+    }
+
+    /**
+     * Returns a {@code Spliterator.OfDouble} over this {@code DoubleVector}'s elements.
+     * <p>
+     * The {@code Spliterator} is {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED},
+     * and also {@link Spliterator#IMMUTABLE} if this is an {@link ImmutableDoubleVector}.
+     * It splits by halving its index range, and accesses elements using {@link DoubleVector#unsafeGetDouble}.
+     *
+     * @return a {@code Spliterator.OfDouble}
+     */
+    @Override
+    default Spliterator.OfDouble spliterator() {
+        return DoubleVectorSpliterator.doubleVectorSpliterator(this);
+    }
+
+    /**
+     * Returns a new {@code DoubleVector} containing at most the first {@code count} elements of this {@code DoubleVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code DoubleVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code DoubleVector}.
+     * @return a {@code DoubleVector}
+     */
+    @Override
+    default DoubleVector take(int count) {
+        validateTake(count);
+        return slice(0, count);
+    }
+
+    /**
+     * Returns a new {@code DoubleVector} containing at most the last {@code count} elements of this {@code DoubleVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code DoubleVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code DoubleVector}.
+     * @return a {@code DoubleVector}
+     */
+    @Override
+    default DoubleVector takeRight(int count) {
+        validateTake(count);
+        int size = size();
+        return slice(Math.max(size - count, 0), size);
+    }
+
+    /**
+     * Copies the elements of this {@code DoubleVector} into a new array.
+     *
+     * @return a new {@code double[]} of length {@code size()}.  The caller owns the returned array.
+     */
+    default double[] toDoubleArray() {
+        return DoubleVectors.toDoubleArray(this);
+    }
+
+    /**
+     * Converts this {@code DoubleVector} to an {@code ImmutableDoubleVector}.
+     * <p>
+     * This method will make a copy of the underlying data structure if necessary to guarantee immutability.
+     * <p>
+     * If this {@link DoubleVector} is already an {@link ImmutableDoubleVector}, no copies are made and this method is a no-op.
+     *
+     * @return an {@code ImmutableDoubleVector} containing the same elements
+     */
+    @Override
+    default ImmutableDoubleVector toImmutable() {
+        return DoubleVectors.ensureImmutable(this);
+    }
+
+    /**
+     * Attempts to convert this {@code DoubleVector} to a {@code NonEmptyDoubleVector}.
+     * <p>
+     * If successful, returns a {@link NonEmptyDoubleVector} containing the same elements as this one, wrapped in a {@link Maybe#just}.
+     * <p>
+     * If this {@code DoubleVector} is empty, returns {@link Maybe#nothing}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code Maybe<NonEmptyDoubleVector>}
+     */
+    @Override
+    default Maybe<? extends NonEmptyDoubleVector> toNonEmpty() {
+        return DoubleVectors.maybeNonEmptyConvert(this);
+    }
+
+    /**
+     * Attempts to convert this {@code DoubleVector} to a {@code NonEmptyDoubleVector}.
+     * <p>
+     * If successful, returns a {@link NonEmptyDoubleVector} containing the same elements as this one.
+     * Use this if you are confident that this {@link DoubleVector} is not empty.
+     * <p>
+     * If this {@code DoubleVector} is empty, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code NonEmptyDoubleVector}
+     * @throws IllegalArgumentException if this {@code DoubleVector} is empty
+     */
+    @Override
+    default NonEmptyDoubleVector toNonEmptyOrThrow() {
+        return DoubleVectors.nonEmptyConvertOrThrow(this);
+    }
+
+    /**
+     * Returns an empty {@code ImmutableDoubleVector}.
+     *
+     * @return an empty {@code ImmutableDoubleVector}
+     */
+    static ImmutableDoubleVector empty() {
+        return DoubleVectors.empty();
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyDoubleVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyDoubleVector}
+     */
+    static ImmutableNonEmptyDoubleVector of(double first, double... more) {
+        return DoubleVectors.nonEmptyOf(first, more);
+    }
+
+    /**
+     * Creates an {@code ImmutableDoubleVector} that repeats the same element {@code size} times.
+     * <p>
+     * Uses O(1) memory.
+     * <p>
+     * See {@link NonEmptyDoubleVector#fill} if you require an {@link ImmutableNonEmptyDoubleVector} to be returned.
+     *
+     * @param size  the number of elements.
+     *              Must be &gt;= 0.
+     * @param value the value that will be repeated for all elements of the {@code ImmutableDoubleVector}
+     * @return an {@code ImmutableDoubleVector} of {@code size} elements, with each element having
+     * the value {@code value}
+     */
+    static ImmutableDoubleVector fill(int size, double value) {
+        return DoubleVectors.fill(size, value);
+    }
+
+    /**
+     * Creates a {@code DoubleVector} that wraps an array.
+     * <p>
+     * Does not make any copies of the given array.
+     * The created {@link DoubleVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Bearers of the created {@code DoubleVector} will be unable to gain access to the underlying array, so it is safe to share.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a direct reference to the array can still mutate it.
+     * Use {@link DoubleVector#copyFrom(double[])} instead if you want to avoid this situation.
+     *
+     * @param underlying array to wrap; not null
+     * @return a {@code DoubleVector}
+     */
+    static DoubleVector wrap(double[] underlying) {
+        return DoubleVectors.wrap(underlying);
+    }
+
+    /**
+     * Creates a {@code DoubleVector} that wraps the remaining elements of a {@code DoubleBuffer}.
+     * <p>
+     * The elements are those between the position and the limit of {@code underlying} at the time this method is
+     * called, and are read from the buffer each time they are accessed.
+     * {@code slice}, {@code take}, {@code drop}, and {@code reverse} return {@code DoubleVector}s over the same buffer.
+     * <p>
+     * Does not make any copies of the given buffer, and will never alter it, or its position or limit.
+     * {@code underlying} may be a view of a direct or memory-mapped {@link java.nio.ByteBuffer}, such as one created by
+     * {@link java.nio.ByteBuffer#asDoubleBuffer}, in which case the elements are never copied onto the heap.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a reference to the buffer can still mutate its contents.
+     * Use {@link DoubleVector#toImmutable} on the result if you want to avoid this situation.
+     *
+     * @param underlying the buffer to wrap; not null
+     * @return a {@code DoubleVector}
+     */
+    static DoubleVector wrap(DoubleBuffer underlying) {
+        return DoubleVectors.wrap(underlying);
+    }
+
+    /**
+     * Creates an {@code ImmutableDoubleVector} that is copied from an array.
+     *
+     * @param source the array to copy from.
+     *               Not null.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableDoubleVector}
+     */
+    static ImmutableDoubleVector copyFrom(double[] source) {
+        return DoubleVectors.copyFrom(source);
+    }
+
+    /**
+     * Creates an {@code ImmutableDoubleVector} that is copied from an array, but copying a maximum number of elements.
+     *
+     * @param maxCount the maximum number of elements to copy from the array.
+     *                 Must be &gt;= 0.
+     * @param source   the array to copy from.
+     *                 Not null.
+     *                 This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableDoubleVector}
+     */
+    static ImmutableDoubleVector copyFrom(int maxCount, double[] source) {
+        return DoubleVectors.copyFrom(maxCount, source);
+    }
+
+}
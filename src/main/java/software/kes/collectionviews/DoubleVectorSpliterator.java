@@ -0,0 +1,71 @@
+package software.kes.collectionviews;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@code Spliterator.OfDouble} over an index range of {@link DoubleVector}, which splits by halving the range.
+ */
+final class DoubleVectorSpliterator implements Spliterator.OfDouble {
+    private final DoubleVector underlying;
+    private final int characteristics;
+    private int index;
+    private final int fence;
+
+    private DoubleVectorSpliterator(DoubleVector underlying, int characteristics, int index, int fence) {
+        this.underlying = underlying;
+        this.characteristics = characteristics;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        if (index < fence) {
+            action.accept(underlying.unsafeGetDouble(index));
+            index += 1;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        int i = index;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(underlying.unsafeGetDouble(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        int start = index;
+        index = mid;
+        return new DoubleVectorSpliterator(underlying, characteristics, start, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    static DoubleVectorSpliterator doubleVectorSpliterator(DoubleVector underlying) {
+        return new DoubleVectorSpliterator(underlying, VectorSpliterator.spliteratorCharacteristics(underlying),
+                0, underlying.size());
+    }
+
+}
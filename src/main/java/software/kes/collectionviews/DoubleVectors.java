@@ -0,0 +1,279 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static software.kes.collectionviews.Validation.validateCopyFrom;
+import static software.kes.collectionviews.Validation.validateFill;
+import static software.kes.collectionviews.Validation.validateNonEmptyFill;
+
+final class DoubleVectors {
+
+    private DoubleVectors() {
+
+    }
+
+    static ImmutableDoubleVector copyFrom(double[] source) {
+        Objects.requireNonNull(source);
+        return copyFrom(source.length, source);
+    }
+
+    static ImmutableDoubleVector copyFrom(int maxCount, double[] source) {
+        validateCopyFrom(maxCount, source);
+        int count = Math.min(maxCount, source.length);
+        if (count == 0) {
+            return empty();
+        } else {
+            return new ImmutableDoubleArrayVector(Arrays.copyOf(source, count));
+        }
+    }
+
+    static ImmutableDoubleVector empty() {
+        return EmptyDoubleVector.emptyDoubleVector();
+    }
+
+    static ImmutableDoubleVector ensureImmutable(DoubleVector vector) {
+        if (vector instanceof ImmutableDoubleVector) {
+            return (ImmutableDoubleVector) vector;
+        } else if (vector.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableDoubleArrayVector(vector.toDoubleArray());
+        }
+    }
+
+    static ImmutableNonEmptyDoubleVector ensureImmutable(NonEmptyDoubleVector vector) {
+        if (vector instanceof ImmutableNonEmptyDoubleVector) {
+            return (ImmutableNonEmptyDoubleVector) vector;
+        } else {
+            return new ImmutableDoubleArrayVector(vector.toDoubleArray());
+        }
+    }
+
+    static ImmutableDoubleVector fill(int size, double value) {
+        validateFill(size);
+        if (size == 0) {
+            return empty();
+        } else {
+            return nonEmptyFill(size, value);
+        }
+    }
+
+    static ImmutableDoubleVector force(ImmutableDoubleVector source) {
+        if (source.viewDepth() == 0) {
+            return source;
+        } else if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableDoubleArrayVector(source.toDoubleArray());
+        }
+    }
+
+    static <A> Vector<A> mapToObj(DoubleFunction<? extends A> f, DoubleVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            return new DoubleToObjMappedVector<>(f, source);
+        }
+    }
+
+    static <A> ImmutableVector<A> mapToObj(DoubleFunction<? extends A> f, ImmutableDoubleVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            return new ImmutableDoubleToObjMappedVector<>(f, source);
+        }
+    }
+
+    static DoubleVector mapToDouble(DoubleUnaryOperator f, DoubleVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return DoubleMappedVector.doubleMappedVector(f, source);
+        }
+    }
+
+    static ImmutableDoubleVector mapToDouble(DoubleUnaryOperator f, ImmutableDoubleVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return ImmutableDoubleMappedVector.immutableDoubleMappedVector(f, source);
+        }
+    }
+
+    static Maybe<NonEmptyDoubleVector> maybeNonEmptyConvert(DoubleVector vector) {
+        Objects.requireNonNull(vector);
+        if (vector instanceof NonEmptyDoubleVector) {
+            return just((NonEmptyDoubleVector) vector);
+        } else if (!vector.isEmpty()) {
+            return just(DoubleMappedVector.nonEmptyView(vector));
+        } else {
+            return nothing();
+        }
+    }
+
+    static Maybe<ImmutableNonEmptyDoubleVector> maybeNonEmptyConvert(ImmutableDoubleVector vector) {
+        Objects.requireNonNull(vector);
+        if (vector instanceof ImmutableNonEmptyDoubleVector) {
+            return just((ImmutableNonEmptyDoubleVector) vector);
+        } else if (!vector.isEmpty()) {
+            return just(ImmutableDoubleMappedVector.nonEmptyView(vector));
+        } else {
+            return nothing();
+        }
+    }
+
+    static Maybe<ImmutableNonEmptyDoubleVector> maybeNonEmptyCopyFrom(double[] source) {
+        Objects.requireNonNull(source);
+        if (source.length == 0) {
+            return nothing();
+        } else {
+            return just(new ImmutableDoubleArrayVector(Arrays.copyOf(source, source.length)));
+        }
+    }
+
+    static Maybe<NonEmptyDoubleVector> maybeNonEmptyWrap(double[] underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.length == 0) {
+            return nothing();
+        } else {
+            return just(new DoubleArrayVector(underlying));
+        }
+    }
+
+    static NonEmptyDoubleVector nonEmptyConvertOrThrow(DoubleVector vector) {
+        return maybeNonEmptyConvert(vector).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static ImmutableNonEmptyDoubleVector nonEmptyConvertOrThrow(ImmutableDoubleVector vector) {
+        return maybeNonEmptyConvert(vector).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static ImmutableNonEmptyDoubleVector nonEmptyCopyFromOrThrow(double[] source) {
+        return maybeNonEmptyCopyFrom(source).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static ImmutableNonEmptyDoubleVector nonEmptyFill(int size, double value) {
+        validateNonEmptyFill(size);
+        return new RepeatingDoubleVector(size, value);
+    }
+
+    static ImmutableNonEmptyDoubleVector nonEmptyForce(ImmutableNonEmptyDoubleVector source) {
+        if (source.viewDepth() == 0) {
+            return source;
+        } else {
+            return new ImmutableDoubleArrayVector(source.toDoubleArray());
+        }
+    }
+
+    static <A> NonEmptyVector<A> nonEmptyMapToObj(DoubleFunction<? extends A> f, NonEmptyDoubleVector source) {
+        Objects.requireNonNull(f);
+        return new DoubleToObjMappedVector<>(f, source);
+    }
+
+    static <A> ImmutableNonEmptyVector<A> nonEmptyMapToObj(DoubleFunction<? extends A> f, ImmutableNonEmptyDoubleVector source) {
+        Objects.requireNonNull(f);
+        return new ImmutableDoubleToObjMappedVector<>(f, source);
+    }
+
+    static NonEmptyDoubleVector nonEmptyMapToDouble(DoubleUnaryOperator f, NonEmptyDoubleVector source) {
+        Objects.requireNonNull(f);
+        return DoubleMappedVector.doubleMappedVector(f, source);
+    }
+
+    static ImmutableNonEmptyDoubleVector nonEmptyMapToDouble(DoubleUnaryOperator f, ImmutableNonEmptyDoubleVector source) {
+        Objects.requireNonNull(f);
+        return ImmutableDoubleMappedVector.immutableDoubleMappedVector(f, source);
+    }
+
+    static ImmutableNonEmptyDoubleVector nonEmptyOf(double first, double... more) {
+        Objects.requireNonNull(more);
+        double[] elements = new double[1 + more.length];
+        elements[0] = first;
+        System.arraycopy(more, 0, elements, 1, more.length);
+        return new ImmutableDoubleArrayVector(elements);
+    }
+
+    static NonEmptyDoubleVector nonEmptyWrapOrThrow(double[] underlying) {
+        return maybeNonEmptyWrap(underlying).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static void reverseInPlace(double[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            double temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+
+    static double[] toDoubleArray(DoubleVector vector) {
+        int size = vector.size();
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = vector.unsafeGetDouble(i);
+        }
+        return result;
+    }
+
+    static boolean doubleVectorEquals(DoubleVector vector, DoubleVector other) {
+        if (other == vector) {
+            return true;
+        }
+        int size = vector.size();
+        if (other.size() != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!elementEquals(vector.unsafeGetDouble(i), other.unsafeGetDouble(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int doubleVectorHashCode(DoubleVector vector) {
+        int size = vector.size();
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Double.hashCode(vector.unsafeGetDouble(i));
+        }
+        return hashCode;
+    }
+
+    static DoubleVector wrap(double[] underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.length == 0) {
+            return empty();
+        } else {
+            return new DoubleArrayVector(underlying);
+        }
+    }
+
+    static DoubleVector wrap(DoubleBuffer underlying) {
+        Objects.requireNonNull(underlying);
+        if (!underlying.hasRemaining()) {
+            return empty();
+        } else {
+            return new DoubleBufferVector(underlying);
+        }
+    }
+
+    /**
+     * Equality as defined by {@code Double#equals}, so that {@code DoubleVector}s agree with their boxed counterparts.
+     */
+    private static boolean elementEquals(double a, double b) {
+        return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+    }
+
+}
@@ -0,0 +1,72 @@
+package software.kes.collectionviews;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import static java.util.Collections.emptyIterator;
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class EmptyDoubleVector extends ConcreteDoubleVector implements ImmutableDoubleVector, Primitive {
+    private static final EmptyDoubleVector INSTANCE = new EmptyDoubleVector();
+
+    private static final double[] EMPTY_ARRAY = new double[0];
+
+    private EmptyDoubleVector() {
+
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        throw new IndexOutOfBoundsException();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public Iterator<Double> iterator() {
+        return emptyIterator();
+    }
+
+    @Override
+    public <A> ImmutableVector<A> mapToObj(DoubleFunction<? extends A> f) {
+        Objects.requireNonNull(f);
+        return Vectors.empty();
+    }
+
+    @Override
+    public ImmutableDoubleVector mapToDouble(DoubleUnaryOperator f) {
+        Objects.requireNonNull(f);
+        return this;
+    }
+
+    @Override
+    public ImmutableDoubleVector reverse() {
+        return this;
+    }
+
+    @Override
+    public ImmutableDoubleVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        return this;
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        return EMPTY_ARRAY;
+    }
+
+    static EmptyDoubleVector emptyDoubleVector() {
+        return INSTANCE;
+    }
+
+}
@@ -0,0 +1,72 @@
+package software.kes.collectionviews;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import static java.util.Collections.emptyIterator;
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class EmptyIntVector extends ConcreteIntVector implements ImmutableIntVector, Primitive {
+    private static final EmptyIntVector INSTANCE = new EmptyIntVector();
+
+    private static final int[] EMPTY_ARRAY = new int[0];
+
+    private EmptyIntVector() {
+
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        throw new IndexOutOfBoundsException();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return emptyIterator();
+    }
+
+    @Override
+    public <A> ImmutableVector<A> mapToObj(IntFunction<? extends A> f) {
+        Objects.requireNonNull(f);
+        return Vectors.empty();
+    }
+
+    @Override
+    public ImmutableIntVector mapToInt(IntUnaryOperator f) {
+        Objects.requireNonNull(f);
+        return this;
+    }
+
+    @Override
+    public ImmutableIntVector reverse() {
+        return this;
+    }
+
+    @Override
+    public ImmutableIntVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        return this;
+    }
+
+    @Override
+    public int[] toIntArray() {
+        return EMPTY_ARRAY;
+    }
+
+    static EmptyIntVector emptyIntVector() {
+        return INSTANCE;
+    }
+
+}
@@ -0,0 +1,72 @@
+package software.kes.collectionviews;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Collections.emptyIterator;
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class EmptyLongVector extends ConcreteLongVector implements ImmutableLongVector, Primitive {
+    private static final EmptyLongVector INSTANCE = new EmptyLongVector();
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private EmptyLongVector() {
+
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public long unsafeGetLong(int index) {
+        throw new IndexOutOfBoundsException();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return emptyIterator();
+    }
+
+    @Override
+    public <A> ImmutableVector<A> mapToObj(LongFunction<? extends A> f) {
+        Objects.requireNonNull(f);
+        return Vectors.empty();
+    }
+
+    @Override
+    public ImmutableLongVector mapToLong(LongUnaryOperator f) {
+        Objects.requireNonNull(f);
+        return this;
+    }
+
+    @Override
+    public ImmutableLongVector reverse() {
+        return this;
+    }
+
+    @Override
+    public ImmutableLongVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        return this;
+    }
+
+    @Override
+    public long[] toLongArray() {
+        return EMPTY_ARRAY;
+    }
+
+    static EmptyLongVector emptyLongVector() {
+        return INSTANCE;
+    }
+
+}
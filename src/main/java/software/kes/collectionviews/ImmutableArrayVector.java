@@ -1,5 +1,7 @@
 package software.kes.collectionviews;
 
+import static software.kes.collectionviews.Validation.validateCopyInto;
+
 @SuppressWarnings("unused")
 final class ImmutableArrayVector<A> extends ConcreteVector<A>
         implements ImmutableNonEmptyVector<A>, Primitive {
@@ -7,6 +9,10 @@ final class ImmutableArrayVector<A> extends ConcreteVector<A>
      * underlying must contain at least one element.
      */
     private final A[] underlying;
+    /**
+     * Cached on first use; 0 if not yet computed.
+     */
+    private int hash;
 
     ImmutableArrayVector(A[] underlying) {
         this.underlying = underlying;
@@ -30,4 +36,25 @@ final class ImmutableArrayVector<A> extends ConcreteVector<A>
         return underlying[index];
     }
 
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = super.hashCode();
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    int knownHashCode() {
+        return hash;
+    }
+
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        validateCopyInto(dest, destOffset, srcFrom, srcTo, this);
+        System.arraycopy(underlying, srcFrom, dest, destOffset, srcTo - srcFrom);
+    }
+
 }
@@ -0,0 +1,78 @@
+package software.kes.collectionviews;
+
+import static software.kes.collectionviews.Validation.validateCopyInto;
+
+/**
+ * An {@code ImmutableVector} whose elements are stored in a sequence of equally sized arrays.
+ */
+final class ImmutableChunkedVector<A> extends ConcreteVector<A>
+        implements ImmutableNonEmptyVector<A>, Primitive {
+    /**
+     * Every chunk except the last holds exactly {@code 1 << chunkShift} elements.
+     * The last chunk holds the remaining elements, and may be longer than needed.
+     */
+    private final Object[][] chunks;
+    private final int chunkShift;
+    private final int size; // must be >= 1
+    /**
+     * Cached on first use; 0 if not yet computed.
+     */
+    private int hash;
+
+    ImmutableChunkedVector(Object[][] chunks, int chunkShift, int size) {
+        assert (size >= 1);
+        this.chunks = chunks;
+        this.chunkShift = chunkShift;
+        this.size = size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (A) chunks[index >>> chunkShift][index & ((1 << chunkShift) - 1)];
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = super.hashCode();
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    int knownHashCode() {
+        return hash;
+    }
+
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        validateCopyInto(dest, destOffset, srcFrom, srcTo, this);
+        int mask = (1 << chunkShift) - 1;
+        int position = srcFrom;
+        int target = destOffset;
+        while (position < srcTo) {
+            int start = position & mask;
+            int count = Math.min(srcTo - position, (mask + 1) - start);
+            System.arraycopy(chunks[position >>> chunkShift], start, dest, target, count);
+            position += count;
+            target += count;
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package software.kes.collectionviews;
+
+import java.util.Iterator;
+
+/**
+ * A {@link CombinedSet} whose operands are both {@code ImmutableSet}s.
+ * <p>
+ * Since the operands cannot change, the size is cached the first time it is computed.
+ */
+final class ImmutableCombinedSet<A> extends ConcreteSet<A>
+        implements ImmutableSet<A> {
+    private final CombinedSet<A> underlying;
+    private int size = -1;
+
+    ImmutableCombinedSet(CombinedSet.Operation operation, ImmutableSet<A> first, ImmutableSet<A> second) {
+        this.underlying = new CombinedSet<>(operation, first, second);
+    }
+
+    @Override
+    public boolean contains(A element) {
+        return underlying.contains(element);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        int result = size;
+        return result < 0 ? underlying.isEmpty() : result == 0;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return underlying.iterator();
+    }
+
+    @Override
+    public int size() {
+        int result = size;
+        if (result < 0) {
+            result = underlying.size();
+            size = result;
+        }
+        return result;
+    }
+
+}
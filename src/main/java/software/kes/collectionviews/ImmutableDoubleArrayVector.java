@@ -0,0 +1,106 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class ImmutableDoubleArrayVector extends ConcreteDoubleVector
+        implements ImmutableNonEmptyDoubleVector, CopyOptimizeCheck {
+    private final double[] underlying;
+    private final int offset;
+    private final int size; // must be >= 1
+    private final boolean reversed;
+    /**
+     * Cached on first use; 0 if not yet computed.
+     */
+    private int hash;
+
+    /**
+     * underlying must contain at least one element, and must not be shared with anyone else.
+     */
+    ImmutableDoubleArrayVector(double[] underlying) {
+        this(underlying, 0, underlying.length, false);
+    }
+
+    private ImmutableDoubleArrayVector(double[] underlying, int offset, int size, boolean reversed) {
+        assert (size >= 1);
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+        this.reversed = reversed;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return reversed ? underlying[offset + size - 1 - index] : underlying[offset + index];
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = super.hashCode();
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    int knownHashCode() {
+        return hash;
+    }
+
+    @Override
+    public ImmutableNonEmptyDoubleVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new ImmutableDoubleArrayVector(underlying, offset, size, !reversed);
+        }
+    }
+
+    /**
+     * A copy can only save memory if this is a slice of a larger array.
+     */
+    @Override
+    public boolean shouldNotMakeCopy() {
+        return size == underlying.length;
+    }
+
+    @Override
+    public ImmutableDoubleVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return DoubleVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            int newOffset = reversed ? offset + size - endIndex : offset + startIndex;
+            return new ImmutableDoubleArrayVector(underlying, newOffset, endIndex - startIndex, reversed);
+        }
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        double[] result = Arrays.copyOfRange(underlying, offset, offset + size);
+        if (reversed) {
+            DoubleVectors.reverseInPlace(result);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,83 @@
+package software.kes.collectionviews;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class ImmutableDoubleMappedVector extends ConcreteDoubleVector implements ImmutableNonEmptyDoubleVector {
+    private static final DoubleUnaryOperator[] NO_FUNCTIONS = new DoubleUnaryOperator[0];
+
+    private final ImmutableDoubleVector source; // must be non-empty
+    private final DoubleUnaryOperator[] fns;
+    private final int size;
+
+    private ImmutableDoubleMappedVector(ImmutableDoubleVector source, DoubleUnaryOperator[] fns) {
+        this.source = source;
+        this.fns = fns;
+        this.size = source.size();
+        assert (size >= 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int viewDepth() {
+        return 1 + source.viewDepth();
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        double result = source.unsafeGetDouble(index);
+        for (DoubleUnaryOperator fn : fns) {
+            result = fn.applyAsDouble(result);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableNonEmptyDoubleVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new ImmutableDoubleMappedVector(source.reverse(), fns);
+        }
+    }
+
+    @Override
+    public ImmutableDoubleVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return DoubleVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            return new ImmutableDoubleMappedVector(source.slice(startIndex, endIndex), fns);
+        }
+    }
+
+    static ImmutableNonEmptyDoubleVector nonEmptyView(ImmutableDoubleVector source) {
+        return new ImmutableDoubleMappedVector(source, NO_FUNCTIONS);
+    }
+
+    static ImmutableNonEmptyDoubleVector immutableDoubleMappedVector(DoubleUnaryOperator f, ImmutableDoubleVector source) {
+        if (source instanceof ImmutableDoubleMappedVector) {
+            ImmutableDoubleMappedVector mapped = (ImmutableDoubleMappedVector) source;
+            return new ImmutableDoubleMappedVector(mapped.source, DoubleMappedVector.append(mapped.fns, f));
+        } else {
+            return new ImmutableDoubleMappedVector(source, new DoubleUnaryOperator[]{f});
+        }
+    }
+
+}
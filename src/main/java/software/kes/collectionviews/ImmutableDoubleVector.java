@@ -0,0 +1,223 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateDrop;
+import static software.kes.collectionviews.Validation.validateTake;
+
+/**
+ * A {@code DoubleVector} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * In other words, it owns the sole reference to the underlying collection.
+ * <p>
+ * In addition to the guarantees of {@link DoubleVector} and {@link ImmutableVector}, provides the following benefits:
+ * <ul>
+ * <li>{@link ImmutableDoubleVector#force} always returns an {@code ImmutableDoubleVector}.</li>
+ * <li>{@link ImmutableDoubleVector#mapToDouble} always returns an {@code ImmutableDoubleVector}.</li>
+ * <li>{@link ImmutableDoubleVector#mapToObj} always returns an {@code ImmutableVector}.</li>
+ * <li>{@link ImmutableDoubleVector#slice}, {@link ImmutableDoubleVector#drop}, {@link ImmutableDoubleVector#take}
+ * and {@link ImmutableDoubleVector#reverse} always return an {@code ImmutableDoubleVector}.</li>
+ * <li>{@link ImmutableDoubleVector#toImmutable} always returns itself.</li>
+ * </ul>
+ */
+public interface ImmutableDoubleVector extends DoubleVector, ImmutableVector<Double> {
+
+    /**
+     * Returns a new {@code ImmutableDoubleVector} that drops the first {@code count} elements of this {@code ImmutableDoubleVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from this {@code ImmutableDoubleVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableDoubleVector}, in which case, the result will be an
+     *              empty {@code ImmutableDoubleVector}.
+     * @return an {@code ImmutableDoubleVector}
+     */
+    @Override
+    default ImmutableDoubleVector drop(int count) {
+        validateDrop(count);
+        return slice(count, size());
+    }
+
+    /**
+     * Returns a new {@code ImmutableDoubleVector} that drops all except the last {@code count} elements of this {@code ImmutableDoubleVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from the end of this {@code ImmutableDoubleVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableDoubleVector}, in which case, the result will be an
+     *              empty {@code ImmutableDoubleVector}.
+     * @return an {@code ImmutableDoubleVector}
+     */
+    @Override
+    default ImmutableDoubleVector dropRight(int count) {
+        validateDrop(count);
+        return slice(0, Math.max(size() - count, 0));
+    }
+
+    /**
+     * Evaluates this {@code ImmutableDoubleVector} into a new {@code ImmutableDoubleVector} backed by a {@code double[]}.
+     * <p>
+     * Each element is computed exactly once, and element access on the result executes in O(1).
+     * If this {@code ImmutableDoubleVector} already has a {@link Vector#viewDepth} of 0, simply returns itself.
+     *
+     * @return an {@code ImmutableDoubleVector} containing the same elements as this one
+     */
+    @Override
+    default ImmutableDoubleVector force() {
+        return DoubleVectors.force(this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableDoubleVector}, producing an {@code ImmutableVector} of any type.
+     * <p>
+     * Returns a new {@link ImmutableVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code ImmutableDoubleVector}.
+     *
+     * @param f   a function from {@code double} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code ImmutableVector}
+     * @return an {@code ImmutableVector<A>} of the same size
+     */
+    @Override
+    default <A> ImmutableVector<A> mapToObj(DoubleFunction<? extends A> f) {
+        return DoubleVectors.mapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableDoubleVector}, producing another {@code ImmutableDoubleVector}.
+     * <p>
+     * Returns a new {@link ImmutableDoubleVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code double} to {@code double}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return an {@code ImmutableDoubleVector} of the same size
+     */
+    @Override
+    default ImmutableDoubleVector mapToDouble(DoubleUnaryOperator f) {
+        return DoubleVectors.mapToDouble(f, this);
+    }
+
+    /**
+     * Creates an {@code ImmutableDoubleVector} with this {@code ImmutableDoubleVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableDoubleVector}
+     */
+    @Override
+    ImmutableDoubleVector reverse();
+
+    /**
+     * Creates a slice of this {@code ImmutableDoubleVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     * <p>
+     * Use caution when taking a small slice of a huge {@code ImmutableDoubleVector} that you no longer need.
+     * The smaller slice will hold onto a reference of the larger one, and will prevent it from being GC'ed.
+     * To avoid this situation, use {@link ImmutableDoubleVector#toDoubleArray} and {@link DoubleVector#copyFrom(double[])}
+     * to make a compact copy.
+     *
+     * @param startIndex        the index of the element to begin the slice.
+     *                          Must be &gt;= 0.
+     *                          May exceed the size of this {@code ImmutableDoubleVector}, in which case an empty {@code ImmutableDoubleVector} will be returned.
+     * @param endIndexExclusive the end index (exclusive) of the slice.  Must be &gt;= {@code startIndex}.
+     *                          May exceed the size of this {@code ImmutableDoubleVector}, in which case the slice will
+     *                          contain as many elements as available.
+     * @return an {@code ImmutableDoubleVector}
+     */
+    @Override
+    ImmutableDoubleVector slice(int startIndex, int endIndexExclusive);
+
+    /**
+     * Returns a new {@code ImmutableDoubleVector} containing at most the first {@code count} elements of this {@code ImmutableDoubleVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code ImmutableDoubleVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableDoubleVector}.
+     * @return an {@code ImmutableDoubleVector}
+     */
+    @Override
+    default ImmutableDoubleVector take(int count) {
+        validateTake(count);
+        return slice(0, count);
+    }
+
+    /**
+     * Returns a new {@code ImmutableDoubleVector} containing at most the last {@code count} elements of this {@code ImmutableDoubleVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code ImmutableDoubleVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableDoubleVector}.
+     * @return an {@code ImmutableDoubleVector}
+     */
+    @Override
+    default ImmutableDoubleVector takeRight(int count) {
+        validateTake(count);
+        int size = size();
+        return slice(Math.max(size - count, 0), size);
+    }
+
+    /**
+     * Returns an {@code ImmutableDoubleVector} containing the same elements as this one.
+     * <p>
+     * Since this is an {@link ImmutableDoubleVector} already, this method simply returns
+     * itself.
+     *
+     * @return itself
+     */
+    @Override
+    default ImmutableDoubleVector toImmutable() {
+        return this;
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableDoubleVector} to an {@code ImmutableNonEmptyDoubleVector}.
+     * <p>
+     * If successful, returns an {@link ImmutableNonEmptyDoubleVector} containing the same elements as this one, wrapped in a {@link Maybe#just}.
+     * <p>
+     * If this {@code ImmutableDoubleVector} is empty, returns {@link Maybe#nothing}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code Maybe<ImmutableNonEmptyDoubleVector>}
+     */
+    @Override
+    default Maybe<? extends ImmutableNonEmptyDoubleVector> toNonEmpty() {
+        return DoubleVectors.maybeNonEmptyConvert(this);
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableDoubleVector} to an {@code ImmutableNonEmptyDoubleVector}.
+     * <p>
+     * If successful, returns an {@link ImmutableNonEmptyDoubleVector} containing the same elements as this one.
+     * Use this if you are confident that this {@link ImmutableDoubleVector} is not empty.
+     * <p>
+     * If this {@code ImmutableDoubleVector} is empty, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableNonEmptyDoubleVector}
+     * @throws IllegalArgumentException if this {@code ImmutableDoubleVector} is empty
+     */
+    @Override
+    default ImmutableNonEmptyDoubleVector toNonEmptyOrThrow() {
+        return DoubleVectors.nonEmptyConvertOrThrow(this);
+    }
+
+}
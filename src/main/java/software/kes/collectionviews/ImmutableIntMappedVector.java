@@ -0,0 +1,83 @@
+package software.kes.collectionviews;
+
+import java.util.function.IntUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class ImmutableIntMappedVector extends ConcreteIntVector implements ImmutableNonEmptyIntVector {
+    private static final IntUnaryOperator[] NO_FUNCTIONS = new IntUnaryOperator[0];
+
+    private final ImmutableIntVector source; // must be non-empty
+    private final IntUnaryOperator[] fns;
+    private final int size;
+
+    private ImmutableIntMappedVector(ImmutableIntVector source, IntUnaryOperator[] fns) {
+        this.source = source;
+        this.fns = fns;
+        this.size = source.size();
+        assert (size >= 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int viewDepth() {
+        return 1 + source.viewDepth();
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int result = source.unsafeGetInt(index);
+        for (IntUnaryOperator fn : fns) {
+            result = fn.applyAsInt(result);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableNonEmptyIntVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new ImmutableIntMappedVector(source.reverse(), fns);
+        }
+    }
+
+    @Override
+    public ImmutableIntVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return IntVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            return new ImmutableIntMappedVector(source.slice(startIndex, endIndex), fns);
+        }
+    }
+
+    static ImmutableNonEmptyIntVector nonEmptyView(ImmutableIntVector source) {
+        return new ImmutableIntMappedVector(source, NO_FUNCTIONS);
+    }
+
+    static ImmutableNonEmptyIntVector immutableIntMappedVector(IntUnaryOperator f, ImmutableIntVector source) {
+        if (source instanceof ImmutableIntMappedVector) {
+            ImmutableIntMappedVector mapped = (ImmutableIntMappedVector) source;
+            return new ImmutableIntMappedVector(mapped.source, IntMappedVector.append(mapped.fns, f));
+        } else {
+            return new ImmutableIntMappedVector(source, new IntUnaryOperator[]{f});
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package software.kes.collectionviews;
+
+import java.util.function.IntFunction;
+
+final class ImmutableIntToObjMappedVector<A> extends ConcreteVector<A> implements ImmutableNonEmptyVector<A> {
+    private final IntFunction<? extends A> f;
+    private final ImmutableIntVector source; // must be non-empty
+    private final int size;
+
+    ImmutableIntToObjMappedVector(IntFunction<? extends A> f, ImmutableIntVector source) {
+        this.f = f;
+        this.source = source;
+        this.size = source.size();
+        assert (size >= 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int viewDepth() {
+        return 1 + source.viewDepth();
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return f.apply(source.unsafeGetInt(index));
+    }
+
+}
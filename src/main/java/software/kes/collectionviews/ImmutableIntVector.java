@@ -0,0 +1,223 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateDrop;
+import static software.kes.collectionviews.Validation.validateTake;
+
+/**
+ * An {@code IntVector} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * In other words, it owns the sole reference to the underlying collection.
+ * <p>
+ * In addition to the guarantees of {@link IntVector} and {@link ImmutableVector}, provides the following benefits:
+ * <ul>
+ * <li>{@link ImmutableIntVector#force} always returns an {@code ImmutableIntVector}.</li>
+ * <li>{@link ImmutableIntVector#mapToInt} always returns an {@code ImmutableIntVector}.</li>
+ * <li>{@link ImmutableIntVector#mapToObj} always returns an {@code ImmutableVector}.</li>
+ * <li>{@link ImmutableIntVector#slice}, {@link ImmutableIntVector#drop}, {@link ImmutableIntVector#take}
+ * and {@link ImmutableIntVector#reverse} always return an {@code ImmutableIntVector}.</li>
+ * <li>{@link ImmutableIntVector#toImmutable} always returns itself.</li>
+ * </ul>
+ */
+public interface ImmutableIntVector extends IntVector, ImmutableVector<Integer> {
+
+    /**
+     * Returns a new {@code ImmutableIntVector} that drops the first {@code count} elements of this {@code ImmutableIntVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from this {@code ImmutableIntVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableIntVector}, in which case, the result will be an
+     *              empty {@code ImmutableIntVector}.
+     * @return an {@code ImmutableIntVector}
+     */
+    @Override
+    default ImmutableIntVector drop(int count) {
+        validateDrop(count);
+        return slice(count, size());
+    }
+
+    /**
+     * Returns a new {@code ImmutableIntVector} that drops all except the last {@code count} elements of this {@code ImmutableIntVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from the end of this {@code ImmutableIntVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableIntVector}, in which case, the result will be an
+     *              empty {@code ImmutableIntVector}.
+     * @return an {@code ImmutableIntVector}
+     */
+    @Override
+    default ImmutableIntVector dropRight(int count) {
+        validateDrop(count);
+        return slice(0, Math.max(size() - count, 0));
+    }
+
+    /**
+     * Evaluates this {@code ImmutableIntVector} into a new {@code ImmutableIntVector} backed by a {@code int[]}.
+     * <p>
+     * Each element is computed exactly once, and element access on the result executes in O(1).
+     * If this {@code ImmutableIntVector} already has a {@link Vector#viewDepth} of 0, simply returns itself.
+     *
+     * @return an {@code ImmutableIntVector} containing the same elements as this one
+     */
+    @Override
+    default ImmutableIntVector force() {
+        return IntVectors.force(this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableIntVector}, producing an {@code ImmutableVector} of any type.
+     * <p>
+     * Returns a new {@link ImmutableVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code ImmutableIntVector}.
+     *
+     * @param f   a function from {@code int} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code ImmutableVector}
+     * @return an {@code ImmutableVector<A>} of the same size
+     */
+    @Override
+    default <A> ImmutableVector<A> mapToObj(IntFunction<? extends A> f) {
+        return IntVectors.mapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableIntVector}, producing another {@code ImmutableIntVector}.
+     * <p>
+     * Returns a new {@link ImmutableIntVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code int} to {@code int}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return an {@code ImmutableIntVector} of the same size
+     */
+    @Override
+    default ImmutableIntVector mapToInt(IntUnaryOperator f) {
+        return IntVectors.mapToInt(f, this);
+    }
+
+    /**
+     * Creates an {@code ImmutableIntVector} with this {@code ImmutableIntVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableIntVector}
+     */
+    @Override
+    ImmutableIntVector reverse();
+
+    /**
+     * Creates a slice of this {@code ImmutableIntVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     * <p>
+     * Use caution when taking a small slice of a huge {@code ImmutableIntVector} that you no longer need.
+     * The smaller slice will hold onto a reference of the larger one, and will prevent it from being GC'ed.
+     * To avoid this situation, use {@link ImmutableIntVector#toIntArray} and {@link IntVector#copyFrom(int[])}
+     * to make a compact copy.
+     *
+     * @param startIndex        the index of the element to begin the slice.
+     *                          Must be &gt;= 0.
+     *                          May exceed the size of this {@code ImmutableIntVector}, in which case an empty {@code ImmutableIntVector} will be returned.
+     * @param endIndexExclusive the end index (exclusive) of the slice.  Must be &gt;= {@code startIndex}.
+     *                          May exceed the size of this {@code ImmutableIntVector}, in which case the slice will
+     *                          contain as many elements as available.
+     * @return an {@code ImmutableIntVector}
+     */
+    @Override
+    ImmutableIntVector slice(int startIndex, int endIndexExclusive);
+
+    /**
+     * Returns a new {@code ImmutableIntVector} containing at most the first {@code count} elements of this {@code ImmutableIntVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code ImmutableIntVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableIntVector}.
+     * @return an {@code ImmutableIntVector}
+     */
+    @Override
+    default ImmutableIntVector take(int count) {
+        validateTake(count);
+        return slice(0, count);
+    }
+
+    /**
+     * Returns a new {@code ImmutableIntVector} containing at most the last {@code count} elements of this {@code ImmutableIntVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code ImmutableIntVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableIntVector}.
+     * @return an {@code ImmutableIntVector}
+     */
+    @Override
+    default ImmutableIntVector takeRight(int count) {
+        validateTake(count);
+        int size = size();
+        return slice(Math.max(size - count, 0), size);
+    }
+
+    /**
+     * Returns an {@code ImmutableIntVector} containing the same elements as this one.
+     * <p>
+     * Since this is an {@link ImmutableIntVector} already, this method simply returns
+     * itself.
+     *
+     * @return itself
+     */
+    @Override
+    default ImmutableIntVector toImmutable() {
+        return this;
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableIntVector} to an {@code ImmutableNonEmptyIntVector}.
+     * <p>
+     * If successful, returns an {@link ImmutableNonEmptyIntVector} containing the same elements as this one, wrapped in a {@link Maybe#just}.
+     * <p>
+     * If this {@code ImmutableIntVector} is empty, returns {@link Maybe#nothing}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code Maybe<ImmutableNonEmptyIntVector>}
+     */
+    @Override
+    default Maybe<? extends ImmutableNonEmptyIntVector> toNonEmpty() {
+        return IntVectors.maybeNonEmptyConvert(this);
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableIntVector} to an {@code ImmutableNonEmptyIntVector}.
+     * <p>
+     * If successful, returns an {@link ImmutableNonEmptyIntVector} containing the same elements as this one.
+     * Use this if you are confident that this {@link ImmutableIntVector} is not empty.
+     * <p>
+     * If this {@code ImmutableIntVector} is empty, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableNonEmptyIntVector}
+     * @throws IllegalArgumentException if this {@code ImmutableIntVector} is empty
+     */
+    @Override
+    default ImmutableNonEmptyIntVector toNonEmptyOrThrow() {
+        return IntVectors.nonEmptyConvertOrThrow(this);
+    }
+
+}
@@ -8,6 +8,10 @@ final class ImmutableListVector<A> extends ConcreteVector<A>
      * underlying must contain at least one element.
      */
     private final List<A> underlying;
+    /**
+     * Cached on first use; 0 if not yet computed.
+     */
+    private int hash;
 
     ImmutableListVector(List<A> underlying) {
         this.underlying = underlying;
@@ -28,4 +32,19 @@ final class ImmutableListVector<A> extends ConcreteVector<A>
         return underlying.get(index);
     }
 
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = super.hashCode();
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    int knownHashCode() {
+        return hash;
+    }
+
 }
@@ -0,0 +1,83 @@
+package software.kes.collectionviews;
+
+import java.util.function.LongUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class ImmutableLongMappedVector extends ConcreteLongVector implements ImmutableNonEmptyLongVector {
+    private static final LongUnaryOperator[] NO_FUNCTIONS = new LongUnaryOperator[0];
+
+    private final ImmutableLongVector source; // must be non-empty
+    private final LongUnaryOperator[] fns;
+    private final int size;
+
+    private ImmutableLongMappedVector(ImmutableLongVector source, LongUnaryOperator[] fns) {
+        this.source = source;
+        this.fns = fns;
+        this.size = source.size();
+        assert (size >= 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int viewDepth() {
+        return 1 + source.viewDepth();
+    }
+
+    @Override
+    public long unsafeGetLong(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        long result = source.unsafeGetLong(index);
+        for (LongUnaryOperator fn : fns) {
+            result = fn.applyAsLong(result);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableNonEmptyLongVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new ImmutableLongMappedVector(source.reverse(), fns);
+        }
+    }
+
+    @Override
+    public ImmutableLongVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return LongVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            return new ImmutableLongMappedVector(source.slice(startIndex, endIndex), fns);
+        }
+    }
+
+    static ImmutableNonEmptyLongVector nonEmptyView(ImmutableLongVector source) {
+        return new ImmutableLongMappedVector(source, NO_FUNCTIONS);
+    }
+
+    static ImmutableNonEmptyLongVector immutableLongMappedVector(LongUnaryOperator f, ImmutableLongVector source) {
+        if (source instanceof ImmutableLongMappedVector) {
+            ImmutableLongMappedVector mapped = (ImmutableLongMappedVector) source;
+            return new ImmutableLongMappedVector(mapped.source, LongMappedVector.append(mapped.fns, f));
+        } else {
+            return new ImmutableLongMappedVector(source, new LongUnaryOperator[]{f});
+        }
+    }
+
+}
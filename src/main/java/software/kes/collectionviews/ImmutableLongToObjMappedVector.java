@@ -0,0 +1,35 @@
+package software.kes.collectionviews;
+
+import java.util.function.LongFunction;
+
+final class ImmutableLongToObjMappedVector<A> extends ConcreteVector<A> implements ImmutableNonEmptyVector<A> {
+    private final LongFunction<? extends A> f;
+    private final ImmutableLongVector source; // must be non-empty
+    private final int size;
+
+    ImmutableLongToObjMappedVector(LongFunction<? extends A> f, ImmutableLongVector source) {
+        this.f = f;
+        this.source = source;
+        this.size = source.size();
+        assert (size >= 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int viewDepth() {
+        return 1 + source.viewDepth();
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return f.apply(source.unsafeGetLong(index));
+    }
+
+}
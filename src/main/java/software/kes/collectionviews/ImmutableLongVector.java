@@ -0,0 +1,223 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateDrop;
+import static software.kes.collectionviews.Validation.validateTake;
+
+/**
+ * A {@code LongVector} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * In other words, it owns the sole reference to the underlying collection.
+ * <p>
+ * In addition to the guarantees of {@link LongVector} and {@link ImmutableVector}, provides the following benefits:
+ * <ul>
+ * <li>{@link ImmutableLongVector#force} always returns an {@code ImmutableLongVector}.</li>
+ * <li>{@link ImmutableLongVector#mapToLong} always returns an {@code ImmutableLongVector}.</li>
+ * <li>{@link ImmutableLongVector#mapToObj} always returns an {@code ImmutableVector}.</li>
+ * <li>{@link ImmutableLongVector#slice}, {@link ImmutableLongVector#drop}, {@link ImmutableLongVector#take}
+ * and {@link ImmutableLongVector#reverse} always return an {@code ImmutableLongVector}.</li>
+ * <li>{@link ImmutableLongVector#toImmutable} always returns itself.</li>
+ * </ul>
+ */
+public interface ImmutableLongVector extends LongVector, ImmutableVector<Long> {
+
+    /**
+     * Returns a new {@code ImmutableLongVector} that drops the first {@code count} elements of this {@code ImmutableLongVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from this {@code ImmutableLongVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableLongVector}, in which case, the result will be an
+     *              empty {@code ImmutableLongVector}.
+     * @return an {@code ImmutableLongVector}
+     */
+    @Override
+    default ImmutableLongVector drop(int count) {
+        validateDrop(count);
+        return slice(count, size());
+    }
+
+    /**
+     * Returns a new {@code ImmutableLongVector} that drops all except the last {@code count} elements of this {@code ImmutableLongVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from the end of this {@code ImmutableLongVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableLongVector}, in which case, the result will be an
+     *              empty {@code ImmutableLongVector}.
+     * @return an {@code ImmutableLongVector}
+     */
+    @Override
+    default ImmutableLongVector dropRight(int count) {
+        validateDrop(count);
+        return slice(0, Math.max(size() - count, 0));
+    }
+
+    /**
+     * Evaluates this {@code ImmutableLongVector} into a new {@code ImmutableLongVector} backed by a {@code long[]}.
+     * <p>
+     * Each element is computed exactly once, and element access on the result executes in O(1).
+     * If this {@code ImmutableLongVector} already has a {@link Vector#viewDepth} of 0, simply returns itself.
+     *
+     * @return an {@code ImmutableLongVector} containing the same elements as this one
+     */
+    @Override
+    default ImmutableLongVector force() {
+        return LongVectors.force(this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableLongVector}, producing an {@code ImmutableVector} of any type.
+     * <p>
+     * Returns a new {@link ImmutableVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code ImmutableLongVector}.
+     *
+     * @param f   a function from {@code long} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code ImmutableVector}
+     * @return an {@code ImmutableVector<A>} of the same size
+     */
+    @Override
+    default <A> ImmutableVector<A> mapToObj(LongFunction<? extends A> f) {
+        return LongVectors.mapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableLongVector}, producing another {@code ImmutableLongVector}.
+     * <p>
+     * Returns a new {@link ImmutableLongVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code long} to {@code long}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return an {@code ImmutableLongVector} of the same size
+     */
+    @Override
+    default ImmutableLongVector mapToLong(LongUnaryOperator f) {
+        return LongVectors.mapToLong(f, this);
+    }
+
+    /**
+     * Creates an {@code ImmutableLongVector} with this {@code ImmutableLongVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableLongVector}
+     */
+    @Override
+    ImmutableLongVector reverse();
+
+    /**
+     * Creates a slice of this {@code ImmutableLongVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     * <p>
+     * Use caution when taking a small slice of a huge {@code ImmutableLongVector} that you no longer need.
+     * The smaller slice will hold onto a reference of the larger one, and will prevent it from being GC'ed.
+     * To avoid this situation, use {@link ImmutableLongVector#toLongArray} and {@link LongVector#copyFrom(long[])}
+     * to make a compact copy.
+     *
+     * @param startIndex        the index of the element to begin the slice.
+     *                          Must be &gt;= 0.
+     *                          May exceed the size of this {@code ImmutableLongVector}, in which case an empty {@code ImmutableLongVector} will be returned.
+     * @param endIndexExclusive the end index (exclusive) of the slice.  Must be &gt;= {@code startIndex}.
+     *                          May exceed the size of this {@code ImmutableLongVector}, in which case the slice will
+     *                          contain as many elements as available.
+     * @return an {@code ImmutableLongVector}
+     */
+    @Override
+    ImmutableLongVector slice(int startIndex, int endIndexExclusive);
+
+    /**
+     * Returns a new {@code ImmutableLongVector} containing at most the first {@code count} elements of this {@code ImmutableLongVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code ImmutableLongVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableLongVector}.
+     * @return an {@code ImmutableLongVector}
+     */
+    @Override
+    default ImmutableLongVector take(int count) {
+        validateTake(count);
+        return slice(0, count);
+    }
+
+    /**
+     * Returns a new {@code ImmutableLongVector} containing at most the last {@code count} elements of this {@code ImmutableLongVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code ImmutableLongVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code ImmutableLongVector}.
+     * @return an {@code ImmutableLongVector}
+     */
+    @Override
+    default ImmutableLongVector takeRight(int count) {
+        validateTake(count);
+        int size = size();
+        return slice(Math.max(size - count, 0), size);
+    }
+
+    /**
+     * Returns an {@code ImmutableLongVector} containing the same elements as this one.
+     * <p>
+     * Since this is an {@link ImmutableLongVector} already, this method simply returns
+     * itself.
+     *
+     * @return itself
+     */
+    @Override
+    default ImmutableLongVector toImmutable() {
+        return this;
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableLongVector} to an {@code ImmutableNonEmptyLongVector}.
+     * <p>
+     * If successful, returns an {@link ImmutableNonEmptyLongVector} containing the same elements as this one, wrapped in a {@link Maybe#just}.
+     * <p>
+     * If this {@code ImmutableLongVector} is empty, returns {@link Maybe#nothing}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code Maybe<ImmutableNonEmptyLongVector>}
+     */
+    @Override
+    default Maybe<? extends ImmutableNonEmptyLongVector> toNonEmpty() {
+        return LongVectors.maybeNonEmptyConvert(this);
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableLongVector} to an {@code ImmutableNonEmptyLongVector}.
+     * <p>
+     * If successful, returns an {@link ImmutableNonEmptyLongVector} containing the same elements as this one.
+     * Use this if you are confident that this {@link ImmutableLongVector} is not empty.
+     * <p>
+     * If this {@code ImmutableLongVector} is empty, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableNonEmptyLongVector}
+     * @throws IllegalArgumentException if this {@code ImmutableLongVector} is empty
+     */
+    @Override
+    default ImmutableNonEmptyLongVector toNonEmptyOrThrow() {
+        return LongVectors.nonEmptyConvertOrThrow(this);
+    }
+
+}
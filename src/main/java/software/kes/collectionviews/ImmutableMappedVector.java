@@ -6,9 +6,9 @@ final class ImmutableMappedVector<A> extends ConcreteVector<A>
         implements ImmutableNonEmptyVector<A> {
 
     private final MapperChain mapper;
-    private final ImmutableNonEmptyVector<Object> underlying;
+    private final ImmutableVector<Object> underlying; // must be non-empty
 
-    ImmutableMappedVector(MapperChain mapper, ImmutableNonEmptyVector<Object> underlying) {
+    ImmutableMappedVector(MapperChain mapper, ImmutableVector<Object> underlying) {
         this.mapper = mapper;
         this.underlying = underlying;
     }
@@ -18,6 +18,11 @@ final class ImmutableMappedVector<A> extends ConcreteVector<A>
         return underlying.size();
     }
 
+    @Override
+    public int viewDepth() {
+        return 1 + underlying.viewDepth();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public A unsafeGet(int index) {
@@ -31,4 +36,19 @@ final class ImmutableMappedVector<A> extends ConcreteVector<A>
                 underlying);
     }
 
+    /**
+     * Reverses the underlying vector rather than the mapped one, so that the mapping stays on top.
+     */
+    ImmutableMappedVector<A> reverseUnderlying() {
+        return new ImmutableMappedVector<>(mapper, underlying.reverse());
+    }
+
+    /**
+     * Slices the underlying vector rather than the mapped one, so that the mapping stays on top, and later
+     * {@code fmap}s can still be fused into it.
+     */
+    ImmutableMappedVector<A> subVector(int offset, int count) {
+        return new ImmutableMappedVector<>(mapper, underlying.slice(offset, offset + count));
+    }
+
 }
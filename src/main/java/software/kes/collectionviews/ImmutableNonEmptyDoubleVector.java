@@ -0,0 +1,141 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * A {@code DoubleVector} that is guaranteed at compile-time to be non-empty and safe from mutation anywhere.
+ * In other words, it owns the sole reference to the underlying collection.
+ * <p>
+ * In addition to the guarantees of {@link NonEmptyDoubleVector}, {@link ImmutableDoubleVector},
+ * and {@link ImmutableNonEmptyVector}, provides the following benefits:
+ * <ul>
+ * <li>{@link ImmutableNonEmptyDoubleVector#force} always returns an {@code ImmutableNonEmptyDoubleVector}.</li>
+ * <li>{@link ImmutableNonEmptyDoubleVector#mapToDouble} always returns an {@code ImmutableNonEmptyDoubleVector}.</li>
+ * <li>{@link ImmutableNonEmptyDoubleVector#mapToObj} always returns an {@code ImmutableNonEmptyVector}.</li>
+ * <li>{@link ImmutableNonEmptyDoubleVector#reverse} always returns an {@code ImmutableNonEmptyDoubleVector}.</li>
+ * </ul>
+ */
+public interface ImmutableNonEmptyDoubleVector extends NonEmptyDoubleVector, ImmutableDoubleVector, ImmutableNonEmptyVector<Double> {
+
+    /**
+     * Evaluates this {@code ImmutableNonEmptyDoubleVector} into a new {@code ImmutableNonEmptyDoubleVector} backed by a
+     * {@code double[]}.
+     * <p>
+     * Each element is computed exactly once, and element access on the result executes in O(1).
+     * If this {@code ImmutableNonEmptyDoubleVector} already has a {@link Vector#viewDepth} of 0, simply returns itself.
+     *
+     * @return an {@code ImmutableNonEmptyDoubleVector} containing the same elements as this one
+     */
+    @Override
+    default ImmutableNonEmptyDoubleVector force() {
+        return DoubleVectors.nonEmptyForce(this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableNonEmptyDoubleVector}, producing an {@code ImmutableNonEmptyVector} of any type.
+     * <p>
+     * Returns a new {@link ImmutableNonEmptyVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code ImmutableNonEmptyDoubleVector}.
+     *
+     * @param f   a function from {@code double} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code ImmutableNonEmptyVector}
+     * @return an {@code ImmutableNonEmptyVector<A>} of the same size
+     */
+    @Override
+    default <A> ImmutableNonEmptyVector<A> mapToObj(DoubleFunction<? extends A> f) {
+        return DoubleVectors.nonEmptyMapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableNonEmptyDoubleVector}, producing another {@code ImmutableNonEmptyDoubleVector}.
+     * <p>
+     * Returns a new {@link ImmutableNonEmptyDoubleVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code double} to {@code double}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return an {@code ImmutableNonEmptyDoubleVector} of the same size
+     */
+    @Override
+    default ImmutableNonEmptyDoubleVector mapToDouble(DoubleUnaryOperator f) {
+        return DoubleVectors.nonEmptyMapToDouble(f, this);
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyDoubleVector} with this {@code ImmutableNonEmptyDoubleVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableNonEmptyDoubleVector}
+     */
+    @Override
+    ImmutableNonEmptyDoubleVector reverse();
+
+    /**
+     * Returns an {@code ImmutableNonEmptyDoubleVector} containing the same elements as this one.
+     * <p>
+     * Since this is an {@link ImmutableNonEmptyDoubleVector} already, this method simply returns
+     * itself.
+     *
+     * @return itself
+     */
+    @Override
+    default ImmutableNonEmptyDoubleVector toImmutable() {
+        return this;
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableDoubleVector} to an {@code ImmutableNonEmptyDoubleVector}.
+     * <p>
+     * Since this will always be successful for {@link ImmutableNonEmptyDoubleVector}s,
+     * this method always returns itself wrapped in a {@link Maybe#just}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code ImmutableNonEmptyDoubleVector} wrapped in a {@link Maybe#just}
+     */
+    @Override
+    default Maybe<? extends ImmutableNonEmptyDoubleVector> toNonEmpty() {
+        return just(this);
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableDoubleVector} to an {@code ImmutableNonEmptyDoubleVector}.
+     * <p>
+     * Since this will always be successful for {@link ImmutableNonEmptyDoubleVector}s,
+     * this method always returns itself.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code ImmutableNonEmptyDoubleVector}
+     */
+    @Override
+    default ImmutableNonEmptyDoubleVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyDoubleVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyDoubleVector}
+     */
+    static ImmutableNonEmptyDoubleVector of(double first, double... more) {
+        return DoubleVectors.nonEmptyOf(first, more);
+    }
+
+}
@@ -0,0 +1,141 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * An {@code IntVector} that is guaranteed at compile-time to be non-empty and safe from mutation anywhere.
+ * In other words, it owns the sole reference to the underlying collection.
+ * <p>
+ * In addition to the guarantees of {@link NonEmptyIntVector}, {@link ImmutableIntVector},
+ * and {@link ImmutableNonEmptyVector}, provides the following benefits:
+ * <ul>
+ * <li>{@link ImmutableNonEmptyIntVector#force} always returns an {@code ImmutableNonEmptyIntVector}.</li>
+ * <li>{@link ImmutableNonEmptyIntVector#mapToInt} always returns an {@code ImmutableNonEmptyIntVector}.</li>
+ * <li>{@link ImmutableNonEmptyIntVector#mapToObj} always returns an {@code ImmutableNonEmptyVector}.</li>
+ * <li>{@link ImmutableNonEmptyIntVector#reverse} always returns an {@code ImmutableNonEmptyIntVector}.</li>
+ * </ul>
+ */
+public interface ImmutableNonEmptyIntVector extends NonEmptyIntVector, ImmutableIntVector, ImmutableNonEmptyVector<Integer> {
+
+    /**
+     * Evaluates this {@code ImmutableNonEmptyIntVector} into a new {@code ImmutableNonEmptyIntVector} backed by a
+     * {@code int[]}.
+     * <p>
+     * Each element is computed exactly once, and element access on the result executes in O(1).
+     * If this {@code ImmutableNonEmptyIntVector} already has a {@link Vector#viewDepth} of 0, simply returns itself.
+     *
+     * @return an {@code ImmutableNonEmptyIntVector} containing the same elements as this one
+     */
+    @Override
+    default ImmutableNonEmptyIntVector force() {
+        return IntVectors.nonEmptyForce(this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableNonEmptyIntVector}, producing an {@code ImmutableNonEmptyVector} of any type.
+     * <p>
+     * Returns a new {@link ImmutableNonEmptyVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code ImmutableNonEmptyIntVector}.
+     *
+     * @param f   a function from {@code int} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code ImmutableNonEmptyVector}
+     * @return an {@code ImmutableNonEmptyVector<A>} of the same size
+     */
+    @Override
+    default <A> ImmutableNonEmptyVector<A> mapToObj(IntFunction<? extends A> f) {
+        return IntVectors.nonEmptyMapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableNonEmptyIntVector}, producing another {@code ImmutableNonEmptyIntVector}.
+     * <p>
+     * Returns a new {@link ImmutableNonEmptyIntVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code int} to {@code int}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return an {@code ImmutableNonEmptyIntVector} of the same size
+     */
+    @Override
+    default ImmutableNonEmptyIntVector mapToInt(IntUnaryOperator f) {
+        return IntVectors.nonEmptyMapToInt(f, this);
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyIntVector} with this {@code ImmutableNonEmptyIntVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableNonEmptyIntVector}
+     */
+    @Override
+    ImmutableNonEmptyIntVector reverse();
+
+    /**
+     * Returns an {@code ImmutableNonEmptyIntVector} containing the same elements as this one.
+     * <p>
+     * Since this is an {@link ImmutableNonEmptyIntVector} already, this method simply returns
+     * itself.
+     *
+     * @return itself
+     */
+    @Override
+    default ImmutableNonEmptyIntVector toImmutable() {
+        return this;
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableIntVector} to an {@code ImmutableNonEmptyIntVector}.
+     * <p>
+     * Since this will always be successful for {@link ImmutableNonEmptyIntVector}s,
+     * this method always returns itself wrapped in a {@link Maybe#just}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code ImmutableNonEmptyIntVector} wrapped in a {@link Maybe#just}
+     */
+    @Override
+    default Maybe<? extends ImmutableNonEmptyIntVector> toNonEmpty() {
+        return just(this);
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableIntVector} to an {@code ImmutableNonEmptyIntVector}.
+     * <p>
+     * Since this will always be successful for {@link ImmutableNonEmptyIntVector}s,
+     * this method always returns itself.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code ImmutableNonEmptyIntVector}
+     */
+    @Override
+    default ImmutableNonEmptyIntVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyIntVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyIntVector}
+     */
+    static ImmutableNonEmptyIntVector of(int first, int... more) {
+        return IntVectors.nonEmptyOf(first, more);
+    }
+
+}
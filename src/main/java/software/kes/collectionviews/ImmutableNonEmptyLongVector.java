@@ -0,0 +1,141 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * A {@code LongVector} that is guaranteed at compile-time to be non-empty and safe from mutation anywhere.
+ * In other words, it owns the sole reference to the underlying collection.
+ * <p>
+ * In addition to the guarantees of {@link NonEmptyLongVector}, {@link ImmutableLongVector},
+ * and {@link ImmutableNonEmptyVector}, provides the following benefits:
+ * <ul>
+ * <li>{@link ImmutableNonEmptyLongVector#force} always returns an {@code ImmutableNonEmptyLongVector}.</li>
+ * <li>{@link ImmutableNonEmptyLongVector#mapToLong} always returns an {@code ImmutableNonEmptyLongVector}.</li>
+ * <li>{@link ImmutableNonEmptyLongVector#mapToObj} always returns an {@code ImmutableNonEmptyVector}.</li>
+ * <li>{@link ImmutableNonEmptyLongVector#reverse} always returns an {@code ImmutableNonEmptyLongVector}.</li>
+ * </ul>
+ */
+public interface ImmutableNonEmptyLongVector extends NonEmptyLongVector, ImmutableLongVector, ImmutableNonEmptyVector<Long> {
+
+    /**
+     * Evaluates this {@code ImmutableNonEmptyLongVector} into a new {@code ImmutableNonEmptyLongVector} backed by a
+     * {@code long[]}.
+     * <p>
+     * Each element is computed exactly once, and element access on the result executes in O(1).
+     * If this {@code ImmutableNonEmptyLongVector} already has a {@link Vector#viewDepth} of 0, simply returns itself.
+     *
+     * @return an {@code ImmutableNonEmptyLongVector} containing the same elements as this one
+     */
+    @Override
+    default ImmutableNonEmptyLongVector force() {
+        return LongVectors.nonEmptyForce(this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableNonEmptyLongVector}, producing an {@code ImmutableNonEmptyVector} of any type.
+     * <p>
+     * Returns a new {@link ImmutableNonEmptyVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code ImmutableNonEmptyLongVector}.
+     *
+     * @param f   a function from {@code long} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code ImmutableNonEmptyVector}
+     * @return an {@code ImmutableNonEmptyVector<A>} of the same size
+     */
+    @Override
+    default <A> ImmutableNonEmptyVector<A> mapToObj(LongFunction<? extends A> f) {
+        return LongVectors.nonEmptyMapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code ImmutableNonEmptyLongVector}, producing another {@code ImmutableNonEmptyLongVector}.
+     * <p>
+     * Returns a new {@link ImmutableNonEmptyLongVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code long} to {@code long}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return an {@code ImmutableNonEmptyLongVector} of the same size
+     */
+    @Override
+    default ImmutableNonEmptyLongVector mapToLong(LongUnaryOperator f) {
+        return LongVectors.nonEmptyMapToLong(f, this);
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyLongVector} with this {@code ImmutableNonEmptyLongVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableNonEmptyLongVector}
+     */
+    @Override
+    ImmutableNonEmptyLongVector reverse();
+
+    /**
+     * Returns an {@code ImmutableNonEmptyLongVector} containing the same elements as this one.
+     * <p>
+     * Since this is an {@link ImmutableNonEmptyLongVector} already, this method simply returns
+     * itself.
+     *
+     * @return itself
+     */
+    @Override
+    default ImmutableNonEmptyLongVector toImmutable() {
+        return this;
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableLongVector} to an {@code ImmutableNonEmptyLongVector}.
+     * <p>
+     * Since this will always be successful for {@link ImmutableNonEmptyLongVector}s,
+     * this method always returns itself wrapped in a {@link Maybe#just}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code ImmutableNonEmptyLongVector} wrapped in a {@link Maybe#just}
+     */
+    @Override
+    default Maybe<? extends ImmutableNonEmptyLongVector> toNonEmpty() {
+        return just(this);
+    }
+
+    /**
+     * Attempts to convert this {@code ImmutableLongVector} to an {@code ImmutableNonEmptyLongVector}.
+     * <p>
+     * Since this will always be successful for {@link ImmutableNonEmptyLongVector}s,
+     * this method always returns itself.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code ImmutableNonEmptyLongVector}
+     */
+    @Override
+    default ImmutableNonEmptyLongVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyLongVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyLongVector}
+     */
+    static ImmutableNonEmptyLongVector of(long first, long... more) {
+        return LongVectors.nonEmptyOf(first, more);
+    }
+
+}
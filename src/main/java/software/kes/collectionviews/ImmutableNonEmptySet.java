@@ -69,6 +69,22 @@ public interface ImmutableNonEmptySet<A> extends NonEmptySet<A>, ImmutableSet<A>
         return this;
     }
 
+    /**
+     * Returns an {@code ImmutableNonEmptySet} containing the elements of both this {@code ImmutableNonEmptySet} and
+     * {@code other}.
+     * <p>
+     * The elements of the smaller of the two are added to the larger, so this executes in
+     * O(m log<sub>32</sub> n), where <i>m</i> is the size of the smaller {@code ImmutableSet}.
+     *
+     * @param other the other {@code ImmutableSet}.
+     *              Not null.
+     * @return an {@code ImmutableNonEmptySet<A>}
+     */
+    @Override
+    default ImmutableNonEmptySet<A> union(ImmutableSet<A> other) {
+        return ImmutableSets.nonEmptyUnion(this, other);
+    }
+
     /**
      * Creates a {@code ImmutableNonEmptySet} with the given elements.
      *
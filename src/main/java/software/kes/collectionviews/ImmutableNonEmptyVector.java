@@ -6,6 +6,9 @@ import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
 import software.kes.enhancediterables.ImmutableNonEmptyFiniteIterable;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
+
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
 
@@ -17,6 +20,8 @@ import static com.jnape.palatable.lambda.adt.Maybe.nothing;
  * provides the following benefits:
  * <ul>
  * <li>{@code ImmutableNonEmptyVector#fmap} always returns a {@code ImmutableNonEmptyVector}.</li>
+ * <li>{@code ImmutableNonEmptyVector#force} always returns a {@code ImmutableNonEmptyVector}.</li>
+ * <li>{@code ImmutableNonEmptyVector#memoize} always returns a {@code ImmutableNonEmptyVector}.</li>
  * <li>{@code ImmutableNonEmptyVector#reverse} always returns a {@code ImmutableNonEmptyVector}.</li>
  * <li>{@code ImmutableNonEmptyVector#zipWithIndex} always returns a {@code ImmutableNonEmptyVector}.</li>
  * </ul>
@@ -25,6 +30,23 @@ import static com.jnape.palatable.lambda.adt.Maybe.nothing;
  */
 public interface ImmutableNonEmptyVector<A> extends NonEmptyVector<A>, ImmutableVector<A>, ImmutableNonEmptyFiniteIterable<A> {
 
+    /**
+     * Returns a new {@code ImmutableNonEmptyVector} containing the elements of this {@code ImmutableNonEmptyVector}
+     * followed by those of another {@code ImmutableVector}.
+     * <p>
+     * The result is a persistent vector that shares structure with both inputs, so the cost is O(log<sub>32</sub> n)
+     * rather than a copy of either.
+     * If either input is not already persistent, its elements are copied once to create one.
+     * If {@code other} is empty, this {@code ImmutableNonEmptyVector} is returned as-is.
+     *
+     * @param other the {@code ImmutableVector} to concatenate to the end of this one; not null
+     * @return an {@code ImmutableNonEmptyVector<A>}
+     */
+    @Override
+    default ImmutableNonEmptyVector<A> concat(ImmutableVector<A> other) {
+        return ImmutableVectors.nonEmptyConcat(this, other);
+    }
+
     /**
      * Returns the cartesian product of this {@code ImmutableNonEmptyVector} with another {@code ImmutableNonEmptyVector}.
      * <p>
@@ -62,6 +84,20 @@ public interface ImmutableNonEmptyVector<A> extends NonEmptyVector<A>, Immutable
         return ImmutableVectors.nonEmptyMap(f, this);
     }
 
+    /**
+     * Evaluates this {@code ImmutableNonEmptyVector} into a new {@code ImmutableNonEmptyVector} that holds its elements
+     * directly.
+     * <p>
+     * Each element is computed exactly once, and element access on the result executes in O(1).
+     * If this {@code ImmutableNonEmptyVector} already has a {@link Vector#viewDepth} of 0, simply returns itself.
+     *
+     * @return an {@code ImmutableNonEmptyVector<A>} containing the same elements as this one
+     */
+    @Override
+    default ImmutableNonEmptyVector<A> force() {
+        return ImmutableVectors.nonEmptyForce(this);
+    }
+
     /**
      * Returns the init of this {@code ImmutableNonEmptyVector}.
      * <p>
@@ -91,6 +127,88 @@ public interface ImmutableNonEmptyVector<A> extends NonEmptyVector<A>, Immutable
         return ImmutableVectors.nonEmptyMagnetizeBy(predicate, this);
     }
 
+    /**
+     * Returns an {@code ImmutableNonEmptyVector} with the same elements as this one, that computes each element the
+     * first time it is read and caches it for later reads.
+     * <p>
+     * If this {@code ImmutableNonEmptyVector} already has a {@link Vector#viewDepth} of 0, or is already memoized,
+     * simply returns itself.
+     *
+     * @return an {@code ImmutableNonEmptyVector<A>} containing the same elements as this one
+     */
+    @Override
+    default ImmutableNonEmptyVector<A> memoize() {
+        return ImmutableVectors.nonEmptyMemoize(1, this);
+    }
+
+    /**
+     * Returns an {@code ImmutableNonEmptyVector} with the same elements as this one, that computes elements in chunks
+     * the first time any of them is read and caches them for later reads.
+     * <p>
+     * If this {@code ImmutableNonEmptyVector} already has a {@link Vector#viewDepth} of 0, or is already memoized,
+     * simply returns itself.
+     *
+     * @param chunkSize the number of elements computed together.
+     *                  Must be &gt;= 1.
+     * @return an {@code ImmutableNonEmptyVector<A>} containing the same elements as this one
+     */
+    @Override
+    default ImmutableNonEmptyVector<A> memoize(int chunkSize) {
+        return ImmutableVectors.nonEmptyMemoize(chunkSize, this);
+    }
+
+    /**
+     * Eagerly maps a function over this {@code ImmutableNonEmptyVector}, using multiple threads from the common
+     * {@link ForkJoinPool}.
+     * <p>
+     * Equivalent to {@code parallelMap(ForkJoinPool.commonPool(), f)}.
+     *
+     * @param f   a function from {@code A} to {@code B}; not null.
+     *            This function should not perform side-effects.
+     *            It will be called exactly once for each element, possibly from multiple threads concurrently.
+     * @param <B> the type of the elements contained in the output {@code ImmutableNonEmptyVector}
+     * @return an {@code ImmutableNonEmptyVector<B>} of the same size
+     */
+    @Override
+    default <B> ImmutableNonEmptyVector<B> parallelMap(Fn1<? super A, ? extends B> f) {
+        return parallelMap(ForkJoinPool.commonPool(), f);
+    }
+
+    /**
+     * Eagerly maps a function over this {@code ImmutableNonEmptyVector}, using multiple threads from a
+     * {@link ForkJoinPool}.
+     * <p>
+     * Unlike {@link ImmutableNonEmptyVector#fmap}, which is lazy, this applies {@code f} to every element immediately,
+     * and stores the results in a new array.
+     *
+     * @param pool the {@code ForkJoinPool} in which to run the tasks; not null
+     * @param f    a function from {@code A} to {@code B}; not null.
+     *             This function should not perform side-effects.
+     *             It will be called exactly once for each element, possibly from multiple threads concurrently.
+     * @param <B>  the type of the elements contained in the output {@code ImmutableNonEmptyVector}
+     * @return an {@code ImmutableNonEmptyVector<B>} of the same size
+     */
+    @Override
+    default <B> ImmutableNonEmptyVector<B> parallelMap(ForkJoinPool pool, Fn1<? super A, ? extends B> f) {
+        return ParallelVectors.nonEmptyMap(pool, f, this);
+    }
+
+    /**
+     * Returns a new {@code ImmutableNonEmptyVector} with an element added to the beginning of this {@code ImmutableNonEmptyVector}.
+     * <p>
+     * The result is a persistent vector that shares structure with this one, so the cost is O(log<sub>32</sub> n)
+     * rather than a copy of this {@code ImmutableNonEmptyVector}.
+     * If this {@code ImmutableNonEmptyVector} is not already persistent, its elements are copied once to create one,
+     * and subsequent operations on the result will not need to copy again.
+     *
+     * @param element the element to prepend
+     * @return an {@code ImmutableNonEmptyVector<A>}
+     */
+    @Override
+    default ImmutableNonEmptyVector<A> prepend(A element) {
+        return ImmutableVectors.prepend(element, this);
+    }
+
     /**
      * Creates an {@code ImmutableNonEmptyVector} with this {@code ImmutableNonEmptyVector}'s elements in reversed order.
      * <p>
@@ -161,6 +279,25 @@ public interface ImmutableNonEmptyVector<A> extends NonEmptyVector<A>, Immutable
         return this;
     }
 
+    /**
+     * Returns a new {@code ImmutableNonEmptyVector} with the element at {@code index} replaced by {@code element}.
+     * <p>
+     * The result is a persistent vector that shares structure with this one, so the cost is O(log<sub>32</sub> n)
+     * rather than a copy of this {@code ImmutableNonEmptyVector}.
+     * If this {@code ImmutableNonEmptyVector} is not already persistent, its elements are copied once to create one,
+     * and subsequent operations on the result will not need to copy again.
+     *
+     * @param index   the index of the element to replace.
+     *                Must be &gt;= 0 and &lt; {@code size()}.
+     * @param element the new value for the element at {@code index}
+     * @return an {@code ImmutableNonEmptyVector<A>} of the same size
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    @Override
+    default ImmutableNonEmptyVector<A> updated(int index, A element) {
+        return ImmutableVectors.nonEmptyUpdated(index, element, this);
+    }
+
     /**
      * Zips together this {@code ImmutableNonEmptyVector} with another {@code ImmutableNonEmptyVector} by applying a zipping function.
      * <p>
@@ -232,4 +369,18 @@ public interface ImmutableNonEmptyVector<A> extends NonEmptyVector<A>, Immutable
         return ConcreteVectorBuilder.concreteVectorBuilder(just(initialCapacity), first);
     }
 
+    /**
+     * Returns a {@code Collector} that accumulates the elements of a stream into an {@code ImmutableNonEmptyVector}, in
+     * encounter order.
+     * <p>
+     * See {@link ImmutableVector#toImmutableVector} for how elements are accumulated.
+     *
+     * @param <A> the element type
+     * @return a {@code Collector} that produces an {@code ImmutableNonEmptyVector<A>}, and throws an
+     * {@link IllegalArgumentException} if the stream is empty
+     */
+    static <A> Collector<A, ?, ImmutableNonEmptyVector<A>> toImmutableNonEmptyVector() {
+        return CollectorAccumulator.nonEmptyVectorCollector();
+    }
+
 }
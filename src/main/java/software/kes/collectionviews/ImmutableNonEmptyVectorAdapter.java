@@ -0,0 +1,64 @@
+package software.kes.collectionviews;
+
+/**
+ * An {@code ImmutableNonEmptyVector} view of a non-empty {@code ImmutableVector} that does not implement
+ * {@code ImmutableNonEmptyVector} itself.
+ * <p>
+ * Every read is forwarded to the underlying vector unchanged, and slicing slices the underlying vector, so the
+ * adapter never stacks.
+ */
+final class ImmutableNonEmptyVectorAdapter<A> extends ConcreteVector<A>
+        implements ImmutableNonEmptyVector<A>, CopyOptimizeCheck {
+    private final ImmutableVector<A> underlying; // must be non-empty
+
+    ImmutableNonEmptyVectorAdapter(ImmutableVector<A> underlying) {
+        assert (!underlying.isEmpty());
+        this.underlying = underlying;
+    }
+
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        underlying.copyInto(dest, destOffset, srcFrom, srcTo);
+    }
+
+    @Override
+    public ImmutableVector<A> drop(int count) {
+        return underlying.drop(count);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldNotMakeCopy() {
+        return Util.shouldNotMakeCopy(underlying);
+    }
+
+    @Override
+    public int size() {
+        return underlying.size();
+    }
+
+    @Override
+    public ImmutableVector<A> slice(int startIndex, int endIndexExclusive) {
+        return underlying.slice(startIndex, endIndexExclusive);
+    }
+
+    @Override
+    public ImmutableVector<A> take(int count) {
+        return underlying.take(count);
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        return underlying.unsafeGet(index);
+    }
+
+    @Override
+    public int viewDepth() {
+        return underlying.viewDepth();
+    }
+
+}
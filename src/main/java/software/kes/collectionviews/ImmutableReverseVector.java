@@ -1,5 +1,7 @@
 package software.kes.collectionviews;
 
+import static software.kes.collectionviews.Validation.validateCopyInto;
+
 class ImmutableReverseVector<A> extends ConcreteVector<A>
         implements ImmutableNonEmptyVector<A> {
     private final ImmutableNonEmptyVector<A> underlying;
@@ -13,6 +15,11 @@ class ImmutableReverseVector<A> extends ConcreteVector<A>
         return underlying.size();
     }
 
+    @Override
+    public int viewDepth() {
+        return 1 + underlying.viewDepth();
+    }
+
     @Override
     public A unsafeGet(int index) {
         if (index < 0 || index >= size()) {
@@ -21,11 +28,35 @@ class ImmutableReverseVector<A> extends ConcreteVector<A>
         return underlying.unsafeGet(size() - 1 - index);
     }
 
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        validateCopyInto(dest, destOffset, srcFrom, srcTo, this);
+        int size = underlying.size();
+        underlying.copyInto(dest, destOffset, size - srcTo, size - srcFrom);
+        Vectors.reverseInPlace(dest, destOffset, destOffset + srcTo - srcFrom);
+    }
+
+    /**
+     * Slices the underlying vector rather than the reversed one, so that a slice of a slice of a reversed vector
+     * collapses into a single slice.
+     */
+    ImmutableVector<A> subVector(int offset, int count) {
+        int size = underlying.size();
+        ImmutableVector<A> sliced = underlying.slice(size - offset - count, size - offset);
+        if (count < 2) {
+            return sliced;
+        } else {
+            return immutableReverseVector(sliced.toNonEmptyOrThrow());
+        }
+    }
+
     static <A> ImmutableNonEmptyVector<A> immutableReverseVector(ImmutableNonEmptyVector<A> underlying) {
         if (underlying.size() < 2) {
             return underlying;
         } else if (underlying instanceof ImmutableReverseVector<?>) {
             return ((ImmutableReverseVector<A>) underlying).underlying;
+        } else if (underlying instanceof ImmutableMappedVector<?>) {
+            return ((ImmutableMappedVector<A>) underlying).reverseUnderlying();
         } else {
             return new ImmutableReverseVector<>(underlying);
         }
@@ -3,6 +3,8 @@ package software.kes.collectionviews;
 import com.jnape.palatable.lambda.adt.Maybe;
 import software.kes.enhancediterables.ImmutableFiniteIterable;
 
+import java.util.stream.Collector;
+
 /**
  * A {@code Set} that is guaranteed at compile-time to be safe from mutation anywhere.
  * In other words, it owns the sole reference to the underlying collection.
@@ -10,12 +12,51 @@ import software.kes.enhancediterables.ImmutableFiniteIterable;
  * In addition to guarantees of {@link Set}, an {@code ImmutableSet} provides the following benefits:
  * <ul>
  * <li>{@link ImmutableSet#toImmutable} always returns itself.</li>
+ * <li>{@link ImmutableSet#add}, {@link ImmutableSet#remove} and {@link ImmutableSet#union} return new
+ * {@code ImmutableSet}s that share structure with this one.</li>
+ * <li>{@link ImmutableSet#intersect}, {@link ImmutableSet#difference} and {@link ImmutableSet#symmetricDifference}
+ * of two {@code ImmutableSet}s are themselves {@code ImmutableSet}s.</li>
  * </ul>
  *
  * @param <A> the element type
  */
 public interface ImmutableSet<A> extends Set<A>, ImmutableFiniteIterable<A>, Immutable {
 
+    /**
+     * Returns an {@code ImmutableNonEmptySet} containing the elements of this {@code ImmutableSet} and {@code element}.
+     * <p>
+     * If this {@code ImmutableSet} already contains {@code element}, the result will be equal to this one.
+     * <p>
+     * Executes in O(log<sub>32</sub> n).
+     * The result shares most of its structure with this {@code ImmutableSet}, and neither is modified.
+     * The first time an element is added to an {@code ImmutableSet} not created by this library's persistent
+     * operations, its elements are copied once.
+     *
+     * @param element the element to add
+     * @return an {@code ImmutableNonEmptySet<A>}
+     */
+    default ImmutableNonEmptySet<A> add(A element) {
+        return ImmutableSets.add(element, this);
+    }
+
+    /**
+     * Returns an {@code ImmutableSet} containing the elements of this {@code ImmutableSet} that are not members of
+     * {@code other}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     * The result is a view that tests membership against both {@code ImmutableSet}s.
+     * Its size is computed the first time it is needed, in O(min(m, n)).
+     * <p>
+     * If either {@code ImmutableSet} is empty, returns this {@code ImmutableSet}.
+     *
+     * @param other the {@code ImmutableSet} whose elements to exclude.
+     *              Not null.
+     * @return an {@code ImmutableSet<A>}
+     */
+    default ImmutableSet<A> difference(ImmutableSet<A> other) {
+        return ImmutableSets.difference(this, other);
+    }
+
     /**
      * Since an {@code ImmutableSet} already contains only distinct values, this method always
      * returns itself.
@@ -27,6 +68,57 @@ public interface ImmutableSet<A> extends Set<A>, ImmutableFiniteIterable<A>, Imm
         return this;
     }
 
+    /**
+     * Returns an {@code ImmutableSet} containing the elements that are members of both this {@code ImmutableSet} and
+     * {@code other}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     * The result is a view that iterates the smaller of the two {@code ImmutableSet}s and probes the larger.
+     * Its size is computed the first time it is needed, in O(min(m, n)).
+     * <p>
+     * If either {@code ImmutableSet} is empty, returns an empty {@code ImmutableSet}.
+     *
+     * @param other the other {@code ImmutableSet}.
+     *              Not null.
+     * @return an {@code ImmutableSet<A>}
+     */
+    default ImmutableSet<A> intersect(ImmutableSet<A> other) {
+        return ImmutableSets.intersect(this, other);
+    }
+
+    /**
+     * Returns an {@code ImmutableSet} containing the elements of this {@code ImmutableSet} except {@code element}.
+     * <p>
+     * If this {@code ImmutableSet} does not contain {@code element}, returns itself.
+     * <p>
+     * Executes in O(log<sub>32</sub> n).
+     * The result shares most of its structure with this {@code ImmutableSet}, and neither is modified.
+     * The first time an element is removed from an {@code ImmutableSet} not created by this library's persistent
+     * operations, its elements are copied once.
+     *
+     * @param element the element to remove
+     * @return an {@code ImmutableSet<A>}
+     */
+    default ImmutableSet<A> remove(A element) {
+        return ImmutableSets.remove(element, this);
+    }
+
+    /**
+     * Returns an {@code ImmutableSet} containing the elements that are members of exactly one of this
+     * {@code ImmutableSet} and {@code other}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     * The result is a view that tests membership against both {@code ImmutableSet}s.
+     * Its size is computed the first time it is needed, in O(min(m, n)).
+     *
+     * @param other the other {@code ImmutableSet}.
+     *              Not null.
+     * @return an {@code ImmutableSet<A>}
+     */
+    default ImmutableSet<A> symmetricDifference(ImmutableSet<A> other) {
+        return ImmutableSets.symmetricDifference(this, other);
+    }
+
     /**
      * Returns an {@code ImmutableSet} containing the same elements as this one.
      * <p>
@@ -74,6 +166,21 @@ public interface ImmutableSet<A> extends Set<A>, ImmutableFiniteIterable<A>, Imm
         return ImmutableSets.nonEmptyConvertOrThrow(this);
     }
 
+    /**
+     * Returns an {@code ImmutableSet} containing the elements of both this {@code ImmutableSet} and {@code other}.
+     * <p>
+     * The elements of the smaller of the two are added to the larger, so this executes in
+     * O(m log<sub>32</sub> n), where <i>m</i> is the size of the smaller {@code ImmutableSet}.
+     * The result shares structure with the larger {@code ImmutableSet}.
+     *
+     * @param other the other {@code ImmutableSet}.
+     *              Not null.
+     * @return an {@code ImmutableSet<A>}
+     */
+    default ImmutableSet<A> union(ImmutableSet<A> other) {
+        return ImmutableSets.union(this, other);
+    }
+
     /**
      * Creates a {@code ImmutableNonEmptySet} with the given elements.
      *
@@ -88,4 +195,18 @@ public interface ImmutableSet<A> extends Set<A>, ImmutableFiniteIterable<A>, Imm
         return Sets.nonEmptySetOf(first, more);
     }
 
+    /**
+     * Returns a {@code Collector} that accumulates the elements of a stream into an {@code ImmutableSet}.
+     * <p>
+     * Elements are buffered in segments that are never copied, and inserted into the set once the stream is
+     * exhausted.
+     * When collecting a parallel stream, partial results are combined by concatenating their segments.
+     *
+     * @param <A> the element type
+     * @return a {@code Collector} that produces an {@code ImmutableSet<A>}
+     */
+    static <A> Collector<A, ?, ImmutableSet<A>> toImmutableSet() {
+        return CollectorAccumulator.setCollector();
+    }
+
 }
@@ -3,12 +3,13 @@ package software.kes.collectionviews;
 import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.builtin.fn2.Take;
 
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
+import static software.kes.collectionviews.PersistentSet.persistentSet;
 import static software.kes.collectionviews.Validation.validateCopyFrom;
 
 final class ImmutableSets {
@@ -17,6 +18,14 @@ final class ImmutableSets {
 
     }
 
+    static <A> ImmutableNonEmptySet<A> add(A element, ImmutableSet<A> set) {
+        if (set.isEmpty()) {
+            return PersistentSet.singleton(element);
+        } else {
+            return persistentSet(set).add(element);
+        }
+    }
+
     static <A> ImmutableSet<A> copyFrom(A[] source) {
         Objects.requireNonNull(source);
         return copyFrom(source.length, source);
@@ -26,10 +35,10 @@ final class ImmutableSets {
         Objects.requireNonNull(source);
         if (source instanceof ImmutableSet<?>) {
             return (ImmutableSet<A>) source;
-        } else if (!source.iterator().hasNext()) {
+        } else if (isEmpty(source)) {
             return Sets.empty();
         } else {
-            return new ImmutableWrappedSet<>(toCollection(HashSet::new, source));
+            return persistentSet(source);
         }
     }
 
@@ -44,6 +53,12 @@ final class ImmutableSets {
             return Sets.empty();
         } else if (source instanceof ImmutableSet<?>) {
             return copyFrom(maxCount, (ImmutableSet<A>) source);
+        } else if (source instanceof Vector<?>) {
+            return copyFrom(((Vector<A>) source).take(maxCount));
+        } else if (source instanceof List<?>) {
+            return copyFrom(Vector.wrap((List<A>) source).take(maxCount));
+        } else if (source instanceof Collection<?> && ((Collection<?>) source).size() <= maxCount) {
+            return copyFrom(source);
         } else {
             return copyFrom(Take.take(maxCount, source));
         }
@@ -57,14 +72,24 @@ final class ImmutableSets {
         }
     }
 
+    static <A> ImmutableSet<A> difference(ImmutableSet<A> first, ImmutableSet<A> second) {
+        Objects.requireNonNull(second);
+        if (first.isEmpty() || second.isEmpty()) {
+            return first;
+        } else if (first == second) {
+            return Sets.empty();
+        } else {
+            return new ImmutableCombinedSet<>(CombinedSet.Operation.DIFFERENCE, first, second);
+        }
+    }
+
     static <A> ImmutableSet<A> ensureImmutable(Set<A> set) {
         if (set instanceof ImmutableSet<?>) {
             return (ImmutableSet<A>) set;
         } else if (set.isEmpty()) {
             return Sets.empty();
         } else {
-            HashSet<A> copied = toCollection(HashSet::new, set);
-            return new ImmutableWrappedSet<>(copied);
+            return persistentSet(set);
         }
     }
 
@@ -72,8 +97,18 @@ final class ImmutableSets {
         if (set instanceof ImmutableNonEmptySet<?>) {
             return (ImmutableNonEmptySet<A>) set;
         } else {
-            HashSet<A> copied = toCollection(HashSet::new, set);
-            return new ImmutableWrappedSet<>(copied);
+            return persistentSet(set);
+        }
+    }
+
+    static <A> ImmutableSet<A> intersect(ImmutableSet<A> first, ImmutableSet<A> second) {
+        Objects.requireNonNull(second);
+        if (first.isEmpty() || first == second) {
+            return first;
+        } else if (second.isEmpty()) {
+            return second;
+        } else {
+            return new ImmutableCombinedSet<>(CombinedSet.Operation.INTERSECTION, first, second);
         }
     }
 
@@ -95,12 +130,7 @@ final class ImmutableSets {
 
     @SuppressWarnings("unchecked")
     static <A> Maybe<ImmutableNonEmptySet<A>> maybeNonEmptyCopyFrom(Iterable<A> source) {
-        Objects.requireNonNull(source);
-        if (!source.iterator().hasNext()) {
-            return nothing();
-        } else {
-            return (Maybe<ImmutableNonEmptySet<A>>) copyFrom(source).toNonEmpty();
-        }
+        return (Maybe<ImmutableNonEmptySet<A>>) copyFrom(source).toNonEmpty();
     }
 
     @SuppressWarnings("unchecked")
@@ -115,12 +145,7 @@ final class ImmutableSets {
 
     @SuppressWarnings("unchecked")
     static <A> Maybe<ImmutableNonEmptySet<A>> maybeNonEmptyCopyFrom(int maxCount, Iterable<A> source) {
-        validateCopyFrom(maxCount, source);
-        if (maxCount == 0 || !source.iterator().hasNext()) {
-            return nothing();
-        } else {
-            return (Maybe<ImmutableNonEmptySet<A>>) copyFrom(maxCount, source).toNonEmpty();
-        }
+        return (Maybe<ImmutableNonEmptySet<A>>) copyFrom(maxCount, source).toNonEmpty();
     }
 
     static <A> ImmutableNonEmptySet<A> nonEmptyConvertOrThrow(ImmutableSet<A> source) {
@@ -143,8 +168,64 @@ final class ImmutableSets {
         return getNonEmptyOrThrow(maybeNonEmptyCopyFrom(maxCount, source));
     }
 
+    static <A> ImmutableNonEmptySet<A> nonEmptyUnion(ImmutableNonEmptySet<A> first, ImmutableSet<A> second) {
+        Objects.requireNonNull(second);
+        if (second.isEmpty()) {
+            return first;
+        } else if (first.size() >= second.size()) {
+            return PersistentSet.addAll(persistentSet(first), second);
+        } else {
+            return PersistentSet.addAll(persistentSet(second), first);
+        }
+    }
+
+    static <A> ImmutableSet<A> remove(A element, ImmutableSet<A> set) {
+        if (!set.contains(element)) {
+            return set;
+        } else {
+            return persistentSet(set).remove(element);
+        }
+    }
+
+    static <A> ImmutableSet<A> symmetricDifference(ImmutableSet<A> first, ImmutableSet<A> second) {
+        Objects.requireNonNull(second);
+        if (second.isEmpty()) {
+            return first;
+        } else if (first.isEmpty()) {
+            return second;
+        } else if (first == second) {
+            return Sets.empty();
+        } else {
+            return new ImmutableCombinedSet<>(CombinedSet.Operation.SYMMETRIC_DIFFERENCE, first, second);
+        }
+    }
+
+    static <A> ImmutableSet<A> union(ImmutableSet<A> first, ImmutableSet<A> second) {
+        Objects.requireNonNull(second);
+        if (first.isEmpty()) {
+            return second;
+        } else {
+            return nonEmptyUnion(first.toNonEmptyOrThrow(), second);
+        }
+    }
+
     private static <A> ImmutableNonEmptySet<A> getNonEmptyOrThrow(Maybe<ImmutableNonEmptySet<A>> maybeResult) {
         return maybeResult.orElseThrow(Sets.nonEmptyError());
     }
 
+    /**
+     * Tests whether {@code source} is empty, without creating an iterator if its size is known.
+     */
+    private static boolean isEmpty(Iterable<?> source) {
+        if (source instanceof Vector<?>) {
+            return ((Vector<?>) source).isEmpty();
+        } else if (source instanceof Collection<?>) {
+            return ((Collection<?>) source).isEmpty();
+        } else if (source instanceof Set<?>) {
+            return ((Set<?>) source).isEmpty();
+        } else {
+            return !source.iterator().hasNext();
+        }
+    }
+
 }
@@ -0,0 +1,132 @@
+package software.kes.collectionviews;
+
+/**
+ * An {@code ImmutableSortedSet} of {@code Integer}s, stored unboxed in ascending order.
+ * <p>
+ * In addition to the guarantees of {@link ImmutableSortedSet}, an {@code ImmutableSortedIntSet} provides the following:
+ * <ul>
+ * <li>{@link ImmutableSortedIntSet#containsInt} tests membership of an {@code int} without boxing.</li>
+ * <li>{@link ImmutableSortedIntSet#contains} returns false for {@code null}, rather than throwing.</li>
+ * <li>{@link ImmutableSortedIntSet#headSet}, {@link ImmutableSortedIntSet#tailSet}, and
+ * {@link ImmutableSortedIntSet#subSet} return {@code ImmutableSortedIntSet}s.</li>
+ * <li>{@link ImmutableSortedIntSet#union} and {@link ImmutableSortedIntSet#intersect} of two
+ * {@code ImmutableSortedIntSet}s merge their elements without boxing.</li>
+ * </ul>
+ */
+public interface ImmutableSortedIntSet extends ImmutableSortedSet<Integer> {
+
+    /**
+     * Tests if an {@code int} is a member of this {@code ImmutableSortedIntSet}.
+     * <p>
+     * Executes in O(log n).
+     *
+     * @param element the element to test
+     * @return true if {@code element} is a member of this {@link ImmutableSortedIntSet}, false otherwise
+     */
+    boolean containsInt(int element);
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedIntSet} that are less than {@code toExclusive}.
+     * <p>
+     * Executes in O(log n).
+     * Does not make copies of any underlying collections.
+     *
+     * @param toExclusive the upper bound (exclusive).
+     *                    Not null.
+     * @return an {@code ImmutableSortedIntSet}
+     */
+    @Override
+    ImmutableSortedIntSet headSet(Integer toExclusive);
+
+    /**
+     * Returns an {@code ImmutableSortedIntSet} containing the elements that are members of both this
+     * {@code ImmutableSortedIntSet} and {@code other}.
+     * <p>
+     * Executes in O(m + n) by merging, or in O(m log n) by probing the larger with each element of the smaller,
+     * whichever is cheaper.
+     *
+     * @param other the other {@code ImmutableSortedIntSet}.
+     *              Not null.
+     * @return an {@code ImmutableSortedIntSet}
+     */
+    default ImmutableSortedIntSet intersect(ImmutableSortedIntSet other) {
+        return SortedIntVectorSet.intersect(this, other);
+    }
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedIntSet} that are greater than or equal to
+     * {@code fromInclusive} and less than {@code toExclusive}.
+     * <p>
+     * Executes in O(log n).
+     * Does not make copies of any underlying collections.
+     *
+     * @param fromInclusive the lower bound (inclusive).
+     *                      Not null.
+     * @param toExclusive   the upper bound (exclusive).
+     *                      Not null.
+     * @return an {@code ImmutableSortedIntSet}
+     */
+    @Override
+    ImmutableSortedIntSet subSet(Integer fromInclusive, Integer toExclusive);
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedIntSet} that are greater than or equal to
+     * {@code fromInclusive}.
+     * <p>
+     * Executes in O(log n).
+     * Does not make copies of any underlying collections.
+     *
+     * @param fromInclusive the lower bound (inclusive).
+     *                      Not null.
+     * @return an {@code ImmutableSortedIntSet}
+     */
+    @Override
+    ImmutableSortedIntSet tailSet(Integer fromInclusive);
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedIntSet} as an {@code ImmutableIntVector}, in ascending order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableIntVector}
+     */
+    ImmutableIntVector toIntVector();
+
+    /**
+     * Returns an {@code ImmutableSortedIntSet} containing the elements of both this {@code ImmutableSortedIntSet} and
+     * {@code other}.
+     * <p>
+     * Executes in O(m + n) by merging.
+     *
+     * @param other the other {@code ImmutableSortedIntSet}.
+     *              Not null.
+     * @return an {@code ImmutableSortedIntSet}
+     */
+    default ImmutableSortedIntSet union(ImmutableSortedIntSet other) {
+        return SortedIntVectorSet.union(this, other);
+    }
+
+    /**
+     * Creates an {@code ImmutableSortedIntSet} that is copied from an array.
+     * <p>
+     * Sorts a copy of the array in O(n log n) and removes any duplicates.
+     *
+     * @param source the array to copy from.
+     *               Not null.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableSortedIntSet}
+     */
+    static ImmutableSortedIntSet copyFrom(int[] source) {
+        return SortedIntVectorSet.copyFrom(source);
+    }
+
+    /**
+     * Returns an empty {@code ImmutableSortedIntSet}.
+     *
+     * @return an empty {@code ImmutableSortedIntSet}
+     */
+    static ImmutableSortedIntSet empty() {
+        return SortedIntVectorSet.empty();
+    }
+
+}
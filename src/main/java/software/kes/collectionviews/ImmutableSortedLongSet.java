@@ -0,0 +1,132 @@
+package software.kes.collectionviews;
+
+/**
+ * An {@code ImmutableSortedSet} of {@code Long}s, stored unboxed in ascending order.
+ * <p>
+ * In addition to the guarantees of {@link ImmutableSortedSet}, an {@code ImmutableSortedLongSet} provides the following:
+ * <ul>
+ * <li>{@link ImmutableSortedLongSet#containsLong} tests membership of a {@code long} without boxing.</li>
+ * <li>{@link ImmutableSortedLongSet#contains} returns false for {@code null}, rather than throwing.</li>
+ * <li>{@link ImmutableSortedLongSet#headSet}, {@link ImmutableSortedLongSet#tailSet}, and
+ * {@link ImmutableSortedLongSet#subSet} return {@code ImmutableSortedLongSet}s.</li>
+ * <li>{@link ImmutableSortedLongSet#union} and {@link ImmutableSortedLongSet#intersect} of two
+ * {@code ImmutableSortedLongSet}s merge their elements without boxing.</li>
+ * </ul>
+ */
+public interface ImmutableSortedLongSet extends ImmutableSortedSet<Long> {
+
+    /**
+     * Tests if a {@code long} is a member of this {@code ImmutableSortedLongSet}.
+     * <p>
+     * Executes in O(log n).
+     *
+     * @param element the element to test
+     * @return true if {@code element} is a member of this {@link ImmutableSortedLongSet}, false otherwise
+     */
+    boolean containsLong(long element);
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedLongSet} that are less than {@code toExclusive}.
+     * <p>
+     * Executes in O(log n).
+     * Does not make copies of any underlying collections.
+     *
+     * @param toExclusive the upper bound (exclusive).
+     *                    Not null.
+     * @return an {@code ImmutableSortedLongSet}
+     */
+    @Override
+    ImmutableSortedLongSet headSet(Long toExclusive);
+
+    /**
+     * Returns an {@code ImmutableSortedLongSet} containing the elements that are members of both this
+     * {@code ImmutableSortedLongSet} and {@code other}.
+     * <p>
+     * Executes in O(m + n) by merging, or in O(m log n) by probing the larger with each element of the smaller,
+     * whichever is cheaper.
+     *
+     * @param other the other {@code ImmutableSortedLongSet}.
+     *              Not null.
+     * @return an {@code ImmutableSortedLongSet}
+     */
+    default ImmutableSortedLongSet intersect(ImmutableSortedLongSet other) {
+        return SortedLongVectorSet.intersect(this, other);
+    }
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedLongSet} that are greater than or equal to
+     * {@code fromInclusive} and less than {@code toExclusive}.
+     * <p>
+     * Executes in O(log n).
+     * Does not make copies of any underlying collections.
+     *
+     * @param fromInclusive the lower bound (inclusive).
+     *                      Not null.
+     * @param toExclusive   the upper bound (exclusive).
+     *                      Not null.
+     * @return an {@code ImmutableSortedLongSet}
+     */
+    @Override
+    ImmutableSortedLongSet subSet(Long fromInclusive, Long toExclusive);
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedLongSet} that are greater than or equal to
+     * {@code fromInclusive}.
+     * <p>
+     * Executes in O(log n).
+     * Does not make copies of any underlying collections.
+     *
+     * @param fromInclusive the lower bound (inclusive).
+     *                      Not null.
+     * @return an {@code ImmutableSortedLongSet}
+     */
+    @Override
+    ImmutableSortedLongSet tailSet(Long fromInclusive);
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedLongSet} as an {@code ImmutableLongVector}, in ascending order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableLongVector}
+     */
+    ImmutableLongVector toLongVector();
+
+    /**
+     * Returns an {@code ImmutableSortedLongSet} containing the elements of both this {@code ImmutableSortedLongSet} and
+     * {@code other}.
+     * <p>
+     * Executes in O(m + n) by merging.
+     *
+     * @param other the other {@code ImmutableSortedLongSet}.
+     *              Not null.
+     * @return an {@code ImmutableSortedLongSet}
+     */
+    default ImmutableSortedLongSet union(ImmutableSortedLongSet other) {
+        return SortedLongVectorSet.union(this, other);
+    }
+
+    /**
+     * Creates an {@code ImmutableSortedLongSet} that is copied from an array.
+     * <p>
+     * Sorts a copy of the array in O(n log n) and removes any duplicates.
+     *
+     * @param source the array to copy from.
+     *               Not null.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableSortedLongSet}
+     */
+    static ImmutableSortedLongSet copyFrom(long[] source) {
+        return SortedLongVectorSet.copyFrom(source);
+    }
+
+    /**
+     * Returns an empty {@code ImmutableSortedLongSet}.
+     *
+     * @return an empty {@code ImmutableSortedLongSet}
+     */
+    static ImmutableSortedLongSet empty() {
+        return SortedLongVectorSet.empty();
+    }
+
+}
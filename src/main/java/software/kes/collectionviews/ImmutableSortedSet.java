@@ -0,0 +1,210 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Comparator;
+
+/**
+ * An {@code ImmutableSet} whose elements are kept in ascending order according to a {@link Comparator}.
+ * <p>
+ * The elements are held in a sorted array without duplicates, so in addition to the guarantees of
+ * {@link ImmutableSet}, an {@code ImmutableSortedSet} provides the following:
+ * <ul>
+ * <li>Iteration is in ascending order.</li>
+ * <li>{@link ImmutableSortedSet#contains}, {@link ImmutableSortedSet#ceiling}, and
+ * {@link ImmutableSortedSet#floor} execute in O(log n).</li>
+ * <li>{@link ImmutableSortedSet#headSet}, {@link ImmutableSortedSet#tailSet}, and
+ * {@link ImmutableSortedSet#subSet} return views that share the elements of this one, in O(log n).</li>
+ * <li>{@link ImmutableSortedSet#union} and {@link ImmutableSortedSet#intersect} of two {@code ImmutableSortedSet}s
+ * with the same comparator merge their elements in a single pass.</li>
+ * </ul>
+ * <p>
+ * Elements are compared only using the comparator, which should therefore be consistent with {@code equals}.
+ * As with {@link java.util.TreeSet}, testing an element that the comparator cannot compare (such as {@code null}
+ * with {@link Comparator#naturalOrder}) may throw an exception.
+ *
+ * @param <A> the element type
+ */
+public interface ImmutableSortedSet<A> extends ImmutableSet<A> {
+
+    /**
+     * Returns the least element of this {@code ImmutableSortedSet} that is greater than or equal to {@code element}.
+     * <p>
+     * Executes in O(log n).
+     *
+     * @param element the element to compare against
+     * @return the least element not less than {@code element}, wrapped in a {@link Maybe#just}, or
+     * {@link Maybe#nothing} if there is none
+     */
+    default Maybe<A> ceiling(A element) {
+        return SortedSets.ceiling(element, this);
+    }
+
+    /**
+     * Returns the {@code Comparator} that determines the order of this {@code ImmutableSortedSet}.
+     *
+     * @return a {@code Comparator}
+     */
+    Comparator<? super A> comparator();
+
+    /**
+     * Returns the least element of this {@code ImmutableSortedSet}.
+     *
+     * @return the first element, wrapped in a {@link Maybe#just}, or {@link Maybe#nothing} if this
+     * {@code ImmutableSortedSet} is empty
+     */
+    default Maybe<A> first() {
+        return toVector().get(0);
+    }
+
+    /**
+     * Returns the greatest element of this {@code ImmutableSortedSet} that is less than or equal to {@code element}.
+     * <p>
+     * Executes in O(log n).
+     *
+     * @param element the element to compare against
+     * @return the greatest element not greater than {@code element}, wrapped in a {@link Maybe#just}, or
+     * {@link Maybe#nothing} if there is none
+     */
+    default Maybe<A> floor(A element) {
+        return SortedSets.floor(element, this);
+    }
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedSet} that are less than {@code toExclusive}.
+     * <p>
+     * Executes in O(log n).
+     * Does not make copies of any underlying collections.
+     * The result holds a reference to the elements of this {@code ImmutableSortedSet}, and will prevent them from being
+     * GC'ed.
+     *
+     * @param toExclusive the upper bound (exclusive)
+     * @return an {@code ImmutableSortedSet<A>}
+     */
+    ImmutableSortedSet<A> headSet(A toExclusive);
+
+    /**
+     * Returns an {@code ImmutableSortedSet} containing the elements that are members of both this
+     * {@code ImmutableSortedSet} and {@code other}.
+     * <p>
+     * If both are sorted by the same comparator, this executes in O(m + n) by merging, or in O(m log n) by probing
+     * the larger with each element of the smaller, whichever is cheaper.
+     * Otherwise, each element of this {@code ImmutableSortedSet} is tested for membership in {@code other}.
+     *
+     * @param other the other {@code ImmutableSortedSet}.
+     *              Not null.
+     * @return an {@code ImmutableSortedSet<A>} ordered by the comparator of this one
+     */
+    default ImmutableSortedSet<A> intersect(ImmutableSortedSet<A> other) {
+        return SortedSets.intersect(this, other);
+    }
+
+    /**
+     * Returns the greatest element of this {@code ImmutableSortedSet}.
+     *
+     * @return the last element, wrapped in a {@link Maybe#just}, or {@link Maybe#nothing} if this
+     * {@code ImmutableSortedSet} is empty
+     */
+    default Maybe<A> last() {
+        return toVector().get(size() - 1);
+    }
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedSet} that are greater than or equal to {@code fromInclusive}
+     * and less than {@code toExclusive}.
+     * <p>
+     * Executes in O(log n).
+     * Does not make copies of any underlying collections.
+     * The result holds a reference to the elements of this {@code ImmutableSortedSet}, and will prevent them from being
+     * GC'ed.
+     *
+     * @param fromInclusive the lower bound (inclusive)
+     * @param toExclusive   the upper bound (exclusive)
+     * @return an {@code ImmutableSortedSet<A>}, which will be empty if {@code toExclusive} is not greater than
+     * {@code fromInclusive}
+     */
+    ImmutableSortedSet<A> subSet(A fromInclusive, A toExclusive);
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedSet} that are greater than or equal to {@code fromInclusive}.
+     * <p>
+     * Executes in O(log n).
+     * Does not make copies of any underlying collections.
+     * The result holds a reference to the elements of this {@code ImmutableSortedSet}, and will prevent them from being
+     * GC'ed.
+     *
+     * @param fromInclusive the lower bound (inclusive)
+     * @return an {@code ImmutableSortedSet<A>}
+     */
+    ImmutableSortedSet<A> tailSet(A fromInclusive);
+
+    /**
+     * Returns the elements of this {@code ImmutableSortedSet} as an {@code ImmutableSortedVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code ImmutableSortedVector<A>} with no duplicate elements
+     */
+    ImmutableSortedVector<A> toVector();
+
+    /**
+     * Returns an {@code ImmutableSortedSet} containing the elements of both this {@code ImmutableSortedSet} and
+     * {@code other}.
+     * <p>
+     * If both are sorted by the same comparator, this executes in O(m + n) by merging.
+     * Otherwise, the elements of both are sorted again by the comparator of this one.
+     *
+     * @param other the other {@code ImmutableSortedSet}.
+     *              Not null.
+     * @return an {@code ImmutableSortedSet<A>} ordered by the comparator of this one
+     */
+    default ImmutableSortedSet<A> union(ImmutableSortedSet<A> other) {
+        return SortedSets.union(this, other);
+    }
+
+    /**
+     * Creates an {@code ImmutableSortedSet} that is copied from any {@code Iterable}.
+     * <p>
+     * The entire {@link Iterable} will be eagerly iterated and its elements sorted in O(n log n).
+     * Of any elements that {@code comparator} considers equal, only the first is kept.
+     *
+     * @param comparator the {@code Comparator} that determines the order of the set.
+     *                   Not null.
+     * @param source     an {@code Iterable<A>} that will be iterated eagerly in its entirety; not null
+     * @param <A>        the element type
+     * @return an {@code ImmutableSortedSet<A>}
+     */
+    static <A> ImmutableSortedSet<A> copyFrom(Comparator<? super A> comparator, Iterable<A> source) {
+        return SortedSets.copyFrom(comparator, source);
+    }
+
+    /**
+     * Creates an {@code ImmutableSortedSet} that is copied from an array.
+     * <p>
+     * Of any elements that {@code comparator} considers equal, only the first is kept.
+     *
+     * @param comparator the {@code Comparator} that determines the order of the set.
+     *                   Not null.
+     * @param source     the array to copy from.
+     *                   Not null.
+     *                   This method will not alter or hold on to a reference of this array.
+     * @param <A>        the element type
+     * @return an {@code ImmutableSortedSet<A>}
+     */
+    static <A> ImmutableSortedSet<A> copyFrom(Comparator<? super A> comparator, A[] source) {
+        return SortedSets.copyFrom(comparator, source);
+    }
+
+    /**
+     * Returns an empty {@code ImmutableSortedSet}.
+     *
+     * @param comparator the {@code Comparator} that determines the order of the set.
+     *                   Not null.
+     * @param <A>        the element type
+     * @return an empty {@code ImmutableSortedSet<A>}
+     */
+    static <A> ImmutableSortedSet<A> empty(Comparator<? super A> comparator) {
+        return SortedSets.empty(comparator);
+    }
+
+}
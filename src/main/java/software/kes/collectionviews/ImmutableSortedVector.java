@@ -0,0 +1,64 @@
+package software.kes.collectionviews;
+
+import java.util.Comparator;
+
+/**
+ * A {@code SortedVector} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * <p>
+ * An {@code ImmutableSortedVector} has all the guarantees of {@link SortedVector} and {@link ImmutableVector}.
+ *
+ * @param <A> the element type
+ */
+public interface ImmutableSortedVector<A> extends SortedVector<A>, ImmutableVector<A> {
+
+    /**
+     * Returns a slice of this {@code ImmutableSortedVector} containing the elements that are not less than
+     * {@code from} and less than {@code to}.
+     * <p>
+     * Executes in O(log n).
+     * Does not make copies of any underlying collections.
+     *
+     * @param from the lower bound of the range (inclusive)
+     * @param to   the upper bound of the range (exclusive)
+     * @return an {@code ImmutableSortedVector<A>}, which will be empty if {@code to} is not greater than {@code from}
+     */
+    @Override
+    default ImmutableSortedVector<A> range(A from, A to) {
+        return SortedVectors.immutableRange(from, to, this);
+    }
+
+    /**
+     * Returns an {@code ImmutableSortedVector} containing the same elements as this one.
+     * <p>
+     * Since this is an {@link ImmutableSortedVector} already, this method simply returns itself.
+     *
+     * @return itself
+     */
+    @Override
+    default ImmutableSortedVector<A> toImmutable() {
+        return this;
+    }
+
+    /**
+     * Creates an {@code ImmutableSortedVector} that wraps an {@code ImmutableVector} whose elements are already sorted.
+     * <p>
+     * The caller vouches that the elements of {@code underlying} are in ascending order according to
+     * {@code comparator}.
+     * This is not checked.
+     * If it does not hold, the results of the searching methods of the created {@code ImmutableSortedVector} are
+     * undefined.
+     * <p>
+     * Does not make any copies of the given {@link ImmutableVector}.
+     *
+     * @param comparator the {@code Comparator} that {@code underlying} is sorted by.
+     *                   Not null.
+     * @param underlying a sorted {@code ImmutableVector}.
+     *                   Not null.
+     * @param <A>        the element type
+     * @return an {@code ImmutableSortedVector<A>}
+     */
+    static <A> ImmutableSortedVector<A> wrap(Comparator<? super A> comparator, ImmutableVector<A> underlying) {
+        return SortedVectors.immutableWrap(comparator, underlying);
+    }
+
+}
@@ -0,0 +1,54 @@
+package software.kes.collectionviews;
+
+import java.util.Comparator;
+
+final class ImmutableSortedVectorAdapter<A> extends ConcreteVector<A>
+        implements ImmutableSortedVector<A>, CopyOptimizeCheck {
+    private final Comparator<? super A> comparator;
+    private final ImmutableVector<A> underlying;
+
+    ImmutableSortedVectorAdapter(Comparator<? super A> comparator, ImmutableVector<A> underlying) {
+        this.comparator = comparator;
+        this.underlying = underlying;
+    }
+
+    @Override
+    public Comparator<? super A> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        underlying.copyInto(dest, destOffset, srcFrom, srcTo);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return underlying.isEmpty();
+    }
+
+    @Override
+    public boolean shouldNotMakeCopy() {
+        return Util.shouldNotMakeCopy(underlying);
+    }
+
+    @Override
+    public int size() {
+        return underlying.size();
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        return underlying.unsafeGet(index);
+    }
+
+    @Override
+    public int viewDepth() {
+        return underlying.viewDepth();
+    }
+
+    ImmutableVector<A> underlying() {
+        return underlying;
+    }
+
+}
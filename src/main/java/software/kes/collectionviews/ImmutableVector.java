@@ -7,6 +7,9 @@ import com.jnape.palatable.lambda.functions.Fn2;
 import software.kes.enhancediterables.ImmutableFiniteIterable;
 import software.kes.enhancediterables.ImmutableNonEmptyFiniteIterable;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
+
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
 import static software.kes.collectionviews.EmptyVectorBuilder.emptyVectorBuilder;
@@ -24,12 +27,62 @@ import static software.kes.collectionviews.EmptyVectorBuilder.emptyVectorBuilder
  * <li>{@link ImmutableVector#reverse} always returns a {@code ImmutableVector}.</li>
  * <li>{@link ImmutableVector#zipWithIndex} always returns a {@code ImmutableVector}.</li>
  * <li>{@link ImmutableVector#toImmutable} always returns itself.</li>
+ * <li>{@link ImmutableVector#append}, {@link ImmutableVector#prepend}, {@link ImmutableVector#updated}
+ * and {@link ImmutableVector#concat} return a new {@code ImmutableVector} that shares structure with this one.</li>
  * </ul>
  *
  * @param <A> the element type
  */
 public interface ImmutableVector<A> extends Vector<A>, ImmutableFiniteIterable<A>, Immutable {
 
+    /**
+     * Returns a new {@code ImmutableNonEmptyVector} with an element added to the end of this {@code ImmutableVector}.
+     * <p>
+     * The result is a persistent vector that shares structure with this one, so the cost is O(log<sub>32</sub> n)
+     * rather than a copy of this {@code ImmutableVector}.
+     * If this {@code ImmutableVector} is not already persistent, its elements are copied once to create one,
+     * and subsequent operations on the result will not need to copy again.
+     *
+     * @param element the element to append
+     * @return an {@code ImmutableNonEmptyVector<A>}
+     */
+    @Override
+    default ImmutableNonEmptyVector<A> append(A element) {
+        return ImmutableVectors.append(element, this);
+    }
+
+    /**
+     * Returns a new {@code ImmutableVector} containing the elements of this {@code ImmutableVector} followed by those
+     * of another {@code ImmutableVector}.
+     * <p>
+     * The result is a persistent vector that shares structure with both inputs, so the cost is O(log<sub>32</sub> n)
+     * rather than a copy of either.
+     * If either input is not already persistent, its elements are copied once to create one.
+     * If either input is empty, the other is returned as-is.
+     *
+     * @param other the {@code ImmutableVector} to concatenate to the end of this one; not null
+     * @return an {@code ImmutableVector<A>}
+     */
+    default ImmutableVector<A> concat(ImmutableVector<A> other) {
+        return ImmutableVectors.concat(this, other);
+    }
+
+    /**
+     * Returns a new {@code ImmutableNonEmptyVector} containing the elements of this {@code ImmutableVector} followed
+     * by those of an {@code ImmutableNonEmptyVector}.
+     * <p>
+     * The result is a persistent vector that shares structure with both inputs, so the cost is O(log<sub>32</sub> n)
+     * rather than a copy of either.
+     * If either input is not already persistent, its elements are copied once to create one.
+     * If this {@code ImmutableVector} is empty, {@code other} is returned as-is.
+     *
+     * @param other the {@code ImmutableNonEmptyVector} to concatenate to the end of this one; not null
+     * @return an {@code ImmutableNonEmptyVector<A>}
+     */
+    default ImmutableNonEmptyVector<A> concat(ImmutableNonEmptyVector<A> other) {
+        return ImmutableVectors.concatNonEmpty(this, other);
+    }
+
     /**
      * Returns the cartesian product of this {@code ImmutableVector} with another {@code ImmutableVector}.
      * <p>
@@ -120,6 +173,39 @@ public interface ImmutableVector<A> extends Vector<A>, ImmutableFiniteIterable<A
         return ImmutableVectors.map(f, this);
     }
 
+    /**
+     * Evaluates this {@code ImmutableVector} into a new {@code ImmutableVector} that holds its elements directly.
+     * <p>
+     * Each element of this {@code ImmutableVector} is computed exactly once, and the result no longer refers to any
+     * of the views beneath it, so its {@link Vector#viewDepth} is 0 and element access executes in O(1).
+     * If this {@code ImmutableVector} already has a {@code viewDepth} of 0, simply returns itself.
+     * <p>
+     * Worth calling when a deeply transformed {@code ImmutableVector} is going to be read many times.
+     *
+     * @return an {@code ImmutableVector<A>} containing the same elements as this one
+     */
+    default ImmutableVector<A> force() {
+        return ImmutableVectors.force(this);
+    }
+
+    /**
+     * Splits this {@code ImmutableVector} into consecutive chunks of {@code n} elements.
+     * <p>
+     * Each chunk is a slice of this {@code ImmutableVector}, and the last chunk contains fewer than {@code n} elements
+     * if the size of this {@code ImmutableVector} is not a multiple of {@code n}.
+     * <p>
+     * Example:
+     *
+     * <code>Vector.of(1, 2, 3, 4, 5).grouped(2); // [[1, 2], [3, 4], [5]]</code>
+     *
+     * @param n the maximum number of elements in each chunk.  Must be &gt;= 1.
+     * @return an {@code ImmutableVector<ImmutableNonEmptyVector<A>>}, empty if this {@code ImmutableVector} is empty
+     */
+    @Override
+    default ImmutableVector<? extends ImmutableNonEmptyVector<A>> grouped(int n) {
+        return ImmutableVectors.grouped(n, this);
+    }
+
     /**
      * Returns a {@code NonEmptyIterable} containing the inits of this {@code ImmutableVector}.
      * <p>
@@ -147,6 +233,204 @@ public interface ImmutableVector<A> extends Vector<A>, ImmutableFiniteIterable<A
         return ImmutableVectors.magnetizeBy(predicate, this);
     }
 
+    /**
+     * Returns an {@code ImmutableVector} with the same elements as this one, that computes each element the first
+     * time it is read and caches it for later reads.
+     * <p>
+     * Useful for {@code ImmutableVector}s whose elements are expensive to compute, such as those created by
+     * {@link Vector#lazyFill} or by mapping an expensive function.
+     * Reads never block; if two threads read an uncomputed element at the same time, the element may be computed
+     * twice, but both threads will see the same value.
+     * <p>
+     * If this {@code ImmutableVector} already has a {@link Vector#viewDepth} of 0, or is already memoized, simply
+     * returns itself.
+     * <p>
+     * Uses O(n) memory, but does not copy any elements until they are read.
+     *
+     * @return an {@code ImmutableVector<A>} containing the same elements as this one
+     */
+    default ImmutableVector<A> memoize() {
+        return ImmutableVectors.memoize(1, this);
+    }
+
+    /**
+     * Returns an {@code ImmutableVector} with the same elements as this one, that computes elements in chunks the
+     * first time any of them is read and caches them for later reads.
+     * <p>
+     * When an uncomputed element is read, all uncomputed elements in the surrounding chunk of {@code chunkSize}
+     * elements are computed along with it.
+     * This amortizes the cost of computation when elements are usually read in order.
+     * <p>
+     * If this {@code ImmutableVector} already has a {@link Vector#viewDepth} of 0, or is already memoized, simply
+     * returns itself.
+     *
+     * @param chunkSize the number of elements computed together.
+     *                  Must be &gt;= 1.
+     * @return an {@code ImmutableVector<A>} containing the same elements as this one
+     */
+    default ImmutableVector<A> memoize(int chunkSize) {
+        return ImmutableVectors.memoize(chunkSize, this);
+    }
+
+    /**
+     * Counts the elements of this {@code ImmutableVector} that satisfy a predicate, using multiple threads from the
+     * common {@link ForkJoinPool}.
+     * <p>
+     * Equivalent to {@code parallelCount(ForkJoinPool.commonPool(), predicate)}.
+     *
+     * @param predicate a predicate; not null.
+     *                  This function should be referentially transparent and not perform side-effects.
+     *                  It may be called from multiple threads concurrently.
+     * @return the number of elements that satisfy {@code predicate}
+     */
+    default int parallelCount(Fn1<? super A, ? extends Boolean> predicate) {
+        return parallelCount(ForkJoinPool.commonPool(), predicate);
+    }
+
+    /**
+     * Counts the elements of this {@code ImmutableVector} that satisfy a predicate, using multiple threads from a
+     * {@link ForkJoinPool}.
+     * <p>
+     * This {@code ImmutableVector} is divided by index range into tasks of at least 1024 elements.
+     * If it is too small to divide, it is processed on the calling thread.
+     *
+     * @param pool      the {@code ForkJoinPool} in which to run the tasks; not null
+     * @param predicate a predicate; not null.
+     *                  This function should be referentially transparent and not perform side-effects.
+     *                  It may be called from multiple threads concurrently.
+     * @return the number of elements that satisfy {@code predicate}
+     */
+    default int parallelCount(ForkJoinPool pool, Fn1<? super A, ? extends Boolean> predicate) {
+        return ParallelVectors.count(pool, predicate, this);
+    }
+
+    /**
+     * Finds the index of the first element of this {@code ImmutableVector} that satisfies a predicate, using multiple
+     * threads from the common {@link ForkJoinPool}.
+     * <p>
+     * Equivalent to {@code parallelFindIndex(ForkJoinPool.commonPool(), predicate)}.
+     *
+     * @param predicate a predicate; not null.
+     *                  This function should be referentially transparent and not perform side-effects.
+     *                  It may be called from multiple threads concurrently.
+     * @return the index of the first element that satisfies {@code predicate} wrapped in a {@link Maybe#just},
+     * or {@link Maybe#nothing} if no element satisfies it
+     */
+    default Maybe<Integer> parallelFindIndex(Fn1<? super A, ? extends Boolean> predicate) {
+        return parallelFindIndex(ForkJoinPool.commonPool(), predicate);
+    }
+
+    /**
+     * Finds the index of the first element of this {@code ImmutableVector} that satisfies a predicate, using multiple
+     * threads from a {@link ForkJoinPool}.
+     * <p>
+     * The result is always the lowest matching index, as with {@link Vector#findIndex}.
+     * Tasks that cover only indices above a match that has already been found are skipped.
+     * <p>
+     * This {@code ImmutableVector} is divided by index range into tasks of at least 1024 elements.
+     * If it is too small to divide, it is processed on the calling thread.
+     *
+     * @param pool      the {@code ForkJoinPool} in which to run the tasks; not null
+     * @param predicate a predicate; not null.
+     *                  This function should be referentially transparent and not perform side-effects.
+     *                  It may be called from multiple threads concurrently.
+     * @return the index of the first element that satisfies {@code predicate} wrapped in a {@link Maybe#just},
+     * or {@link Maybe#nothing} if no element satisfies it
+     */
+    default Maybe<Integer> parallelFindIndex(ForkJoinPool pool, Fn1<? super A, ? extends Boolean> predicate) {
+        return ParallelVectors.findIndex(pool, predicate, this);
+    }
+
+    /**
+     * Eagerly maps a function over this {@code ImmutableVector}, using multiple threads from the common
+     * {@link ForkJoinPool}.
+     * <p>
+     * Equivalent to {@code parallelMap(ForkJoinPool.commonPool(), f)}.
+     *
+     * @param f   a function from {@code A} to {@code B}; not null.
+     *            This function should not perform side-effects.
+     *            It will be called exactly once for each element, possibly from multiple threads concurrently.
+     * @param <B> the type of the elements contained in the output {@code ImmutableVector}
+     * @return an {@code ImmutableVector<B>} of the same size
+     */
+    default <B> ImmutableVector<B> parallelMap(Fn1<? super A, ? extends B> f) {
+        return parallelMap(ForkJoinPool.commonPool(), f);
+    }
+
+    /**
+     * Eagerly maps a function over this {@code ImmutableVector}, using multiple threads from a {@link ForkJoinPool}.
+     * <p>
+     * Unlike {@link ImmutableVector#fmap}, which is lazy, this applies {@code f} to every element immediately,
+     * and stores the results in a new array.
+     * <p>
+     * This {@code ImmutableVector} is divided by index range into tasks of at least 1024 elements.
+     * If it is too small to divide, it is processed on the calling thread.
+     *
+     * @param pool the {@code ForkJoinPool} in which to run the tasks; not null
+     * @param f    a function from {@code A} to {@code B}; not null.
+     *             This function should not perform side-effects.
+     *             It will be called exactly once for each element, possibly from multiple threads concurrently.
+     * @param <B>  the type of the elements contained in the output {@code ImmutableVector}
+     * @return an {@code ImmutableVector<B>} of the same size
+     */
+    default <B> ImmutableVector<B> parallelMap(ForkJoinPool pool, Fn1<? super A, ? extends B> f) {
+        return ParallelVectors.map(pool, f, this);
+    }
+
+    /**
+     * Combines the elements of this {@code ImmutableVector} using an associative operator, using multiple threads
+     * from the common {@link ForkJoinPool}.
+     * <p>
+     * Equivalent to {@code parallelReduce(ForkJoinPool.commonPool(), op)}.
+     *
+     * @param op an associative operator; not null.
+     *           This function should be referentially transparent and not perform side-effects.
+     *           It may be called from multiple threads concurrently.
+     * @return the combined value wrapped in a {@link Maybe#just}, or {@link Maybe#nothing} if this
+     * {@code ImmutableVector} is empty or the combined value is null
+     */
+    default Maybe<A> parallelReduce(Fn2<A, A, A> op) {
+        return parallelReduce(ForkJoinPool.commonPool(), op);
+    }
+
+    /**
+     * Combines the elements of this {@code ImmutableVector} using an associative operator, using multiple threads
+     * from a {@link ForkJoinPool}.
+     * <p>
+     * Elements are combined in order, so {@code op} need not be commutative, but it must be associative for the result
+     * to be the same as a sequential left fold.
+     * {@code op} may return null, in which case null is passed on to later calls, as in a left fold.
+     * <p>
+     * This {@code ImmutableVector} is divided by index range into tasks of at least 1024 elements.
+     * If it is too small to divide, it is processed on the calling thread.
+     *
+     * @param pool the {@code ForkJoinPool} in which to run the tasks; not null
+     * @param op   an associative operator; not null.
+     *             This function should be referentially transparent and not perform side-effects.
+     *             It may be called from multiple threads concurrently.
+     * @return the combined value wrapped in a {@link Maybe#just}, or {@link Maybe#nothing} if this
+     * {@code ImmutableVector} is empty or the combined value is null
+     */
+    default Maybe<A> parallelReduce(ForkJoinPool pool, Fn2<A, A, A> op) {
+        return ParallelVectors.reduce(pool, op, this);
+    }
+
+    /**
+     * Returns a new {@code ImmutableNonEmptyVector} with an element added to the beginning of this {@code ImmutableVector}.
+     * <p>
+     * The result is a persistent vector that shares structure with this one, so the cost is O(log<sub>32</sub> n)
+     * rather than a copy of this {@code ImmutableVector}.
+     * If this {@code ImmutableVector} is not already persistent, its elements are copied once to create one,
+     * and subsequent operations on the result will not need to copy again.
+     *
+     * @param element the element to prepend
+     * @return an {@code ImmutableNonEmptyVector<A>}
+     */
+    @Override
+    default ImmutableNonEmptyVector<A> prepend(A element) {
+        return ImmutableVectors.prepend(element, this);
+    }
+
     /**
      * Creates an {@code ImmutableVector} with this {@code ImmutableVector}'s elements in reversed order.
      * <p>
@@ -196,6 +480,26 @@ public interface ImmutableVector<A> extends Vector<A>, ImmutableFiniteIterable<A
         return ImmutableVectors.slide(k, this);
     }
 
+    /**
+     * "Slides" a window of {@code k} elements across the {@code ImmutableVector} by {@code step} elements at a time.
+     * <p>
+     * Each window is a slice of this {@code ImmutableVector}.
+     * Trailing elements that do not fill a window are not included; use {@link ImmutableVector#grouped} to keep
+     * them.
+     * <p>
+     * Example:
+     *
+     * <code>Vector.of(1, 2, 3, 4, 5, 6).slide(3, 2); // [[1, 2, 3], [3, 4, 5]]</code>
+     *
+     * @param k    the number of elements in the sliding window.  Must be &gt;= 1.
+     * @param step the number of elements the window moves by.  Must be &gt;= 1.
+     * @return an {@code ImmutableVector<ImmutableNonEmptyVector<A>>}, empty if this {@code ImmutableVector} is empty
+     */
+    @Override
+    default ImmutableVector<? extends ImmutableNonEmptyVector<A>> slide(int k, int step) {
+        return ImmutableVectors.slide(k, step, this);
+    }
+
     /**
      * Splits this {@code ImmutableVector} into a prefix/suffix pair according to a predicate.
      * <p>
@@ -346,6 +650,24 @@ public interface ImmutableVector<A> extends Vector<A>, ImmutableFiniteIterable<A
         return ImmutableVectors.nonEmptyConvertOrThrow(this);
     }
 
+    /**
+     * Returns a new {@code ImmutableVector} with the element at {@code index} replaced by {@code element}.
+     * <p>
+     * The result is a persistent vector that shares structure with this one, so the cost is O(log<sub>32</sub> n)
+     * rather than a copy of this {@code ImmutableVector}.
+     * If this {@code ImmutableVector} is not already persistent, its elements are copied once to create one,
+     * and subsequent operations on the result will not need to copy again.
+     *
+     * @param index   the index of the element to replace.
+     *                Must be &gt;= 0 and &lt; {@code size()}.
+     * @param element the new value for the element at {@code index}
+     * @return an {@code ImmutableVector<A>} of the same size
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    default ImmutableVector<A> updated(int index, A element) {
+        return ImmutableVectors.updated(index, element, this);
+    }
+
     /**
      * Zips together this {@code ImmutableVector} with another {@code ImmutableVector} by applying a zipping function.
      * <p>
@@ -401,4 +723,20 @@ public interface ImmutableVector<A> extends Vector<A>, ImmutableFiniteIterable<A
         return emptyVectorBuilder(just(initialCapacity));
     }
 
+    /**
+     * Returns a {@code Collector} that accumulates the elements of a stream into an {@code ImmutableVector}, in
+     * encounter order.
+     * <p>
+     * Elements are accumulated into segments that are never copied or resized, and are copied exactly once into the
+     * result.
+     * When collecting a parallel stream, partial results are combined by concatenating their segments, without copying
+     * any elements.
+     *
+     * @param <A> the element type
+     * @return a {@code Collector} that produces an {@code ImmutableVector<A>}
+     */
+    static <A> Collector<A, ?, ImmutableVector<A>> toImmutableVector() {
+        return CollectorAccumulator.vectorCollector();
+    }
+
 }
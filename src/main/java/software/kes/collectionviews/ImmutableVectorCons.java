@@ -16,11 +16,21 @@ final class ImmutableVectorCons<A> extends ConcreteVector<A>
         return head;
     }
 
+    @Override
+    public ImmutableVector<A> tail() {
+        return tail;
+    }
+
     @Override
     public int size() {
         return 1 + tail.size();
     }
 
+    @Override
+    public int viewDepth() {
+        return 1 + tail.viewDepth();
+    }
+
     @Override
     public A unsafeGet(int index) {
         if (index < 0 || index >= size()) {
@@ -33,4 +43,15 @@ final class ImmutableVectorCons<A> extends ConcreteVector<A>
         }
     }
 
+    /**
+     * Slices this vector by slicing its tail, so that further slices collapse into a single slice of the tail.
+     */
+    ImmutableVector<A> subVector(int offset, int count) {
+        if (offset == 0) {
+            return new ImmutableVectorCons<>(head, tail.take(count - 1));
+        } else {
+            return tail.slice(offset - 1, offset - 1 + count);
+        }
+    }
+
 }
@@ -1,12 +1,15 @@
 package software.kes.collectionviews;
 
+import static software.kes.collectionviews.Validation.validateCopyInto;
+
 final class ImmutableVectorSlice<A> extends ConcreteVector<A>
-        implements ImmutableVector<A> {
+        implements ImmutableNonEmptyVector<A> {
     private final int offset;
-    private final int size;
+    private final int size; // must be >= 1
     private final ImmutableVector<A> underlying;
 
     private ImmutableVectorSlice(int offset, int size, ImmutableVector<A> underlying) {
+        assert (size >= 1);
         this.offset = offset;
         this.size = size;
         this.underlying = underlying;
@@ -17,6 +20,11 @@ final class ImmutableVectorSlice<A> extends ConcreteVector<A>
         return size;
     }
 
+    @Override
+    public int viewDepth() {
+        return 1 + underlying.viewDepth();
+    }
+
     @Override
     public A unsafeGet(int index) {
         if (index < 0 || index >= size) {
@@ -25,11 +33,42 @@ final class ImmutableVectorSlice<A> extends ConcreteVector<A>
         return underlying.unsafeGet(offset + index);
     }
 
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        validateCopyInto(dest, destOffset, srcFrom, srcTo, this);
+        underlying.copyInto(dest, destOffset, offset + srcFrom, offset + srcTo);
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    ImmutableVector<A> underlying() {
+        return underlying;
+    }
+
+    /**
+     * Slices {@code underlying}, pushing the slice below any view that can absorb it, so that slicing never stacks
+     * more than one slice on top of a view.
+     * <p>
+     * The caller is responsible for ensuring {@code size >= 1} and that the range lies within {@code underlying}.
+     */
     static <A> ImmutableVector<A> immutableVectorSlice(int offset, int size, ImmutableVector<A> underlying) {
-        if (underlying instanceof ImmutableVectorSlice<?>) {
+        if (underlying instanceof PersistentVector<?>) {
+            int endIndex = Math.min(offset + size, underlying.size());
+            return ((PersistentVector<A>) underlying).subVector(offset, endIndex - offset);
+        } else if (underlying instanceof ImmutableVectorSlice<?>) {
             ImmutableVectorSlice<A> underlyingSlice = (ImmutableVectorSlice<A>) underlying;
             int endIndex = Math.min(offset + size, underlyingSlice.size);
             return new ImmutableVectorSlice<>(offset + underlyingSlice.offset, endIndex - offset, underlyingSlice.underlying);
+        } else if (underlying instanceof ImmutableVectorCons<?>) {
+            return ((ImmutableVectorCons<A>) underlying).subVector(offset, size);
+        } else if (underlying instanceof ImmutableMappedVector<?>) {
+            return ((ImmutableMappedVector<A>) underlying).subVector(offset, size);
+        } else if (underlying instanceof ImmutableReverseVector<?>) {
+            return ((ImmutableReverseVector<A>) underlying).subVector(offset, size);
+        } else if (underlying instanceof ImmutableVectorZip<?, ?, ?>) {
+            return ((ImmutableVectorZip<?, ?, A>) underlying).subVector(offset, size);
         } else {
             return new ImmutableVectorSlice<>(offset, size, underlying);
         }
@@ -0,0 +1,57 @@
+package software.kes.collectionviews;
+
+import static software.kes.collectionviews.VectorWindows.windowCount;
+
+/**
+ * An {@code ImmutableVector} of windows over a source {@code ImmutableVector}, each of which is a slice of the
+ * source.
+ * <p>
+ * See {@link VectorWindows}.
+ */
+final class ImmutableVectorWindows<A> extends ConcreteVector<ImmutableNonEmptyVector<A>>
+        implements ImmutableNonEmptyVector<ImmutableNonEmptyVector<A>> {
+    private final ImmutableVector<A> source;
+    private final int sourceSize;
+    private final int windowSize;
+    private final int step;
+    private final int size; // must be >= 1
+
+    private ImmutableVectorWindows(ImmutableVector<A> source, int sourceSize, int windowSize, int step, int size) {
+        assert (size >= 1);
+        this.source = source;
+        this.sourceSize = sourceSize;
+        this.windowSize = windowSize;
+        this.step = step;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ImmutableNonEmptyVector<A> unsafeGet(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int start = index * step;
+        return source.slice(start, start + Math.min(windowSize, sourceSize - start)).toNonEmptyOrThrow();
+    }
+
+    /**
+     * The caller is responsible for ensuring {@code windowSize >= 1} and {@code step >= 1}.
+     */
+    static <A> ImmutableVector<ImmutableNonEmptyVector<A>> immutableVectorWindows(int windowSize, int step,
+                                                                                    boolean ragged,
+                                                                                    ImmutableVector<A> source) {
+        int sourceSize = source.size();
+        int size = windowCount(sourceSize, windowSize, step, ragged);
+        if (size == 0) {
+            return Vectors.empty();
+        } else {
+            return new ImmutableVectorWindows<>(source, sourceSize, windowSize, step, size);
+        }
+    }
+
+}
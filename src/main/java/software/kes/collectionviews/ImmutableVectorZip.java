@@ -1,20 +1,38 @@
 package software.kes.collectionviews;
 
+import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
 
+import java.util.Objects;
+
 final class ImmutableVectorZip<A, B, C> extends ConcreteVector<C>
         implements ImmutableNonEmptyVector<C> {
 
-    private final Fn2<A, B, C> fn;
-    private final ImmutableNonEmptyVector<A> first;
-    private final ImmutableNonEmptyVector<B> second;
-    private final int size;
+    /**
+     * Each element is {@code mapper} applied to the result of {@code fn}, which must be a {@code C}.
+     */
+    private final Fn2<A, B, ?> fn;
+    private final MapperChain mapper;
+    /**
+     * The operands are read from {@code firstOffset} and {@code secondOffset} onwards, so that zipping slices, and
+     * slicing a zip, do not need a slice view of their own.
+     */
+    private final ImmutableVector<A> first;
+    private final int firstOffset;
+    private final ImmutableVector<B> second;
+    private final int secondOffset;
+    private final int size; // must be >= 1
 
-    private ImmutableVectorZip(Fn2<A, B, C> fn, ImmutableNonEmptyVector<A> first, ImmutableNonEmptyVector<B> second) {
+    private ImmutableVectorZip(Fn2<A, B, ?> fn, MapperChain mapper, ImmutableVector<A> first, int firstOffset,
+                               ImmutableVector<B> second, int secondOffset, int size) {
+        assert (size >= 1);
         this.fn = fn;
+        this.mapper = mapper;
         this.first = first;
+        this.firstOffset = firstOffset;
         this.second = second;
-        this.size = Math.min(first.size(), second.size());
+        this.secondOffset = secondOffset;
+        this.size = size;
     }
 
     @Override
@@ -27,17 +45,54 @@ final class ImmutableVectorZip<A, B, C> extends ConcreteVector<C>
         return size;
     }
 
+    @Override
+    public int viewDepth() {
+        return 1 + Math.max(first.viewDepth(), second.viewDepth());
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     public C unsafeGet(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException();
         }
-        return fn.apply(first.unsafeGet(index), second.unsafeGet(index));
+        return (C) mapper.apply(fn.apply(first.unsafeGet(firstOffset + index),
+                second.unsafeGet(secondOffset + index)));
+    }
+
+    /**
+     * Fuses {@code f} into the {@code MapperChain} that is applied to the result of the zipping function.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <D> ImmutableNonEmptyVector<D> fmap(Fn1<? super C, ? extends D> f) {
+        Objects.requireNonNull(f);
+        return new ImmutableVectorZip<>(fn, mapper.add((Fn1<Object, Object>) f), first, firstOffset,
+                second, secondOffset, size);
+    }
+
+    ImmutableVectorZip<A, B, C> subVector(int offset, int count) {
+        return new ImmutableVectorZip<>(fn, mapper, first, firstOffset + offset, second, secondOffset + offset,
+                count);
     }
 
     static <A, B, C> ImmutableVectorZip<A, B, C> immutableVectorZip(Fn2<A, B, C> fn,
-                                                                    ImmutableNonEmptyVector<A> first, ImmutableNonEmptyVector<B> second) {
-        return new ImmutableVectorZip<>(fn, first, second);
+                                                                    ImmutableVector<A> first, ImmutableVector<B> second) {
+        int size = Math.min(first.size(), second.size());
+        ImmutableVector<A> firstUnderlying = first;
+        int firstOffset = 0;
+        if (first instanceof ImmutableVectorSlice<?>) {
+            firstUnderlying = ((ImmutableVectorSlice<A>) first).underlying();
+            firstOffset = ((ImmutableVectorSlice<A>) first).offset();
+        }
+        ImmutableVector<B> secondUnderlying = second;
+        int secondOffset = 0;
+        if (second instanceof ImmutableVectorSlice<?>) {
+            secondUnderlying = ((ImmutableVectorSlice<B>) second).underlying();
+            secondOffset = ((ImmutableVectorSlice<B>) second).offset();
+        }
+        return new ImmutableVectorZip<>(fn, MapperChain.empty(), firstUnderlying, firstOffset,
+                secondUnderlying, secondOffset, size);
     }
 
 }
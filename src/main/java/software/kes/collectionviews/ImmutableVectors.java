@@ -4,34 +4,34 @@ import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.adt.hlist.Tuple2;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
-import com.jnape.palatable.lambda.functions.builtin.fn2.Take;
 import software.kes.enhancediterables.ImmutableFiniteIterable;
 import software.kes.enhancediterables.ImmutableNonEmptyFiniteIterable;
 import software.kes.enhancediterables.NonEmptyIterable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
 import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Into.into;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Tupler2.tupler;
 import static software.kes.collectionviews.ImmutableCrossJoinVector.immutableCrossJoinVector;
 import static software.kes.collectionviews.ImmutableVectorZip.immutableVectorZip;
 import static software.kes.collectionviews.MapperChain.mapperChain;
+import static software.kes.collectionviews.PersistentVector.persistentVector;
 import static software.kes.collectionviews.Validation.validateCopyFrom;
 import static software.kes.collectionviews.Validation.validateDrop;
 import static software.kes.collectionviews.Validation.validateFill;
+import static software.kes.collectionviews.Validation.validateIndex;
 import static software.kes.collectionviews.Validation.validateNonEmptyFill;
 import static software.kes.collectionviews.Validation.validateSlice;
 import static software.kes.collectionviews.Validation.validateTake;
 import static software.kes.collectionviews.VectorSlicing.sliceImpl;
-import static software.kes.enhancediterables.FiniteIterable.emptyFiniteIterable;
 
 final class ImmutableVectors {
 
@@ -39,6 +39,34 @@ final class ImmutableVectors {
 
     }
 
+    static <A> ImmutableNonEmptyVector<A> append(A element, ImmutableVector<A> source) {
+        if (source.isEmpty()) {
+            return PersistentVector.singleton(element);
+        } else {
+            return persistentVector(source).append(element);
+        }
+    }
+
+    static <A> ImmutableVector<A> concat(ImmutableVector<A> first, ImmutableVector<A> second) {
+        Objects.requireNonNull(second);
+        if (second.isEmpty()) {
+            return first;
+        } else if (first.isEmpty()) {
+            return second;
+        } else {
+            return PersistentVector.concat(persistentVector(first), persistentVector(second));
+        }
+    }
+
+    static <A> ImmutableNonEmptyVector<A> concatNonEmpty(ImmutableVector<A> first, ImmutableNonEmptyVector<A> second) {
+        Objects.requireNonNull(second);
+        if (first.isEmpty()) {
+            return second;
+        } else {
+            return PersistentVector.concat(persistentVector(first), persistentVector(second));
+        }
+    }
+
     static <A> ImmutableVector<A> copyFrom(A[] source) {
         Objects.requireNonNull(source);
         return copyFrom(source.length, source);
@@ -51,12 +79,17 @@ final class ImmutableVectors {
         return wrapAndVouchFor(copied);
     }
 
+    @SuppressWarnings("unchecked")
     static <A> ImmutableVector<A> copyFrom(Iterable<A> source) {
         Objects.requireNonNull(source);
         if (source instanceof ImmutableVector<?> && Util.shouldNotMakeCopy(source)) {
             return (ImmutableVector<A>) source;
-        } else if (!source.iterator().hasNext()) {
-            return Vectors.empty();
+        } else if (source instanceof Vector<?>) {
+            return copyVector((Vector<A>) source);
+        } else if (source instanceof Collection<?>) {
+            return wrapAndVouchFor((A[]) ((Collection<?>) source).toArray());
+        } else if (source instanceof Set<?>) {
+            return copyPrefix(((Set<?>) source).size(), source);
         } else {
             ArrayList<A> copied = toCollection(ArrayList::new, source);
             return wrapAndVouchFor(copied);
@@ -70,8 +103,20 @@ final class ImmutableVectors {
         }
         if (source instanceof ImmutableVector<?> && Util.shouldNotMakeCopy(source)) {
             return ((ImmutableVector<A>) source).take(maxCount);
+        } else if (source instanceof Vector<?>) {
+            return copyVector(((Vector<A>) source).take(maxCount));
+        } else if (source instanceof Collection<?>) {
+            int size = ((Collection<?>) source).size();
+            return size <= maxCount ? copyFrom(source) : copyPrefix(maxCount, source);
+        } else if (source instanceof Set<?>) {
+            return copyPrefix(Math.min(maxCount, ((Set<?>) source).size()), source);
         } else {
-            return copyFrom(Take.take(maxCount, source));
+            ArrayList<A> copied = new ArrayList<>();
+            Iterator<A> iterator = source.iterator();
+            while (copied.size() < maxCount && iterator.hasNext()) {
+                copied.add(iterator.next());
+            }
+            return wrapAndVouchFor(copied);
         }
     }
 
@@ -79,16 +124,24 @@ final class ImmutableVectors {
         validateSlice(startIndex, endIndexExclusive, source);
         if (source instanceof ImmutableVector<?> && Util.shouldNotMakeCopy(source)) {
             return ((ImmutableVector<A>) source).slice(startIndex, endIndexExclusive);
+        } else if (source instanceof Vector<?>) {
+            return copyVector(((Vector<A>) source).slice(startIndex, endIndexExclusive));
+        } else if (source instanceof Collection<?> && !(source instanceof List<?>)) {
+            return copySizedSlice(startIndex, endIndexExclusive, ((Collection<?>) source).size(), source);
+        } else if (source instanceof Set<?>) {
+            return copySizedSlice(startIndex, endIndexExclusive, ((Set<?>) source).size(), source);
         } else {
             return Vectors.sliceFromIterable(startIndex, endIndexExclusive, source).toImmutable();
         }
     }
 
     static <A, B> ImmutableVector<Tuple2<A, B>> cross(ImmutableVector<A> first, ImmutableVector<B> second) {
-        return second.toNonEmpty().<Tuple2<ImmutableNonEmptyVector<A>, ImmutableNonEmptyVector<B>>>zip(first.toNonEmpty()
-                        .fmap(tupler()))
-                .match(__ -> Vector.empty(),
-                        into(ImmutableVectors::nonEmptyCross));
+        Objects.requireNonNull(second);
+        if (first.isEmpty() || second.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            return nonEmptyCross(nonEmptyConvertOrThrow(first), nonEmptyConvertOrThrow(second));
+        }
     }
 
     static <A> ImmutableVector<A> drop(int count, ImmutableVector<A> source) {
@@ -114,11 +167,8 @@ final class ImmutableVectors {
     static <A> ImmutableVector<A> ensureImmutable(Vector<A> vector) {
         if (vector instanceof ImmutableVector<?>) {
             return (ImmutableVector<A>) vector;
-        } else if (vector.isEmpty()) {
-            return Vectors.empty();
         } else {
-            ArrayList<A> copied = toCollection(ArrayList::new, vector);
-            return wrapAndVouchFor(copied);
+            return copyVector(vector);
         }
     }
 
@@ -126,8 +176,7 @@ final class ImmutableVectors {
         if (vector instanceof ImmutableNonEmptyVector<?>) {
             return (ImmutableNonEmptyVector<A>) vector;
         } else {
-            ArrayList<A> copied = toCollection(ArrayList::new, vector);
-            return new ImmutableListVector<>(copied);
+            return new ImmutableArrayVector<>(copyElements(vector));
         }
     }
 
@@ -140,6 +189,19 @@ final class ImmutableVectors {
         }
     }
 
+    static <A> ImmutableVector<A> force(ImmutableVector<A> source) {
+        if (source.viewDepth() == 0) {
+            return source;
+        } else {
+            return copyVector(source);
+        }
+    }
+
+    static <A> ImmutableVector<? extends ImmutableNonEmptyVector<A>> grouped(int n, ImmutableVector<A> source) {
+        Validation.requirePositive("n", n);
+        return ImmutableVectorWindows.immutableVectorWindows(n, n, true, source);
+    }
+
     static <A> ImmutableVector<Integer> indices(Vector<A> vec) {
         return range(vec.size());
     }
@@ -160,14 +222,20 @@ final class ImmutableVectors {
 
     static <A> ImmutableVector<? extends ImmutableNonEmptyVector<A>> magnetizeBy(Fn2<A, A, Boolean> predicate, ImmutableVector<A> source) {
         Objects.requireNonNull(predicate);
-        return source.toNonEmpty().match(__ -> Vectors.empty(),
-                ne -> nonEmptyMagnetizeBy(predicate, ne));
+        if (source.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            return nonEmptyMagnetizeBy(predicate, nonEmptyConvertOrThrow(source));
+        }
     }
 
+    @SuppressWarnings("unchecked")
     static <A, B> ImmutableVector<B> map(Fn1<? super A, ? extends B> f, ImmutableVector<A> source) {
-        return maybeNonEmptyConvert(source)
-                .match(__ -> Vectors.empty(),
-                        nonEmpty -> nonEmptyMap(f, nonEmpty));
+        if (source.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            return new ImmutableMappedVector<>(mapperChain((Fn1<Object, Object>) f), (ImmutableVector<Object>) source);
+        }
     }
 
     static <A> Maybe<ImmutableNonEmptyVector<A>> maybeNonEmptyConvert(ImmutableVector<A> vec) {
@@ -175,7 +243,7 @@ final class ImmutableVectors {
         if (vec instanceof ImmutableNonEmptyVector<?>) {
             return just((ImmutableNonEmptyVector<A>) vec);
         } else if (!vec.isEmpty()) {
-            return just(new ImmutableVectorCons<>(vec.unsafeGet(0), vec.drop(1)));
+            return just(new ImmutableNonEmptyVectorAdapter<>(vec));
         } else {
             return nothing();
         }
@@ -203,37 +271,53 @@ final class ImmutableVectors {
 
     @SuppressWarnings("unchecked")
     static <A> Maybe<ImmutableNonEmptyVector<A>> maybeNonEmptyCopyFrom(Iterable<A> source) {
-        Objects.requireNonNull(source);
-        if (!source.iterator().hasNext()) {
-            return nothing();
-        }
         return (Maybe<ImmutableNonEmptyVector<A>>) copyFrom(source).toNonEmpty();
     }
 
     @SuppressWarnings("unchecked")
     static <A> Maybe<ImmutableNonEmptyVector<A>> maybeNonEmptyCopyFrom(int maxCount, Iterable<A> source) {
-        validateCopyFrom(maxCount, source);
-        if (maxCount == 0) {
-            return nothing();
+        return (Maybe<ImmutableNonEmptyVector<A>>) copyFrom(maxCount, source).toNonEmpty();
+    }
+
+    static <A> ImmutableVector<A> memoize(int chunkSize, ImmutableVector<A> source) {
+        Validation.requirePositive("chunkSize", chunkSize);
+        if (source.viewDepth() == 0 || source instanceof MemoizedVector<?>) {
+            return source;
+        } else if (source.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            return new MemoizedVector<>(chunkSize, source.toNonEmptyOrThrow());
         }
-        if (!source.iterator().hasNext()) {
-            return nothing();
+    }
+
+    static <A> ImmutableNonEmptyVector<A> nonEmptyConcat(ImmutableNonEmptyVector<A> first, ImmutableVector<A> second) {
+        Objects.requireNonNull(second);
+        if (second.isEmpty()) {
+            return first;
+        } else {
+            return PersistentVector.concat(persistentVector(first), persistentVector(second));
         }
-        return (Maybe<ImmutableNonEmptyVector<A>>) copyFrom(maxCount, source).toNonEmpty();
     }
 
     static <A> ImmutableNonEmptyVector<A> nonEmptyConvertOrThrow(ImmutableVector<A> source) {
-        return getNonEmptyOrThrow(maybeNonEmptyConvert(source));
+        Objects.requireNonNull(source);
+        if (source instanceof ImmutableNonEmptyVector<?>) {
+            return (ImmutableNonEmptyVector<A>) source;
+        } else if (source.isEmpty()) {
+            throw Vectors.nonEmptyError().apply();
+        } else {
+            return new ImmutableNonEmptyVectorAdapter<>(source);
+        }
     }
 
     static <A> ImmutableNonEmptyVector<A> nonEmptyCopyFrom(NonEmptyIterable<A> source) {
         Objects.requireNonNull(source);
-        return coerceNonEmpty(copyFrom(source));
+        return nonEmptyConvertOrThrow(copyFrom(source));
     }
 
     static <A> ImmutableNonEmptyVector<A> nonEmptyCopyFrom(int maxCount, NonEmptyIterable<A> source) {
         Validation.validateNonEmptyCopyFrom(maxCount, source);
-        return coerceNonEmpty(copyFrom(source.take(maxCount)));
+        return nonEmptyConvertOrThrow(copyFrom(source.take(maxCount)));
     }
 
     static <A> ImmutableNonEmptyVector<A> nonEmptyCopyFromOrThrow(Iterable<A> source) {
@@ -261,6 +345,14 @@ final class ImmutableVectors {
         return new RepeatingVector<>(size, value);
     }
 
+    static <A> ImmutableNonEmptyVector<A> nonEmptyForce(ImmutableNonEmptyVector<A> source) {
+        if (source.viewDepth() == 0) {
+            return source;
+        } else {
+            return new ImmutableArrayVector<>(copyElements(source));
+        }
+    }
+
     static <A> ImmutableNonEmptyVector<Integer> nonEmptyIndices(NonEmptyVector<A> vec) {
         return nonEmptyRange(vec.size());
     }
@@ -294,7 +386,16 @@ final class ImmutableVectors {
         if (size < 0) {
             throw new IllegalArgumentException("size must be >= 1");
         }
-        return nonEmptyLazyFill(size, id());
+        return IntVectors.nonEmptyRange(size);
+    }
+
+    static <A> ImmutableNonEmptyVector<A> nonEmptyMemoize(int chunkSize, ImmutableNonEmptyVector<A> source) {
+        Validation.requirePositive("chunkSize", chunkSize);
+        if (source.viewDepth() == 0 || source instanceof MemoizedVector<?>) {
+            return source;
+        } else {
+            return new MemoizedVector<>(chunkSize, source);
+        }
     }
 
     static <A> ImmutableNonEmptyVector<A> nonEmptyReverse(ImmutableNonEmptyVector<A> vec) {
@@ -305,6 +406,11 @@ final class ImmutableVectors {
         }
     }
 
+    static <A> ImmutableNonEmptyVector<A> nonEmptyUpdated(int index, A element, ImmutableNonEmptyVector<A> source) {
+        validateIndex(index, source);
+        return persistentVector(source).updated(index, element);
+    }
+
     static <A, B, C> ImmutableNonEmptyVector<C> nonEmptyZipWith(Fn2<A, B, C> fn,
                                                                 ImmutableNonEmptyVector<A> first, ImmutableNonEmptyVector<B> second) {
         Objects.requireNonNull(fn);
@@ -318,6 +424,14 @@ final class ImmutableVectors {
         return nonEmptyZipWith(tupler(), vec, vec.indices());
     }
 
+    static <A> ImmutableNonEmptyVector<A> prepend(A element, ImmutableVector<A> source) {
+        if (source.isEmpty()) {
+            return PersistentVector.singleton(element);
+        } else {
+            return persistentVector(source).prepend(element);
+        }
+    }
+
     static <A> ImmutableVector<A> reverse(ImmutableVector<A> vec) {
         if (vec.size() < 2) {
             return vec;
@@ -329,8 +443,11 @@ final class ImmutableVectors {
     static ImmutableVector<Integer> range(int size) {
         if (size < 0) {
             throw new IllegalArgumentException("size must be >= 0");
+        } else if (size == 0) {
+            return Vectors.empty();
+        } else {
+            return IntVectors.nonEmptyRange(size);
         }
-        return lazyFill(size, id());
     }
 
     static <A> ImmutableVector<A> slice(int startIndex, int endIndexExclusive, ImmutableVector<A> source) {
@@ -345,17 +462,13 @@ final class ImmutableVectors {
     }
 
     static <A> ImmutableFiniteIterable<? extends ImmutableNonEmptyVector<A>> slide(int k, ImmutableVector<A> source) {
-        if (k < 1) {
-            throw new IllegalArgumentException("k must be >= 1");
-        }
-        int size = source.size();
-        if (size == 0) {
-            return emptyFiniteIterable();
-        } else {
-            final int windowSize = Math.min(k, size);
-            final int maxIndex = 1 + size - windowSize;
-            return () -> new ImmutableVectorSlidingIterator<>(source, windowSize, maxIndex);
-        }
+        return slide(k, 1, source);
+    }
+
+    static <A> ImmutableVector<? extends ImmutableNonEmptyVector<A>> slide(int k, int step, ImmutableVector<A> source) {
+        Validation.requirePositive("k", k);
+        Validation.requirePositive("step", step);
+        return ImmutableVectorWindows.immutableVectorWindows(k, step, false, source);
     }
 
     static <A> Tuple2<ImmutableVector<A>, ImmutableVector<A>> span
@@ -395,6 +508,11 @@ final class ImmutableVectors {
         return take(Vectors.findPrefixLength(predicate, source), source);
     }
 
+    static <A> ImmutableVector<A> updated(int index, A element, ImmutableVector<A> source) {
+        validateIndex(index, source);
+        return persistentVector(source).updated(index, element);
+    }
+
     static <A> ImmutableVector<A> wrapAndVouchFor(A[] arr) {
         Objects.requireNonNull(arr);
         if (arr.length == 0) {
@@ -414,10 +532,13 @@ final class ImmutableVectors {
     }
 
     static <A, B, C> ImmutableVector<C> zipWith(Fn2<A, B, C> fn, ImmutableVector<A> first, ImmutableVector<B> second) {
-        return second.toNonEmpty().<Tuple2<ImmutableNonEmptyVector<A>, ImmutableNonEmptyVector<B>>>zip(first.toNonEmpty()
-                        .fmap(tupler()))
-                .match(__ -> Vector.empty(),
-                        into((ne1, ne2) -> nonEmptyZipWith(fn, ne1, ne2)));
+        Objects.requireNonNull(second);
+        if (first.isEmpty() || second.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            Objects.requireNonNull(fn);
+            return immutableVectorZip(fn, first, second);
+        }
     }
 
     static <A> ImmutableVector<Tuple2<A, Integer>> zipWithIndex(ImmutableVector<A> vec) {
@@ -425,6 +546,71 @@ final class ImmutableVectors {
         return zipWith(tupler(), vec, vec.indices());
     }
 
+    /**
+     * Copies the first {@code count} elements of {@code source}, which should have at least that many, into an array of
+     * exactly that length.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A> ImmutableVector<A> copyPrefix(int count, Iterable<A> source) {
+        Object[] copied = new Object[count];
+        Iterator<A> iterator = source.iterator();
+        int i = 0;
+        while (i < count && iterator.hasNext()) {
+            copied[i] = iterator.next();
+            i += 1;
+        }
+        return wrapAndVouchFor((A[]) (i == count ? copied : Arrays.copyOf(copied, i)));
+    }
+
+    /**
+     * Copies a slice of {@code source}, which has {@code size} elements, into an array of exactly the length of the slice.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A> ImmutableVector<A> copySizedSlice(int startIndex, int endIndexExclusive, int size,
+                                                         Iterable<A> source) {
+        int count = Math.min(endIndexExclusive, size) - startIndex;
+        if (count < 1) {
+            return Vectors.empty();
+        }
+        Object[] copied = new Object[count];
+        Iterator<A> iterator = source.iterator();
+        for (int i = 0; i < startIndex && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        int i = 0;
+        while (i < count && iterator.hasNext()) {
+            copied[i] = iterator.next();
+            i += 1;
+        }
+        return wrapAndVouchFor((A[]) (i == count ? copied : Arrays.copyOf(copied, i)));
+    }
+
+    /**
+     * Primitive vectors are copied into an array of the same primitive type.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A> ImmutableVector<A> copyVector(Vector<A> source) {
+        if (source.isEmpty()) {
+            return Vectors.empty();
+        } else if (source instanceof IntVector) {
+            return (ImmutableVector<A>) new ImmutableIntArrayVector(((IntVector) source).toIntArray());
+        } else if (source instanceof LongVector) {
+            return (ImmutableVector<A>) new ImmutableLongArrayVector(((LongVector) source).toLongArray());
+        } else if (source instanceof DoubleVector) {
+            return (ImmutableVector<A>) new ImmutableDoubleArrayVector(((DoubleVector) source).toDoubleArray());
+        } else {
+            return new ImmutableArrayVector<>(copyElements(source));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> A[] copyElements(Vector<A> source) {
+        int size = source.size();
+        Object[] result = new Object[size];
+        source.copyInto(result, 0, 0, size);
+        return (A[]) result;
+    }
+
     private static <A> ImmutableNonEmptyVector<A> getNonEmptyOrThrow(Maybe<ImmutableNonEmptyVector<A>> maybeResult) {
         return maybeResult.orElseThrow(Vectors.nonEmptyError());
     }
@@ -439,14 +625,4 @@ final class ImmutableVectors {
         return tuple(slice(firstIndex, nextIndex, source).toNonEmptyOrThrow(), nextIndex);
     }
 
-    private static <A> ImmutableNonEmptyVector<A> coerceNonEmpty(ImmutableVector<A> source) {
-        if (source instanceof ImmutableNonEmptyVector<?>) {
-            return (ImmutableNonEmptyVector<A>) source;
-        } else if (!source.isEmpty()) {
-            return new ImmutableVectorCons<>(source.unsafeGet(0), source.drop(1));
-        } else {
-            throw Vectors.nonEmptyError().apply();
-        }
-    }
-
 }
@@ -0,0 +1,81 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class IntArrayVector extends ConcreteIntVector
+        implements NonEmptyIntVector, Primitive {
+    private final int[] underlying;
+    private final int offset;
+    private final int size; // must be >= 1
+    private final boolean reversed;
+
+    IntArrayVector(int[] underlying) {
+        this(underlying, 0, underlying.length, false);
+    }
+
+    private IntArrayVector(int[] underlying, int offset, int size, boolean reversed) {
+        assert (size >= 1);
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+        this.reversed = reversed;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return reversed ? underlying[offset + size - 1 - index] : underlying[offset + index];
+    }
+
+    @Override
+    public NonEmptyIntVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new IntArrayVector(underlying, offset, size, !reversed);
+        }
+    }
+
+    @Override
+    public IntVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return IntVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            int newOffset = reversed ? offset + size - endIndex : offset + startIndex;
+            return new IntArrayVector(underlying, newOffset, endIndex - startIndex, reversed);
+        }
+    }
+
+    @Override
+    public int[] toIntArray() {
+        int[] result = Arrays.copyOfRange(underlying, offset, offset + size);
+        if (reversed) {
+            IntVectors.reverseInPlace(result);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableNonEmptyIntVector toImmutable() {
+        return new ImmutableIntArrayVector(toIntArray());
+    }
+
+}
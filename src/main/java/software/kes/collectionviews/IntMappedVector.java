@@ -0,0 +1,97 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+/**
+ * Applies a sequence of functions, in order, to the elements of a non-empty source.
+ * <p>
+ * The functions are held in an array and applied in a loop, so application neither allocates
+ * nor grows the stack with the number of functions.
+ * With no functions at all, this is simply a non-empty view of the source.
+ */
+final class IntMappedVector extends ConcreteIntVector implements NonEmptyIntVector {
+    private static final IntUnaryOperator[] NO_FUNCTIONS = new IntUnaryOperator[0];
+
+    private final IntVector source; // must be non-empty
+    private final IntUnaryOperator[] fns;
+    private final int size;
+
+    private IntMappedVector(IntVector source, IntUnaryOperator[] fns) {
+        this.source = source;
+        this.fns = fns;
+        this.size = source.size();
+        assert (size >= 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int viewDepth() {
+        return 1 + source.viewDepth();
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int result = source.unsafeGetInt(index);
+        for (IntUnaryOperator fn : fns) {
+            result = fn.applyAsInt(result);
+        }
+        return result;
+    }
+
+    @Override
+    public NonEmptyIntVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new IntMappedVector(source.reverse(), fns);
+        }
+    }
+
+    @Override
+    public IntVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return IntVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            return new IntMappedVector(source.slice(startIndex, endIndex), fns);
+        }
+    }
+
+    static NonEmptyIntVector nonEmptyView(IntVector source) {
+        return new IntMappedVector(source, NO_FUNCTIONS);
+    }
+
+    static NonEmptyIntVector intMappedVector(IntUnaryOperator f, IntVector source) {
+        if (source instanceof IntMappedVector) {
+            IntMappedVector mapped = (IntMappedVector) source;
+            return new IntMappedVector(mapped.source, append(mapped.fns, f));
+        } else {
+            return new IntMappedVector(source, new IntUnaryOperator[]{f});
+        }
+    }
+
+    static IntUnaryOperator[] append(IntUnaryOperator[] fns, IntUnaryOperator f) {
+        IntUnaryOperator[] result = Arrays.copyOf(fns, fns.length + 1);
+        result[fns.length] = f;
+        return result;
+    }
+
+}
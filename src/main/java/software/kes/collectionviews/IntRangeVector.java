@@ -0,0 +1,73 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+
+import java.util.Objects;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class IntRangeVector extends ConcreteIntVector
+        implements ImmutableNonEmptyIntVector, Primitive {
+    private final int start;
+    private final int step; // 1 or -1
+    private final int size; // must be >= 1
+
+    IntRangeVector(int start, int step, int size) {
+        assert (size >= 1);
+        this.start = start;
+        this.step = step;
+        this.size = size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return start + step * index;
+    }
+
+    /**
+     * Returns a {@link LazyVector}, so that later {@code slice}s and {@code fmap}s are fused into it.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <B> ImmutableNonEmptyVector<B> fmap(Fn1<? super Integer, ? extends B> f) {
+        Objects.requireNonNull(f);
+        return new LazyVector<>(size, 0, index -> start + step * index,
+                MapperChain.mapperChain((Fn1<Object, Object>) f));
+    }
+
+    @Override
+    public ImmutableNonEmptyIntVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new IntRangeVector(start + step * (size - 1), -step, size);
+        }
+    }
+
+    @Override
+    public ImmutableIntVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return IntVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            return new IntRangeVector(start + step * startIndex, step, endIndex - startIndex);
+        }
+    }
+
+}
@@ -0,0 +1,447 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.nio.IntBuffer;
+import java.util.Spliterator;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static software.kes.collectionviews.Validation.validateDrop;
+import static software.kes.collectionviews.Validation.validateTake;
+
+/**
+ * A {@code Vector} of {@code int}s that stores its elements unboxed.
+ * <p>
+ * In addition to the guarantees of {@link Vector}, provides the following benefits:
+ * <ul>
+ * <li>{@link IntVector#unsafeGetInt} retrieves an element without boxing it.</li>
+ * <li>{@link IntVector#slice}, {@link IntVector#drop}, {@link IntVector#take} and {@link IntVector#reverse}
+ * always return an {@code IntVector}.</li>
+ * <li>{@link IntVector#mapToInt} maps to another {@code IntVector} without boxing.</li>
+ * <li>{@link IntVector#mapToObj} maps to a {@code Vector} of any type without boxing the elements of this one.</li>
+ * <li>{@link IntVector#intStream} and {@link IntVector#spliterator} traverse the elements without boxing them.</li>
+ * </ul>
+ * <p>
+ * Elements are boxed when they are accessed through the {@code Vector<Integer>} interface,
+ * for example by {@link Vector#unsafeGet} or by iteration.
+ */
+public interface IntVector extends Vector<Integer> {
+
+    /**
+     * Gets an element from this {@code IntVector} at an index, without boxing it.
+     * <p>
+     * Executes in O(1).
+     *
+     * @param index the index of the element to retrieve.
+     *              Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than or equal to {@code size()}
+     */
+    int unsafeGetInt(int index);
+
+    /**
+     * Gets an element from this {@code IntVector} at an index.
+     * <p>
+     * The element is boxed; use {@link IntVector#unsafeGetInt} to avoid this.
+     *
+     * @param index the index of the element to retrieve.
+     *              Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}.  Never null.
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than or equal to {@code size()}
+     */
+    @Override
+    default Integer unsafeGet(int index) {
+        return unsafeGetInt(index);
+    }
+
+    /**
+     * Returns a new {@code IntVector} that drops the first {@code count} elements of this {@code IntVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from this {@code IntVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code IntVector}, in which case, the result will be an
+     *              empty {@code IntVector}.
+     * @return an {@code IntVector}
+     */
+    @Override
+    default IntVector drop(int count) {
+        validateDrop(count);
+        return slice(count, size());
+    }
+
+    /**
+     * Returns a new {@code IntVector} that drops all except the last {@code count} elements of this {@code IntVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from the end of this {@code IntVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code IntVector}, in which case, the result will be an
+     *              empty {@code IntVector}.
+     * @return an {@code IntVector}
+     */
+    @Override
+    default IntVector dropRight(int count) {
+        validateDrop(count);
+        return slice(0, Math.max(size() - count, 0));
+    }
+
+    /**
+     * Returns a sequential {@code IntStream} with this {@code IntVector} as its source.
+     * <p>
+     * Does not box the elements of this {@code IntVector}.
+     * Call {@link IntStream#parallel} on the result to process it in parallel.
+     *
+     * @return a sequential {@code IntStream}
+     */
+    default IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Maps a function over this {@code IntVector}, producing a {@code Vector} of any type.
+     * <p>
+     * Returns a new {@link Vector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code IntVector}.
+     *
+     * @param f   a function from {@code int} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code Vector}
+     * @return a {@code Vector<A>} of the same size
+     */
+    default <A> Vector<A> mapToObj(IntFunction<? extends A> f) {
+        return IntVectors.mapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code IntVector}, producing another {@code IntVector}.
+     * <p>
+     * Returns a new {@link IntVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code int} to {@code int}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return an {@code IntVector} of the same size
+     */
+    default IntVector mapToInt(IntUnaryOperator f) {
+        return IntVectors.mapToInt(f, this);
+    }
+
+    /**
+     * Creates a {@code IntVector} with this {@code IntVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return an {@code IntVector}
+     */
+    @Override
+    IntVector reverse();
+
+    /**
+     * Creates a slice of this {@code IntVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     * <p>
+     * Use caution when taking a small slice of a huge {@code IntVector} that you no longer need.
+     * The smaller slice will hold onto a reference of the larger one, and will prevent it from being GC'ed.
+     *
+     * @param startIndex        the index of the element to begin the slice.
+     *                          Must be &gt;= 0.
+     *                          May exceed the size of this {@code IntVector}, in which case an empty {@code IntVector} will be returned.
+     * @param endIndexExclusive the end index (exclusive) of the slice.  Must be &gt;= {@code startIndex}.
+     *                          May exceed the size of this {@code IntVector}, in which case the slice will
+     *                          contain as many elements as available.
+     * @return an {@code IntVector}
+     */
+    @Override
+    IntVector slice(int startIndex, int endIndexExclusive);
+
+    /**
+     * Finds the greatest element in each window of {@code k} elements, as the window slides across this
+     * {@code IntVector} by one element at a time, without boxing.
+     * <p>
+     * Produces one result for each window returned by {@link Vector#slide}, in O(n) regardless of {@code k}.
+     * <p>
+     * Example:
+     *
+     * <code>IntVector.of(1, 3, 2, 5, 4).slidingMax(3); // [3, 5, 5]</code>
+     *
+     * @param k the number of elements in the sliding window.  Must be &gt;= 1.
+     * @return an {@code ImmutableIntVector}, empty if this {@code IntVector} is empty
+     */
+    default ImmutableIntVector slidingMax(int k) {
+        return SlidingWindows.slidingMax(k, this);
+    }
+
+    /**
+     * Finds the least element in each window of {@code k} elements, as the window slides across this
+     * {@code IntVector} by one element at a time, without boxing.
+     * <p>
+     * Produces one result for each window returned by {@link Vector#slide}, in O(n) regardless of {@code k}.
+     * <p>
+     * Example:
+     *
+     * <code>IntVector.of(1, 3, 2, 5, 4).slidingMin(3); // [1, 2, 2]</code>
+     *
+     * @param k the number of elements in the sliding window.  Must be &gt;= 1.
+     * @return an {@code ImmutableIntVector}, empty if this {@code IntVector} is empty
+     */
+    default ImmutableIntVector slidingMin(int k) {
+        return SlidingWindows.slidingMin(k, this);
+    }
+
+    /**
+     * Finds the sum of the elements in each window of {@code k} elements, as the window slides across this
+     * {@code IntVector} by one element at a time, without boxing.
+     * <p>
+     * Produces one result for each window returned by {@link Vector#slide}, in O(n) regardless of {@code k}.
+     * <p>
+     * Sums are computed as {@code long}s, so they cannot overflow.
+     * <p>
+     * Example:
+     *
+     * <code>IntVector.of(1, 3, 2, 5, 4).slidingSum(2); // [4, 5, 7, 9]</code>
+     *
+     * @param k the number of elements in the sliding window.  Must be &gt;= 1.
+     * @return an {@code ImmutableLongVector}, empty if this {@code IntVector} is empty
+     */
+    default ImmutableLongVector slidingSum(int k) {
+        return SlidingWindows.slidingSum(k, this);
+    }
+
+    /**
+     * Returns a {@code Spliterator.OfInt} over this {@code IntVector}'s elements.
+     * <p>
+     * The {@code Spliterator} is {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED},
+     * and also {@link Spliterator#IMMUTABLE} if this is an {@link ImmutableIntVector}.
+     * It splits by halving its index range, and accesses elements using {@link IntVector#unsafeGetInt}.
+     *
+     * @return a {@code Spliterator.OfInt}
+     */
+    @Override
+    default Spliterator.OfInt spliterator() {
+        return IntVectorSpliterator.intVectorSpliterator(this);
+    }
+
+    /**
+     * Returns a new {@code IntVector} containing at most the first {@code count} elements of this {@code IntVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code IntVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code IntVector}.
+     * @return an {@code IntVector}
+     */
+    @Override
+    default IntVector take(int count) {
+        validateTake(count);
+        return slice(0, count);
+    }
+
+    /**
+     * Returns a new {@code IntVector} containing at most the last {@code count} elements of this {@code IntVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code IntVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code IntVector}.
+     * @return an {@code IntVector}
+     */
+    @Override
+    default IntVector takeRight(int count) {
+        validateTake(count);
+        int size = size();
+        return slice(Math.max(size - count, 0), size);
+    }
+
+    /**
+     * Copies the elements of this {@code IntVector} into a new array.
+     *
+     * @return a new {@code int[]} of length {@code size()}.  The caller owns the returned array.
+     */
+    default int[] toIntArray() {
+        return IntVectors.toIntArray(this);
+    }
+
+    /**
+     * Converts this {@code IntVector} to an {@code ImmutableIntVector}.
+     * <p>
+     * This method will make a copy of the underlying data structure if necessary to guarantee immutability.
+     * <p>
+     * If this {@link IntVector} is already an {@link ImmutableIntVector}, no copies are made and this method is a no-op.
+     *
+     * @return an {@code ImmutableIntVector} containing the same elements
+     */
+    @Override
+    default ImmutableIntVector toImmutable() {
+        return IntVectors.ensureImmutable(this);
+    }
+
+    /**
+     * Attempts to convert this {@code IntVector} to a {@code NonEmptyIntVector}.
+     * <p>
+     * If successful, returns a {@link NonEmptyIntVector} containing the same elements as this one, wrapped in a {@link Maybe#just}.
+     * <p>
+     * If this {@code IntVector} is empty, returns {@link Maybe#nothing}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code Maybe<NonEmptyIntVector>}
+     */
+    @Override
+    default Maybe<? extends NonEmptyIntVector> toNonEmpty() {
+        return IntVectors.maybeNonEmptyConvert(this);
+    }
+
+    /**
+     * Attempts to convert this {@code IntVector} to a {@code NonEmptyIntVector}.
+     * <p>
+     * If successful, returns a {@link NonEmptyIntVector} containing the same elements as this one.
+     * Use this if you are confident that this {@link IntVector} is not empty.
+     * <p>
+     * If this {@code IntVector} is empty, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code NonEmptyIntVector}
+     * @throws IllegalArgumentException if this {@code IntVector} is empty
+     */
+    @Override
+    default NonEmptyIntVector toNonEmptyOrThrow() {
+        return IntVectors.nonEmptyConvertOrThrow(this);
+    }
+
+    /**
+     * Returns an empty {@code ImmutableIntVector}.
+     *
+     * @return an empty {@code ImmutableIntVector}
+     */
+    static ImmutableIntVector empty() {
+        return IntVectors.empty();
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyIntVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyIntVector}
+     */
+    static ImmutableNonEmptyIntVector of(int first, int... more) {
+        return IntVectors.nonEmptyOf(first, more);
+    }
+
+    /**
+     * Creates an {@code ImmutableIntVector} that repeats the same element {@code size} times.
+     * <p>
+     * Uses O(1) memory.
+     * <p>
+     * See {@link NonEmptyIntVector#fill} if you require an {@link ImmutableNonEmptyIntVector} to be returned.
+     *
+     * @param size  the number of elements.
+     *              Must be &gt;= 0.
+     * @param value the value that will be repeated for all elements of the {@code ImmutableIntVector}
+     * @return an {@code ImmutableIntVector} of {@code size} elements, with each element having
+     * the value {@code value}
+     */
+    static ImmutableIntVector fill(int size, int value) {
+        return IntVectors.fill(size, value);
+    }
+
+    /**
+     * Creates an {@code ImmutableIntVector} containing elements 0..<code>size - 1</code>.
+     * In other words, each element of the returned {@code IntVector} will contain its index.
+     * <p>
+     * Uses O(1) memory.
+     *
+     * @param size the number of elements.
+     *             Must be &gt;= 0.
+     *             If 0, the returned {@code ImmutableIntVector} will be empty.
+     * @return an {@code ImmutableIntVector}
+     */
+    static ImmutableIntVector range(int size) {
+        return IntVectors.range(size);
+    }
+
+    /**
+     * Creates an {@code IntVector} that wraps an array.
+     * <p>
+     * Does not make any copies of the given array.
+     * The created {@link IntVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Bearers of the created {@code IntVector} will be unable to gain access to the underlying array, so it is safe to share.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a direct reference to the array can still mutate it.
+     * Use {@link IntVector#copyFrom(int[])} instead if you want to avoid this situation.
+     *
+     * @param underlying array to wrap; not null
+     * @return an {@code IntVector}
+     */
+    static IntVector wrap(int[] underlying) {
+        return IntVectors.wrap(underlying);
+    }
+
+    /**
+     * Creates an {@code IntVector} that wraps the remaining elements of a {@code IntBuffer}.
+     * <p>
+     * The elements are those between the position and the limit of {@code underlying} at the time this method is
+     * called, and are read from the buffer each time they are accessed.
+     * {@code slice}, {@code take}, {@code drop}, and {@code reverse} return {@code IntVector}s over the same buffer.
+     * <p>
+     * Does not make any copies of the given buffer, and will never alter it, or its position or limit.
+     * {@code underlying} may be a view of a direct or memory-mapped {@link java.nio.ByteBuffer}, such as one created by
+     * {@link java.nio.ByteBuffer#asIntBuffer}, in which case the elements are never copied onto the heap.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a reference to the buffer can still mutate its contents.
+     * Use {@link IntVector#toImmutable} on the result if you want to avoid this situation.
+     *
+     * @param underlying the buffer to wrap; not null
+     * @return an {@code IntVector}
+     */
+    static IntVector wrap(IntBuffer underlying) {
+        return IntVectors.wrap(underlying);
+    }
+
+    /**
+     * Creates an {@code ImmutableIntVector} that is copied from an array.
+     *
+     * @param source the array to copy from.
+     *               Not null.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableIntVector}
+     */
+    static ImmutableIntVector copyFrom(int[] source) {
+        return IntVectors.copyFrom(source);
+    }
+
+    /**
+     * Creates an {@code ImmutableIntVector} that is copied from an array, but copying a maximum number of elements.
+     *
+     * @param maxCount the maximum number of elements to copy from the array.
+     *                 Must be &gt;= 0.
+     * @param source   the array to copy from.
+     *                 Not null.
+     *                 This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableIntVector}
+     */
+    static ImmutableIntVector copyFrom(int maxCount, int[] source) {
+        return IntVectors.copyFrom(maxCount, source);
+    }
+
+}
@@ -0,0 +1,71 @@
+package software.kes.collectionviews;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@code Spliterator.OfInt} over an index range of {@link IntVector}, which splits by halving the range.
+ */
+final class IntVectorSpliterator implements Spliterator.OfInt {
+    private final IntVector underlying;
+    private final int characteristics;
+    private int index;
+    private final int fence;
+
+    private IntVectorSpliterator(IntVector underlying, int characteristics, int index, int fence) {
+        this.underlying = underlying;
+        this.characteristics = characteristics;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        Objects.requireNonNull(action);
+        if (index < fence) {
+            action.accept(underlying.unsafeGetInt(index));
+            index += 1;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        Objects.requireNonNull(action);
+        int i = index;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(underlying.unsafeGetInt(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        int start = index;
+        index = mid;
+        return new IntVectorSpliterator(underlying, characteristics, start, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    static IntVectorSpliterator intVectorSpliterator(IntVector underlying) {
+        return new IntVectorSpliterator(underlying, VectorSpliterator.spliteratorCharacteristics(underlying),
+                0, underlying.size());
+    }
+
+}
@@ -0,0 +1,293 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static software.kes.collectionviews.Validation.validateCopyFrom;
+import static software.kes.collectionviews.Validation.validateFill;
+import static software.kes.collectionviews.Validation.validateNonEmptyFill;
+
+final class IntVectors {
+
+    private IntVectors() {
+
+    }
+
+    static ImmutableIntVector copyFrom(int[] source) {
+        Objects.requireNonNull(source);
+        return copyFrom(source.length, source);
+    }
+
+    static ImmutableIntVector copyFrom(int maxCount, int[] source) {
+        validateCopyFrom(maxCount, source);
+        int count = Math.min(maxCount, source.length);
+        if (count == 0) {
+            return empty();
+        } else {
+            return new ImmutableIntArrayVector(Arrays.copyOf(source, count));
+        }
+    }
+
+    static ImmutableIntVector empty() {
+        return EmptyIntVector.emptyIntVector();
+    }
+
+    static ImmutableIntVector ensureImmutable(IntVector vector) {
+        if (vector instanceof ImmutableIntVector) {
+            return (ImmutableIntVector) vector;
+        } else if (vector.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableIntArrayVector(vector.toIntArray());
+        }
+    }
+
+    static ImmutableNonEmptyIntVector ensureImmutable(NonEmptyIntVector vector) {
+        if (vector instanceof ImmutableNonEmptyIntVector) {
+            return (ImmutableNonEmptyIntVector) vector;
+        } else {
+            return new ImmutableIntArrayVector(vector.toIntArray());
+        }
+    }
+
+    static ImmutableIntVector fill(int size, int value) {
+        validateFill(size);
+        if (size == 0) {
+            return empty();
+        } else {
+            return nonEmptyFill(size, value);
+        }
+    }
+
+    static ImmutableIntVector force(ImmutableIntVector source) {
+        if (source.viewDepth() == 0) {
+            return source;
+        } else if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableIntArrayVector(source.toIntArray());
+        }
+    }
+
+    static <A> Vector<A> mapToObj(IntFunction<? extends A> f, IntVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            return new IntToObjMappedVector<>(f, source);
+        }
+    }
+
+    static <A> ImmutableVector<A> mapToObj(IntFunction<? extends A> f, ImmutableIntVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            return new ImmutableIntToObjMappedVector<>(f, source);
+        }
+    }
+
+    static IntVector mapToInt(IntUnaryOperator f, IntVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return IntMappedVector.intMappedVector(f, source);
+        }
+    }
+
+    static ImmutableIntVector mapToInt(IntUnaryOperator f, ImmutableIntVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return ImmutableIntMappedVector.immutableIntMappedVector(f, source);
+        }
+    }
+
+    static Maybe<NonEmptyIntVector> maybeNonEmptyConvert(IntVector vector) {
+        Objects.requireNonNull(vector);
+        if (vector instanceof NonEmptyIntVector) {
+            return just((NonEmptyIntVector) vector);
+        } else if (!vector.isEmpty()) {
+            return just(IntMappedVector.nonEmptyView(vector));
+        } else {
+            return nothing();
+        }
+    }
+
+    static Maybe<ImmutableNonEmptyIntVector> maybeNonEmptyConvert(ImmutableIntVector vector) {
+        Objects.requireNonNull(vector);
+        if (vector instanceof ImmutableNonEmptyIntVector) {
+            return just((ImmutableNonEmptyIntVector) vector);
+        } else if (!vector.isEmpty()) {
+            return just(ImmutableIntMappedVector.nonEmptyView(vector));
+        } else {
+            return nothing();
+        }
+    }
+
+    static Maybe<ImmutableNonEmptyIntVector> maybeNonEmptyCopyFrom(int[] source) {
+        Objects.requireNonNull(source);
+        if (source.length == 0) {
+            return nothing();
+        } else {
+            return just(new ImmutableIntArrayVector(Arrays.copyOf(source, source.length)));
+        }
+    }
+
+    static Maybe<NonEmptyIntVector> maybeNonEmptyWrap(int[] underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.length == 0) {
+            return nothing();
+        } else {
+            return just(new IntArrayVector(underlying));
+        }
+    }
+
+    static NonEmptyIntVector nonEmptyConvertOrThrow(IntVector vector) {
+        return maybeNonEmptyConvert(vector).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static ImmutableNonEmptyIntVector nonEmptyConvertOrThrow(ImmutableIntVector vector) {
+        return maybeNonEmptyConvert(vector).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static ImmutableNonEmptyIntVector nonEmptyCopyFromOrThrow(int[] source) {
+        return maybeNonEmptyCopyFrom(source).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static ImmutableNonEmptyIntVector nonEmptyFill(int size, int value) {
+        validateNonEmptyFill(size);
+        return new RepeatingIntVector(size, value);
+    }
+
+    static ImmutableNonEmptyIntVector nonEmptyForce(ImmutableNonEmptyIntVector source) {
+        if (source.viewDepth() == 0) {
+            return source;
+        } else {
+            return new ImmutableIntArrayVector(source.toIntArray());
+        }
+    }
+
+    static <A> NonEmptyVector<A> nonEmptyMapToObj(IntFunction<? extends A> f, NonEmptyIntVector source) {
+        Objects.requireNonNull(f);
+        return new IntToObjMappedVector<>(f, source);
+    }
+
+    static <A> ImmutableNonEmptyVector<A> nonEmptyMapToObj(IntFunction<? extends A> f, ImmutableNonEmptyIntVector source) {
+        Objects.requireNonNull(f);
+        return new ImmutableIntToObjMappedVector<>(f, source);
+    }
+
+    static NonEmptyIntVector nonEmptyMapToInt(IntUnaryOperator f, NonEmptyIntVector source) {
+        Objects.requireNonNull(f);
+        return IntMappedVector.intMappedVector(f, source);
+    }
+
+    static ImmutableNonEmptyIntVector nonEmptyMapToInt(IntUnaryOperator f, ImmutableNonEmptyIntVector source) {
+        Objects.requireNonNull(f);
+        return ImmutableIntMappedVector.immutableIntMappedVector(f, source);
+    }
+
+    static ImmutableNonEmptyIntVector nonEmptyOf(int first, int... more) {
+        Objects.requireNonNull(more);
+        int[] elements = new int[1 + more.length];
+        elements[0] = first;
+        System.arraycopy(more, 0, elements, 1, more.length);
+        return new ImmutableIntArrayVector(elements);
+    }
+
+    static ImmutableNonEmptyIntVector nonEmptyRange(int size) {
+        Validation.requirePositive("size", size);
+        return new IntRangeVector(0, 1, size);
+    }
+
+    static NonEmptyIntVector nonEmptyWrapOrThrow(int[] underlying) {
+        return maybeNonEmptyWrap(underlying).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static ImmutableIntVector range(int size) {
+        Validation.requireNonNegative("size", size);
+        if (size == 0) {
+            return empty();
+        } else {
+            return new IntRangeVector(0, 1, size);
+        }
+    }
+
+    static void reverseInPlace(int[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            int temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+
+    static int[] toIntArray(IntVector vector) {
+        int size = vector.size();
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = vector.unsafeGetInt(i);
+        }
+        return result;
+    }
+
+    static boolean intVectorEquals(IntVector vector, IntVector other) {
+        if (other == vector) {
+            return true;
+        }
+        int size = vector.size();
+        if (other.size() != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!elementEquals(vector.unsafeGetInt(i), other.unsafeGetInt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int intVectorHashCode(IntVector vector) {
+        int size = vector.size();
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Integer.hashCode(vector.unsafeGetInt(i));
+        }
+        return hashCode;
+    }
+
+    static IntVector wrap(int[] underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.length == 0) {
+            return empty();
+        } else {
+            return new IntArrayVector(underlying);
+        }
+    }
+
+    static IntVector wrap(IntBuffer underlying) {
+        Objects.requireNonNull(underlying);
+        if (!underlying.hasRemaining()) {
+            return empty();
+        } else {
+            return new IntBufferVector(underlying);
+        }
+    }
+
+    /**
+     * Equality as defined by {@code Integer#equals}, so that {@code IntVector}s agree with their boxed counterparts.
+     */
+    private static boolean elementEquals(int a, int b) {
+        return a == b;
+    }
+
+}
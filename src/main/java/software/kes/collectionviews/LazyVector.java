@@ -2,6 +2,9 @@ package software.kes.collectionviews;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 
+import java.util.Objects;
+
+import static software.kes.collectionviews.Validation.validateCopyInto;
 import static software.kes.collectionviews.Validation.validateDrop;
 import static software.kes.collectionviews.Validation.validateSlice;
 import static software.kes.collectionviews.Validation.validateTake;
@@ -10,13 +13,25 @@ final class LazyVector<A> extends ConcreteVector<A>
         implements ImmutableNonEmptyVector<A>, Primitive {
     private final int size; // must be >= 1
     private final int offset;
-    private final Fn1<Integer, A> valueSupplier;
+    private final Fn1<Integer, ?> valueSupplier;
+    /**
+     * Applied to the result of {@code valueSupplier}, so that {@code fmap}s are fused without nesting closures.
+     */
+    private final MapperChain mapper;
 
     LazyVector(int size, int offset, Fn1<Integer, A> valueSupplier) {
+        this(size, offset, valueSupplier, MapperChain.empty());
+    }
+
+    /**
+     * Each element is {@code mapper} applied to the result of {@code valueSupplier}, which must be an {@code A}.
+     */
+    LazyVector(int size, int offset, Fn1<Integer, ?> valueSupplier, MapperChain mapper) {
         assert (size >= 1);
         this.size = size;
         this.offset = offset;
         this.valueSupplier = valueSupplier;
+        this.mapper = mapper;
     }
 
     @Override
@@ -24,12 +39,26 @@ final class LazyVector<A> extends ConcreteVector<A>
         return size;
     }
 
+    @Override
+    public int viewDepth() {
+        return 1;
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     public A unsafeGet(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException();
         }
-        return valueSupplier.apply(index + offset);
+        return (A) mapper.apply(valueSupplier.apply(index + offset));
+    }
+
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        validateCopyInto(dest, destOffset, srcFrom, srcTo, this);
+        for (int i = srcFrom; i < srcTo; i++) {
+            dest[destOffset++] = mapper.apply(valueSupplier.apply(offset + i));
+        }
     }
 
     @Override
@@ -38,12 +67,22 @@ final class LazyVector<A> extends ConcreteVector<A>
         if (count == 0) {
             return this;
         } else if (count < size) {
-            return new LazyVector<>(size - count, offset + count, valueSupplier);
+            return new LazyVector<>(size - count, offset + count, valueSupplier, mapper);
         } else {
             return Vectors.empty();
         }
     }
 
+    /**
+     * Fuses {@code f} into the {@code MapperChain} that is applied to each element.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <B> ImmutableNonEmptyVector<B> fmap(Fn1<? super A, ? extends B> f) {
+        Objects.requireNonNull(f);
+        return new LazyVector<>(size, offset, valueSupplier, mapper.add((Fn1<Object, Object>) f));
+    }
+
     @Override
     public ImmutableVector<A> slice(int startIndex, int endIndexExclusive) {
         validateSlice(startIndex, endIndexExclusive);
@@ -51,8 +90,8 @@ final class LazyVector<A> extends ConcreteVector<A>
             return take(endIndexExclusive);
         }
         endIndexExclusive = Math.min(endIndexExclusive, size);
-        if (endIndexExclusive >= startIndex) {
-            return new LazyVector<>(endIndexExclusive - startIndex, offset + startIndex, valueSupplier);
+        if (endIndexExclusive > startIndex) {
+            return new LazyVector<>(endIndexExclusive - startIndex, offset + startIndex, valueSupplier, mapper);
         } else {
             return Vector.empty();
         }
@@ -66,7 +105,7 @@ final class LazyVector<A> extends ConcreteVector<A>
         } else if (count >= size) {
             return this;
         } else {
-            return new LazyVector<>(count, offset, valueSupplier);
+            return new LazyVector<>(count, offset, valueSupplier, mapper);
         }
     }
 
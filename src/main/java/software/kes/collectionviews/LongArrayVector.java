@@ -0,0 +1,81 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class LongArrayVector extends ConcreteLongVector
+        implements NonEmptyLongVector, Primitive {
+    private final long[] underlying;
+    private final int offset;
+    private final int size; // must be >= 1
+    private final boolean reversed;
+
+    LongArrayVector(long[] underlying) {
+        this(underlying, 0, underlying.length, false);
+    }
+
+    private LongArrayVector(long[] underlying, int offset, int size, boolean reversed) {
+        assert (size >= 1);
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+        this.reversed = reversed;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long unsafeGetLong(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return reversed ? underlying[offset + size - 1 - index] : underlying[offset + index];
+    }
+
+    @Override
+    public NonEmptyLongVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new LongArrayVector(underlying, offset, size, !reversed);
+        }
+    }
+
+    @Override
+    public LongVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return LongVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            int newOffset = reversed ? offset + size - endIndex : offset + startIndex;
+            return new LongArrayVector(underlying, newOffset, endIndex - startIndex, reversed);
+        }
+    }
+
+    @Override
+    public long[] toLongArray() {
+        long[] result = Arrays.copyOfRange(underlying, offset, offset + size);
+        if (reversed) {
+            LongVectors.reverseInPlace(result);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableNonEmptyLongVector toImmutable() {
+        return new ImmutableLongArrayVector(toLongArray());
+    }
+
+}
@@ -0,0 +1,92 @@
+package software.kes.collectionviews;
+
+import java.nio.Buffer;
+import java.nio.LongBuffer;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class LongBufferVector extends ConcreteLongVector
+        implements NonEmptyLongVector, Primitive {
+    /**
+     * A read-only view of the wrapped buffer, positioned so that index 0 is its first remaining element.
+     */
+    private final LongBuffer underlying;
+    private final int offset;
+    private final int size; // must be >= 1
+    private final boolean reversed;
+
+    /**
+     * underlying must have at least one element remaining
+     */
+    LongBufferVector(LongBuffer underlying) {
+        this(underlying.slice().asReadOnlyBuffer(), 0, underlying.remaining(), false);
+    }
+
+    private LongBufferVector(LongBuffer underlying, int offset, int size, boolean reversed) {
+        assert (size >= 1);
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+        this.reversed = reversed;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long unsafeGetLong(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return reversed ? underlying.get(offset + size - 1 - index) : underlying.get(offset + index);
+    }
+
+    @Override
+    public NonEmptyLongVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new LongBufferVector(underlying, offset, size, !reversed);
+        }
+    }
+
+    @Override
+    public LongVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return LongVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            int newOffset = reversed ? offset + size - endIndex : offset + startIndex;
+            return new LongBufferVector(underlying, newOffset, endIndex - startIndex, reversed);
+        }
+    }
+
+    @Override
+    public long[] toLongArray() {
+        long[] result = new long[size];
+        LongBuffer source = underlying.duplicate();
+        // Called through Buffer, since the covariant position override does not exist on Java 8.
+        ((Buffer) source).position(offset);
+        source.get(result);
+        if (reversed) {
+            LongVectors.reverseInPlace(result);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableNonEmptyLongVector toImmutable() {
+        return new ImmutableLongArrayVector(toLongArray());
+    }
+
+}
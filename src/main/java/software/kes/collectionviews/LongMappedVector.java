@@ -0,0 +1,97 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+import java.util.function.LongUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+/**
+ * Applies a sequence of functions, in order, to the elements of a non-empty source.
+ * <p>
+ * The functions are held in an array and applied in a loop, so application neither allocates
+ * nor grows the stack with the number of functions.
+ * With no functions at all, this is simply a non-empty view of the source.
+ */
+final class LongMappedVector extends ConcreteLongVector implements NonEmptyLongVector {
+    private static final LongUnaryOperator[] NO_FUNCTIONS = new LongUnaryOperator[0];
+
+    private final LongVector source; // must be non-empty
+    private final LongUnaryOperator[] fns;
+    private final int size;
+
+    private LongMappedVector(LongVector source, LongUnaryOperator[] fns) {
+        this.source = source;
+        this.fns = fns;
+        this.size = source.size();
+        assert (size >= 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int viewDepth() {
+        return 1 + source.viewDepth();
+    }
+
+    @Override
+    public long unsafeGetLong(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        long result = source.unsafeGetLong(index);
+        for (LongUnaryOperator fn : fns) {
+            result = fn.applyAsLong(result);
+        }
+        return result;
+    }
+
+    @Override
+    public NonEmptyLongVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new LongMappedVector(source.reverse(), fns);
+        }
+    }
+
+    @Override
+    public LongVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return LongVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            return new LongMappedVector(source.slice(startIndex, endIndex), fns);
+        }
+    }
+
+    static NonEmptyLongVector nonEmptyView(LongVector source) {
+        return new LongMappedVector(source, NO_FUNCTIONS);
+    }
+
+    static NonEmptyLongVector longMappedVector(LongUnaryOperator f, LongVector source) {
+        if (source instanceof LongMappedVector) {
+            LongMappedVector mapped = (LongMappedVector) source;
+            return new LongMappedVector(mapped.source, append(mapped.fns, f));
+        } else {
+            return new LongMappedVector(source, new LongUnaryOperator[]{f});
+        }
+    }
+
+    static LongUnaryOperator[] append(LongUnaryOperator[] fns, LongUnaryOperator f) {
+        LongUnaryOperator[] result = Arrays.copyOf(fns, fns.length + 1);
+        result[fns.length] = f;
+        return result;
+    }
+
+}
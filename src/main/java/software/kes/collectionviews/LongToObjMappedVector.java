@@ -0,0 +1,35 @@
+package software.kes.collectionviews;
+
+import java.util.function.LongFunction;
+
+final class LongToObjMappedVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
+    private final LongFunction<? extends A> f;
+    private final LongVector source; // must be non-empty
+    private final int size;
+
+    LongToObjMappedVector(LongFunction<? extends A> f, LongVector source) {
+        this.f = f;
+        this.source = source;
+        this.size = source.size();
+        assert (size >= 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int viewDepth() {
+        return 1 + source.viewDepth();
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return f.apply(source.unsafeGetLong(index));
+    }
+
+}
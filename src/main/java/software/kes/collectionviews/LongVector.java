@@ -0,0 +1,447 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.nio.LongBuffer;
+import java.util.Spliterator;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static software.kes.collectionviews.Validation.validateDrop;
+import static software.kes.collectionviews.Validation.validateTake;
+
+/**
+ * A {@code Vector} of {@code long}s that stores its elements unboxed.
+ * <p>
+ * In addition to the guarantees of {@link Vector}, provides the following benefits:
+ * <ul>
+ * <li>{@link LongVector#unsafeGetLong} retrieves an element without boxing it.</li>
+ * <li>{@link LongVector#slice}, {@link LongVector#drop}, {@link LongVector#take} and {@link LongVector#reverse}
+ * always return a {@code LongVector}.</li>
+ * <li>{@link LongVector#mapToLong} maps to another {@code LongVector} without boxing.</li>
+ * <li>{@link LongVector#mapToObj} maps to a {@code Vector} of any type without boxing the elements of this one.</li>
+ * <li>{@link LongVector#longStream} and {@link LongVector#spliterator} traverse the elements without boxing them.</li>
+ * </ul>
+ * <p>
+ * Elements are boxed when they are accessed through the {@code Vector<Long>} interface,
+ * for example by {@link Vector#unsafeGet} or by iteration.
+ */
+public interface LongVector extends Vector<Long> {
+
+    /**
+     * Gets an element from this {@code LongVector} at an index, without boxing it.
+     * <p>
+     * Executes in O(1).
+     *
+     * @param index the index of the element to retrieve.
+     *              Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than or equal to {@code size()}
+     */
+    long unsafeGetLong(int index);
+
+    /**
+     * Gets an element from this {@code LongVector} at an index.
+     * <p>
+     * The element is boxed; use {@link LongVector#unsafeGetLong} to avoid this.
+     *
+     * @param index the index of the element to retrieve.
+     *              Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}.  Never null.
+     * @throws IndexOutOfBoundsException if index is less than 0 or greater than or equal to {@code size()}
+     */
+    @Override
+    default Long unsafeGet(int index) {
+        return unsafeGetLong(index);
+    }
+
+    /**
+     * Returns a new {@code LongVector} that drops the first {@code count} elements of this {@code LongVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from this {@code LongVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code LongVector}, in which case, the result will be an
+     *              empty {@code LongVector}.
+     * @return a {@code LongVector}
+     */
+    @Override
+    default LongVector drop(int count) {
+        validateDrop(count);
+        return slice(count, size());
+    }
+
+    /**
+     * Returns a new {@code LongVector} that drops all except the last {@code count} elements of this {@code LongVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the number of elements to drop from the end of this {@code LongVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code LongVector}, in which case, the result will be an
+     *              empty {@code LongVector}.
+     * @return a {@code LongVector}
+     */
+    @Override
+    default LongVector dropRight(int count) {
+        validateDrop(count);
+        return slice(0, Math.max(size() - count, 0));
+    }
+
+    /**
+     * Returns a sequential {@code LongStream} with this {@code LongVector} as its source.
+     * <p>
+     * Does not box the elements of this {@code LongVector}.
+     * Call {@link LongStream#parallel} on the result to process it in parallel.
+     *
+     * @return a sequential {@code LongStream}
+     */
+    default LongStream longStream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * Maps a function over this {@code LongVector}, producing a {@code Vector} of any type.
+     * <p>
+     * Returns a new {@link Vector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code LongVector}.
+     *
+     * @param f   a function from {@code long} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code Vector}
+     * @return a {@code Vector<A>} of the same size
+     */
+    default <A> Vector<A> mapToObj(LongFunction<? extends A> f) {
+        return LongVectors.mapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code LongVector}, producing another {@code LongVector}.
+     * <p>
+     * Returns a new {@link LongVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code long} to {@code long}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return a {@code LongVector} of the same size
+     */
+    default LongVector mapToLong(LongUnaryOperator f) {
+        return LongVectors.mapToLong(f, this);
+    }
+
+    /**
+     * Creates a {@code LongVector} with this {@code LongVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code LongVector}
+     */
+    @Override
+    LongVector reverse();
+
+    /**
+     * Creates a slice of this {@code LongVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     * <p>
+     * Use caution when taking a small slice of a huge {@code LongVector} that you no longer need.
+     * The smaller slice will hold onto a reference of the larger one, and will prevent it from being GC'ed.
+     *
+     * @param startIndex        the index of the element to begin the slice.
+     *                          Must be &gt;= 0.
+     *                          May exceed the size of this {@code LongVector}, in which case an empty {@code LongVector} will be returned.
+     * @param endIndexExclusive the end index (exclusive) of the slice.  Must be &gt;= {@code startIndex}.
+     *                          May exceed the size of this {@code LongVector}, in which case the slice will
+     *                          contain as many elements as available.
+     * @return a {@code LongVector}
+     */
+    @Override
+    LongVector slice(int startIndex, int endIndexExclusive);
+
+    /**
+     * Finds the greatest element in each window of {@code k} elements, as the window slides across this
+     * {@code LongVector} by one element at a time, without boxing.
+     * <p>
+     * Produces one result for each window returned by {@link Vector#slide}, in O(n) regardless of {@code k}.
+     * <p>
+     * Example:
+     *
+     * <code>LongVector.of(1L, 3L, 2L, 5L, 4L).slidingMax(3); // [3L, 5L, 5L]</code>
+     *
+     * @param k the number of elements in the sliding window.  Must be &gt;= 1.
+     * @return an {@code ImmutableLongVector}, empty if this {@code LongVector} is empty
+     */
+    default ImmutableLongVector slidingMax(int k) {
+        return SlidingWindows.slidingMax(k, this);
+    }
+
+    /**
+     * Finds the least element in each window of {@code k} elements, as the window slides across this
+     * {@code LongVector} by one element at a time, without boxing.
+     * <p>
+     * Produces one result for each window returned by {@link Vector#slide}, in O(n) regardless of {@code k}.
+     * <p>
+     * Example:
+     *
+     * <code>LongVector.of(1L, 3L, 2L, 5L, 4L).slidingMin(3); // [1L, 2L, 2L]</code>
+     *
+     * @param k the number of elements in the sliding window.  Must be &gt;= 1.
+     * @return an {@code ImmutableLongVector}, empty if this {@code LongVector} is empty
+     */
+    default ImmutableLongVector slidingMin(int k) {
+        return SlidingWindows.slidingMin(k, this);
+    }
+
+    /**
+     * Finds the sum of the elements in each window of {@code k} elements, as the window slides across this
+     * {@code LongVector} by one element at a time, without boxing.
+     * <p>
+     * Produces one result for each window returned by {@link Vector#slide}, in O(n) regardless of {@code k}.
+     * <p>
+     * Sums that overflow wrap around, as with the {@code +} operator.
+     * <p>
+     * Example:
+     *
+     * <code>LongVector.of(1L, 3L, 2L, 5L, 4L).slidingSum(2); // [4, 5, 7, 9]</code>
+     *
+     * @param k the number of elements in the sliding window.  Must be &gt;= 1.
+     * @return an {@code ImmutableLongVector}, empty if this {@code LongVector} is empty
+     */
+    default ImmutableLongVector slidingSum(int k) {
+        return SlidingWindows.slidingSum(k, this);
+    }
+
+    /**
+     * Returns a {@code Spliterator.OfLong} over this {@code LongVector}'s elements.
+     * <p>
+     * The {@code Spliterator} is {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED},
+     * and also {@link Spliterator#IMMUTABLE} if this is an {@link ImmutableLongVector}.
+     * It splits by halving its index range, and accesses elements using {@link LongVector#unsafeGetLong}.
+     *
+     * @return a {@code Spliterator.OfLong}
+     */
+    @Override
+    default Spliterator.OfLong spliterator() {
+        return LongVectorSpliterator.longVectorSpliterator(this);
+    }
+
+    /**
+     * Returns a new {@code LongVector} containing at most the first {@code count} elements of this {@code LongVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code LongVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code LongVector}.
+     * @return a {@code LongVector}
+     */
+    @Override
+    default LongVector take(int count) {
+        validateTake(count);
+        return slice(0, count);
+    }
+
+    /**
+     * Returns a new {@code LongVector} containing at most the last {@code count} elements of this {@code LongVector}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @param count the maximum number of elements to take from this {@code LongVector}.
+     *              Must be &gt;= 0.
+     *              May exceed size of this {@code LongVector}.
+     * @return a {@code LongVector}
+     */
+    @Override
+    default LongVector takeRight(int count) {
+        validateTake(count);
+        int size = size();
+        return slice(Math.max(size - count, 0), size);
+    }
+
+    /**
+     * Copies the elements of this {@code LongVector} into a new array.
+     *
+     * @return a new {@code long[]} of length {@code size()}.  The caller owns the returned array.
+     */
+    default long[] toLongArray() {
+        return LongVectors.toLongArray(this);
+    }
+
+    /**
+     * Converts this {@code LongVector} to an {@code ImmutableLongVector}.
+     * <p>
+     * This method will make a copy of the underlying data structure if necessary to guarantee immutability.
+     * <p>
+     * If this {@link LongVector} is already an {@link ImmutableLongVector}, no copies are made and this method is a no-op.
+     *
+     * @return an {@code ImmutableLongVector} containing the same elements
+     */
+    @Override
+    default ImmutableLongVector toImmutable() {
+        return LongVectors.ensureImmutable(this);
+    }
+
+    /**
+     * Attempts to convert this {@code LongVector} to a {@code NonEmptyLongVector}.
+     * <p>
+     * If successful, returns a {@link NonEmptyLongVector} containing the same elements as this one, wrapped in a {@link Maybe#just}.
+     * <p>
+     * If this {@code LongVector} is empty, returns {@link Maybe#nothing}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code Maybe<NonEmptyLongVector>}
+     */
+    @Override
+    default Maybe<? extends NonEmptyLongVector> toNonEmpty() {
+        return LongVectors.maybeNonEmptyConvert(this);
+    }
+
+    /**
+     * Attempts to convert this {@code LongVector} to a {@code NonEmptyLongVector}.
+     * <p>
+     * If successful, returns a {@link NonEmptyLongVector} containing the same elements as this one.
+     * Use this if you are confident that this {@link LongVector} is not empty.
+     * <p>
+     * If this {@code LongVector} is empty, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code NonEmptyLongVector}
+     * @throws IllegalArgumentException if this {@code LongVector} is empty
+     */
+    @Override
+    default NonEmptyLongVector toNonEmptyOrThrow() {
+        return LongVectors.nonEmptyConvertOrThrow(this);
+    }
+
+    /**
+     * Returns an empty {@code ImmutableLongVector}.
+     *
+     * @return an empty {@code ImmutableLongVector}
+     */
+    static ImmutableLongVector empty() {
+        return LongVectors.empty();
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyLongVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyLongVector}
+     */
+    static ImmutableNonEmptyLongVector of(long first, long... more) {
+        return LongVectors.nonEmptyOf(first, more);
+    }
+
+    /**
+     * Creates an {@code ImmutableLongVector} that repeats the same element {@code size} times.
+     * <p>
+     * Uses O(1) memory.
+     * <p>
+     * See {@link NonEmptyLongVector#fill} if you require an {@link ImmutableNonEmptyLongVector} to be returned.
+     *
+     * @param size  the number of elements.
+     *              Must be &gt;= 0.
+     * @param value the value that will be repeated for all elements of the {@code ImmutableLongVector}
+     * @return an {@code ImmutableLongVector} of {@code size} elements, with each element having
+     * the value {@code value}
+     */
+    static ImmutableLongVector fill(int size, long value) {
+        return LongVectors.fill(size, value);
+    }
+
+    /**
+     * Creates an {@code ImmutableLongVector} containing elements 0..<code>size - 1</code>.
+     * In other words, each element of the returned {@code LongVector} will contain its index.
+     * <p>
+     * Uses O(1) memory.
+     *
+     * @param size the number of elements.
+     *             Must be &gt;= 0.
+     *             If 0, the returned {@code ImmutableLongVector} will be empty.
+     * @return an {@code ImmutableLongVector}
+     */
+    static ImmutableLongVector range(int size) {
+        return LongVectors.range(size);
+    }
+
+    /**
+     * Creates a {@code LongVector} that wraps an array.
+     * <p>
+     * Does not make any copies of the given array.
+     * The created {@link LongVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Bearers of the created {@code LongVector} will be unable to gain access to the underlying array, so it is safe to share.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a direct reference to the array can still mutate it.
+     * Use {@link LongVector#copyFrom(long[])} instead if you want to avoid this situation.
+     *
+     * @param underlying array to wrap; not null
+     * @return a {@code LongVector}
+     */
+    static LongVector wrap(long[] underlying) {
+        return LongVectors.wrap(underlying);
+    }
+
+    /**
+     * Creates a {@code LongVector} that wraps the remaining elements of a {@code LongBuffer}.
+     * <p>
+     * The elements are those between the position and the limit of {@code underlying} at the time this method is
+     * called, and are read from the buffer each time they are accessed.
+     * {@code slice}, {@code take}, {@code drop}, and {@code reverse} return {@code LongVector}s over the same buffer.
+     * <p>
+     * Does not make any copies of the given buffer, and will never alter it, or its position or limit.
+     * {@code underlying} may be a view of a direct or memory-mapped {@link java.nio.ByteBuffer}, such as one created by
+     * {@link java.nio.ByteBuffer#asLongBuffer}, in which case the elements are never copied onto the heap.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a reference to the buffer can still mutate its contents.
+     * Use {@link LongVector#toImmutable} on the result if you want to avoid this situation.
+     *
+     * @param underlying the buffer to wrap; not null
+     * @return a {@code LongVector}
+     */
+    static LongVector wrap(LongBuffer underlying) {
+        return LongVectors.wrap(underlying);
+    }
+
+    /**
+     * Creates an {@code ImmutableLongVector} that is copied from an array.
+     *
+     * @param source the array to copy from.
+     *               Not null.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableLongVector}
+     */
+    static ImmutableLongVector copyFrom(long[] source) {
+        return LongVectors.copyFrom(source);
+    }
+
+    /**
+     * Creates an {@code ImmutableLongVector} that is copied from an array, but copying a maximum number of elements.
+     *
+     * @param maxCount the maximum number of elements to copy from the array.
+     *                 Must be &gt;= 0.
+     * @param source   the array to copy from.
+     *                 Not null.
+     *                 This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableLongVector}
+     */
+    static ImmutableLongVector copyFrom(int maxCount, long[] source) {
+        return LongVectors.copyFrom(maxCount, source);
+    }
+
+}
@@ -0,0 +1,71 @@
+package software.kes.collectionviews;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@code Spliterator.OfLong} over an index range of {@link LongVector}, which splits by halving the range.
+ */
+final class LongVectorSpliterator implements Spliterator.OfLong {
+    private final LongVector underlying;
+    private final int characteristics;
+    private int index;
+    private final int fence;
+
+    private LongVectorSpliterator(LongVector underlying, int characteristics, int index, int fence) {
+        this.underlying = underlying;
+        this.characteristics = characteristics;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        Objects.requireNonNull(action);
+        if (index < fence) {
+            action.accept(underlying.unsafeGetLong(index));
+            index += 1;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        Objects.requireNonNull(action);
+        int i = index;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(underlying.unsafeGetLong(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        int start = index;
+        index = mid;
+        return new LongVectorSpliterator(underlying, characteristics, start, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    static LongVectorSpliterator longVectorSpliterator(LongVector underlying) {
+        return new LongVectorSpliterator(underlying, VectorSpliterator.spliteratorCharacteristics(underlying),
+                0, underlying.size());
+    }
+
+}
@@ -0,0 +1,293 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static software.kes.collectionviews.Validation.validateCopyFrom;
+import static software.kes.collectionviews.Validation.validateFill;
+import static software.kes.collectionviews.Validation.validateNonEmptyFill;
+
+final class LongVectors {
+
+    private LongVectors() {
+
+    }
+
+    static ImmutableLongVector copyFrom(long[] source) {
+        Objects.requireNonNull(source);
+        return copyFrom(source.length, source);
+    }
+
+    static ImmutableLongVector copyFrom(int maxCount, long[] source) {
+        validateCopyFrom(maxCount, source);
+        int count = Math.min(maxCount, source.length);
+        if (count == 0) {
+            return empty();
+        } else {
+            return new ImmutableLongArrayVector(Arrays.copyOf(source, count));
+        }
+    }
+
+    static ImmutableLongVector empty() {
+        return EmptyLongVector.emptyLongVector();
+    }
+
+    static ImmutableLongVector ensureImmutable(LongVector vector) {
+        if (vector instanceof ImmutableLongVector) {
+            return (ImmutableLongVector) vector;
+        } else if (vector.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableLongArrayVector(vector.toLongArray());
+        }
+    }
+
+    static ImmutableNonEmptyLongVector ensureImmutable(NonEmptyLongVector vector) {
+        if (vector instanceof ImmutableNonEmptyLongVector) {
+            return (ImmutableNonEmptyLongVector) vector;
+        } else {
+            return new ImmutableLongArrayVector(vector.toLongArray());
+        }
+    }
+
+    static ImmutableLongVector fill(int size, long value) {
+        validateFill(size);
+        if (size == 0) {
+            return empty();
+        } else {
+            return nonEmptyFill(size, value);
+        }
+    }
+
+    static ImmutableLongVector force(ImmutableLongVector source) {
+        if (source.viewDepth() == 0) {
+            return source;
+        } else if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableLongArrayVector(source.toLongArray());
+        }
+    }
+
+    static <A> Vector<A> mapToObj(LongFunction<? extends A> f, LongVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            return new LongToObjMappedVector<>(f, source);
+        }
+    }
+
+    static <A> ImmutableVector<A> mapToObj(LongFunction<? extends A> f, ImmutableLongVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            return new ImmutableLongToObjMappedVector<>(f, source);
+        }
+    }
+
+    static LongVector mapToLong(LongUnaryOperator f, LongVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return LongMappedVector.longMappedVector(f, source);
+        }
+    }
+
+    static ImmutableLongVector mapToLong(LongUnaryOperator f, ImmutableLongVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return ImmutableLongMappedVector.immutableLongMappedVector(f, source);
+        }
+    }
+
+    static Maybe<NonEmptyLongVector> maybeNonEmptyConvert(LongVector vector) {
+        Objects.requireNonNull(vector);
+        if (vector instanceof NonEmptyLongVector) {
+            return just((NonEmptyLongVector) vector);
+        } else if (!vector.isEmpty()) {
+            return just(LongMappedVector.nonEmptyView(vector));
+        } else {
+            return nothing();
+        }
+    }
+
+    static Maybe<ImmutableNonEmptyLongVector> maybeNonEmptyConvert(ImmutableLongVector vector) {
+        Objects.requireNonNull(vector);
+        if (vector instanceof ImmutableNonEmptyLongVector) {
+            return just((ImmutableNonEmptyLongVector) vector);
+        } else if (!vector.isEmpty()) {
+            return just(ImmutableLongMappedVector.nonEmptyView(vector));
+        } else {
+            return nothing();
+        }
+    }
+
+    static Maybe<ImmutableNonEmptyLongVector> maybeNonEmptyCopyFrom(long[] source) {
+        Objects.requireNonNull(source);
+        if (source.length == 0) {
+            return nothing();
+        } else {
+            return just(new ImmutableLongArrayVector(Arrays.copyOf(source, source.length)));
+        }
+    }
+
+    static Maybe<NonEmptyLongVector> maybeNonEmptyWrap(long[] underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.length == 0) {
+            return nothing();
+        } else {
+            return just(new LongArrayVector(underlying));
+        }
+    }
+
+    static NonEmptyLongVector nonEmptyConvertOrThrow(LongVector vector) {
+        return maybeNonEmptyConvert(vector).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static ImmutableNonEmptyLongVector nonEmptyConvertOrThrow(ImmutableLongVector vector) {
+        return maybeNonEmptyConvert(vector).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static ImmutableNonEmptyLongVector nonEmptyCopyFromOrThrow(long[] source) {
+        return maybeNonEmptyCopyFrom(source).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static ImmutableNonEmptyLongVector nonEmptyFill(int size, long value) {
+        validateNonEmptyFill(size);
+        return new RepeatingLongVector(size, value);
+    }
+
+    static ImmutableNonEmptyLongVector nonEmptyForce(ImmutableNonEmptyLongVector source) {
+        if (source.viewDepth() == 0) {
+            return source;
+        } else {
+            return new ImmutableLongArrayVector(source.toLongArray());
+        }
+    }
+
+    static <A> NonEmptyVector<A> nonEmptyMapToObj(LongFunction<? extends A> f, NonEmptyLongVector source) {
+        Objects.requireNonNull(f);
+        return new LongToObjMappedVector<>(f, source);
+    }
+
+    static <A> ImmutableNonEmptyVector<A> nonEmptyMapToObj(LongFunction<? extends A> f, ImmutableNonEmptyLongVector source) {
+        Objects.requireNonNull(f);
+        return new ImmutableLongToObjMappedVector<>(f, source);
+    }
+
+    static NonEmptyLongVector nonEmptyMapToLong(LongUnaryOperator f, NonEmptyLongVector source) {
+        Objects.requireNonNull(f);
+        return LongMappedVector.longMappedVector(f, source);
+    }
+
+    static ImmutableNonEmptyLongVector nonEmptyMapToLong(LongUnaryOperator f, ImmutableNonEmptyLongVector source) {
+        Objects.requireNonNull(f);
+        return ImmutableLongMappedVector.immutableLongMappedVector(f, source);
+    }
+
+    static ImmutableNonEmptyLongVector nonEmptyOf(long first, long... more) {
+        Objects.requireNonNull(more);
+        long[] elements = new long[1 + more.length];
+        elements[0] = first;
+        System.arraycopy(more, 0, elements, 1, more.length);
+        return new ImmutableLongArrayVector(elements);
+    }
+
+    static ImmutableNonEmptyLongVector nonEmptyRange(int size) {
+        Validation.requirePositive("size", size);
+        return new LongRangeVector(0, 1, size);
+    }
+
+    static NonEmptyLongVector nonEmptyWrapOrThrow(long[] underlying) {
+        return maybeNonEmptyWrap(underlying).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static ImmutableLongVector range(int size) {
+        Validation.requireNonNegative("size", size);
+        if (size == 0) {
+            return empty();
+        } else {
+            return new LongRangeVector(0, 1, size);
+        }
+    }
+
+    static void reverseInPlace(long[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            long temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+
+    static long[] toLongArray(LongVector vector) {
+        int size = vector.size();
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = vector.unsafeGetLong(i);
+        }
+        return result;
+    }
+
+    static boolean longVectorEquals(LongVector vector, LongVector other) {
+        if (other == vector) {
+            return true;
+        }
+        int size = vector.size();
+        if (other.size() != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!elementEquals(vector.unsafeGetLong(i), other.unsafeGetLong(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int longVectorHashCode(LongVector vector) {
+        int size = vector.size();
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Long.hashCode(vector.unsafeGetLong(i));
+        }
+        return hashCode;
+    }
+
+    static LongVector wrap(long[] underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.length == 0) {
+            return empty();
+        } else {
+            return new LongArrayVector(underlying);
+        }
+    }
+
+    static LongVector wrap(LongBuffer underlying) {
+        Objects.requireNonNull(underlying);
+        if (!underlying.hasRemaining()) {
+            return empty();
+        } else {
+            return new LongBufferVector(underlying);
+        }
+    }
+
+    /**
+     * Equality as defined by {@code Long#equals}, so that {@code LongVector}s agree with their boxed counterparts.
+     */
+    private static boolean elementEquals(long a, long b) {
+        return a == b;
+    }
+
+}
@@ -4,9 +4,9 @@ import com.jnape.palatable.lambda.functions.Fn1;
 
 final class MappedVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
     private final MapperChain mapper;
-    private final NonEmptyVector<Object> underlying;
+    private final Vector<Object> underlying; // must be non-empty
 
-    MappedVector(MapperChain mapper, NonEmptyVector<Object> underlying) {
+    MappedVector(MapperChain mapper, Vector<Object> underlying) {
         this.mapper = mapper;
         this.underlying = underlying;
     }
@@ -16,6 +16,11 @@ final class MappedVector<A> extends ConcreteVector<A> implements NonEmptyVector<
         return underlying.size();
     }
 
+    @Override
+    public int viewDepth() {
+        return 1 + underlying.viewDepth();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public A unsafeGet(int index) {
@@ -28,4 +33,12 @@ final class MappedVector<A> extends ConcreteVector<A> implements NonEmptyVector<
         return new MappedVector<>(mapper.add((Fn1<Object, Object>) f),
                 underlying);
     }
+
+    MappedVector<A> reverseUnderlying() {
+        return new MappedVector<>(mapper, underlying.reverse());
+    }
+
+    MappedVector<A> subVector(int offset, int count) {
+        return new MappedVector<>(mapper, underlying.slice(offset, offset + count));
+    }
 }
@@ -2,15 +2,9 @@ package software.kes.collectionviews;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.function.Function;
+import java.util.Objects;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Reverse.reverse;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
-import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
 
 interface MapperChain {
     MapperChain add(Fn1<Object, Object> f);
@@ -26,7 +20,7 @@ interface MapperChain {
     }
 
     static MapperChain mapperChain(Fn1<Object, Object> f) {
-        return new MapperChainImpl(Collections.singletonList(lambdaToJava(f)));
+        return new MapperChainImpl(null, f);
     }
 
     final class EmptyMapperChain implements MapperChain {
@@ -58,13 +52,23 @@ interface MapperChain {
 
     }
 
+    /**
+     * A persistent list of mappers, with the most recently added mapper at the head.
+     * <p>
+     * The composed function is built lazily on first use, and is allocation-free to apply:
+     * chains of up to four mappers are composed directly, and longer chains are applied by
+     * an index loop over an array.  Neither approach grows the stack with the length of the chain.
+     */
     final class MapperChainImpl implements MapperChain {
-        private final Iterable<Function<Object, Object>> mappers;
-        private volatile Fn1<Object, Object> fnComposedOnTheHeap;
-
-        private MapperChainImpl(Iterable<Function<Object, Object>> mappers) {
-            this.mappers = mappers;
-            fnComposedOnTheHeap = null;
+        private final MapperChainImpl previous;
+        private final Fn1<Object, Object> mapper;
+        private final int length;
+        private volatile Fn1<Object, Object> composed;
+
+        private MapperChainImpl(MapperChainImpl previous, Fn1<Object, Object> mapper) {
+            this.previous = previous;
+            this.mapper = Objects.requireNonNull(mapper);
+            this.length = previous == null ? 1 : previous.length + 1;
         }
 
         @Override
@@ -73,7 +77,7 @@ interface MapperChain {
         }
 
         public MapperChainImpl add(Fn1<Object, Object> f) {
-            return new MapperChainImpl(cons(lambdaToJava(f), mappers));
+            return new MapperChainImpl(this, f);
         }
 
         public Object apply(Object input) {
@@ -81,25 +85,58 @@ interface MapperChain {
         }
 
         public Fn1<Object, Object> getFn() {
-            if (fnComposedOnTheHeap == null) {
-                synchronized (this) {
-                    if (fnComposedOnTheHeap == null) {
-                        fnComposedOnTheHeap = build();
-                    }
-
-                }
+            Fn1<Object, Object> result = composed;
+            if (result == null) {
+                // Racing threads may each build an equivalent function; any of them is correct.
+                result = build();
+                composed = result;
             }
-            return fnComposedOnTheHeap;
+            return result;
         }
 
+        @SuppressWarnings({"unchecked", "rawtypes"})
         private Fn1<Object, Object> build() {
-            ArrayList<Function<Object, Object>> fnChain = toCollection(ArrayList::new, reverse(mappers));
-            return o -> foldLeft((x, fn) -> fn.apply(x), o, fnChain);
+            Fn1<Object, Object>[] fns = new Fn1[length];
+            MapperChainImpl current = this;
+            for (int i = length - 1; i >= 0; i--) {
+                fns[i] = current.mapper;
+                current = current.previous;
+            }
+            return compose(fns);
         }
-    }
 
-    static Function<Object, Object> lambdaToJava(Fn1<Object, Object> f) {
-        return f::apply;
+        private static Fn1<Object, Object> compose(Fn1<Object, Object>[] fns) {
+            switch (fns.length) {
+                case 1:
+                    return fns[0];
+                case 2: {
+                    Fn1<Object, Object> f0 = fns[0];
+                    Fn1<Object, Object> f1 = fns[1];
+                    return x -> f1.apply(f0.apply(x));
+                }
+                case 3: {
+                    Fn1<Object, Object> f0 = fns[0];
+                    Fn1<Object, Object> f1 = fns[1];
+                    Fn1<Object, Object> f2 = fns[2];
+                    return x -> f2.apply(f1.apply(f0.apply(x)));
+                }
+                case 4: {
+                    Fn1<Object, Object> f0 = fns[0];
+                    Fn1<Object, Object> f1 = fns[1];
+                    Fn1<Object, Object> f2 = fns[2];
+                    Fn1<Object, Object> f3 = fns[3];
+                    return x -> f3.apply(f2.apply(f1.apply(f0.apply(x))));
+                }
+                default:
+                    return x -> {
+                        Object result = x;
+                        for (int i = 0; i < fns.length; i++) {
+                            result = fns[i].apply(result);
+                        }
+                        return result;
+                    };
+            }
+        }
     }
 
 }
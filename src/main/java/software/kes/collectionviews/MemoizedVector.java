@@ -0,0 +1,87 @@
+package software.kes.collectionviews;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches the elements of another {@code ImmutableNonEmptyVector} as they are read.
+ * <p>
+ * Each slot of the cache is published with a compare-and-set, so readers never block.
+ * Two threads that miss on the same slot at the same time may both read it from the source, but only the first
+ * value to be published is ever returned.
+ * <p>
+ * On a miss, the entire chunk of {@code chunkSize} elements containing the index is read from the source.
+ */
+final class MemoizedVector<A> extends ConcreteVector<A>
+        implements ImmutableNonEmptyVector<A> {
+    /**
+     * Stands in for null elements, since a null slot means the element has not been computed yet.
+     */
+    private static final Object NULL = new Object();
+
+    private final ImmutableNonEmptyVector<A> source;
+    private final int chunkSize; // must be >= 1
+    private final AtomicReferenceArray<Object> cache;
+
+    MemoizedVector(int chunkSize, ImmutableNonEmptyVector<A> source) {
+        assert (chunkSize >= 1);
+        this.source = source;
+        this.chunkSize = chunkSize;
+        this.cache = new AtomicReferenceArray<>(source.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return cache.length();
+    }
+
+    /**
+     * Counts the source as well as this view, since uncomputed elements are still read through it, and the source
+     * stays reachable for as long as this {@code MemoizedVector} is.
+     */
+    @Override
+    public int viewDepth() {
+        return 1 + source.viewDepth();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= cache.length()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Object value = cache.get(index);
+        if (value == null) {
+            value = computeChunk(index);
+        }
+        return value == NULL ? null : (A) value;
+    }
+
+    /**
+     * Fills the empty slots in the chunk containing {@code index}, and returns the published value at {@code index}.
+     */
+    private Object computeChunk(int index) {
+        int from = index - index % chunkSize;
+        int to = Math.min(from + chunkSize, cache.length());
+        Object result = null;
+        for (int i = from; i < to; i++) {
+            Object value = cache.get(i);
+            if (value == null) {
+                A element = source.unsafeGet(i);
+                value = element == null ? NULL : element;
+                if (!cache.compareAndSet(i, null, value)) {
+                    value = cache.get(i);
+                }
+            }
+            if (i == index) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,205 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * A {@code DoubleVector} that is guaranteed at compile-time to contain at least one element.
+ * <p>
+ * In addition to the guarantees of {@link DoubleVector} and {@link NonEmptyVector}, provides the following benefits:
+ * <ul>
+ * <li>{@link NonEmptyDoubleVector#mapToDouble} always returns a {@code NonEmptyDoubleVector}.</li>
+ * <li>{@link NonEmptyDoubleVector#mapToObj} always returns a {@code NonEmptyVector}.</li>
+ * <li>{@link NonEmptyDoubleVector#reverse} always returns a {@code NonEmptyDoubleVector}.</li>
+ * </ul>
+ */
+public interface NonEmptyDoubleVector extends DoubleVector, NonEmptyVector<Double> {
+
+    /**
+     * Maps a function over this {@code NonEmptyDoubleVector}, producing a {@code NonEmptyVector} of any type.
+     * <p>
+     * Returns a new {@link NonEmptyVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code NonEmptyDoubleVector}.
+     *
+     * @param f   a function from {@code double} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code NonEmptyVector}
+     * @return a {@code NonEmptyVector<A>} of the same size
+     */
+    @Override
+    default <A> NonEmptyVector<A> mapToObj(DoubleFunction<? extends A> f) {
+        return DoubleVectors.nonEmptyMapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code NonEmptyDoubleVector}, producing another {@code NonEmptyDoubleVector}.
+     * <p>
+     * Returns a new {@link NonEmptyDoubleVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code double} to {@code double}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return a {@code NonEmptyDoubleVector} of the same size
+     */
+    @Override
+    default NonEmptyDoubleVector mapToDouble(DoubleUnaryOperator f) {
+        return DoubleVectors.nonEmptyMapToDouble(f, this);
+    }
+
+    /**
+     * Creates a {@code NonEmptyDoubleVector} with this {@code NonEmptyDoubleVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code NonEmptyDoubleVector}
+     */
+    @Override
+    NonEmptyDoubleVector reverse();
+
+    /**
+     * Converts this {@code NonEmptyDoubleVector} to an {@code ImmutableNonEmptyDoubleVector}.
+     * <p>
+     * This method will make a copy of the underlying data structure if necessary to guarantee immutability.
+     * <p>
+     * If this {@link NonEmptyDoubleVector} is already an {@link ImmutableNonEmptyDoubleVector}, no copies are made and this method is a no-op.
+     *
+     * @return an {@code ImmutableNonEmptyDoubleVector} containing the same elements
+     */
+    @Override
+    default ImmutableNonEmptyDoubleVector toImmutable() {
+        return DoubleVectors.ensureImmutable(this);
+    }
+
+    /**
+     * Attempts to convert this {@code DoubleVector} to a {@code NonEmptyDoubleVector}.
+     * <p>
+     * Since this will always be successful for {@link NonEmptyDoubleVector}s,
+     * this method always returns itself wrapped in a {@link Maybe#just}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code NonEmptyDoubleVector} wrapped in a {@link Maybe#just}
+     */
+    @Override
+    default Maybe<? extends NonEmptyDoubleVector> toNonEmpty() {
+        return just(this);
+    }
+
+    /**
+     * Attempts to convert this {@code DoubleVector} to a {@code NonEmptyDoubleVector}.
+     * <p>
+     * Since this will always be successful for {@link NonEmptyDoubleVector}s,
+     * this method always returns itself.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code NonEmptyDoubleVector}
+     */
+    @Override
+    default NonEmptyDoubleVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyDoubleVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyDoubleVector}
+     */
+    static ImmutableNonEmptyDoubleVector of(double first, double... more) {
+        return DoubleVectors.nonEmptyOf(first, more);
+    }
+
+    /**
+     * Attempts to create a {@code NonEmptyDoubleVector} that wraps an array.
+     * <p>
+     * Does not make any copies of the given array.
+     * The created {@link NonEmptyDoubleVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Bearers of the created {@code NonEmptyDoubleVector} will be unable to gain access to the underlying array, so it is safe to share.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a direct reference to the array can still mutate it.
+     * Use {@link NonEmptyDoubleVector#maybeCopyFrom(double[])} instead if you want to avoid this situation.
+     *
+     * @param underlying the array to wrap;  not null
+     * @return a {@code NonEmptyDoubleVector} wrapped in a {@link Maybe#just} if {@code underlying} is non-empty;
+     * {@link Maybe#nothing} otherwise.
+     */
+    static Maybe<NonEmptyDoubleVector> maybeWrap(double[] underlying) {
+        return DoubleVectors.maybeNonEmptyWrap(underlying);
+    }
+
+    /**
+     * Attempts to create a {@code NonEmptyDoubleVector} that wraps an array.
+     * If it is not possible, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The created {@link NonEmptyDoubleVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Bearers of the created {@code NonEmptyDoubleVector} will be unable to gain access to the underlying array, so it is safe to share.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a direct reference to the array can still mutate it.
+     * Use {@link NonEmptyDoubleVector#copyFromOrThrow(double[])} instead if you want to avoid this situation.
+     *
+     * @param underlying array to wrap; not null
+     * @return a {@code NonEmptyDoubleVector} if {@code underlying} is non-empty; throws an {@link IllegalArgumentException} otherwise
+     */
+    static NonEmptyDoubleVector wrapOrThrow(double[] underlying) {
+        return DoubleVectors.nonEmptyWrapOrThrow(underlying);
+    }
+
+    /**
+     * Attempts to create an {@code ImmutableNonEmptyDoubleVector} that is copied from an array.
+     *
+     * @param source the array to copy from.
+     *               Not null.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableNonEmptyDoubleVector} wrapped in a {@link Maybe#just} if {@code source} is non-empty;
+     * {@link Maybe#nothing} otherwise.
+     */
+    static Maybe<ImmutableNonEmptyDoubleVector> maybeCopyFrom(double[] source) {
+        return DoubleVectors.maybeNonEmptyCopyFrom(source);
+    }
+
+    /**
+     * Attempts to create an {@code ImmutableNonEmptyDoubleVector} that is copied from an array.
+     * If the array is empty, throws an {@link IllegalArgumentException}.
+     *
+     * @param source the array to copy from.
+     *               Not null.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableNonEmptyDoubleVector}
+     * @throws IllegalArgumentException if {@code source} is empty
+     */
+    static ImmutableNonEmptyDoubleVector copyFromOrThrow(double[] source) {
+        return DoubleVectors.nonEmptyCopyFromOrThrow(source);
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyDoubleVector} that repeats the same element {@code size} times.
+     * <p>
+     * Uses O(1) memory.
+     *
+     * @param size  the number of elements.
+     *              Must be &gt;= 1.
+     * @param value the value that will be repeated for all elements of the {@code ImmutableNonEmptyDoubleVector}
+     * @return an {@code ImmutableNonEmptyDoubleVector} of {@code size} elements, with each element having
+     * the value {@code value}
+     */
+    static ImmutableNonEmptyDoubleVector fill(int size, double value) {
+        return DoubleVectors.nonEmptyFill(size, value);
+    }
+
+}
@@ -0,0 +1,219 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * An {@code IntVector} that is guaranteed at compile-time to contain at least one element.
+ * <p>
+ * In addition to the guarantees of {@link IntVector} and {@link NonEmptyVector}, provides the following benefits:
+ * <ul>
+ * <li>{@link NonEmptyIntVector#mapToInt} always returns a {@code NonEmptyIntVector}.</li>
+ * <li>{@link NonEmptyIntVector#mapToObj} always returns a {@code NonEmptyVector}.</li>
+ * <li>{@link NonEmptyIntVector#reverse} always returns a {@code NonEmptyIntVector}.</li>
+ * </ul>
+ */
+public interface NonEmptyIntVector extends IntVector, NonEmptyVector<Integer> {
+
+    /**
+     * Maps a function over this {@code NonEmptyIntVector}, producing a {@code NonEmptyVector} of any type.
+     * <p>
+     * Returns a new {@link NonEmptyVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code NonEmptyIntVector}.
+     *
+     * @param f   a function from {@code int} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code NonEmptyVector}
+     * @return a {@code NonEmptyVector<A>} of the same size
+     */
+    @Override
+    default <A> NonEmptyVector<A> mapToObj(IntFunction<? extends A> f) {
+        return IntVectors.nonEmptyMapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code NonEmptyIntVector}, producing another {@code NonEmptyIntVector}.
+     * <p>
+     * Returns a new {@link NonEmptyIntVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code int} to {@code int}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return a {@code NonEmptyIntVector} of the same size
+     */
+    @Override
+    default NonEmptyIntVector mapToInt(IntUnaryOperator f) {
+        return IntVectors.nonEmptyMapToInt(f, this);
+    }
+
+    /**
+     * Creates a {@code NonEmptyIntVector} with this {@code NonEmptyIntVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code NonEmptyIntVector}
+     */
+    @Override
+    NonEmptyIntVector reverse();
+
+    /**
+     * Converts this {@code NonEmptyIntVector} to an {@code ImmutableNonEmptyIntVector}.
+     * <p>
+     * This method will make a copy of the underlying data structure if necessary to guarantee immutability.
+     * <p>
+     * If this {@link NonEmptyIntVector} is already an {@link ImmutableNonEmptyIntVector}, no copies are made and this method is a no-op.
+     *
+     * @return an {@code ImmutableNonEmptyIntVector} containing the same elements
+     */
+    @Override
+    default ImmutableNonEmptyIntVector toImmutable() {
+        return IntVectors.ensureImmutable(this);
+    }
+
+    /**
+     * Attempts to convert this {@code IntVector} to a {@code NonEmptyIntVector}.
+     * <p>
+     * Since this will always be successful for {@link NonEmptyIntVector}s,
+     * this method always returns itself wrapped in a {@link Maybe#just}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code NonEmptyIntVector} wrapped in a {@link Maybe#just}
+     */
+    @Override
+    default Maybe<? extends NonEmptyIntVector> toNonEmpty() {
+        return just(this);
+    }
+
+    /**
+     * Attempts to convert this {@code IntVector} to a {@code NonEmptyIntVector}.
+     * <p>
+     * Since this will always be successful for {@link NonEmptyIntVector}s,
+     * this method always returns itself.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code NonEmptyIntVector}
+     */
+    @Override
+    default NonEmptyIntVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyIntVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyIntVector}
+     */
+    static ImmutableNonEmptyIntVector of(int first, int... more) {
+        return IntVectors.nonEmptyOf(first, more);
+    }
+
+    /**
+     * Attempts to create a {@code NonEmptyIntVector} that wraps an array.
+     * <p>
+     * Does not make any copies of the given array.
+     * The created {@link NonEmptyIntVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Bearers of the created {@code NonEmptyIntVector} will be unable to gain access to the underlying array, so it is safe to share.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a direct reference to the array can still mutate it.
+     * Use {@link NonEmptyIntVector#maybeCopyFrom(int[])} instead if you want to avoid this situation.
+     *
+     * @param underlying the array to wrap;  not null
+     * @return a {@code NonEmptyIntVector} wrapped in a {@link Maybe#just} if {@code underlying} is non-empty;
+     * {@link Maybe#nothing} otherwise.
+     */
+    static Maybe<NonEmptyIntVector> maybeWrap(int[] underlying) {
+        return IntVectors.maybeNonEmptyWrap(underlying);
+    }
+
+    /**
+     * Attempts to create a {@code NonEmptyIntVector} that wraps an array.
+     * If it is not possible, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The created {@link NonEmptyIntVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Bearers of the created {@code NonEmptyIntVector} will be unable to gain access to the underlying array, so it is safe to share.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a direct reference to the array can still mutate it.
+     * Use {@link NonEmptyIntVector#copyFromOrThrow(int[])} instead if you want to avoid this situation.
+     *
+     * @param underlying array to wrap; not null
+     * @return a {@code NonEmptyIntVector} if {@code underlying} is non-empty; throws an {@link IllegalArgumentException} otherwise
+     */
+    static NonEmptyIntVector wrapOrThrow(int[] underlying) {
+        return IntVectors.nonEmptyWrapOrThrow(underlying);
+    }
+
+    /**
+     * Attempts to create an {@code ImmutableNonEmptyIntVector} that is copied from an array.
+     *
+     * @param source the array to copy from.
+     *               Not null.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableNonEmptyIntVector} wrapped in a {@link Maybe#just} if {@code source} is non-empty;
+     * {@link Maybe#nothing} otherwise.
+     */
+    static Maybe<ImmutableNonEmptyIntVector> maybeCopyFrom(int[] source) {
+        return IntVectors.maybeNonEmptyCopyFrom(source);
+    }
+
+    /**
+     * Attempts to create an {@code ImmutableNonEmptyIntVector} that is copied from an array.
+     * If the array is empty, throws an {@link IllegalArgumentException}.
+     *
+     * @param source the array to copy from.
+     *               Not null.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableNonEmptyIntVector}
+     * @throws IllegalArgumentException if {@code source} is empty
+     */
+    static ImmutableNonEmptyIntVector copyFromOrThrow(int[] source) {
+        return IntVectors.nonEmptyCopyFromOrThrow(source);
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyIntVector} that repeats the same element {@code size} times.
+     * <p>
+     * Uses O(1) memory.
+     *
+     * @param size  the number of elements.
+     *              Must be &gt;= 1.
+     * @param value the value that will be repeated for all elements of the {@code ImmutableNonEmptyIntVector}
+     * @return an {@code ImmutableNonEmptyIntVector} of {@code size} elements, with each element having
+     * the value {@code value}
+     */
+    static ImmutableNonEmptyIntVector fill(int size, int value) {
+        return IntVectors.nonEmptyFill(size, value);
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyIntVector} containing elements 0..<code>size - 1</code>.
+     * In other words, each element of the returned {@code IntVector} will contain its index.
+     * <p>
+     * Uses O(1) memory.
+     *
+     * @param size the number of elements.
+     *             Must be &gt;= 1.
+     * @return an {@code ImmutableNonEmptyIntVector}
+     */
+    static ImmutableNonEmptyIntVector range(int size) {
+        return IntVectors.nonEmptyRange(size);
+    }
+
+}
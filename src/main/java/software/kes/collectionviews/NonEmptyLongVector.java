@@ -0,0 +1,219 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * A {@code LongVector} that is guaranteed at compile-time to contain at least one element.
+ * <p>
+ * In addition to the guarantees of {@link LongVector} and {@link NonEmptyVector}, provides the following benefits:
+ * <ul>
+ * <li>{@link NonEmptyLongVector#mapToLong} always returns a {@code NonEmptyLongVector}.</li>
+ * <li>{@link NonEmptyLongVector#mapToObj} always returns a {@code NonEmptyVector}.</li>
+ * <li>{@link NonEmptyLongVector#reverse} always returns a {@code NonEmptyLongVector}.</li>
+ * </ul>
+ */
+public interface NonEmptyLongVector extends LongVector, NonEmptyVector<Long> {
+
+    /**
+     * Maps a function over this {@code NonEmptyLongVector}, producing a {@code NonEmptyVector} of any type.
+     * <p>
+     * Returns a new {@link NonEmptyVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections, and does not box the elements of this {@code NonEmptyLongVector}.
+     *
+     * @param f   a function from {@code long} to {@code A}.
+     *            Not null.
+     *            This function should be referentially transparent and not perform side-effects.
+     *            It may be called zero or more times for each element.
+     * @param <A> the type of the elements contained in the output {@code NonEmptyVector}
+     * @return a {@code NonEmptyVector<A>} of the same size
+     */
+    @Override
+    default <A> NonEmptyVector<A> mapToObj(LongFunction<? extends A> f) {
+        return LongVectors.nonEmptyMapToObj(f, this);
+    }
+
+    /**
+     * Maps a function over this {@code NonEmptyLongVector}, producing another {@code NonEmptyLongVector}.
+     * <p>
+     * Returns a new {@link NonEmptyLongVector} of the same size.
+     * <p>
+     * Does not make any copies of underlying collections.
+     * Successive calls are fused, so that each element is read from the underlying collection only once.
+     *
+     * @param f a function from {@code long} to {@code long}.
+     *          Not null.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return a {@code NonEmptyLongVector} of the same size
+     */
+    @Override
+    default NonEmptyLongVector mapToLong(LongUnaryOperator f) {
+        return LongVectors.nonEmptyMapToLong(f, this);
+    }
+
+    /**
+     * Creates a {@code NonEmptyLongVector} with this {@code NonEmptyLongVector}'s elements in reversed order.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return a {@code NonEmptyLongVector}
+     */
+    @Override
+    NonEmptyLongVector reverse();
+
+    /**
+     * Converts this {@code NonEmptyLongVector} to an {@code ImmutableNonEmptyLongVector}.
+     * <p>
+     * This method will make a copy of the underlying data structure if necessary to guarantee immutability.
+     * <p>
+     * If this {@link NonEmptyLongVector} is already an {@link ImmutableNonEmptyLongVector}, no copies are made and this method is a no-op.
+     *
+     * @return an {@code ImmutableNonEmptyLongVector} containing the same elements
+     */
+    @Override
+    default ImmutableNonEmptyLongVector toImmutable() {
+        return LongVectors.ensureImmutable(this);
+    }
+
+    /**
+     * Attempts to convert this {@code LongVector} to a {@code NonEmptyLongVector}.
+     * <p>
+     * Since this will always be successful for {@link NonEmptyLongVector}s,
+     * this method always returns itself wrapped in a {@link Maybe#just}.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code NonEmptyLongVector} wrapped in a {@link Maybe#just}
+     */
+    @Override
+    default Maybe<? extends NonEmptyLongVector> toNonEmpty() {
+        return just(this);
+    }
+
+    /**
+     * Attempts to convert this {@code LongVector} to a {@code NonEmptyLongVector}.
+     * <p>
+     * Since this will always be successful for {@link NonEmptyLongVector}s,
+     * this method always returns itself.
+     * <p>
+     * Does not make copies of any underlying collections.
+     *
+     * @return this {@code NonEmptyLongVector}
+     */
+    @Override
+    default NonEmptyLongVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyLongVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyLongVector}
+     */
+    static ImmutableNonEmptyLongVector of(long first, long... more) {
+        return LongVectors.nonEmptyOf(first, more);
+    }
+
+    /**
+     * Attempts to create a {@code NonEmptyLongVector} that wraps an array.
+     * <p>
+     * Does not make any copies of the given array.
+     * The created {@link NonEmptyLongVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Bearers of the created {@code NonEmptyLongVector} will be unable to gain access to the underlying array, so it is safe to share.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a direct reference to the array can still mutate it.
+     * Use {@link NonEmptyLongVector#maybeCopyFrom(long[])} instead if you want to avoid this situation.
+     *
+     * @param underlying the array to wrap;  not null
+     * @return a {@code NonEmptyLongVector} wrapped in a {@link Maybe#just} if {@code underlying} is non-empty;
+     * {@link Maybe#nothing} otherwise.
+     */
+    static Maybe<NonEmptyLongVector> maybeWrap(long[] underlying) {
+        return LongVectors.maybeNonEmptyWrap(underlying);
+    }
+
+    /**
+     * Attempts to create a {@code NonEmptyLongVector} that wraps an array.
+     * If it is not possible, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The created {@link NonEmptyLongVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Bearers of the created {@code NonEmptyLongVector} will be unable to gain access to the underlying array, so it is safe to share.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a direct reference to the array can still mutate it.
+     * Use {@link NonEmptyLongVector#copyFromOrThrow(long[])} instead if you want to avoid this situation.
+     *
+     * @param underlying array to wrap; not null
+     * @return a {@code NonEmptyLongVector} if {@code underlying} is non-empty; throws an {@link IllegalArgumentException} otherwise
+     */
+    static NonEmptyLongVector wrapOrThrow(long[] underlying) {
+        return LongVectors.nonEmptyWrapOrThrow(underlying);
+    }
+
+    /**
+     * Attempts to create an {@code ImmutableNonEmptyLongVector} that is copied from an array.
+     *
+     * @param source the array to copy from.
+     *               Not null.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableNonEmptyLongVector} wrapped in a {@link Maybe#just} if {@code source} is non-empty;
+     * {@link Maybe#nothing} otherwise.
+     */
+    static Maybe<ImmutableNonEmptyLongVector> maybeCopyFrom(long[] source) {
+        return LongVectors.maybeNonEmptyCopyFrom(source);
+    }
+
+    /**
+     * Attempts to create an {@code ImmutableNonEmptyLongVector} that is copied from an array.
+     * If the array is empty, throws an {@link IllegalArgumentException}.
+     *
+     * @param source the array to copy from.
+     *               Not null.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableNonEmptyLongVector}
+     * @throws IllegalArgumentException if {@code source} is empty
+     */
+    static ImmutableNonEmptyLongVector copyFromOrThrow(long[] source) {
+        return LongVectors.nonEmptyCopyFromOrThrow(source);
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyLongVector} that repeats the same element {@code size} times.
+     * <p>
+     * Uses O(1) memory.
+     *
+     * @param size  the number of elements.
+     *              Must be &gt;= 1.
+     * @param value the value that will be repeated for all elements of the {@code ImmutableNonEmptyLongVector}
+     * @return an {@code ImmutableNonEmptyLongVector} of {@code size} elements, with each element having
+     * the value {@code value}
+     */
+    static ImmutableNonEmptyLongVector fill(int size, long value) {
+        return LongVectors.nonEmptyFill(size, value);
+    }
+
+    /**
+     * Creates an {@code ImmutableNonEmptyLongVector} containing elements 0..<code>size - 1</code>.
+     * In other words, each element of the returned {@code LongVector} will contain its index.
+     * <p>
+     * Uses O(1) memory.
+     *
+     * @param size the number of elements.
+     *             Must be &gt;= 1.
+     * @return an {@code ImmutableNonEmptyLongVector}
+     */
+    static ImmutableNonEmptyLongVector range(int size) {
+        return LongVectors.nonEmptyRange(size);
+    }
+
+}
@@ -0,0 +1,63 @@
+package software.kes.collectionviews;
+
+/**
+ * A {@code NonEmptyVector} view of a non-empty {@code Vector} that does not implement {@code NonEmptyVector} itself.
+ * <p>
+ * Every read is forwarded to the underlying vector unchanged, and slicing slices the underlying vector, so the
+ * adapter never stacks.
+ */
+final class NonEmptyVectorAdapter<A> extends ConcreteVector<A>
+        implements NonEmptyVector<A>, CopyOptimizeCheck {
+    private final Vector<A> underlying; // must be non-empty
+
+    NonEmptyVectorAdapter(Vector<A> underlying) {
+        assert (!underlying.isEmpty());
+        this.underlying = underlying;
+    }
+
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        underlying.copyInto(dest, destOffset, srcFrom, srcTo);
+    }
+
+    @Override
+    public Vector<A> drop(int count) {
+        return underlying.drop(count);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldNotMakeCopy() {
+        return Util.shouldNotMakeCopy(underlying);
+    }
+
+    @Override
+    public int size() {
+        return underlying.size();
+    }
+
+    @Override
+    public Vector<A> slice(int startIndex, int endIndexExclusive) {
+        return underlying.slice(startIndex, endIndexExclusive);
+    }
+
+    @Override
+    public Vector<A> take(int count) {
+        return underlying.take(count);
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        return underlying.unsafeGet(index);
+    }
+
+    @Override
+    public int viewDepth() {
+        return underlying.viewDepth();
+    }
+
+}
@@ -0,0 +1,132 @@
+package software.kes.collectionviews;
+
+import java.nio.Buffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Owns the memory of primitive vectors that are stored outside of the Java heap.
+ * <p>
+ * Vectors are created using the builders returned by {@link OffHeapArena#intVectorBuilder},
+ * {@link OffHeapArena#longVectorBuilder}, and {@link OffHeapArena#doubleVectorBuilder}.
+ * Their elements are held in direct buffers of at most 2<sup>24</sup> elements each, so a vector can hold up to
+ * {@code Integer.MAX_VALUE} elements even when that exceeds the 2 GiB limit of a single buffer, and they do not
+ * add to the size of the heap that the garbage collector has to scan.
+ * <p>
+ * The vectors, and all slices and reverses of them, are valid until the arena is closed.
+ * After {@link OffHeapArena#close} is called, reading an element of any of them will throw an
+ * {@link IllegalStateException}.
+ * Closing releases the arena's references to its buffers, which allows their memory to be reclaimed as soon as the
+ * garbage collector finds them unreachable.
+ * <p>
+ * To keep the elements of a vector after the arena is closed, copy them onto the heap first, using
+ * {@link Vector#copyFrom(Iterable)}, {@code toImmutable}, or {@code force}.
+ * Each of these detaches the copy from the arena; it is backed by an ordinary array of the same primitive type.
+ * <p>
+ * An {@code OffHeapArena} is safe to share between threads, but the builders it creates are not.
+ */
+public final class OffHeapArena implements AutoCloseable {
+    private static final int DEFAULT_CHUNK_SHIFT = 24;
+
+    private final int chunkShift;
+    private final ArrayList<Buffer[]> allocations;
+    private boolean open;
+
+    private OffHeapArena(int chunkShift) {
+        this.chunkShift = chunkShift;
+        this.allocations = new ArrayList<>();
+        this.open = true;
+    }
+
+    /**
+     * Closes this {@code OffHeapArena}.
+     * <p>
+     * All vectors built using this arena become unusable.
+     * Calling this more than once has no further effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (open) {
+            open = false;
+            for (Buffer[] chunks : allocations) {
+                Arrays.fill(chunks, null);
+            }
+            allocations.clear();
+        }
+    }
+
+    /**
+     * Creates a new builder for an {@code ImmutableDoubleVector} whose elements are stored in this
+     * {@code OffHeapArena}.
+     *
+     * @return a new {@link OffHeapDoubleVectorBuilder}
+     * @throws IllegalStateException if this {@code OffHeapArena} has been closed
+     */
+    public OffHeapDoubleVectorBuilder doubleVectorBuilder() {
+        ensureOpen();
+        return new OffHeapDoubleVectorBuilder(this, chunkShift);
+    }
+
+    /**
+     * Creates a new builder for an {@code ImmutableIntVector} whose elements are stored in this {@code OffHeapArena}.
+     *
+     * @return a new {@link OffHeapIntVectorBuilder}
+     * @throws IllegalStateException if this {@code OffHeapArena} has been closed
+     */
+    public OffHeapIntVectorBuilder intVectorBuilder() {
+        ensureOpen();
+        return new OffHeapIntVectorBuilder(this, chunkShift);
+    }
+
+    /**
+     * Tests whether this {@code OffHeapArena} has not yet been closed.
+     *
+     * @return true if this {@code OffHeapArena} is open
+     */
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Creates a new builder for an {@code ImmutableLongVector} whose elements are stored in this {@code OffHeapArena}.
+     *
+     * @return a new {@link OffHeapLongVectorBuilder}
+     * @throws IllegalStateException if this {@code OffHeapArena} has been closed
+     */
+    public OffHeapLongVectorBuilder longVectorBuilder() {
+        ensureOpen();
+        return new OffHeapLongVectorBuilder(this, chunkShift);
+    }
+
+    /**
+     * Opens a new {@code OffHeapArena}.
+     *
+     * @return a new, open {@code OffHeapArena}
+     */
+    public static OffHeapArena open() {
+        return new OffHeapArena(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Opens an {@code OffHeapArena} whose buffers hold at most {@code 1 << chunkShift} elements.
+     */
+    static OffHeapArena open(int chunkShift) {
+        assert (chunkShift >= 0 && chunkShift <= DEFAULT_CHUNK_SHIFT);
+        return new OffHeapArena(chunkShift);
+    }
+
+    synchronized void ensureOpen() {
+        if (!open) {
+            throw new IllegalStateException("OffHeapArena has been closed");
+        }
+    }
+
+    /**
+     * Takes ownership of the chunks of a newly built vector, so that they can be released when this arena is closed.
+     */
+    synchronized void register(Buffer[] chunks) {
+        ensureOpen();
+        allocations.add(chunks);
+    }
+
+}
@@ -0,0 +1,150 @@
+package software.kes.collectionviews;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A builder for {@code ImmutableDoubleVector}s whose elements are stored outside of the Java heap.
+ * <p>
+ * Elements are written directly into direct buffers allocated by the {@link OffHeapArena} that created this builder,
+ * so no intermediate heap array is needed, regardless of how many elements are added.
+ * <p>
+ * Unlike {@link VectorBuilder}, an {@code OffHeapDoubleVectorBuilder} is mutable and is not safe to share between
+ * threads.
+ * It can only be built once; adding elements after calling {@link OffHeapDoubleVectorBuilder#build} will throw an
+ * {@link IllegalStateException}.
+ */
+public final class OffHeapDoubleVectorBuilder {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final OffHeapArena arena;
+    private final int chunkShift;
+    private DoubleBuffer[] chunks;
+    private int chunkCount;
+    /**
+     * The last chunk in use, positioned after the last element written to it.
+     */
+    private DoubleBuffer current;
+    private int size;
+    private boolean built;
+
+    OffHeapDoubleVectorBuilder(OffHeapArena arena, int chunkShift) {
+        this.arena = arena;
+        this.chunkShift = chunkShift;
+        this.chunks = new DoubleBuffer[1];
+    }
+
+    /**
+     * Adds an element to this {@code OffHeapDoubleVectorBuilder}.
+     *
+     * @param element the element to add
+     * @return this {@code OffHeapDoubleVectorBuilder}
+     */
+    public OffHeapDoubleVectorBuilder add(double element) {
+        if (current == null || !current.hasRemaining()) {
+            grow();
+        }
+        current.put(element);
+        size += 1;
+        return this;
+    }
+
+    /**
+     * Adds all elements of {@code elements} to this {@code OffHeapDoubleVectorBuilder}.
+     *
+     * @param elements the elements to add.
+     *                 Not null.
+     * @return this {@code OffHeapDoubleVectorBuilder}
+     */
+    public OffHeapDoubleVectorBuilder addAll(DoubleVector elements) {
+        Objects.requireNonNull(elements);
+        int count = elements.size();
+        for (int i = 0; i < count; i++) {
+            add(elements.unsafeGetDouble(i));
+        }
+        return this;
+    }
+
+    /**
+     * Builds a new {@code ImmutableDoubleVector} containing the elements added so far.
+     * <p>
+     * The result remains usable until the {@link OffHeapArena} that created this builder is closed.
+     *
+     * @return an {@code ImmutableDoubleVector}
+     * @throws IllegalStateException if this builder has already been built, or if its arena has been closed
+     */
+    public ImmutableDoubleVector build() {
+        ensureNotBuilt();
+        built = true;
+        if (size == 0) {
+            arena.ensureOpen();
+            return DoubleVectors.empty();
+        }
+        if (current.hasRemaining()) {
+            chunks[chunkCount - 1] = copy(current, current.position());
+        }
+        DoubleBuffer[] result = Arrays.copyOf(chunks, chunkCount);
+        chunks = null;
+        current = null;
+        arena.register(result);
+        return new OffHeapDoubleVector(result, chunkShift, size);
+    }
+
+    /**
+     * Returns the number of elements added to this {@code OffHeapDoubleVectorBuilder}.
+     *
+     * @return an {@code int}
+     */
+    public int size() {
+        return size;
+    }
+
+    private void ensureNotBuilt() {
+        if (built) {
+            throw new IllegalStateException("OffHeapDoubleVectorBuilder has already been built");
+        }
+    }
+
+    /**
+     * Doubles the capacity of the first chunk until it is full size, and from then on allocates full size chunks.
+     */
+    private void grow() {
+        ensureNotBuilt();
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("OffHeapDoubleVectorBuilder is full");
+        }
+        arena.ensureOpen();
+        int chunkSize = 1 << chunkShift;
+        if (current != null && current.capacity() < chunkSize) {
+            current = copy(current, Math.min(current.capacity() * 2, chunkSize));
+            chunks[chunkCount - 1] = current;
+        } else {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            current = allocate(chunkCount == 0 ? Math.min(INITIAL_CAPACITY, chunkSize) : chunkSize);
+            chunks[chunkCount] = current;
+            chunkCount += 1;
+        }
+    }
+
+    private static DoubleBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+    }
+
+    /**
+     * Copies the elements written to {@code source} into a new chunk, leaving it positioned after them.
+     */
+    private static DoubleBuffer copy(DoubleBuffer source, int capacity) {
+        DoubleBuffer result = allocate(capacity);
+        // Called through Buffer, since the covariant flip override does not exist on Java 8.
+        ((Buffer) source).flip();
+        result.put(source);
+        return result;
+    }
+
+}
@@ -0,0 +1,130 @@
+package software.kes.collectionviews;
+
+import java.nio.Buffer;
+import java.nio.IntBuffer;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+/**
+ * An {@code ImmutableIntVector} whose elements are stored outside of the Java heap, in chunks owned by an
+ * {@link OffHeapArena}.
+ * <p>
+ * {@code force}, {@code toImmutable}, and {@code copyFrom} copy the elements onto the heap, so that the copy
+ * remains usable after the arena is closed.
+ */
+final class OffHeapIntVector extends ConcreteIntVector
+        implements ImmutableNonEmptyIntVector, CopyOptimizeCheck {
+    /**
+     * Every chunk except the last holds exactly {@code 1 << chunkShift} elements.
+     * The entries are cleared when the owning arena is closed.
+     */
+    private final IntBuffer[] chunks;
+    private final int chunkShift;
+    private final int offset;
+    private final int size; // must be >= 1
+    private final boolean reversed;
+
+    OffHeapIntVector(IntBuffer[] chunks, int chunkShift, int size) {
+        this(chunks, chunkShift, 0, size, false);
+    }
+
+    private OffHeapIntVector(IntBuffer[] chunks, int chunkShift, int offset, int size, boolean reversed) {
+        assert (size >= 1);
+        this.chunks = chunks;
+        this.chunkShift = chunkShift;
+        this.offset = offset;
+        this.size = size;
+        this.reversed = reversed;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int position = reversed ? offset + size - 1 - index : offset + index;
+        return chunk(position >>> chunkShift).get(position & ((1 << chunkShift) - 1));
+    }
+
+    @Override
+    public ImmutableNonEmptyIntVector force() {
+        return new ImmutableIntArrayVector(toIntArray());
+    }
+
+    @Override
+    public ImmutableNonEmptyIntVector reverse() {
+        if (size < 2) {
+            return this;
+        } else {
+            return new OffHeapIntVector(chunks, chunkShift, offset, size, !reversed);
+        }
+    }
+
+    /**
+     * Always copies, since a copy is the only way to keep the elements once the arena is closed.
+     */
+    @Override
+    public boolean shouldNotMakeCopy() {
+        return false;
+    }
+
+    @Override
+    public ImmutableIntVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return IntVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            int newOffset = reversed ? offset + size - endIndex : offset + startIndex;
+            return new OffHeapIntVector(chunks, chunkShift, newOffset, endIndex - startIndex, reversed);
+        }
+    }
+
+    @Override
+    public int[] toIntArray() {
+        int[] result = new int[size];
+        int mask = (1 << chunkShift) - 1;
+        int position = offset;
+        int copied = 0;
+        while (copied < size) {
+            IntBuffer source = chunk(position >>> chunkShift).duplicate();
+            int start = position & mask;
+            int count = Math.min(size - copied, source.limit() - start);
+            // Called through Buffer, since the covariant position override does not exist on Java 8.
+            ((Buffer) source).position(start);
+            source.get(result, copied, count);
+            position += count;
+            copied += count;
+        }
+        if (reversed) {
+            IntVectors.reverseInPlace(result);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableNonEmptyIntVector toImmutable() {
+        return force();
+    }
+
+    private IntBuffer chunk(int chunkIndex) {
+        IntBuffer chunk = chunks[chunkIndex];
+        if (chunk == null) {
+            throw new IllegalStateException("OffHeapArena has been closed");
+        }
+        return chunk;
+    }
+
+}
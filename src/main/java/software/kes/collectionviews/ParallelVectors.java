@@ -0,0 +1,272 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.maybe;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+/**
+ * Fork-join implementations of the parallel operations on {@link ImmutableVector}.
+ * <p>
+ * Each operation divides the index range of the source in half until the pieces are no larger than a leaf size,
+ * which is then processed sequentially.
+ * Sources no larger than {@code MIN_LEAF_SIZE} are processed entirely on the calling thread.
+ */
+final class ParallelVectors {
+    private static final int MIN_LEAF_SIZE = 1024;
+    private static final int TASKS_PER_THREAD = 8;
+
+    private ParallelVectors() {
+
+    }
+
+    static <A> int count(ForkJoinPool pool, Fn1<? super A, ? extends Boolean> predicate, ImmutableVector<A> source) {
+        Objects.requireNonNull(pool);
+        Objects.requireNonNull(predicate);
+        int size = source.size();
+        int leafSize = leafSize(pool, size);
+        if (size <= leafSize) {
+            return countRange(predicate, source, 0, size);
+        } else {
+            return pool.invoke(new CountTask<>(predicate, source, 0, size, leafSize));
+        }
+    }
+
+    static <A> Maybe<Integer> findIndex(ForkJoinPool pool, Fn1<? super A, ? extends Boolean> predicate,
+                                        ImmutableVector<A> source) {
+        Objects.requireNonNull(pool);
+        Objects.requireNonNull(predicate);
+        int size = source.size();
+        int leafSize = leafSize(pool, size);
+        AtomicInteger found = new AtomicInteger(size);
+        if (size <= leafSize) {
+            findIndexInRange(predicate, source, 0, size, found);
+        } else {
+            pool.invoke(new FindIndexTask<>(predicate, source, 0, size, leafSize, found));
+        }
+        int result = found.get();
+        return result < size ? just(result) : nothing();
+    }
+
+    static <A, B> ImmutableVector<B> map(ForkJoinPool pool, Fn1<? super A, ? extends B> f, ImmutableVector<A> source) {
+        Objects.requireNonNull(pool);
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return Vectors.empty();
+        } else {
+            return new ImmutableArrayVector<>(mapToArray(pool, f, source));
+        }
+    }
+
+    static <A, B> ImmutableNonEmptyVector<B> nonEmptyMap(ForkJoinPool pool, Fn1<? super A, ? extends B> f,
+                                                         ImmutableNonEmptyVector<A> source) {
+        Objects.requireNonNull(pool);
+        Objects.requireNonNull(f);
+        return new ImmutableArrayVector<>(mapToArray(pool, f, source));
+    }
+
+    static <A> Maybe<A> reduce(ForkJoinPool pool, Fn2<A, A, A> op, ImmutableVector<A> source) {
+        Objects.requireNonNull(pool);
+        Objects.requireNonNull(op);
+        int size = source.size();
+        if (size == 0) {
+            return nothing();
+        }
+        int leafSize = leafSize(pool, size);
+        if (size <= leafSize) {
+            return maybe(reduceRange(op, source, 0, size));
+        } else {
+            return maybe(pool.invoke(new ReduceTask<>(op, source, 0, size, leafSize)));
+        }
+    }
+
+    private static int leafSize(ForkJoinPool pool, int size) {
+        return Math.max(MIN_LEAF_SIZE, size / (pool.getParallelism() * TASKS_PER_THREAD));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A, B> B[] mapToArray(ForkJoinPool pool, Fn1<? super A, ? extends B> f, Vector<A> source) {
+        int size = source.size();
+        int leafSize = leafSize(pool, size);
+        Object[] result = new Object[size];
+        if (size <= leafSize) {
+            mapRange(f, source, 0, size, result);
+        } else {
+            pool.invoke(new MapTask<>(f, source, 0, size, leafSize, result));
+        }
+        return (B[]) result;
+    }
+
+    private static <A> int countRange(Fn1<? super A, ? extends Boolean> predicate, Vector<A> source,
+                                      int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (predicate.apply(source.unsafeGet(i))) {
+                count += 1;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Scans {@code from} until {@code to}, or until an index at least as low has been found by another task.
+     */
+    private static <A> void findIndexInRange(Fn1<? super A, ? extends Boolean> predicate, Vector<A> source,
+                                             int from, int to, AtomicInteger found) {
+        for (int i = from; i < to && i < found.get(); i++) {
+            if (predicate.apply(source.unsafeGet(i))) {
+                found.accumulateAndGet(i, Math::min);
+                return;
+            }
+        }
+    }
+
+    private static <A, B> void mapRange(Fn1<? super A, ? extends B> f, Vector<A> source,
+                                        int from, int to, Object[] result) {
+        for (int i = from; i < to; i++) {
+            result[i] = f.apply(source.unsafeGet(i));
+        }
+    }
+
+    private static <A> A reduceRange(Fn2<A, A, A> op, Vector<A> source, int from, int to) {
+        A acc = source.unsafeGet(from);
+        for (int i = from + 1; i < to; i++) {
+            acc = op.apply(acc, source.unsafeGet(i));
+        }
+        return acc;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class CountTask<A> extends RecursiveTask<Integer> {
+        private final Fn1<? super A, ? extends Boolean> predicate;
+        private final Vector<A> source;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        CountTask(Fn1<? super A, ? extends Boolean> predicate, Vector<A> source, int from, int to, int leafSize) {
+            this.predicate = predicate;
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= leafSize) {
+                return countRange(predicate, source, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            CountTask<A> right = new CountTask<>(predicate, source, mid, to, leafSize);
+            right.fork();
+            int left = new CountTask<>(predicate, source, from, mid, leafSize).compute();
+            return left + right.join();
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class FindIndexTask<A> extends RecursiveAction {
+        private final Fn1<? super A, ? extends Boolean> predicate;
+        private final Vector<A> source;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final AtomicInteger found;
+
+        FindIndexTask(Fn1<? super A, ? extends Boolean> predicate, Vector<A> source, int from, int to, int leafSize,
+                      AtomicInteger found) {
+            this.predicate = predicate;
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (from >= found.get()) {
+                return;
+            }
+            if (to - from <= leafSize) {
+                findIndexInRange(predicate, source, from, to, found);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            FindIndexTask<A> right = new FindIndexTask<>(predicate, source, mid, to, leafSize, found);
+            right.fork();
+            new FindIndexTask<>(predicate, source, from, mid, leafSize, found).compute();
+            right.join();
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class MapTask<A, B> extends RecursiveAction {
+        private final Fn1<? super A, ? extends B> f;
+        private final Vector<A> source;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final Object[] result;
+
+        MapTask(Fn1<? super A, ? extends B> f, Vector<A> source, int from, int to, int leafSize, Object[] result) {
+            this.f = f;
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                mapRange(f, source, from, to, result);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MapTask<>(f, source, from, mid, leafSize, result),
+                    new MapTask<>(f, source, mid, to, leafSize, result));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ReduceTask<A> extends RecursiveTask<A> {
+        private final Fn2<A, A, A> op;
+        private final Vector<A> source;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        ReduceTask(Fn2<A, A, A> op, Vector<A> source, int from, int to, int leafSize) {
+            this.op = op;
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from <= leafSize) {
+                return reduceRange(op, source, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ReduceTask<A> right = new ReduceTask<>(op, source, mid, to, leafSize);
+            right.fork();
+            A left = new ReduceTask<>(op, source, from, mid, leafSize).compute();
+            return op.apply(left, right.join());
+        }
+    }
+
+}
@@ -0,0 +1,441 @@
+package software.kes.collectionviews;
+
+import software.kes.enhancediterables.ImmutableFiniteIterable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A compressed hash-array mapped prefix tree (CHAMP).
+ * <p>
+ * Each {@link BitmapNode} consumes 5 bits of an element's hash, and holds elements and child nodes in a single compact
+ * array, with elements first.  Two bitmaps record which of the 32 positions hold an element and which hold a child.
+ * Elements whose hashes are identical in all 32 bits share a {@link CollisionNode}.
+ * <p>
+ * The trie is kept in canonical form: a node that is left holding a single element after a removal is replaced by
+ * that element in its parent.  As a result, two sets with equal contents always have the same shape.
+ * <p>
+ * Nodes are never mutated after construction, so {@link PersistentSet#add} and {@link PersistentSet#remove} copy only
+ * the nodes along the path to the element, and share everything else with their source.
+ */
+@SuppressWarnings("unchecked")
+final class PersistentSet<A> extends ConcreteSet<A>
+        implements ImmutableNonEmptySet<A>, Primitive {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = 32;
+
+    private final BitmapNode root;
+    private final int size;
+
+    private PersistentSet(BitmapNode root, int size) {
+        assert (size >= 1);
+        this.root = root;
+        this.size = size;
+    }
+
+    @Override
+    public boolean contains(A element) {
+        return root.contains(element, hash(element), 0);
+    }
+
+    @Override
+    public A head() {
+        return iterator().next();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new TrieIterator<>(root);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ImmutableFiniteIterable<A> tail() {
+        Iterator<A> iterator = iterator();
+        iterator.next();
+        return () -> iterator;
+    }
+
+    @Override
+    public PersistentSet<A> add(A element) {
+        BitmapNode newRoot = root.insert(element, hash(element), 0);
+        return newRoot == root ? this : new PersistentSet<>(newRoot, size + 1);
+    }
+
+    @Override
+    public ImmutableSet<A> remove(A element) {
+        Node newRoot = root.remove(element, hash(element), 0);
+        if (newRoot == root) {
+            return this;
+        } else if (size == 1) {
+            return Sets.empty();
+        } else {
+            return new PersistentSet<>((BitmapNode) newRoot, size - 1);
+        }
+    }
+
+    /**
+     * Adds every element of {@code elements} to {@code source}.
+     */
+    static <A> PersistentSet<A> addAll(PersistentSet<A> source, Iterable<A> elements) {
+        BitmapNode root = source.root;
+        int size = source.size;
+        for (A element : elements) {
+            BitmapNode newRoot = root.insert(element, hash(element), 0);
+            if (newRoot != root) {
+                root = newRoot;
+                size += 1;
+            }
+        }
+        return root == source.root ? source : new PersistentSet<>(root, size);
+    }
+
+    /**
+     * Builds a {@code PersistentSet} from {@code source}, which must contain at least one element.
+     */
+    static <A> PersistentSet<A> persistentSet(Iterable<A> source) {
+        if (source instanceof PersistentSet<?>) {
+            return (PersistentSet<A>) source;
+        }
+        Iterator<A> iterator = source.iterator();
+        A first = iterator.next();
+        return addAll(singleton(first), () -> iterator);
+    }
+
+    static <A> PersistentSet<A> singleton(A element) {
+        return new PersistentSet<>(new BitmapNode(bit(fragment(hash(element), 0)), 0, new Object[]{element}), 1);
+    }
+
+    private static int hash(Object element) {
+        return Objects.hashCode(element);
+    }
+
+    private static int fragment(int hash, int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    private static int bit(int fragment) {
+        return 1 << fragment;
+    }
+
+    /**
+     * Creates the smallest subtree, rooted at {@code shift}, that holds two distinct elements.
+     */
+    private static Node mergeTwo(Object first, int firstHash, Object second, int secondHash, int shift) {
+        if (shift >= HASH_BITS) {
+            return new CollisionNode(firstHash, new Object[]{first, second});
+        }
+        int firstFragment = fragment(firstHash, shift);
+        int secondFragment = fragment(secondHash, shift);
+        if (firstFragment == secondFragment) {
+            Node child = mergeTwo(first, firstHash, second, secondHash, shift + BITS);
+            return new BitmapNode(0, bit(firstFragment), new Object[]{child});
+        } else if (firstFragment < secondFragment) {
+            return new BitmapNode(bit(firstFragment) | bit(secondFragment), 0, new Object[]{first, second});
+        } else {
+            return new BitmapNode(bit(firstFragment) | bit(secondFragment), 0, new Object[]{second, first});
+        }
+    }
+
+    private static Object[] inserted(Object[] array, int index, Object value) {
+        Object[] result = new Object[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static Object[] removed(Object[] array, int index) {
+        Object[] result = new Object[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    private static Object[] replaced(Object[] array, int index, Object value) {
+        Object[] result = array.clone();
+        result[index] = value;
+        return result;
+    }
+
+    private abstract static class Node {
+
+        abstract boolean contains(Object element, int hash, int shift);
+
+        abstract Node insert(Object element, int hash, int shift);
+
+        /**
+         * Returns this node if {@code element} is not present.
+         */
+        abstract Node remove(Object element, int hash, int shift);
+
+        abstract int elementCount();
+
+        abstract Object element(int index);
+
+        abstract int childCount();
+
+        abstract Node child(int index);
+
+        /**
+         * True if this node holds exactly one element and no children, in which case it can be inlined into its
+         * parent.
+         */
+        boolean isSingleton() {
+            return elementCount() == 1 && childCount() == 0;
+        }
+
+    }
+
+    private static final class BitmapNode extends Node {
+        private final int dataMap;
+        private final int nodeMap;
+        /**
+         * Elements in the order of their bits in {@code dataMap}, followed by children in the order of their bits
+         * in {@code nodeMap}.
+         */
+        private final Object[] content;
+
+        BitmapNode(int dataMap, int nodeMap, Object[] content) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        @Override
+        boolean contains(Object element, int hash, int shift) {
+            int bit = bit(fragment(hash, shift));
+            if ((dataMap & bit) != 0) {
+                return Objects.equals(content[dataIndex(bit)], element);
+            } else if ((nodeMap & bit) != 0) {
+                return ((Node) content[nodeIndex(bit)]).contains(element, hash, shift + BITS);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        BitmapNode insert(Object element, int hash, int shift) {
+            int bit = bit(fragment(hash, shift));
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                Object existing = content[index];
+                if (Objects.equals(existing, element)) {
+                    return this;
+                }
+                // Push the existing element down into a new child along with the new one
+                Node child = mergeTwo(existing, hash(existing), element, hash, shift + BITS);
+                Object[] newContent = removed(content, index);
+                int newNodeMap = nodeMap | bit;
+                int childIndex = Integer.bitCount(dataMap) - 1 + Integer.bitCount(newNodeMap & (bit - 1));
+                return new BitmapNode(dataMap ^ bit, newNodeMap, inserted(newContent, childIndex, child));
+            } else if ((nodeMap & bit) != 0) {
+                int index = nodeIndex(bit);
+                Node child = (Node) content[index];
+                Node newChild = child.insert(element, hash, shift + BITS);
+                return newChild == child ? this : new BitmapNode(dataMap, nodeMap, replaced(content, index, newChild));
+            } else {
+                return new BitmapNode(dataMap | bit, nodeMap, inserted(content, dataIndex(bit), element));
+            }
+        }
+
+        @Override
+        Node remove(Object element, int hash, int shift) {
+            int bit = bit(fragment(hash, shift));
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                if (!Objects.equals(content[index], element)) {
+                    return this;
+                }
+                return new BitmapNode(dataMap ^ bit, nodeMap, removed(content, index));
+            } else if ((nodeMap & bit) != 0) {
+                int index = nodeIndex(bit);
+                Node child = (Node) content[index];
+                Node newChild = child.remove(element, hash, shift + BITS);
+                if (newChild == child) {
+                    return this;
+                } else if (newChild.isSingleton()) {
+                    // Inline the remaining element in place of the child
+                    Object remaining = newChild.element(0);
+                    Object[] newContent = removed(content, index);
+                    int newDataMap = dataMap | bit;
+                    return new BitmapNode(newDataMap, nodeMap ^ bit,
+                            inserted(newContent, Integer.bitCount(newDataMap & (bit - 1)), remaining));
+                } else {
+                    return new BitmapNode(dataMap, nodeMap, replaced(content, index, newChild));
+                }
+            } else {
+                return this;
+            }
+        }
+
+        @Override
+        int elementCount() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        Object element(int index) {
+            return content[index];
+        }
+
+        @Override
+        int childCount() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        Node child(int index) {
+            return (Node) content[Integer.bitCount(dataMap) + index];
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit) {
+            return Integer.bitCount(dataMap) + Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+    }
+
+    /**
+     * Holds elements whose hashes are identical.
+     */
+    private static final class CollisionNode extends Node {
+        private final int hash;
+        private final Object[] elements;
+
+        CollisionNode(int hash, Object[] elements) {
+            this.hash = hash;
+            this.elements = elements;
+        }
+
+        @Override
+        boolean contains(Object element, int hash, int shift) {
+            return this.hash == hash && indexOf(element) >= 0;
+        }
+
+        @Override
+        Node insert(Object element, int hash, int shift) {
+            if (indexOf(element) >= 0) {
+                return this;
+            }
+            Object[] newElements = Arrays.copyOf(elements, elements.length + 1);
+            newElements[elements.length] = element;
+            return new CollisionNode(this.hash, newElements);
+        }
+
+        @Override
+        Node remove(Object element, int hash, int shift) {
+            int index = indexOf(element);
+            if (index < 0) {
+                return this;
+            }
+            return new CollisionNode(this.hash, removed(elements, index));
+        }
+
+        @Override
+        int elementCount() {
+            return elements.length;
+        }
+
+        @Override
+        Object element(int index) {
+            return elements[index];
+        }
+
+        @Override
+        int childCount() {
+            return 0;
+        }
+
+        @Override
+        Node child(int index) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        private int indexOf(Object element) {
+            for (int i = 0; i < elements.length; i++) {
+                if (Objects.equals(elements[i], element)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+    }
+
+    /**
+     * Visits the elements of each node, then its children, depth first.
+     */
+    private static final class TrieIterator<A> implements Iterator<A> {
+        private final Node[] nodes = new Node[HASH_BITS / BITS + 2];
+        private final int[] childCursors = new int[nodes.length];
+        private int depth;
+        private Node current;
+        private int elementCursor;
+
+        TrieIterator(Node root) {
+            nodes[0] = root;
+            current = root;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public A next() {
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            A result = (A) current.element(elementCursor);
+            elementCursor += 1;
+            advance();
+            return result;
+        }
+
+        /**
+         * Moves to the next node with an element remaining, or sets {@code current} to null if there are none.
+         */
+        private void advance() {
+            while (elementCursor >= current.elementCount()) {
+                Node node = nodes[depth];
+                if (childCursors[depth] < node.childCount()) {
+                    Node child = node.child(childCursors[depth]);
+                    childCursors[depth] += 1;
+                    depth += 1;
+                    nodes[depth] = child;
+                    childCursors[depth] = 0;
+                    current = child;
+                    elementCursor = 0;
+                } else if (depth == 0) {
+                    current = null;
+                    return;
+                } else {
+                    nodes[depth] = null;
+                    depth -= 1;
+                    current = nodes[depth];
+                    elementCursor = current.elementCount();
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,323 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+
+/**
+ * A relaxed radix-balanced tree of 32-wide nodes.
+ * <p>
+ * Leaves are {@code Object[]} arrays of at most 32 elements; internal nodes are {@link Node}s holding at most 32 children
+ * along with a table of cumulative child sizes.  All leaves are at the same depth.
+ * <p>
+ * Nodes are never mutated after construction, so {@link PersistentVector#append}, {@link PersistentVector#prepend},
+ * {@link PersistentVector#updated}, {@link PersistentVector#concat} and slicing copy only the nodes along the paths
+ * they touch, and share everything else with their source.
+ */
+@SuppressWarnings("unchecked")
+final class PersistentVector<A> extends ConcreteVector<A>
+        implements ImmutableNonEmptyVector<A>, Primitive {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+
+    /**
+     * An {@code Object[]} leaf if height is 0, otherwise a {@code Node}.
+     */
+    private final Object root;
+    private final int height;
+    private final int size;
+    /**
+     * Cached on first use; 0 if not yet computed.
+     */
+    private int hash;
+
+    private PersistentVector(Object root, int height, int size) {
+        assert (size >= 1);
+        this.root = root;
+        this.height = height;
+        this.size = size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Object node = root;
+        for (int h = height; h > 0; h--) {
+            Node n = (Node) node;
+            int slot = n.slotFor(index, h);
+            index -= n.offsetOf(slot);
+            node = n.children[slot];
+        }
+        return (A) ((Object[]) node)[index];
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = super.hashCode();
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    int knownHashCode() {
+        return hash;
+    }
+
+    @Override
+    public PersistentVector<A> append(A element) {
+        return concat(this, singleton(element));
+    }
+
+    @Override
+    public PersistentVector<A> prepend(A element) {
+        return concat(singleton(element), this);
+    }
+
+    @Override
+    public PersistentVector<A> updated(int index, A element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new PersistentVector<>(updated(root, height, index, element), height, size);
+    }
+
+    /**
+     * Returns a compact {@code PersistentVector} holding {@code count} elements beginning at {@code offset}.
+     * The caller is responsible for ensuring {@code count >= 1} and that the range lies within this vector.
+     */
+    PersistentVector<A> subVector(int offset, int count) {
+        if (offset == 0 && count == size) {
+            return this;
+        }
+        Object node = takeNode(root, height, offset + count);
+        node = dropNode(node, height, offset);
+        return normalized(node, height, count);
+    }
+
+    static <A> PersistentVector<A> persistentVector(Vector<A> source) {
+        if (source instanceof PersistentVector<?>) {
+            return (PersistentVector<A>) source;
+        }
+        int size = source.size();
+        assert (size >= 1);
+        Object[] level = new Object[(size + WIDTH - 1) >>> BITS];
+        for (int i = 0, index = 0; i < level.length; i++) {
+            Object[] leaf = new Object[Math.min(WIDTH, size - index)];
+            for (int j = 0; j < leaf.length; j++) {
+                leaf[j] = source.unsafeGet(index++);
+            }
+            level[i] = leaf;
+        }
+        int height = 0;
+        while (level.length > 1) {
+            height += 1;
+            Object[] parents = new Object[(level.length + WIDTH - 1) >>> BITS];
+            for (int i = 0; i < parents.length; i++) {
+                int from = i << BITS;
+                parents[i] = Node.of(Arrays.copyOfRange(level, from, Math.min(from + WIDTH, level.length)), height);
+            }
+            level = parents;
+        }
+        return new PersistentVector<>(level[0], height, size);
+    }
+
+    static <A> PersistentVector<A> concat(PersistentVector<A> first, PersistentVector<A> second) {
+        int height = Math.max(first.height, second.height);
+        Object left = raise(first.root, first.height, height);
+        Object right = raise(second.root, second.height, height);
+        Object[] merged = mergeSeam(left, right, height);
+        int size = first.size + second.size;
+        if (merged.length == 1) {
+            return normalized(merged[0], height, size);
+        } else {
+            return new PersistentVector<>(Node.of(merged, height + 1), height + 1, size);
+        }
+    }
+
+    static <A> PersistentVector<A> singleton(A element) {
+        return new PersistentVector<>(new Object[]{element}, 0, 1);
+    }
+
+    /**
+     * Wraps {@code node} in single-child parents until it reaches {@code targetHeight}.
+     * The single-child parents are absorbed into their neighbors by {@link PersistentVector#mergeSeam}.
+     */
+    private static Object raise(Object node, int height, int targetHeight) {
+        for (int h = height + 1; h <= targetHeight; h++) {
+            node = Node.of(new Object[]{node}, h);
+        }
+        return node;
+    }
+
+    /**
+     * Joins two trees of the same height along the seam between the right edge of {@code left} and the left edge of
+     * {@code right}, returning one node if everything fits, or two otherwise.
+     */
+    private static Object[] mergeSeam(Object left, Object right, int height) {
+        if (height == 0) {
+            Object[] leftLeaf = (Object[]) left;
+            Object[] rightLeaf = (Object[]) right;
+            if (leftLeaf.length + rightLeaf.length <= WIDTH) {
+                Object[] leaf = Arrays.copyOf(leftLeaf, leftLeaf.length + rightLeaf.length);
+                System.arraycopy(rightLeaf, 0, leaf, leftLeaf.length, rightLeaf.length);
+                return new Object[]{leaf};
+            } else {
+                return new Object[]{leftLeaf, rightLeaf};
+            }
+        }
+        Object[] leftChildren = ((Node) left).children;
+        Object[] rightChildren = ((Node) right).children;
+        Object[] seam = mergeSeam(leftChildren[leftChildren.length - 1], rightChildren[0], height - 1);
+        int leftCount = leftChildren.length - 1;
+        int rightCount = rightChildren.length - 1;
+        int total = leftCount + seam.length + rightCount;
+        if (total <= WIDTH) {
+            Object[] children = new Object[total];
+            System.arraycopy(leftChildren, 0, children, 0, leftCount);
+            System.arraycopy(seam, 0, children, leftCount, seam.length);
+            System.arraycopy(rightChildren, 1, children, leftCount + seam.length, rightCount);
+            return new Object[]{Node.of(children, height)};
+        } else {
+            // Keep the existing boundary between the two sides so that neither side is left sparse
+            Object[] newLeft = Arrays.copyOf(leftChildren, leftCount + 1);
+            newLeft[leftCount] = seam[0];
+            Object[] newRight = new Object[seam.length - 1 + rightCount];
+            System.arraycopy(seam, 1, newRight, 0, seam.length - 1);
+            System.arraycopy(rightChildren, 1, newRight, seam.length - 1, rightCount);
+            return new Object[]{Node.of(newLeft, height), Node.of(newRight, height)};
+        }
+    }
+
+    private static Object updated(Object node, int height, int index, Object element) {
+        if (height == 0) {
+            Object[] leaf = ((Object[]) node).clone();
+            leaf[index] = element;
+            return leaf;
+        }
+        Node n = (Node) node;
+        int slot = n.slotFor(index, height);
+        Object[] children = n.children.clone();
+        children[slot] = updated(children[slot], height - 1, index - n.offsetOf(slot), element);
+        return new Node(children, n.sizes);
+    }
+
+    /**
+     * Keeps the first {@code count} elements of {@code node}, where {@code count >= 1}.
+     */
+    private static Object takeNode(Object node, int height, int count) {
+        if (height == 0) {
+            Object[] leaf = (Object[]) node;
+            return count == leaf.length ? leaf : Arrays.copyOf(leaf, count);
+        }
+        Node n = (Node) node;
+        if (count == n.totalSize()) {
+            return node;
+        }
+        int slot = n.slotFor(count - 1, height);
+        Object[] children = Arrays.copyOf(n.children, slot + 1);
+        children[slot] = takeNode(children[slot], height - 1, count - n.offsetOf(slot));
+        int[] sizes = Arrays.copyOf(n.sizes, slot + 1);
+        sizes[slot] = count;
+        return new Node(children, sizes);
+    }
+
+    /**
+     * Drops the first {@code count} elements of {@code node}, where {@code count} is less than the size of {@code node}.
+     */
+    private static Object dropNode(Object node, int height, int count) {
+        if (count == 0) {
+            return node;
+        }
+        if (height == 0) {
+            Object[] leaf = (Object[]) node;
+            return Arrays.copyOfRange(leaf, count, leaf.length);
+        }
+        Node n = (Node) node;
+        int slot = n.slotFor(count, height);
+        int childCount = n.children.length - slot;
+        Object[] children = Arrays.copyOfRange(n.children, slot, n.children.length);
+        children[0] = dropNode(children[0], height - 1, count - n.offsetOf(slot));
+        int[] sizes = new int[childCount];
+        for (int i = 0; i < childCount; i++) {
+            sizes[i] = n.sizes[slot + i] - count;
+        }
+        return new Node(children, sizes);
+    }
+
+    /**
+     * Strips single-child roots so that lookups do not pay for levels that no longer branch.
+     */
+    private static <A> PersistentVector<A> normalized(Object node, int height, int size) {
+        while (height > 0 && ((Node) node).children.length == 1) {
+            node = ((Node) node).children[0];
+            height -= 1;
+        }
+        return new PersistentVector<>(node, height, size);
+    }
+
+    private static int sizeOf(Object node, int height) {
+        return height == 0 ? ((Object[]) node).length : ((Node) node).totalSize();
+    }
+
+    private static final class Node {
+        final Object[] children;
+        /**
+         * sizes[i] is the total number of elements in children 0..i.
+         */
+        final int[] sizes;
+
+        Node(Object[] children, int[] sizes) {
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        int totalSize() {
+            return sizes[sizes.length - 1];
+        }
+
+        int offsetOf(int slot) {
+            return slot == 0 ? 0 : sizes[slot - 1];
+        }
+
+        /**
+         * Finds the child containing {@code index}.
+         * <p>
+         * A child of a node at height {@code h} holds at most 32<sup>h</sup> elements, so the radix position of
+         * {@code index} is a lower bound for its slot, and is exact when the preceding children are full.
+         */
+        int slotFor(int index, int height) {
+            int slot = index >>> Math.min(BITS * height, 31);
+            if (slot >= sizes.length) {
+                slot = sizes.length - 1;
+            }
+            while (sizes[slot] <= index) {
+                slot += 1;
+            }
+            return slot;
+        }
+
+        static Node of(Object[] children, int height) {
+            int[] sizes = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += sizeOf(children[i], height - 1);
+                sizes[i] = total;
+            }
+            return new Node(children, sizes);
+        }
+    }
+
+}
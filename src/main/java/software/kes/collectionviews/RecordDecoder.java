@@ -0,0 +1,29 @@
+package software.kes.collectionviews;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes a fixed-width record from a {@code ByteBuffer}.
+ * <p>
+ * Used by {@link Vector#wrap(ByteBuffer, int, RecordDecoder)} to create a {@link Vector} whose elements are decoded
+ * from a buffer each time they are read.
+ * <p>
+ * Implementations should read using the absolute {@code get} methods of {@link ByteBuffer}, such as
+ * {@link ByteBuffer#getInt(int)}, which do not depend on or alter the position of the buffer.
+ * The buffer passed to {@code decode} is read-only, and has the byte order of the buffer that was wrapped.
+ *
+ * @param <A> the element type
+ */
+@FunctionalInterface
+public interface RecordDecoder<A> {
+
+    /**
+     * Decodes the record that begins at {@code offset}.
+     *
+     * @param buffer the buffer containing the record
+     * @param offset the index of the first byte of the record within {@code buffer}
+     * @return the decoded element
+     */
+    A decode(ByteBuffer buffer, int offset);
+
+}
@@ -0,0 +1,81 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class RepeatingDoubleVector extends ConcreteDoubleVector
+        implements ImmutableNonEmptyDoubleVector, Primitive {
+    private final int size; // must be >= 1
+    private final double value;
+
+    RepeatingDoubleVector(int size, double value) {
+        assert (size >= 1);
+        this.size = size;
+        this.value = value;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Util.repeatedHashCode(Double.hashCode(value), size);
+    }
+
+    @Override
+    public <A> ImmutableNonEmptyVector<A> mapToObj(DoubleFunction<? extends A> f) {
+        Objects.requireNonNull(f);
+        return new RepeatingVector<>(size, f.apply(value));
+    }
+
+    @Override
+    public ImmutableNonEmptyDoubleVector mapToDouble(DoubleUnaryOperator f) {
+        Objects.requireNonNull(f);
+        return new RepeatingDoubleVector(size, f.applyAsDouble(value));
+    }
+
+    @Override
+    public ImmutableNonEmptyDoubleVector reverse() {
+        return this;
+    }
+
+    @Override
+    public ImmutableDoubleVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return DoubleVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            return new RepeatingDoubleVector(endIndex - startIndex, value);
+        }
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        double[] result = new double[size];
+        Arrays.fill(result, value);
+        return result;
+    }
+
+}
@@ -0,0 +1,81 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class RepeatingIntVector extends ConcreteIntVector
+        implements ImmutableNonEmptyIntVector, Primitive {
+    private final int size; // must be >= 1
+    private final int value;
+
+    RepeatingIntVector(int size, int value) {
+        assert (size >= 1);
+        this.size = size;
+        this.value = value;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Util.repeatedHashCode(Integer.hashCode(value), size);
+    }
+
+    @Override
+    public <A> ImmutableNonEmptyVector<A> mapToObj(IntFunction<? extends A> f) {
+        Objects.requireNonNull(f);
+        return new RepeatingVector<>(size, f.apply(value));
+    }
+
+    @Override
+    public ImmutableNonEmptyIntVector mapToInt(IntUnaryOperator f) {
+        Objects.requireNonNull(f);
+        return new RepeatingIntVector(size, f.applyAsInt(value));
+    }
+
+    @Override
+    public ImmutableNonEmptyIntVector reverse() {
+        return this;
+    }
+
+    @Override
+    public ImmutableIntVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return IntVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            return new RepeatingIntVector(endIndex - startIndex, value);
+        }
+    }
+
+    @Override
+    public int[] toIntArray() {
+        int[] result = new int[size];
+        Arrays.fill(result, value);
+        return result;
+    }
+
+}
@@ -0,0 +1,81 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+import static software.kes.collectionviews.Validation.validateSlice;
+
+final class RepeatingLongVector extends ConcreteLongVector
+        implements ImmutableNonEmptyLongVector, Primitive {
+    private final int size; // must be >= 1
+    private final long value;
+
+    RepeatingLongVector(int size, long value) {
+        assert (size >= 1);
+        this.size = size;
+        this.value = value;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long unsafeGetLong(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Util.repeatedHashCode(Long.hashCode(value), size);
+    }
+
+    @Override
+    public <A> ImmutableNonEmptyVector<A> mapToObj(LongFunction<? extends A> f) {
+        Objects.requireNonNull(f);
+        return new RepeatingVector<>(size, f.apply(value));
+    }
+
+    @Override
+    public ImmutableNonEmptyLongVector mapToLong(LongUnaryOperator f) {
+        Objects.requireNonNull(f);
+        return new RepeatingLongVector(size, f.applyAsLong(value));
+    }
+
+    @Override
+    public ImmutableNonEmptyLongVector reverse() {
+        return this;
+    }
+
+    @Override
+    public ImmutableLongVector slice(int startIndex, int endIndexExclusive) {
+        validateSlice(startIndex, endIndexExclusive);
+        int endIndex = Math.min(endIndexExclusive, size);
+        if (startIndex >= endIndex) {
+            return LongVectors.empty();
+        } else if (startIndex == 0 && endIndex == size) {
+            return this;
+        } else {
+            return new RepeatingLongVector(endIndex - startIndex, value);
+        }
+    }
+
+    @Override
+    public long[] toLongArray() {
+        long[] result = new long[size];
+        Arrays.fill(result, value);
+        return result;
+    }
+
+}
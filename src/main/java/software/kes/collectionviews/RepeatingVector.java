@@ -4,10 +4,12 @@ import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.Fn1;
 import software.kes.enhancediterables.ImmutableFiniteIterable;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static software.kes.collectionviews.Validation.validateCopyInto;
 import static software.kes.collectionviews.Validation.validateDrop;
 import static software.kes.collectionviews.Validation.validateSlice;
 import static software.kes.collectionviews.Validation.validateTake;
@@ -51,6 +53,12 @@ final class RepeatingVector<A> extends ConcreteVector<A>
         return value;
     }
 
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        validateCopyInto(dest, destOffset, srcFrom, srcTo, this);
+        Arrays.fill(dest, destOffset, destOffset + srcTo - srcFrom, value);
+    }
+
     @Override
     public Maybe<A> find(Fn1<? super A, ? extends Boolean> predicate) {
         Objects.requireNonNull(predicate);
@@ -79,12 +87,7 @@ final class RepeatingVector<A> extends ConcreteVector<A>
 
     @Override
     public int hashCode() {
-        final int h = value == null ? 0 : value.hashCode();
-        int hashCode = 1;
-        for (int i = 0; i < size; i++) {
-            hashCode = 31 * hashCode + h;
-        }
-        return hashCode;
+        return Util.repeatedHashCode(value == null ? 0 : value.hashCode(), size);
     }
 
     @SuppressWarnings("unchecked")
@@ -1,5 +1,7 @@
 package software.kes.collectionviews;
 
+import static software.kes.collectionviews.Validation.validateCopyInto;
+
 class ReverseVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
     private final NonEmptyVector<A> underlying;
 
@@ -12,6 +14,11 @@ class ReverseVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
         return underlying.size();
     }
 
+    @Override
+    public int viewDepth() {
+        return 1 + underlying.viewDepth();
+    }
+
     @Override
     public A unsafeGet(int index) {
         if (index < 0 || index >= size()) {
@@ -20,11 +27,34 @@ class ReverseVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
         return underlying.unsafeGet(size() - 1 - index);
     }
 
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        validateCopyInto(dest, destOffset, srcFrom, srcTo, this);
+        int size = underlying.size();
+        underlying.copyInto(dest, destOffset, size - srcTo, size - srcFrom);
+        Vectors.reverseInPlace(dest, destOffset, destOffset + srcTo - srcFrom);
+    }
+
+    /**
+     * Slices the underlying vector rather than the reversed one, so that the slice can collapse into any slice below.
+     */
+    Vector<A> subVector(int offset, int count) {
+        int size = underlying.size();
+        Vector<A> sliced = underlying.slice(size - offset - count, size - offset);
+        if (count < 2) {
+            return sliced;
+        } else {
+            return reverseVector(sliced.toNonEmptyOrThrow());
+        }
+    }
+
     static <A> NonEmptyVector<A> reverseVector(NonEmptyVector<A> underlying) {
         if (underlying.size() < 2) {
             return underlying;
         } else if (underlying instanceof ReverseVector<?>) {
             return ((ReverseVector<A>) underlying).underlying;
+        } else if (underlying instanceof MappedVector<?>) {
+            return ((MappedVector<A>) underlying).reverseUnderlying();
         } else {
             return new ReverseVector<>(underlying);
         }
@@ -43,6 +43,37 @@ public interface Set<A> extends FiniteIterable<A> {
      */
     int size();
 
+    /**
+     * Returns a {@code Set} containing the elements of this {@code Set} that are not members of {@code other}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     * The result is a view that tests membership against both {@code Set}s.
+     * Its size is computed in O(min(m, n)) each time it is needed.
+     * <p>
+     * If either {@code Set} is empty, returns this {@code Set}.
+     *
+     * @param other the {@code Set} whose elements to exclude.
+     *              Not null.
+     * @return a {@code Set<A>}
+     */
+    default Set<A> difference(Set<A> other) {
+        return Sets.difference(this, other);
+    }
+
+    /**
+     * Tests whether this {@code Set} and {@code other} have no elements in common.
+     * <p>
+     * Iterates the smaller of the two {@code Set}s, so executes in O(min(m, n)).
+     * Returns true immediately if either {@code Set} is empty.
+     *
+     * @param other the other {@code Set}.
+     *              Not null.
+     * @return true if no element is a member of both {@code Set}s, false otherwise
+     */
+    default boolean disjoint(Set<A> other) {
+        return Sets.disjoint(this, other);
+    }
+
     /**
      * Since a {@code Set} already contains only distinct values, this method always
      * returns itself.
@@ -65,6 +96,23 @@ public interface Set<A> extends FiniteIterable<A> {
         return Find.find(predicate, this);
     }
 
+    /**
+     * Returns a {@code Set} containing the elements that are members of both this {@code Set} and {@code other}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     * The result is a view that iterates the smaller of the two {@code Set}s and probes the larger.
+     * Its size is computed in O(min(m, n)) each time it is needed.
+     * <p>
+     * If either {@code Set} is empty, returns an empty {@code Set}.
+     *
+     * @param other the other {@code Set}.
+     *              Not null.
+     * @return a {@code Set<A>}
+     */
+    default Set<A> intersect(Set<A> other) {
+        return Sets.intersect(this, other);
+    }
+
     /**
      * Tests whether this {@link Set} is empty.
      * <p>
@@ -76,6 +124,36 @@ public interface Set<A> extends FiniteIterable<A> {
         return size() == 0;
     }
 
+    /**
+     * Tests whether every element of this {@code Set} is a member of {@code other}.
+     * <p>
+     * Returns false immediately if this {@code Set} is larger than {@code other}; otherwise executes in O(n), where
+     * <i>n</i> is the size of this {@code Set}.
+     *
+     * @param other the other {@code Set}.
+     *              Not null.
+     * @return true if this {@code Set} is a subset of {@code other}, false otherwise
+     */
+    default boolean isSubsetOf(Set<A> other) {
+        return Sets.isSubsetOf(this, other);
+    }
+
+    /**
+     * Returns a {@code Set} containing the elements that are members of exactly one of this {@code Set} and
+     * {@code other}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     * The result is a view that tests membership against both {@code Set}s.
+     * Its size is computed in O(min(m, n)) each time it is needed.
+     *
+     * @param other the other {@code Set}.
+     *              Not null.
+     * @return a {@code Set<A>}
+     */
+    default Set<A> symmetricDifference(Set<A> other) {
+        return Sets.symmetricDifference(this, other);
+    }
+
     /**
      * Converts this {@code Set} to an {@code ImmutableSet}.
      * Converts this {@code Set} to an {@code ImmutableSet}.
@@ -122,6 +200,24 @@ public interface Set<A> extends FiniteIterable<A> {
         return Sets.nonEmptyWrapOrThrow(this);
     }
 
+    /**
+     * Returns a {@code Set} containing the elements of both this {@code Set} and {@code other}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     * The result is a view that iterates the larger of the two {@code Set}s, followed by the elements of the smaller
+     * that are not members of the larger.
+     * Its size is computed in O(min(m, n)) each time it is needed.
+     * <p>
+     * If either {@code Set} is empty, returns the other.
+     *
+     * @param other the other {@code Set}.
+     *              Not null.
+     * @return a {@code Set<A>}
+     */
+    default Set<A> union(Set<A> other) {
+        return Sets.union(this, other);
+    }
+
     /**
      * Returns an empty {@link ImmutableSet}.
      *
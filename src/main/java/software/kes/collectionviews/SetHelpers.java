@@ -44,8 +44,8 @@ public final class SetHelpers {
         return Util.iterableToString("Set", set);
     }
 
-    private static boolean containsAllElements(Set<Object> set, Iterable<Object> elements) {
-        for (Object elem : elements) {
+    static <A> boolean containsAllElements(Set<A> set, Iterable<A> elements) {
+        for (A elem : elements) {
             if (!set.contains(elem)) {
                 return false;
             }
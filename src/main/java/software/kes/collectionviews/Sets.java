@@ -11,10 +11,75 @@ import static com.jnape.palatable.lambda.adt.Maybe.nothing;
 
 class Sets {
 
+    static <A> Set<A> difference(Set<A> first, Set<A> second) {
+        Objects.requireNonNull(second);
+        if (first.isEmpty() || second.isEmpty()) {
+            return first;
+        } else if (first == second) {
+            return empty();
+        } else {
+            return new CombinedSet<>(CombinedSet.Operation.DIFFERENCE, first, second);
+        }
+    }
+
+    static <A> boolean disjoint(Set<A> first, Set<A> second) {
+        Objects.requireNonNull(second);
+        if (first.isEmpty() || second.isEmpty()) {
+            return true;
+        } else if (first == second) {
+            return false;
+        }
+        Set<A> smaller = first.size() <= second.size() ? first : second;
+        Set<A> larger = smaller == first ? second : first;
+        for (A element : smaller) {
+            if (larger.contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     static <A> ImmutableSet<A> empty() {
         return EmptySet.emptySet();
     }
 
+    static <A> Set<A> intersect(Set<A> first, Set<A> second) {
+        Objects.requireNonNull(second);
+        if (first.isEmpty() || first == second) {
+            return first;
+        } else if (second.isEmpty()) {
+            return second;
+        } else {
+            return new CombinedSet<>(CombinedSet.Operation.INTERSECTION, first, second);
+        }
+    }
+
+    /**
+     * Counts the elements common to both sets, by probing the larger with each element of the smaller.
+     */
+    static <A> int intersectionSize(Set<A> first, Set<A> second) {
+        Set<A> smaller = first.size() <= second.size() ? first : second;
+        Set<A> larger = smaller == first ? second : first;
+        int count = 0;
+        for (A element : smaller) {
+            if (larger.contains(element)) {
+                count += 1;
+            }
+        }
+        return count;
+    }
+
+    static <A> boolean isSubsetOf(Set<A> first, Set<A> second) {
+        Objects.requireNonNull(second);
+        if (first == second || first.isEmpty()) {
+            return true;
+        } else if (first.size() > second.size()) {
+            return false;
+        } else {
+            return SetHelpers.containsAllElements(second, first);
+        }
+    }
+
     static <A> Maybe<NonEmptySet<A>> maybeNonEmptyWrap(java.util.Set<A> underlying) {
         Objects.requireNonNull(underlying);
         if (underlying.isEmpty()) {
@@ -41,10 +106,7 @@ class Sets {
     @SuppressWarnings("varargs")
     @SafeVarargs
     static <A> ImmutableNonEmptySet<A> nonEmptySetOf(A first, A... more) {
-        java.util.Set<A> underlying = new java.util.HashSet<>();
-        underlying.add(first);
-        underlying.addAll(Arrays.asList(more));
-        return new ImmutableWrappedSet<>(underlying);
+        return PersistentSet.addAll(PersistentSet.singleton(first), Arrays.asList(more));
     }
 
     static <A> NonEmptySet<A> nonEmptyWrapOrThrow(java.util.Set<A> underlying) {
@@ -55,6 +117,30 @@ class Sets {
         return getNonEmptyOrThrow(maybeNonEmptyWrap(underlying));
     }
 
+    static <A> Set<A> symmetricDifference(Set<A> first, Set<A> second) {
+        Objects.requireNonNull(second);
+        if (second.isEmpty()) {
+            return first;
+        } else if (first.isEmpty()) {
+            return second;
+        } else if (first == second) {
+            return empty();
+        } else {
+            return new CombinedSet<>(CombinedSet.Operation.SYMMETRIC_DIFFERENCE, first, second);
+        }
+    }
+
+    static <A> Set<A> union(Set<A> first, Set<A> second) {
+        Objects.requireNonNull(second);
+        if (second.isEmpty() || first == second) {
+            return first;
+        } else if (first.isEmpty()) {
+            return second;
+        } else {
+            return new CombinedSet<>(CombinedSet.Operation.UNION, first, second);
+        }
+    }
+
     static <A> Set<A> wrap(java.util.Set<A> underlying) {
         Objects.requireNonNull(underlying);
         if (underlying.isEmpty()) {
@@ -0,0 +1,138 @@
+package software.kes.collectionviews;
+
+import static software.kes.collectionviews.Validation.validateCopyInto;
+
+/**
+ * A cursor that slides a window of {@code k} elements across a {@code Vector}, one element at a time, without
+ * allocating anything per window.
+ * <p>
+ * Visits the same windows as {@link Vector#slide}, but instead of creating a new {@link NonEmptyVector} for each
+ * window, {@link SlidingWindowCursor#window} always returns the same view, which {@link SlidingWindowCursor#advance}
+ * moves along the source in place.
+ * <p>
+ * The window is therefore <em>not retainable</em>: its elements change every time the cursor advances, and so do the
+ * elements of any view derived from it, such as a slice or a mapping.
+ * To keep the contents of a window, copy them with {@link NonEmptyVector#toImmutable}.
+ * <p>
+ * Like a {@link TransientVectorBuilder}, a {@code SlidingWindowCursor} has a single owner, and is not safe to share
+ * between threads.
+ *
+ * @param <A> the element type
+ */
+public final class SlidingWindowCursor<A> {
+    private final Window<A> window;
+    private final int windowCount;
+    private int position;
+
+    private SlidingWindowCursor(Window<A> window, int windowCount) {
+        this.window = window;
+        this.windowCount = windowCount;
+        this.position = -1;
+    }
+
+    /**
+     * Moves the window to the next position, if there is one.
+     * <p>
+     * The first call positions the window at the start of the source.
+     *
+     * @return true if the window has been moved to a new position;
+     * false if the window was already at the last position, or the source is empty
+     */
+    public boolean advance() {
+        if (position + 1 >= windowCount) {
+            position = windowCount;
+            return false;
+        }
+        position += 1;
+        window.offset = position;
+        return true;
+    }
+
+    /**
+     * Returns the index in the source of the first element of the current window.
+     *
+     * @return an {@code int}; -1 if {@link SlidingWindowCursor#advance} has not been called yet
+     */
+    public int position() {
+        return position < windowCount ? position : -1;
+    }
+
+    /**
+     * Returns the current window.
+     * <p>
+     * Always returns the same {@link NonEmptyVector}, whose elements change when the cursor advances.
+     * Do not retain it, or any view derived from it, beyond the next call to {@link SlidingWindowCursor#advance}.
+     *
+     * @return a {@code NonEmptyVector<A>} of {@code min(k, size)} elements
+     * @throws IllegalStateException if the cursor is not positioned on a window, either because
+     *                               {@link SlidingWindowCursor#advance} has not been called yet or because it has
+     *                               returned false
+     */
+    public NonEmptyVector<A> window() {
+        if (position < 0 || position >= windowCount) {
+            throw new IllegalStateException("SlidingWindowCursor is not positioned on a window");
+        }
+        return window;
+    }
+
+    /**
+     * Returns the number of windows this cursor visits.
+     *
+     * @return an {@code int}; 0 if the source is empty
+     */
+    public int windowCount() {
+        return windowCount;
+    }
+
+    static <A> SlidingWindowCursor<A> slidingWindowCursor(int k, Vector<A> source) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be >= 1");
+        }
+        int size = source.size();
+        if (size == 0) {
+            return new SlidingWindowCursor<>(null, 0);
+        }
+        int windowSize = Math.min(k, size);
+        return new SlidingWindowCursor<>(new Window<>(source, windowSize), 1 + size - windowSize);
+    }
+
+    /**
+     * A view of {@code size} elements of {@code source}, starting at a mutable offset.
+     */
+    private static final class Window<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
+        private final Vector<A> source;
+        private final int size; // must be >= 1
+        private int offset;
+
+        private Window(Vector<A> source, int size) {
+            assert (size >= 1);
+            this.source = source;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int viewDepth() {
+            return 1 + source.viewDepth();
+        }
+
+        @Override
+        public A unsafeGet(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            return source.unsafeGet(offset + index);
+        }
+
+        @Override
+        public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+            validateCopyInto(dest, destOffset, srcFrom, srcTo, this);
+            source.copyInto(dest, destOffset, offset + srcFrom, offset + srcTo);
+        }
+    }
+
+}
@@ -0,0 +1,345 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Windowed aggregations over {@code Vector}s.
+ * <p>
+ * Each aggregation produces one result per window, for the same windows as {@link Vector#slide}, in a single pass
+ * over the source.
+ * Minimums and maximums keep a monotonic deque of the candidates in the current window, so every element is pushed
+ * and popped at most once, and the whole aggregation runs in O(n) regardless of the window size.
+ * Apart from the result, the only allocations are buffers of the window size, made once per aggregation.
+ */
+final class SlidingWindows {
+
+    private SlidingWindows() {
+
+    }
+
+    static <A> ImmutableIntVector slidingCount(int k, Fn1<? super A, ? extends Boolean> predicate, Vector<A> source) {
+        Objects.requireNonNull(predicate);
+        int size = source.size();
+        int windowSize = windowSize(k, size);
+        if (windowSize == 0) {
+            return IntVectors.empty();
+        }
+        boolean[] matches = new boolean[windowSize];
+        int[] result = new int[1 + size - windowSize];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int slot = i % windowSize;
+            if (i >= windowSize && matches[slot]) {
+                count -= 1;
+            }
+            matches[slot] = predicate.apply(source.unsafeGet(i));
+            if (matches[slot]) {
+                count += 1;
+            }
+            if (i >= windowSize - 1) {
+                result[i - windowSize + 1] = count;
+            }
+        }
+        return new ImmutableIntArrayVector(result);
+    }
+
+    /**
+     * Returns the first element of each window that is not greater than any other, according to {@code comparator}.
+     * <p>
+     * For maximums, pass the reverse of the comparator.
+     */
+    @SuppressWarnings("unchecked")
+    static <A> ImmutableVector<A> slidingMin(int k, Comparator<? super A> comparator, Vector<A> source) {
+        Objects.requireNonNull(comparator);
+        int size = source.size();
+        int windowSize = windowSize(k, size);
+        if (windowSize == 0) {
+            return Vectors.empty();
+        }
+        int[] indices = new int[windowSize];
+        Object[] values = new Object[windowSize];
+        int head = 0;
+        int count = 0;
+        Object[] result = new Object[1 + size - windowSize];
+        for (int i = 0; i < size; i++) {
+            if (count > 0 && indices[head] <= i - windowSize) {
+                values[head] = null;
+                head = (head + 1) % windowSize;
+                count -= 1;
+            }
+            A value = source.unsafeGet(i);
+            while (count > 0 && comparator.compare((A) values[(head + count - 1) % windowSize], value) > 0) {
+                count -= 1;
+                values[(head + count) % windowSize] = null;
+            }
+            int tail = (head + count) % windowSize;
+            indices[tail] = i;
+            values[tail] = value;
+            count += 1;
+            if (i >= windowSize - 1) {
+                result[i - windowSize + 1] = values[head];
+            }
+        }
+        return new ImmutableArrayVector<>((A[]) result);
+    }
+
+    static ImmutableIntVector slidingMax(int k, IntVector source) {
+        return slidingExtreme(k, source, true);
+    }
+
+    static ImmutableLongVector slidingMax(int k, LongVector source) {
+        return slidingExtreme(k, source, true);
+    }
+
+    static ImmutableDoubleVector slidingMax(int k, DoubleVector source) {
+        return slidingExtreme(k, source, true);
+    }
+
+    static ImmutableIntVector slidingMin(int k, IntVector source) {
+        return slidingExtreme(k, source, false);
+    }
+
+    static ImmutableLongVector slidingMin(int k, LongVector source) {
+        return slidingExtreme(k, source, false);
+    }
+
+    static ImmutableDoubleVector slidingMin(int k, DoubleVector source) {
+        return slidingExtreme(k, source, false);
+    }
+
+    static ImmutableLongVector slidingSum(int k, IntVector source) {
+        int size = source.size();
+        int windowSize = windowSize(k, size);
+        if (windowSize == 0) {
+            return LongVectors.empty();
+        }
+        long[] result = new long[1 + size - windowSize];
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += source.unsafeGetInt(i);
+            if (i >= windowSize) {
+                sum -= source.unsafeGetInt(i - windowSize);
+            }
+            if (i >= windowSize - 1) {
+                result[i - windowSize + 1] = sum;
+            }
+        }
+        return new ImmutableLongArrayVector(result);
+    }
+
+    static ImmutableLongVector slidingSum(int k, LongVector source) {
+        int size = source.size();
+        int windowSize = windowSize(k, size);
+        if (windowSize == 0) {
+            return LongVectors.empty();
+        }
+        long[] result = new long[1 + size - windowSize];
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += source.unsafeGetLong(i);
+            if (i >= windowSize) {
+                sum -= source.unsafeGetLong(i - windowSize);
+            }
+            if (i >= windowSize - 1) {
+                result[i - windowSize + 1] = sum;
+            }
+        }
+        return new ImmutableLongArrayVector(result);
+    }
+
+    /**
+     * Keeps a running sum with Neumaier's compensated summation, adding each element as it enters the window and
+     * subtracting it as it leaves.
+     * <p>
+     * Non-finite elements are counted rather than summed, so that an infinity or NaN only affects the windows that
+     * contain it.
+     */
+    static ImmutableDoubleVector slidingSum(int k, DoubleVector source) {
+        int size = source.size();
+        int windowSize = windowSize(k, size);
+        if (windowSize == 0) {
+            return DoubleVectors.empty();
+        }
+        double[] result = new double[1 + size - windowSize];
+        CompensatedSum sum = new CompensatedSum();
+        for (int i = 0; i < size; i++) {
+            if (i >= windowSize) {
+                sum.remove(source.unsafeGetDouble(i - windowSize));
+            }
+            sum.add(source.unsafeGetDouble(i));
+            if (i >= windowSize - 1) {
+                result[i - windowSize + 1] = sum.value();
+            }
+        }
+        return new ImmutableDoubleArrayVector(result);
+    }
+
+    private static ImmutableIntVector slidingExtreme(int k, IntVector source, boolean max) {
+        int size = source.size();
+        int windowSize = windowSize(k, size);
+        if (windowSize == 0) {
+            return IntVectors.empty();
+        }
+        int[] indices = new int[windowSize];
+        int[] values = new int[windowSize];
+        int head = 0;
+        int count = 0;
+        int[] result = new int[1 + size - windowSize];
+        for (int i = 0; i < size; i++) {
+            if (count > 0 && indices[head] <= i - windowSize) {
+                head = (head + 1) % windowSize;
+                count -= 1;
+            }
+            int value = source.unsafeGetInt(i);
+            while (count > 0 && (max ? values[(head + count - 1) % windowSize] < value
+                    : values[(head + count - 1) % windowSize] > value)) {
+                count -= 1;
+            }
+            int tail = (head + count) % windowSize;
+            indices[tail] = i;
+            values[tail] = value;
+            count += 1;
+            if (i >= windowSize - 1) {
+                result[i - windowSize + 1] = values[head];
+            }
+        }
+        return new ImmutableIntArrayVector(result);
+    }
+
+    private static ImmutableLongVector slidingExtreme(int k, LongVector source, boolean max) {
+        int size = source.size();
+        int windowSize = windowSize(k, size);
+        if (windowSize == 0) {
+            return LongVectors.empty();
+        }
+        int[] indices = new int[windowSize];
+        long[] values = new long[windowSize];
+        int head = 0;
+        int count = 0;
+        long[] result = new long[1 + size - windowSize];
+        for (int i = 0; i < size; i++) {
+            if (count > 0 && indices[head] <= i - windowSize) {
+                head = (head + 1) % windowSize;
+                count -= 1;
+            }
+            long value = source.unsafeGetLong(i);
+            while (count > 0 && (max ? values[(head + count - 1) % windowSize] < value
+                    : values[(head + count - 1) % windowSize] > value)) {
+                count -= 1;
+            }
+            int tail = (head + count) % windowSize;
+            indices[tail] = i;
+            values[tail] = value;
+            count += 1;
+            if (i >= windowSize - 1) {
+                result[i - windowSize + 1] = values[head];
+            }
+        }
+        return new ImmutableLongArrayVector(result);
+    }
+
+    /**
+     * Orders elements as {@link Double#compare} does, so NaN is greater than every other value, and -0.0 is less
+     * than 0.0.
+     */
+    private static ImmutableDoubleVector slidingExtreme(int k, DoubleVector source, boolean max) {
+        int size = source.size();
+        int windowSize = windowSize(k, size);
+        if (windowSize == 0) {
+            return DoubleVectors.empty();
+        }
+        int[] indices = new int[windowSize];
+        double[] values = new double[windowSize];
+        int head = 0;
+        int count = 0;
+        double[] result = new double[1 + size - windowSize];
+        for (int i = 0; i < size; i++) {
+            if (count > 0 && indices[head] <= i - windowSize) {
+                head = (head + 1) % windowSize;
+                count -= 1;
+            }
+            double value = source.unsafeGetDouble(i);
+            while (count > 0 && (max ? Double.compare(values[(head + count - 1) % windowSize], value) < 0
+                    : Double.compare(values[(head + count - 1) % windowSize], value) > 0)) {
+                count -= 1;
+            }
+            int tail = (head + count) % windowSize;
+            indices[tail] = i;
+            values[tail] = value;
+            count += 1;
+            if (i >= windowSize - 1) {
+                result[i - windowSize + 1] = values[head];
+            }
+        }
+        return new ImmutableDoubleArrayVector(result);
+    }
+
+    /**
+     * Returns the number of elements in each window, or 0 if there are no windows.
+     */
+    private static int windowSize(int k, int size) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be >= 1");
+        }
+        return Math.min(k, size);
+    }
+
+
+    private static final class CompensatedSum {
+        private double sum;
+        private double compensation;
+        private int nanCount;
+        private int positiveInfinityCount;
+        private int negativeInfinityCount;
+
+        void add(double value) {
+            if (Double.isNaN(value)) {
+                nanCount += 1;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                positiveInfinityCount += 1;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                negativeInfinityCount += 1;
+            } else {
+                accumulate(value);
+            }
+        }
+
+        void remove(double value) {
+            if (Double.isNaN(value)) {
+                nanCount -= 1;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                positiveInfinityCount -= 1;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                negativeInfinityCount -= 1;
+            } else {
+                accumulate(-value);
+            }
+        }
+
+        double value() {
+            if (nanCount > 0 || (positiveInfinityCount > 0 && negativeInfinityCount > 0)) {
+                return Double.NaN;
+            } else if (positiveInfinityCount > 0) {
+                return Double.POSITIVE_INFINITY;
+            } else if (negativeInfinityCount > 0) {
+                return Double.NEGATIVE_INFINITY;
+            } else {
+                return sum + compensation;
+            }
+        }
+
+        private void accumulate(double value) {
+            double t = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - t) + value;
+            } else {
+                compensation += (value - t) + sum;
+            }
+            sum = t;
+        }
+    }
+
+}
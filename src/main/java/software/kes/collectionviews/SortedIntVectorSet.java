@@ -0,0 +1,267 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+/**
+ * An {@code ImmutableSortedIntSet} backed by an {@code ImmutableIntVector} that is in ascending order and contains no
+ * duplicates.
+ */
+final class SortedIntVectorSet extends ConcreteSet<Integer>
+        implements ImmutableSortedIntSet {
+    private static final SortedIntVectorSet EMPTY = new SortedIntVectorSet(IntVectors.empty());
+
+    private final ImmutableIntVector elements;
+
+    private SortedIntVectorSet(ImmutableIntVector elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public Maybe<Integer> ceiling(Integer element) {
+        int index = lowerBound(element);
+        return index < elements.size() ? just(elements.unsafeGetInt(index)) : nothing();
+    }
+
+    @Override
+    public Comparator<? super Integer> comparator() {
+        return Comparator.naturalOrder();
+    }
+
+    @Override
+    public boolean contains(Integer element) {
+        return element != null && containsInt(element);
+    }
+
+    @Override
+    public boolean containsInt(int element) {
+        int index = lowerBound(element);
+        return index < elements.size() && elements.unsafeGetInt(index) == element;
+    }
+
+    @Override
+    public Maybe<Integer> floor(Integer element) {
+        int index = upperBound(element) - 1;
+        return index >= 0 ? just(elements.unsafeGetInt(index)) : nothing();
+    }
+
+    @Override
+    public ImmutableSortedIntSet headSet(Integer toExclusive) {
+        return slice(0, lowerBound(toExclusive));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return ProtectedIterator.protectedIterator(elements.iterator());
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public ImmutableSortedIntSet subSet(Integer fromInclusive, Integer toExclusive) {
+        int startIndex = lowerBound(fromInclusive);
+        return slice(startIndex, Math.max(startIndex, lowerBound(toExclusive)));
+    }
+
+    @Override
+    public ImmutableSortedIntSet tailSet(Integer fromInclusive) {
+        return slice(lowerBound(fromInclusive), elements.size());
+    }
+
+    @Override
+    public ImmutableIntVector toIntVector() {
+        return elements;
+    }
+
+    @Override
+    public ImmutableSortedVector<Integer> toVector() {
+        return new ImmutableSortedVectorAdapter<>(comparator(), elements);
+    }
+
+    static ImmutableSortedIntSet copyFrom(int[] source) {
+        Objects.requireNonNull(source);
+        if (source.length == 0) {
+            return EMPTY;
+        }
+        int[] sorted = source.clone();
+        Arrays.sort(sorted);
+        int k = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[k - 1]) {
+                sorted[k] = sorted[i];
+                k += 1;
+            }
+        }
+        return fromSortedDistinct(sorted, k);
+    }
+
+    static ImmutableSortedIntSet empty() {
+        return EMPTY;
+    }
+
+    static ImmutableSortedIntSet intersect(ImmutableSortedIntSet first, ImmutableSortedIntSet second) {
+        Objects.requireNonNull(second);
+        if (first.isEmpty() || first == second) {
+            return first;
+        } else if (second.isEmpty()) {
+            return second;
+        }
+        ImmutableSortedIntSet smaller = first.size() <= second.size() ? first : second;
+        ImmutableSortedIntSet larger = smaller == first ? second : first;
+        ImmutableIntVector a = smaller.toIntVector();
+        int aSize = a.size();
+        int[] result = new int[aSize];
+        int k = 0;
+        long probeCost = (long) aSize * (32 - Integer.numberOfLeadingZeros(larger.size()));
+        if (probeCost < (long) aSize + larger.size()) {
+            for (int i = 0; i < aSize; i++) {
+                int x = a.unsafeGetInt(i);
+                if (larger.containsInt(x)) {
+                    result[k] = x;
+                    k += 1;
+                }
+            }
+        } else {
+            ImmutableIntVector b = larger.toIntVector();
+            int bSize = b.size();
+            int i = 0;
+            int j = 0;
+            while (i < aSize && j < bSize) {
+                int x = a.unsafeGetInt(i);
+                int y = b.unsafeGetInt(j);
+                if (x < y) {
+                    i += 1;
+                } else if (x > y) {
+                    j += 1;
+                } else {
+                    result[k] = x;
+                    k += 1;
+                    i += 1;
+                    j += 1;
+                }
+            }
+        }
+        return k == aSize ? smaller : fromSortedDistinct(result, k);
+    }
+
+    static ImmutableSortedIntSet union(ImmutableSortedIntSet first, ImmutableSortedIntSet second) {
+        Objects.requireNonNull(second);
+        if (second.isEmpty() || first == second) {
+            return first;
+        } else if (first.isEmpty()) {
+            return second;
+        }
+        ImmutableIntVector a = first.toIntVector();
+        ImmutableIntVector b = second.toIntVector();
+        int aSize = a.size();
+        int bSize = b.size();
+        int[] result = new int[aSize + bSize];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < aSize && j < bSize) {
+            int x = a.unsafeGetInt(i);
+            int y = b.unsafeGetInt(j);
+            if (x <= y) {
+                result[k] = x;
+                i += 1;
+                if (x == y) {
+                    j += 1;
+                }
+            } else {
+                result[k] = y;
+                j += 1;
+            }
+            k += 1;
+        }
+        while (i < aSize) {
+            result[k] = a.unsafeGetInt(i);
+            i += 1;
+            k += 1;
+        }
+        while (j < bSize) {
+            result[k] = b.unsafeGetInt(j);
+            j += 1;
+            k += 1;
+        }
+        if (k == aSize) {
+            return first;
+        } else if (k == bSize) {
+            return second;
+        } else {
+            return fromSortedDistinct(result, k);
+        }
+    }
+
+    /**
+     * {@code elements} must be in ascending order with no duplicates in its first {@code count} positions, and must
+     * not be shared with anyone else.
+     */
+    private static ImmutableSortedIntSet fromSortedDistinct(int[] elements, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        int[] trimmed = count == elements.length ? elements : Arrays.copyOf(elements, count);
+        return new SortedIntVectorSet(new ImmutableIntArrayVector(trimmed));
+    }
+
+    /**
+     * Returns the index of the first element that is not less than {@code key}.
+     */
+    private int lowerBound(int key) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (elements.unsafeGetInt(mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element that is greater than {@code key}.
+     */
+    private int upperBound(int key) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (elements.unsafeGetInt(mid) <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private ImmutableSortedIntSet slice(int startIndex, int endIndex) {
+        if (startIndex == 0 && endIndex == elements.size()) {
+            return this;
+        } else if (startIndex == endIndex) {
+            return EMPTY;
+        } else {
+            return new SortedIntVectorSet(elements.slice(startIndex, endIndex));
+        }
+    }
+
+}
@@ -0,0 +1,267 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+/**
+ * An {@code ImmutableSortedLongSet} backed by an {@code ImmutableLongVector} that is in ascending order and contains no
+ * duplicates.
+ */
+final class SortedLongVectorSet extends ConcreteSet<Long>
+        implements ImmutableSortedLongSet {
+    private static final SortedLongVectorSet EMPTY = new SortedLongVectorSet(LongVectors.empty());
+
+    private final ImmutableLongVector elements;
+
+    private SortedLongVectorSet(ImmutableLongVector elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public Maybe<Long> ceiling(Long element) {
+        int index = lowerBound(element);
+        return index < elements.size() ? just(elements.unsafeGetLong(index)) : nothing();
+    }
+
+    @Override
+    public Comparator<? super Long> comparator() {
+        return Comparator.naturalOrder();
+    }
+
+    @Override
+    public boolean contains(Long element) {
+        return element != null && containsLong(element);
+    }
+
+    @Override
+    public boolean containsLong(long element) {
+        int index = lowerBound(element);
+        return index < elements.size() && elements.unsafeGetLong(index) == element;
+    }
+
+    @Override
+    public Maybe<Long> floor(Long element) {
+        int index = upperBound(element) - 1;
+        return index >= 0 ? just(elements.unsafeGetLong(index)) : nothing();
+    }
+
+    @Override
+    public ImmutableSortedLongSet headSet(Long toExclusive) {
+        return slice(0, lowerBound(toExclusive));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return ProtectedIterator.protectedIterator(elements.iterator());
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public ImmutableSortedLongSet subSet(Long fromInclusive, Long toExclusive) {
+        int startIndex = lowerBound(fromInclusive);
+        return slice(startIndex, Math.max(startIndex, lowerBound(toExclusive)));
+    }
+
+    @Override
+    public ImmutableSortedLongSet tailSet(Long fromInclusive) {
+        return slice(lowerBound(fromInclusive), elements.size());
+    }
+
+    @Override
+    public ImmutableLongVector toLongVector() {
+        return elements;
+    }
+
+    @Override
+    public ImmutableSortedVector<Long> toVector() {
+        return new ImmutableSortedVectorAdapter<>(comparator(), elements);
+    }
+
+    static ImmutableSortedLongSet copyFrom(long[] source) {
+        Objects.requireNonNull(source);
+        if (source.length == 0) {
+            return EMPTY;
+        }
+        long[] sorted = source.clone();
+        Arrays.sort(sorted);
+        int k = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[k - 1]) {
+                sorted[k] = sorted[i];
+                k += 1;
+            }
+        }
+        return fromSortedDistinct(sorted, k);
+    }
+
+    static ImmutableSortedLongSet empty() {
+        return EMPTY;
+    }
+
+    static ImmutableSortedLongSet intersect(ImmutableSortedLongSet first, ImmutableSortedLongSet second) {
+        Objects.requireNonNull(second);
+        if (first.isEmpty() || first == second) {
+            return first;
+        } else if (second.isEmpty()) {
+            return second;
+        }
+        ImmutableSortedLongSet smaller = first.size() <= second.size() ? first : second;
+        ImmutableSortedLongSet larger = smaller == first ? second : first;
+        ImmutableLongVector a = smaller.toLongVector();
+        int aSize = a.size();
+        long[] result = new long[aSize];
+        int k = 0;
+        long probeCost = (long) aSize * (32 - Integer.numberOfLeadingZeros(larger.size()));
+        if (probeCost < (long) aSize + larger.size()) {
+            for (int i = 0; i < aSize; i++) {
+                long x = a.unsafeGetLong(i);
+                if (larger.containsLong(x)) {
+                    result[k] = x;
+                    k += 1;
+                }
+            }
+        } else {
+            ImmutableLongVector b = larger.toLongVector();
+            int bSize = b.size();
+            int i = 0;
+            int j = 0;
+            while (i < aSize && j < bSize) {
+                long x = a.unsafeGetLong(i);
+                long y = b.unsafeGetLong(j);
+                if (x < y) {
+                    i += 1;
+                } else if (x > y) {
+                    j += 1;
+                } else {
+                    result[k] = x;
+                    k += 1;
+                    i += 1;
+                    j += 1;
+                }
+            }
+        }
+        return k == aSize ? smaller : fromSortedDistinct(result, k);
+    }
+
+    static ImmutableSortedLongSet union(ImmutableSortedLongSet first, ImmutableSortedLongSet second) {
+        Objects.requireNonNull(second);
+        if (second.isEmpty() || first == second) {
+            return first;
+        } else if (first.isEmpty()) {
+            return second;
+        }
+        ImmutableLongVector a = first.toLongVector();
+        ImmutableLongVector b = second.toLongVector();
+        int aSize = a.size();
+        int bSize = b.size();
+        long[] result = new long[aSize + bSize];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < aSize && j < bSize) {
+            long x = a.unsafeGetLong(i);
+            long y = b.unsafeGetLong(j);
+            if (x <= y) {
+                result[k] = x;
+                i += 1;
+                if (x == y) {
+                    j += 1;
+                }
+            } else {
+                result[k] = y;
+                j += 1;
+            }
+            k += 1;
+        }
+        while (i < aSize) {
+            result[k] = a.unsafeGetLong(i);
+            i += 1;
+            k += 1;
+        }
+        while (j < bSize) {
+            result[k] = b.unsafeGetLong(j);
+            j += 1;
+            k += 1;
+        }
+        if (k == aSize) {
+            return first;
+        } else if (k == bSize) {
+            return second;
+        } else {
+            return fromSortedDistinct(result, k);
+        }
+    }
+
+    /**
+     * {@code elements} must be in ascending order with no duplicates in its first {@code count} positions, and must
+     * not be shared with anyone else.
+     */
+    private static ImmutableSortedLongSet fromSortedDistinct(long[] elements, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        long[] trimmed = count == elements.length ? elements : Arrays.copyOf(elements, count);
+        return new SortedLongVectorSet(new ImmutableLongArrayVector(trimmed));
+    }
+
+    /**
+     * Returns the index of the first element that is not less than {@code key}.
+     */
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (elements.unsafeGetLong(mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element that is greater than {@code key}.
+     */
+    private int upperBound(long key) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (elements.unsafeGetLong(mid) <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private ImmutableSortedLongSet slice(int startIndex, int endIndex) {
+        if (startIndex == 0 && endIndex == elements.size()) {
+            return this;
+        } else if (startIndex == endIndex) {
+            return EMPTY;
+        } else {
+            return new SortedLongVectorSet(elements.slice(startIndex, endIndex));
+        }
+    }
+
+}
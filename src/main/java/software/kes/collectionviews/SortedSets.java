@@ -0,0 +1,194 @@
+package software.kes.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+final class SortedSets {
+
+    private SortedSets() {
+
+    }
+
+    static <A> Maybe<A> ceiling(A element, ImmutableSortedSet<A> set) {
+        ImmutableSortedVector<A> elements = set.toVector();
+        return elements.get(elements.lowerBound(element));
+    }
+
+    static <A> ImmutableSortedSet<A> copyFrom(Comparator<? super A> comparator, A[] source) {
+        Objects.requireNonNull(source);
+        return copyFrom(comparator, Vector.wrap(source));
+    }
+
+    static <A> ImmutableSortedSet<A> copyFrom(Comparator<? super A> comparator, Iterable<A> source) {
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(source);
+        return new SortedVectorSet<>(distinct(Vector.copyFrom(source).sort(comparator)));
+    }
+
+    static <A> ImmutableSortedSet<A> empty(Comparator<? super A> comparator) {
+        Objects.requireNonNull(comparator);
+        return new SortedVectorSet<>(new ImmutableSortedVectorAdapter<>(comparator, Vectors.empty()));
+    }
+
+    static <A> Maybe<A> floor(A element, ImmutableSortedSet<A> set) {
+        ImmutableSortedVector<A> elements = set.toVector();
+        int index = elements.upperBound(element) - 1;
+        return index >= 0 ? elements.get(index) : nothing();
+    }
+
+    static <A> ImmutableSortedSet<A> intersect(ImmutableSortedSet<A> first, ImmutableSortedSet<A> second) {
+        Objects.requireNonNull(second);
+        Comparator<? super A> comparator = first.comparator();
+        if (!comparator.equals(second.comparator())) {
+            return filterMembers(first, second);
+        } else if (first.isEmpty() || first == second) {
+            return first;
+        } else if (second.isEmpty()) {
+            return second;
+        }
+        ImmutableSortedSet<A> smaller = first.size() <= second.size() ? first : second;
+        ImmutableSortedSet<A> larger = smaller == first ? second : first;
+        long probeCost = (long) smaller.size() * (32 - Integer.numberOfLeadingZeros(larger.size()));
+        if (probeCost < (long) smaller.size() + larger.size()) {
+            return filterMembers(smaller, larger);
+        }
+        ImmutableSortedVector<A> a = first.toVector();
+        ImmutableSortedVector<A> b = second.toVector();
+        int aSize = a.size();
+        int bSize = b.size();
+        Object[] result = new Object[smaller.size()];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < aSize && j < bSize) {
+            A x = a.unsafeGet(i);
+            int c = comparator.compare(x, b.unsafeGet(j));
+            if (c < 0) {
+                i += 1;
+            } else if (c > 0) {
+                j += 1;
+            } else {
+                result[k] = x;
+                k += 1;
+                i += 1;
+                j += 1;
+            }
+        }
+        if (k == aSize) {
+            return first;
+        } else if (k == bSize) {
+            return second;
+        } else {
+            return fromSortedDistinct(comparator, result, k);
+        }
+    }
+
+    static <A> ImmutableSortedSet<A> union(ImmutableSortedSet<A> first, ImmutableSortedSet<A> second) {
+        Objects.requireNonNull(second);
+        Comparator<? super A> comparator = first.comparator();
+        if (!comparator.equals(second.comparator())) {
+            return copyFrom(comparator, first.concat(second));
+        } else if (second.isEmpty() || first == second) {
+            return first;
+        } else if (first.isEmpty()) {
+            return second;
+        }
+        ImmutableSortedVector<A> a = first.toVector();
+        ImmutableSortedVector<A> b = second.toVector();
+        int aSize = a.size();
+        int bSize = b.size();
+        Object[] result = new Object[aSize + bSize];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < aSize && j < bSize) {
+            A x = a.unsafeGet(i);
+            A y = b.unsafeGet(j);
+            int c = comparator.compare(x, y);
+            if (c <= 0) {
+                result[k] = x;
+                i += 1;
+                if (c == 0) {
+                    j += 1;
+                }
+            } else {
+                result[k] = y;
+                j += 1;
+            }
+            k += 1;
+        }
+        if (i < aSize) {
+            a.copyInto(result, k, i, aSize);
+            k += aSize - i;
+        } else if (j < bSize) {
+            b.copyInto(result, k, j, bSize);
+            k += bSize - j;
+        }
+        if (k == aSize) {
+            return first;
+        } else if (k == bSize) {
+            return second;
+        } else {
+            return fromSortedDistinct(comparator, result, k);
+        }
+    }
+
+    /**
+     * Removes adjacent elements that the comparator of {@code sorted} considers equal, keeping the first of each run.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A> ImmutableSortedVector<A> distinct(ImmutableSortedVector<A> sorted) {
+        Comparator<? super A> comparator = sorted.comparator();
+        int size = sorted.size();
+        int firstDuplicate = 1;
+        while (firstDuplicate < size
+                && comparator.compare(sorted.unsafeGet(firstDuplicate - 1), sorted.unsafeGet(firstDuplicate)) != 0) {
+            firstDuplicate += 1;
+        }
+        if (firstDuplicate >= size) {
+            return sorted;
+        }
+        Object[] result = new Object[size - 1];
+        sorted.copyInto(result, 0, 0, firstDuplicate);
+        int k = firstDuplicate;
+        for (int i = firstDuplicate + 1; i < size; i++) {
+            A element = sorted.unsafeGet(i);
+            if (comparator.compare((A) result[k - 1], element) != 0) {
+                result[k] = element;
+                k += 1;
+            }
+        }
+        return SortedSets.<A>fromSortedDistinct(comparator, result, k).toVector();
+    }
+
+    /**
+     * Keeps the elements of {@code source} that are members of {@code other}, in the order of {@code source}.
+     */
+    private static <A> ImmutableSortedSet<A> filterMembers(ImmutableSortedSet<A> source, Set<A> other) {
+        Object[] result = new Object[source.size()];
+        int k = 0;
+        for (A element : source) {
+            if (other.contains(element)) {
+                result[k] = element;
+                k += 1;
+            }
+        }
+        return k == source.size() ? source : fromSortedDistinct(source.comparator(), result, k);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> ImmutableSortedSet<A> fromSortedDistinct(Comparator<? super A> comparator, Object[] elements,
+                                                                int count) {
+        if (count == 0) {
+            return empty(comparator);
+        }
+        A[] trimmed = (A[]) (count == elements.length ? elements : Arrays.copyOf(elements, count));
+        return new SortedVectorSet<>(new ImmutableSortedVectorAdapter<>(comparator, new ImmutableArrayVector<>(trimmed)));
+    }
+
+}
@@ -0,0 +1,138 @@
+package software.kes.collectionviews;
+
+import java.util.Comparator;
+
+/**
+ * A {@code Vector} whose elements are in ascending order according to a {@link Comparator}.
+ * <p>
+ * In addition to the guarantees of {@link Vector}, a {@code SortedVector} provides the following:
+ * <ul>
+ * <li>{@link SortedVector#binarySearch}, {@link SortedVector#lowerBound}, and {@link SortedVector#upperBound},
+ * which execute in O(log n).</li>
+ * <li>{@link SortedVector#range}, which returns a slice containing the elements between two keys.</li>
+ * <li>{@link SortedVector#merge}, which combines two {@code SortedVector}s in O(m + n).</li>
+ * </ul>
+ * <p>
+ * A {@code SortedVector} is created by calling {@link Vector#sort}, or by wrapping a {@code Vector} that is already
+ * known to be sorted using {@link SortedVector#wrap}.
+ *
+ * @param <A> the element type
+ */
+public interface SortedVector<A> extends Vector<A> {
+
+    /**
+     * Searches this {@code SortedVector} for an element equal to {@code key} according to its comparator.
+     * <p>
+     * Executes in O(log n).
+     * If more than one element is equal to {@code key}, there is no guarantee which one will be found.
+     *
+     * @param key the element to search for
+     * @return the index of an element equal to {@code key}, if there is one;
+     * otherwise, <code>(-(<i>insertion point</i>) - 1)</code>, where the insertion point is the index of the first
+     * element greater than {@code key}, or {@code size()} if there is none.
+     * This guarantees that the return value will be &gt;= 0 if and only if the key is found.
+     */
+    default int binarySearch(A key) {
+        return SortedVectors.binarySearch(key, this);
+    }
+
+    /**
+     * Returns the {@code Comparator} that determines the order of this {@code SortedVector}.
+     *
+     * @return a {@code Comparator}
+     */
+    Comparator<? super A> comparator();
+
+    /**
+     * Returns the index of the first element of this {@code SortedVector} that is not less than {@code key}.
+     * <p>
+     * Executes in O(log n).
+     *
+     * @param key the key to compare against
+     * @return an index between 0 and {@code size()}, inclusive
+     */
+    default int lowerBound(A key) {
+        return SortedVectors.lowerBound(key, this);
+    }
+
+    /**
+     * Merges this {@code SortedVector} with another one that is sorted by the same comparator.
+     * <p>
+     * Executes in O(m + n).
+     * The merge is stable: where an element of this {@code SortedVector} is equal to an element of {@code other},
+     * the element of this one appears first.
+     *
+     * @param other the other {@code SortedVector}.
+     *              Not null.
+     *              Its comparator must be equal to the comparator of this {@code SortedVector}.
+     * @return an {@code ImmutableSortedVector<A>} containing the elements of both
+     * @throws IllegalArgumentException if the comparators of the two {@code SortedVector}s are not equal
+     */
+    default ImmutableSortedVector<A> merge(SortedVector<A> other) {
+        return SortedVectors.merge(this, other);
+    }
+
+    /**
+     * Returns a slice of this {@code SortedVector} containing the elements that are not less than {@code from} and
+     * less than {@code to}.
+     * <p>
+     * Executes in O(log n).
+     * Does not make copies of any underlying collections.
+     *
+     * @param from the lower bound of the range (inclusive)
+     * @param to   the upper bound of the range (exclusive)
+     * @return a {@code SortedVector<A>}, which will be empty if {@code to} is not greater than {@code from}
+     */
+    default SortedVector<A> range(A from, A to) {
+        return SortedVectors.range(from, to, this);
+    }
+
+    /**
+     * Converts this {@code SortedVector} to an {@code ImmutableSortedVector}.
+     * <p>
+     * This method will make a copy of the underlying data structure if necessary to guarantee immutability.
+     * <p>
+     * If this {@link SortedVector} is already an {@link ImmutableSortedVector}, no copies are made and this method is
+     * a no-op.
+     *
+     * @return an {@code ImmutableSortedVector} containing the same elements
+     */
+    @Override
+    default ImmutableSortedVector<A> toImmutable() {
+        return SortedVectors.ensureImmutable(this);
+    }
+
+    /**
+     * Returns the index of the first element of this {@code SortedVector} that is greater than {@code key}.
+     * <p>
+     * Executes in O(log n).
+     *
+     * @param key the key to compare against
+     * @return an index between 0 and {@code size()}, inclusive
+     */
+    default int upperBound(A key) {
+        return SortedVectors.upperBound(key, this);
+    }
+
+    /**
+     * Creates a {@code SortedVector} that wraps a {@code Vector} whose elements are already sorted.
+     * <p>
+     * The caller vouches that the elements of {@code underlying} are in ascending order according to
+     * {@code comparator}.
+     * This is not checked.
+     * If it does not hold, the results of the searching methods of the created {@code SortedVector} are undefined.
+     * <p>
+     * Does not make any copies of the given {@link Vector}.
+     *
+     * @param comparator the {@code Comparator} that {@code underlying} is sorted by.
+     *                   Not null.
+     * @param underlying a sorted {@code Vector}.
+     *                   Not null.
+     * @param <A>        the element type
+     * @return a {@code SortedVector<A>}
+     */
+    static <A> SortedVector<A> wrap(Comparator<? super A> comparator, Vector<A> underlying) {
+        return SortedVectors.wrap(comparator, underlying);
+    }
+
+}
@@ -0,0 +1,76 @@
+package software.kes.collectionviews;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static software.kes.collectionviews.SortedVectors.immutableSlice;
+
+/**
+ * An {@code ImmutableSortedSet} backed by an {@code ImmutableSortedVector} that contains no duplicates.
+ */
+final class SortedVectorSet<A> extends ConcreteSet<A>
+        implements ImmutableSortedSet<A> {
+    /**
+     * Must be sorted by its comparator, and must not contain two elements that it considers equal.
+     */
+    private final ImmutableSortedVector<A> elements;
+
+    SortedVectorSet(ImmutableSortedVector<A> elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public Comparator<? super A> comparator() {
+        return elements.comparator();
+    }
+
+    @Override
+    public boolean contains(A element) {
+        return elements.binarySearch(element) >= 0;
+    }
+
+    @Override
+    public ImmutableSortedSet<A> headSet(A toExclusive) {
+        return slice(0, elements.lowerBound(toExclusive));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return ProtectedIterator.protectedIterator(elements.iterator());
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public ImmutableSortedSet<A> subSet(A fromInclusive, A toExclusive) {
+        int startIndex = elements.lowerBound(fromInclusive);
+        return slice(startIndex, Math.max(startIndex, elements.lowerBound(toExclusive)));
+    }
+
+    @Override
+    public ImmutableSortedSet<A> tailSet(A fromInclusive) {
+        return slice(elements.lowerBound(fromInclusive), elements.size());
+    }
+
+    @Override
+    public ImmutableSortedVector<A> toVector() {
+        return elements;
+    }
+
+    private ImmutableSortedSet<A> slice(int startIndex, int endIndex) {
+        if (startIndex == 0 && endIndex == elements.size()) {
+            return this;
+        } else {
+            return new SortedVectorSet<>(immutableSlice(startIndex, endIndex, elements));
+        }
+    }
+
+}
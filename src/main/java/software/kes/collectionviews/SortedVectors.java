@@ -0,0 +1,183 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+final class SortedVectors {
+
+    private SortedVectors() {
+
+    }
+
+    static <A> int binarySearch(A key, SortedVector<A> source) {
+        Comparator<? super A> comparator = source.comparator();
+        int low = 0;
+        int high = source.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int result = comparator.compare(source.unsafeGet(mid), key);
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    static <A> ImmutableSortedVector<A> ensureImmutable(SortedVector<A> source) {
+        if (source instanceof ImmutableSortedVector<?>) {
+            return (ImmutableSortedVector<A>) source;
+        } else {
+            return new ImmutableSortedVectorAdapter<>(source.comparator(), ImmutableVectors.ensureImmutable(underlying(source)));
+        }
+    }
+
+    static <A> ImmutableSortedVector<A> immutableRange(A from, A to, ImmutableSortedVector<A> source) {
+        int startIndex = lowerBound(from, source);
+        int endIndex = Math.max(startIndex, lowerBound(to, source));
+        return immutableSlice(startIndex, endIndex, source);
+    }
+
+    /**
+     * Slices {@code source} from {@code startIndex} until {@code endIndex}, which must both be in range.
+     */
+    static <A> ImmutableSortedVector<A> immutableSlice(int startIndex, int endIndex, ImmutableSortedVector<A> source) {
+        if (startIndex == 0 && endIndex == source.size()) {
+            return source;
+        }
+        ImmutableVector<A> underlying = source instanceof ImmutableSortedVectorAdapter<?>
+                ? ((ImmutableSortedVectorAdapter<A>) source).underlying()
+                : source;
+        return new ImmutableSortedVectorAdapter<>(source.comparator(), underlying.slice(startIndex, endIndex));
+    }
+
+    static <A> ImmutableSortedVector<A> immutableWrap(Comparator<? super A> comparator, ImmutableVector<A> underlying) {
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(underlying);
+        return new ImmutableSortedVectorAdapter<>(comparator, underlying);
+    }
+
+    /**
+     * Returns the index of the first element that is not less than {@code key}.
+     */
+    static <A> int lowerBound(A key, SortedVector<A> source) {
+        Comparator<? super A> comparator = source.comparator();
+        int low = 0;
+        int high = source.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(source.unsafeGet(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> ImmutableSortedVector<A> merge(SortedVector<A> first, SortedVector<A> second) {
+        Objects.requireNonNull(second);
+        Comparator<? super A> comparator = first.comparator();
+        if (!comparator.equals(second.comparator())) {
+            throw new IllegalArgumentException("Cannot merge SortedVectors with different comparators");
+        }
+        if (second.isEmpty()) {
+            return ensureImmutable(first);
+        } else if (first.isEmpty()) {
+            return ensureImmutable(second);
+        }
+        int firstSize = first.size();
+        int secondSize = second.size();
+        Object[] result = new Object[firstSize + secondSize];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < firstSize && j < secondSize) {
+            A a = first.unsafeGet(i);
+            A b = second.unsafeGet(j);
+            if (comparator.compare(b, a) < 0) {
+                result[k] = b;
+                j += 1;
+            } else {
+                result[k] = a;
+                i += 1;
+            }
+            k += 1;
+        }
+        if (i < firstSize) {
+            first.copyInto(result, k, i, firstSize);
+        } else {
+            second.copyInto(result, k, j, secondSize);
+        }
+        return new ImmutableSortedVectorAdapter<>(comparator, new ImmutableArrayVector<>((A[]) result));
+    }
+
+    static <A> SortedVector<A> range(A from, A to, SortedVector<A> source) {
+        int startIndex = lowerBound(from, source);
+        int endIndex = Math.max(startIndex, lowerBound(to, source));
+        if (startIndex == 0 && endIndex == source.size()) {
+            return source;
+        }
+        return new SortedVectorAdapter<>(source.comparator(), underlying(source).slice(startIndex, endIndex));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> ImmutableSortedVector<A> sort(Comparator<? super A> comparator, Vector<A> source) {
+        Objects.requireNonNull(comparator);
+        int size = source.size();
+        if (size == 0) {
+            return new ImmutableSortedVectorAdapter<>(comparator, Vectors.empty());
+        }
+        Object[] elements = new Object[size];
+        source.copyInto(elements, 0, 0, size);
+        Arrays.sort((A[]) elements, comparator);
+        return new ImmutableSortedVectorAdapter<>(comparator, new ImmutableArrayVector<>((A[]) elements));
+    }
+
+    /**
+     * Returns the index of the first element that is greater than {@code key}.
+     */
+    static <A> int upperBound(A key, SortedVector<A> source) {
+        Comparator<? super A> comparator = source.comparator();
+        int low = 0;
+        int high = source.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(source.unsafeGet(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static <A> SortedVector<A> wrap(Comparator<? super A> comparator, Vector<A> underlying) {
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(underlying);
+        if (underlying instanceof ImmutableVector<?>) {
+            return new ImmutableSortedVectorAdapter<>(comparator, (ImmutableVector<A>) underlying);
+        } else {
+            return new SortedVectorAdapter<>(comparator, underlying);
+        }
+    }
+
+    /**
+     * Strips the adapter from a {@code SortedVector}, so that slices of it are not views of views.
+     */
+    private static <A> Vector<A> underlying(SortedVector<A> source) {
+        if (source instanceof SortedVectorAdapter<?>) {
+            return ((SortedVectorAdapter<A>) source).underlying();
+        } else if (source instanceof ImmutableSortedVectorAdapter<?>) {
+            return ((ImmutableSortedVectorAdapter<A>) source).underlying();
+        } else {
+            return source;
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package software.kes.collectionviews;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+import static software.kes.collectionviews.Validation.requireNonNegative;
+
+/**
+ * A mutable builder for {@code ImmutableVector}s, intended for adding many elements in a loop.
+ * <p>
+ * Unlike {@link VectorBuilder}, a {@code TransientVectorBuilder} is mutated in place by its add operations, which
+ * return the same builder, and it allocates nothing per element other than when its underlying array grows.
+ * It has a single owner: it is not safe to share between threads, and it cannot be forked.
+ * <p>
+ * Calling {@link TransientVectorBuilder#build} hands the underlying array to the resulting {@link ImmutableVector}
+ * without copying it, and invalidates the builder.
+ * Any further calls to {@code add}, {@code addAll}, or {@code build} will throw an {@link IllegalStateException}.
+ *
+ * @param <A> the element type
+ */
+public final class TransientVectorBuilder<A> {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private Object[] elements;
+    private int size;
+
+    private TransientVectorBuilder(int initialCapacity) {
+        this.elements = new Object[initialCapacity];
+    }
+
+    /**
+     * Adds an element to this {@code TransientVectorBuilder}.
+     *
+     * @param element the element to add
+     * @return this {@code TransientVectorBuilder}
+     * @throws IllegalStateException if this {@code TransientVectorBuilder} has already been built
+     */
+    public TransientVectorBuilder<A> add(A element) {
+        Object[] current = elements();
+        if (size == current.length) {
+            current = grow(size + 1);
+        }
+        current[size] = element;
+        size += 1;
+        return this;
+    }
+
+    /**
+     * Adds all elements of an {@code Iterable} to this {@code TransientVectorBuilder}.
+     * <p>
+     * If {@code elements} is a {@link Vector} or a {@code java.util.Collection}, the underlying array is grown at most
+     * once, and {@code Vector}s are copied in bulk using {@link Vector#copyInto}.
+     *
+     * @param elements the elements to add.
+     *                 Not null.
+     * @return this {@code TransientVectorBuilder}
+     * @throws IllegalStateException if this {@code TransientVectorBuilder} has already been built
+     */
+    public TransientVectorBuilder<A> addAll(Iterable<? extends A> elements) {
+        Objects.requireNonNull(elements);
+        Object[] current = elements();
+        if (elements instanceof Vector<?>) {
+            Vector<?> vector = (Vector<?>) elements;
+            int count = vector.size();
+            if (count > current.length - size) {
+                current = grow(size + count);
+            }
+            vector.copyInto(current, size, 0, count);
+            size += count;
+            return this;
+        } else if (elements instanceof Collection<?>) {
+            int count = ((Collection<?>) elements).size();
+            if (count > current.length - size) {
+                grow(size + count);
+            }
+        }
+        for (A element : elements) {
+            add(element);
+        }
+        return this;
+    }
+
+    /**
+     * Builds a new {@code ImmutableVector} containing the elements added to this {@code TransientVectorBuilder}, and
+     * invalidates this builder.
+     * <p>
+     * Does not copy the elements.
+     *
+     * @return an {@code ImmutableVector<A>}
+     * @throws IllegalStateException if this {@code TransientVectorBuilder} has already been built
+     */
+    @SuppressWarnings("unchecked")
+    public ImmutableVector<A> build() {
+        Object[] result = elements();
+        elements = null;
+        if (size == 0) {
+            return Vectors.empty();
+        }
+        ImmutableArrayVector<A> vector = new ImmutableArrayVector<>((A[]) result);
+        return size == result.length ? vector : vector.take(size);
+    }
+
+    /**
+     * Returns the number of elements added to this {@code TransientVectorBuilder} so far.
+     *
+     * @return an {@code int}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates a new, empty {@code TransientVectorBuilder}.
+     *
+     * @param <A> the element type
+     * @return an empty {@link TransientVectorBuilder}
+     */
+    public static <A> TransientVectorBuilder<A> transientBuilder() {
+        return new TransientVectorBuilder<>(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new, empty {@code TransientVectorBuilder} with an initial capacity.
+     * <p>
+     * If the final number of elements is known in advance, building a vector of exactly {@code initialCapacity}
+     * elements will not allocate any array other than the one that is handed to the result.
+     *
+     * @param initialCapacity the initial capacity.
+     *                        Must be &gt;= 0.
+     * @param <A>             the element type
+     * @return an empty {@link TransientVectorBuilder}
+     */
+    public static <A> TransientVectorBuilder<A> transientBuilder(int initialCapacity) {
+        requireNonNegative("initialCapacity", initialCapacity);
+        return new TransientVectorBuilder<>(initialCapacity);
+    }
+
+    private Object[] elements() {
+        if (elements == null) {
+            throw new IllegalStateException("TransientVectorBuilder has already been built");
+        }
+        return elements;
+    }
+
+    /**
+     * Grows the underlying array by half its length, or to {@code minCapacity} if that is larger.
+     */
+    private Object[] grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("TransientVectorBuilder is full");
+        }
+        int length = elements.length;
+        int newCapacity = length + Math.max(length >> 1, DEFAULT_CAPACITY);
+        if (newCapacity < 0 || newCapacity > MAX_CAPACITY) {
+            newCapacity = MAX_CAPACITY;
+        }
+        newCapacity = Math.max(newCapacity, minCapacity);
+        elements = Arrays.copyOf(elements, newCapacity);
+        return elements;
+    }
+
+}
@@ -15,6 +15,27 @@ final class Util {
         return output.toString();
     }
 
+    /**
+     * Returns the hash code of a {@code Vector} containing {@code count} elements that all have the hash code
+     * {@code elementHash}, in O(log count).
+     * <p>
+     * The hash of such a {@code Vector} is 31<sup>n</sup> + elementHash &times; (31<sup>n-1</sup> + ... + 31 + 1),
+     * and both terms are built up by repeated squaring.
+     */
+    static int repeatedHashCode(int elementHash, int count) {
+        int power = 1; // 31^k
+        int sum = 0; // 31^(k-1) + ... + 31 + 1
+        for (int bit = Integer.highestOneBit(count); bit != 0; bit >>>= 1) {
+            sum = sum * power + sum;
+            power = power * power;
+            if ((count & bit) != 0) {
+                sum = sum * 31 + 1;
+                power = power * 31;
+            }
+        }
+        return power + elementHash * sum;
+    }
+
     static boolean isPrimitive(Object obj) {
         return (obj instanceof Primitive);
     }
@@ -58,6 +58,20 @@ final class Validation {
         Validation.requireNonNegative("count", count);
     }
 
+    static void validateCopyInto(Object[] dest, int destOffset, int srcFrom, int srcTo, Vector<?> source) {
+        Objects.requireNonNull(dest);
+        if (srcFrom < 0 || srcTo > source.size() || srcFrom > srcTo
+                || destOffset < 0 || destOffset > dest.length - (srcTo - srcFrom)) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    static void validateIndex(int index, Vector<?> source) {
+        if (index < 0 || index >= source.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
     static void validateFill(int count) {
         Validation.requireNonNegative("count", count);
     }
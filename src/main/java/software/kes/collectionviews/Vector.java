@@ -7,9 +7,15 @@ import com.jnape.palatable.lambda.functions.Fn2;
 import software.kes.enhancediterables.FiniteIterable;
 import software.kes.enhancediterables.ImmutableNonEmptyFiniteIterable;
 
+import java.nio.ByteBuffer;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.maybe;
@@ -72,6 +78,28 @@ public interface Vector<A> extends FiniteIterable<A>, RandomAccess {
      */
     A unsafeGet(int index);
 
+    /**
+     * Copies a range of elements of this {@code Vector} into an array.
+     * <p>
+     * The elements from {@code srcFrom} (inclusive) to {@code srcTo} (exclusive) are written to {@code dest},
+     * starting at {@code destOffset}.
+     * <p>
+     * {@code Vector}s backed by arrays, and slices of them, are copied using {@link System#arraycopy}.
+     * Other {@code Vector}s copy their elements without going through an {@link Iterator}.
+     *
+     * @param dest       the array to copy into.
+     *                   Not null.
+     * @param destOffset the index in {@code dest} of the first element copied
+     * @param srcFrom    the index of the first element to copy
+     * @param srcTo      the index after the last element to copy
+     * @throws IndexOutOfBoundsException if {@code srcFrom} and {@code srcTo} do not describe a range within this
+     *                                   {@code Vector}, or if the copied elements would not fit in {@code dest}
+     * @throws ArrayStoreException       if an element cannot be stored in {@code dest} because of its type
+     */
+    default void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        Vectors.copyInto(this, dest, destOffset, srcFrom, srcTo);
+    }
+
     /**
      * Returns the cartesian product of this {@code Vector} with another {@code Vector}.
      * <p>
@@ -175,6 +203,65 @@ public interface Vector<A> extends FiniteIterable<A>, RandomAccess {
         }
     }
 
+    /**
+     * Gets an element from this {@code Vector} at an index, or a default value if there is none.
+     * <p>
+     * Equivalent to {@code get(index).orElse(defaultValue)}, but does not allocate.
+     * Executes in O(1).
+     *
+     * @param index        the index of the element to retrieve
+     * @param defaultValue the value to return if the index is out of range or the element is null
+     * @return the element at {@code index} if the index is in range and the element is not null.
+     * {@code defaultValue} otherwise.
+     */
+    default A getOrElse(int index, A defaultValue) {
+        if (index >= 0 && index < size()) {
+            A result = unsafeGet(index);
+            return result != null ? result : defaultValue;
+        } else {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Gets an element from this {@code Vector} at an index, or null if the index is out of range.
+     * <p>
+     * Does not allocate.
+     * Executes in O(1).
+     *
+     * @param index the index of the element to retrieve
+     * @return the element at {@code index} if the index is in range, which may be null.
+     * null otherwise.
+     */
+    default A getOrNull(int index) {
+        if (index >= 0 && index < size()) {
+            return unsafeGet(index);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Splits this {@code Vector} into consecutive chunks of {@code n} elements.
+     * <p>
+     * Each chunk is a slice of this {@code Vector}, and every element belongs to exactly one chunk.
+     * The last chunk contains fewer than {@code n} elements if the size of this {@code Vector} is not a multiple of
+     * {@code n}.
+     * <p>
+     * Chunks are computed when they are read, so the returned {@link Vector} can be indexed in O(1), and does not make
+     * copies of the underlying collection.
+     * <p>
+     * Example:
+     *
+     * <code>Vector.of(1, 2, 3, 4, 5).grouped(2); // [[1, 2], [3, 4], [5]]</code>
+     *
+     * @param n the maximum number of elements in each chunk.  Must be &gt;= 1.
+     * @return a {@code Vector<NonEmptyVector<A>>}, empty if this {@code Vector} is empty
+     */
+    default Vector<? extends NonEmptyVector<A>> grouped(int n) {
+        return Vectors.grouped(n, this);
+    }
+
     /**
      * Returns an {@code ImmutableVector<Integer>} that contains all the indices of this {@code Vector}.
      *
@@ -219,6 +306,17 @@ public interface Vector<A> extends FiniteIterable<A>, RandomAccess {
         return VectorHelpers.vectorIterator(this);
     }
 
+    /**
+     * Returns a possibly parallel {@code Stream} with this {@code Vector} as its source.
+     * <p>
+     * The stream splits this {@code Vector} by index ranges, so the work is divided evenly between threads.
+     *
+     * @return a possibly parallel {@code Stream<A>}
+     */
+    default Stream<A> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Creates a {@code Vector} with this {@code Vector}'s elements in reversed order.
      * <p>
@@ -267,6 +365,116 @@ public interface Vector<A> extends FiniteIterable<A>, RandomAccess {
         return Vectors.slide(k, this);
     }
 
+    /**
+     * "Slides" a window of {@code k} elements across the {@code Vector} by {@code step} elements at a time.
+     * <p>
+     * Each window is a slice of this {@code Vector}.
+     * Windows are computed when they are read, so the returned {@link Vector} can be indexed in O(1), and does not
+     * make copies of the underlying collection.
+     * <p>
+     * As with {@link Vector#slide(int)}, every window contains {@code k} elements, unless this {@code Vector} contains
+     * fewer than {@code k} elements, in which case there is a single window containing all of them.
+     * Trailing elements that do not fill a window are not included; use {@link Vector#grouped} to keep them.
+     * <p>
+     * Example:
+     *
+     * <code>Vector.of(1, 2, 3, 4, 5, 6).slide(3, 2); // [[1, 2, 3], [3, 4, 5]]</code>
+     *
+     * @param k    the number of elements in the sliding window.  Must be &gt;= 1.
+     * @param step the number of elements the window moves by.  Must be &gt;= 1.
+     * @return a {@code Vector<NonEmptyVector<A>>}, empty if this {@code Vector} is empty
+     */
+    default Vector<? extends NonEmptyVector<A>> slide(int k, int step) {
+        return Vectors.slide(k, step, this);
+    }
+
+    /**
+     * Counts the elements that satisfy a predicate in each window of {@code k} elements, as the window slides across
+     * this {@code Vector} by one element at a time.
+     * <p>
+     * Produces one count for each window returned by {@link Vector#slide}, in O(n), and calls {@code predicate} once
+     * for each element.
+     * <p>
+     * Example:
+     *
+     * <code>Vector.of(1, 2, 3, 4, 5).slidingCount(2, n -&gt; n % 2 == 0); // [1, 1, 1, 1]</code>
+     *
+     * @param k         the number of elements in the sliding window.  Must be &gt;= 1.
+     * @param predicate a predicate; not null
+     * @return an {@code ImmutableIntVector}, empty if this {@code Vector} is empty
+     */
+    default ImmutableIntVector slidingCount(int k, Fn1<? super A, ? extends Boolean> predicate) {
+        return SlidingWindows.slidingCount(k, predicate, this);
+    }
+
+    /**
+     * Finds the greatest element in each window of {@code k} elements, as the window slides across this {@code Vector}
+     * by one element at a time.
+     * <p>
+     * Produces one element for each window returned by {@link Vector#slide}, in O(n) regardless of {@code k}.
+     * If a window contains several greatest elements, the first of them is chosen.
+     * <p>
+     * Example:
+     *
+     * <code>Vector.of(1, 3, 2, 5, 4).slidingMax(3, naturalOrder()); // [3, 5, 5]</code>
+     *
+     * @param k          the number of elements in the sliding window.  Must be &gt;= 1.
+     * @param comparator the ordering of the elements; not null
+     * @return an {@code ImmutableVector<A>}, empty if this {@code Vector} is empty
+     */
+    default ImmutableVector<A> slidingMax(int k, Comparator<? super A> comparator) {
+        return SlidingWindows.slidingMin(k, comparator.reversed(), this);
+    }
+
+    /**
+     * Finds the least element in each window of {@code k} elements, as the window slides across this {@code Vector}
+     * by one element at a time.
+     * <p>
+     * Produces one element for each window returned by {@link Vector#slide}, in O(n) regardless of {@code k}.
+     * If a window contains several least elements, the first of them is chosen.
+     * <p>
+     * Example:
+     *
+     * <code>Vector.of(1, 3, 2, 5, 4).slidingMin(3, naturalOrder()); // [1, 2, 2]</code>
+     *
+     * @param k          the number of elements in the sliding window.  Must be &gt;= 1.
+     * @param comparator the ordering of the elements; not null
+     * @return an {@code ImmutableVector<A>}, empty if this {@code Vector} is empty
+     */
+    default ImmutableVector<A> slidingMin(int k, Comparator<? super A> comparator) {
+        return SlidingWindows.slidingMin(k, comparator, this);
+    }
+
+    /**
+     * Creates a {@link SlidingWindowCursor} that slides a window of {@code k} elements across this {@code Vector}
+     * by one element at a time.
+     * <p>
+     * Visits the same windows as {@link Vector#slide}, but reuses a single window view, which is moved in place as the
+     * cursor advances, instead of allocating one per window.
+     * The window must not be retained once the cursor has advanced; see {@link SlidingWindowCursor}.
+     *
+     * @param k the number of elements in the sliding window.  Must be &gt;= 1.
+     * @return a new {@code SlidingWindowCursor<A>}
+     */
+    default SlidingWindowCursor<A> slidingWindowCursor(int k) {
+        return SlidingWindowCursor.slidingWindowCursor(k, this);
+    }
+
+    /**
+     * Returns an {@code ImmutableSortedVector} containing the elements of this {@code Vector} in ascending order
+     * according to {@code comparator}.
+     * <p>
+     * This method always makes a copy of the elements, and then sorts the copy in O(n log n).
+     * The sort is stable: equal elements keep their relative order.
+     *
+     * @param comparator the {@code Comparator} to sort by.
+     *                   Not null.
+     * @return an {@code ImmutableSortedVector<A>}
+     */
+    default ImmutableSortedVector<A> sort(Comparator<? super A> comparator) {
+        return SortedVectors.sort(comparator, this);
+    }
+
     /**
      * Splits this {@code Vector} into two at a given position.
      * <p>
@@ -284,6 +492,29 @@ public interface Vector<A> extends FiniteIterable<A>, RandomAccess {
         return Vectors.splitAt(index, this);
     }
 
+    /**
+     * Returns a {@code Spliterator} over this {@code Vector}'s elements.
+     * <p>
+     * The {@code Spliterator} is {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED},
+     * and also {@link Spliterator#IMMUTABLE} if this is an {@link ImmutableVector}.
+     * It splits by halving its index range, and accesses elements using {@link Vector#unsafeGet}.
+     *
+     * @return a {@code Spliterator<A>}
+     */
+    @Override
+    default Spliterator<A> spliterator() {
+        return VectorHelpers.vectorSpliterator(this);
+    }
+
+    /**
+     * Returns a sequential {@code Stream} with this {@code Vector} as its source.
+     *
+     * @return a sequential {@code Stream<A>}
+     */
+    default Stream<A> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
     /**
      * Returns a {@code NonEmptyIterable} containing the tails of this {@code Vector}.
      * <p>
@@ -334,6 +565,20 @@ public interface Vector<A> extends FiniteIterable<A>, RandomAccess {
         return Vectors.takeRight(count, this);
     }
 
+    /**
+     * Copies the elements of this {@code Vector} into a new array.
+     * <p>
+     * Uses {@link Vector#copyInto}, so {@code Vector}s backed by arrays are copied using {@link System#arraycopy}.
+     *
+     * @param generator a function that, given a size, creates an empty array of that size.
+     *                  Not null.
+     *                  Typically an array constructor reference, such as {@code String[]::new}.
+     * @return an array containing the elements of this {@code Vector}, in order
+     */
+    default A[] toArray(IntFunction<A[]> generator) {
+        return Vectors.toArray(generator, this);
+    }
+
     /**
      * Converts this {@code Vector} to an {@code ImmutableVector}.
      * <p>
@@ -380,6 +625,25 @@ public interface Vector<A> extends FiniteIterable<A>, RandomAccess {
         return Vectors.nonEmptyWrapOrThrow(this);
     }
 
+    /**
+     * Returns the number of transformations standing between this {@code Vector} and the collections that hold its
+     * elements.
+     * <p>
+     * Each call to {@link Vector#get} walks this many layers of views, so the result is the <i>k</i> in the O(k) cost
+     * of element access.
+     * A {@code Vector} that holds its elements directly, or computes them in constant time, has a depth of 0.
+     * Views that combine two {@code Vector}s report the depth of the deeper one.
+     * <p>
+     * Use this to decide when it is worth calling {@link ImmutableVector#force}.
+     * <p>
+     * Executes in O(k).
+     *
+     * @return the number of views between this {@code Vector} and its underlying collections
+     */
+    default int viewDepth() {
+        return 0;
+    }
+
     /**
      * Zips together this {@code Vector} with another {@code Vector} by applying a zipping function.
      * <p>
@@ -458,6 +722,45 @@ public interface Vector<A> extends FiniteIterable<A>, RandomAccess {
         return emptyVectorBuilder(just(initialCapacity));
     }
 
+    /**
+     * Creates a new {@code ChunkedVectorBuilder}.
+     * <p>
+     * A {@code ChunkedVectorBuilder} is mutable and can only be built once.
+     * It stores elements in fixed-size chunks rather than one growing array, so prefer it for building very large
+     * vectors.
+     *
+     * @param <A> the element type
+     * @return an empty {@link ChunkedVectorBuilder}
+     */
+    static <A> ChunkedVectorBuilder<A> chunkedBuilder() {
+        return ChunkedVectorBuilder.chunkedBuilder();
+    }
+
+    /**
+     * Creates a new {@code TransientVectorBuilder}.
+     * <p>
+     * A {@code TransientVectorBuilder} is mutable and can only be built once, but does not allocate per element.
+     * Prefer it to {@link Vector#builder} when adding many elements in a loop.
+     *
+     * @param <A> the element type
+     * @return an empty {@link TransientVectorBuilder}
+     */
+    static <A> TransientVectorBuilder<A> transientBuilder() {
+        return TransientVectorBuilder.transientBuilder();
+    }
+
+    /**
+     * Creates a new {@code TransientVectorBuilder} with an initial capacity.
+     *
+     * @param initialCapacity the initial capacity.
+     *                        Must be &gt;= 0.
+     * @param <A>             the element type
+     * @return an empty {@link TransientVectorBuilder}
+     */
+    static <A> TransientVectorBuilder<A> transientBuilder(int initialCapacity) {
+        return TransientVectorBuilder.transientBuilder(initialCapacity);
+    }
+
     /**
      * Creates an {@code ImmutableVector} that repeats the same element {@code size} times.
      * <p>
@@ -480,6 +783,8 @@ public interface Vector<A> extends FiniteIterable<A>, RandomAccess {
      * Creates an {@code ImmutableVector} where elements are lazily evaluated.
      * <p>
      * Uses O(1) memory.
+     * Elements are computed each time they are read; call {@link ImmutableVector#memoize} on the result to compute
+     * each element only once.
      * <p>
      * See {@link NonEmptyVector#lazyFill} if you require a {@link ImmutableNonEmptyVector} to be returned.
      *
@@ -551,6 +856,36 @@ public interface Vector<A> extends FiniteIterable<A>, RandomAccess {
         return Vectors.wrap(underlying);
     }
 
+    /**
+     * Creates a {@code Vector} of fixed-width records that are decoded from a {@code ByteBuffer} on demand.
+     * <p>
+     * The records occupy the bytes of {@code underlying} between its position and its limit, which must be a multiple
+     * of {@code recordSize}.
+     * Each call to {@link Vector#unsafeGet} decodes a record by calling {@code decoder} with the offset of its first
+     * byte, so no elements are held on the heap.
+     * {@code slice}, {@code take}, and {@code drop} return {@code Vector}s over the same buffer.
+     * <p>
+     * Does not make any copies of the given buffer, and will never alter it, or its position or limit.
+     * {@code underlying} may be a direct buffer, or a {@link java.nio.MappedByteBuffer} over a file, in which case
+     * the file will be read as the elements are accessed.
+     * <p>
+     * Since no copy is made, be aware that anyone that holds a reference to the buffer, or to a file that it maps,
+     * can still mutate its contents.
+     * Use {@link Vector#copyFrom} on the result if you want to avoid this situation.
+     *
+     * @param underlying the buffer to wrap; not null
+     * @param recordSize the number of bytes in each record.
+     *                   Must be &gt;= 1.
+     * @param decoder    decodes the record at a given offset; not null
+     * @param <A>        the element type
+     * @return a {@code Vector<A>}
+     * @throws IllegalArgumentException if the number of remaining bytes in {@code underlying} is not a multiple of
+     *                                  {@code recordSize}
+     */
+    static <A> Vector<A> wrap(ByteBuffer underlying, int recordSize, RecordDecoder<? extends A> decoder) {
+        return Vectors.wrap(underlying, recordSize, decoder);
+    }
+
     /**
      * Creates an {@code ImmutableVector} that is copied from any {@code Iterable}.
      * <p>
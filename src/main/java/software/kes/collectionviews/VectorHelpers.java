@@ -2,6 +2,7 @@ package software.kes.collectionviews;
 
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
 
 /**
  * Helper methods for implementers of custom {@link Vector}s.
@@ -43,6 +44,10 @@ public final class VectorHelpers {
         return new VectorIterator<>(vector);
     }
 
+    public static <A> Spliterator<A> vectorSpliterator(Vector<A> vector) {
+        return VectorSpliterator.vectorSpliterator(vector);
+    }
+
     public static String vectorToString(Vector<?> vector) {
         return Util.iterableToString("Vector", vector);
     }
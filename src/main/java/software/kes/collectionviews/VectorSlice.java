@@ -1,13 +1,15 @@
 package software.kes.collectionviews;
 
 import static software.kes.collectionviews.ImmutableVectorSlice.immutableVectorSlice;
+import static software.kes.collectionviews.Validation.validateCopyInto;
 
-final class VectorSlice<A> extends ConcreteVector<A> {
+final class VectorSlice<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
     private final int offset;
-    private final int size;
+    private final int size; // must be >= 1
     private final Vector<A> underlying;
 
     private VectorSlice(int offset, int size, Vector<A> underlying) {
+        assert (size >= 1);
         this.offset = offset;
         this.size = size;
         this.underlying = underlying;
@@ -18,6 +20,11 @@ final class VectorSlice<A> extends ConcreteVector<A> {
         return size;
     }
 
+    @Override
+    public int viewDepth() {
+        return 1 + underlying.viewDepth();
+    }
+
     @Override
     public A unsafeGet(int index) {
         if (index < 0 || index >= size) {
@@ -26,13 +33,40 @@ final class VectorSlice<A> extends ConcreteVector<A> {
         return underlying.unsafeGet(offset + index);
     }
 
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        validateCopyInto(dest, destOffset, srcFrom, srcTo, this);
+        underlying.copyInto(dest, destOffset, offset + srcFrom, offset + srcTo);
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    Vector<A> underlying() {
+        return underlying;
+    }
+
+    /**
+     * Slices {@code underlying}, pushing the slice below any view that can absorb it.
+     * <p>
+     * The caller is responsible for ensuring {@code size >= 1} and that the range lies within {@code underlying}.
+     */
     static <A> Vector<A> vectorSlice(int offset, int size, Vector<A> underlying) {
         if (underlying instanceof VectorSlice<?>) {
             VectorSlice<A> underlyingSlice = (VectorSlice<A>) underlying;
             int endIndex = Math.min(offset + size, underlyingSlice.size);
             return new VectorSlice<>(offset + underlyingSlice.offset, endIndex - offset, underlyingSlice.underlying);
-        } else if (underlying instanceof ImmutableVectorSlice<?>) {
-            return immutableVectorSlice(offset, size, (ImmutableVectorSlice<A>) underlying);
+        } else if (underlying instanceof ImmutableVector<?>) {
+            return immutableVectorSlice(offset, size, (ImmutableVector<A>) underlying);
+        } else if (underlying instanceof ByteBufferVector<?>) {
+            return ((ByteBufferVector<A>) underlying).subVector(offset, size);
+        } else if (underlying instanceof MappedVector<?>) {
+            return ((MappedVector<A>) underlying).subVector(offset, size);
+        } else if (underlying instanceof ReverseVector<?>) {
+            return ((ReverseVector<A>) underlying).subVector(offset, size);
+        } else if (underlying instanceof VectorZip<?, ?, ?>) {
+            return ((VectorZip<?, ?, A>) underlying).subVector(offset, size);
         } else {
             return new VectorSlice<>(offset, size, underlying);
         }
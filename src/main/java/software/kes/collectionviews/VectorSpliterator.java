@@ -0,0 +1,78 @@
+package software.kes.collectionviews;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@code Spliterator} over an index range of a {@link Vector}, which splits by halving the range.
+ */
+final class VectorSpliterator<A> implements Spliterator<A> {
+    private final Vector<A> underlying;
+    private final int characteristics;
+    private int index;
+    private final int fence;
+
+    private VectorSpliterator(Vector<A> underlying, int characteristics, int index, int fence) {
+        this.underlying = underlying;
+        this.characteristics = characteristics;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super A> action) {
+        Objects.requireNonNull(action);
+        if (index < fence) {
+            action.accept(underlying.unsafeGet(index));
+            index += 1;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        Objects.requireNonNull(action);
+        int i = index;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(underlying.unsafeGet(i));
+        }
+    }
+
+    @Override
+    public Spliterator<A> trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        int start = index;
+        index = mid;
+        return new VectorSpliterator<>(underlying, characteristics, start, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    static <A> VectorSpliterator<A> vectorSpliterator(Vector<A> underlying) {
+        return new VectorSpliterator<>(underlying, spliteratorCharacteristics(underlying), 0, underlying.size());
+    }
+
+    static int spliteratorCharacteristics(Vector<?> vector) {
+        int characteristics = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        if (vector instanceof ImmutableVector<?>) {
+            characteristics |= Spliterator.IMMUTABLE;
+        }
+        return characteristics;
+    }
+
+}
@@ -0,0 +1,67 @@
+package software.kes.collectionviews;
+
+/**
+ * A {@code Vector} of windows over a source {@code Vector}, each of which is a slice of the source.
+ * <p>
+ * Window {@code i} starts at index {@code i * step} of the source, and contains {@code windowSize} elements, or
+ * fewer if it reaches the end of the source.
+ * Windows are computed when they are read, so any window can be read in O(1), and the windows themselves take no
+ * space other than the slice that is returned.
+ */
+final class VectorWindows<A> extends ConcreteVector<NonEmptyVector<A>> implements NonEmptyVector<NonEmptyVector<A>> {
+    private final Vector<A> source;
+    private final int sourceSize;
+    private final int windowSize;
+    private final int step;
+    private final int size; // must be >= 1
+
+    private VectorWindows(Vector<A> source, int sourceSize, int windowSize, int step, int size) {
+        assert (size >= 1);
+        this.source = source;
+        this.sourceSize = sourceSize;
+        this.windowSize = windowSize;
+        this.step = step;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public NonEmptyVector<A> unsafeGet(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int start = index * step;
+        return source.slice(start, start + Math.min(windowSize, sourceSize - start)).toNonEmptyOrThrow();
+    }
+
+    /**
+     * Returns the windows of {@code windowSize} elements that start every {@code step} elements, omitting any window
+     * that would extend past the end of {@code source}, unless {@code ragged} is true.
+     * <p>
+     * The caller is responsible for ensuring {@code windowSize >= 1} and {@code step >= 1}.
+     */
+    static <A> Vector<NonEmptyVector<A>> vectorWindows(int windowSize, int step, boolean ragged, Vector<A> source) {
+        int sourceSize = source.size();
+        int size = windowCount(sourceSize, windowSize, step, ragged);
+        if (size == 0) {
+            return Vectors.empty();
+        } else {
+            return new VectorWindows<>(source, sourceSize, windowSize, step, size);
+        }
+    }
+
+    static int windowCount(int sourceSize, int windowSize, int step, boolean ragged) {
+        if (sourceSize == 0) {
+            return 0;
+        } else if (ragged) {
+            return 1 + (sourceSize - 1) / step;
+        } else {
+            return 1 + (sourceSize - Math.min(windowSize, sourceSize)) / step;
+        }
+    }
+
+}
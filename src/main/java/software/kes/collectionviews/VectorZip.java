@@ -1,20 +1,38 @@
 package software.kes.collectionviews;
 
+import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
 
+import java.util.Objects;
+
 final class VectorZip<A, B, C> extends ConcreteVector<C>
         implements NonEmptyVector<C> {
 
-    private final Fn2<A, B, C> fn;
-    private final NonEmptyVector<A> first;
-    private final NonEmptyVector<B> second;
-    private final int size;
+    /**
+     * Each element is {@code mapper} applied to the result of {@code fn}, which must be a {@code C}.
+     */
+    private final Fn2<A, B, ?> fn;
+    private final MapperChain mapper;
+    /**
+     * The operands are read from {@code firstOffset} and {@code secondOffset} onwards, so that zipping slices, and
+     * slicing a zip, do not need a slice view of their own.
+     */
+    private final Vector<A> first;
+    private final int firstOffset;
+    private final Vector<B> second;
+    private final int secondOffset;
+    private final int size; // must be >= 1
 
-    private VectorZip(Fn2<A, B, C> fn, NonEmptyVector<A> first, NonEmptyVector<B> second) {
+    private VectorZip(Fn2<A, B, ?> fn, MapperChain mapper, Vector<A> first, int firstOffset,
+                      Vector<B> second, int secondOffset, int size) {
+        assert (size >= 1);
         this.fn = fn;
+        this.mapper = mapper;
         this.first = first;
+        this.firstOffset = firstOffset;
         this.second = second;
-        this.size = Math.min(first.size(), second.size());
+        this.secondOffset = secondOffset;
+        this.size = size;
     }
 
     @Override
@@ -27,16 +45,53 @@ final class VectorZip<A, B, C> extends ConcreteVector<C>
         return size;
     }
 
+    @Override
+    public int viewDepth() {
+        return 1 + Math.max(first.viewDepth(), second.viewDepth());
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     public C unsafeGet(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException();
         }
-        return fn.apply(first.unsafeGet(index), second.unsafeGet(index));
+        return (C) mapper.apply(fn.apply(first.unsafeGet(firstOffset + index),
+                second.unsafeGet(secondOffset + index)));
     }
 
-    static <A, B, C> VectorZip<A, B, C> vectorZip(Fn2<A, B, C> fn, NonEmptyVector<A> first, NonEmptyVector<B> second) {
-        return new VectorZip<>(fn, first, second);
+    /**
+     * Fuses {@code f} into the {@code MapperChain} that is applied to the result of the zipping function.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <D> NonEmptyVector<D> fmap(Fn1<? super C, ? extends D> f) {
+        Objects.requireNonNull(f);
+        return new VectorZip<>(fn, mapper.add((Fn1<Object, Object>) f), first, firstOffset, second, secondOffset,
+                size);
+    }
+
+    VectorZip<A, B, C> subVector(int offset, int count) {
+        return new VectorZip<>(fn, mapper, first, firstOffset + offset, second, secondOffset + offset,
+                count);
+    }
+
+    static <A, B, C> VectorZip<A, B, C> vectorZip(Fn2<A, B, C> fn, Vector<A> first, Vector<B> second) {
+        int size = Math.min(first.size(), second.size());
+        Vector<A> firstUnderlying = first;
+        int firstOffset = 0;
+        if (first instanceof VectorSlice<?>) {
+            firstUnderlying = ((VectorSlice<A>) first).underlying();
+            firstOffset = ((VectorSlice<A>) first).offset();
+        }
+        Vector<B> secondUnderlying = second;
+        int secondOffset = 0;
+        if (second instanceof VectorSlice<?>) {
+            secondUnderlying = ((VectorSlice<B>) second).underlying();
+            secondOffset = ((VectorSlice<B>) second).offset();
+        }
+        return new VectorZip<>(fn, MapperChain.empty(), firstUnderlying, firstOffset, secondUnderlying, secondOffset,
+                size);
     }
 
 }
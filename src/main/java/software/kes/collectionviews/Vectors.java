@@ -11,23 +11,25 @@ import software.kes.enhancediterables.FiniteIterable;
 import software.kes.enhancediterables.ImmutableNonEmptyFiniteIterable;
 import software.kes.enhancediterables.NonEmptyIterable;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.IntFunction;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
 import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Into.into;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Tupler2.tupler;
 import static software.kes.collectionviews.CrossJoinVector.crossJoinVector;
 import static software.kes.collectionviews.ImmutableVectors.nonEmptyRange;
 import static software.kes.collectionviews.MapperChain.mapperChain;
+import static software.kes.collectionviews.Validation.requirePositive;
+import static software.kes.collectionviews.Validation.validateCopyInto;
 import static software.kes.collectionviews.Validation.validateDrop;
 import static software.kes.collectionviews.Validation.validateSlice;
 import static software.kes.collectionviews.Validation.validateTake;
-import static software.kes.enhancediterables.FiniteIterable.emptyFiniteIterable;
 
 final class Vectors {
 
@@ -35,11 +37,20 @@ final class Vectors {
 
     }
 
+    static <A> void copyInto(Vector<A> source, Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        validateCopyInto(dest, destOffset, srcFrom, srcTo, source);
+        for (int i = srcFrom; i < srcTo; i++) {
+            dest[destOffset++] = source.unsafeGet(i);
+        }
+    }
+
     static <A, B> Vector<Tuple2<A, B>> cross(Vector<A> first, Vector<B> second) {
-        return second.toNonEmpty().<Tuple2<NonEmptyVector<A>, NonEmptyVector<B>>>zip(first.toNonEmpty()
-                .fmap(tupler()))
-                .match(__ -> empty(),
-                        into(Vectors::nonEmptyCross));
+        Objects.requireNonNull(second);
+        if (first.isEmpty() || second.isEmpty()) {
+            return empty();
+        } else {
+            return nonEmptyCross(nonEmptyWrapOrThrow(first), nonEmptyWrapOrThrow(second));
+        }
     }
 
     static <A> Vector<A> drop(int count, Vector<A> source) {
@@ -82,14 +93,22 @@ final class Vectors {
         return result;
     }
 
+    static <A> Vector<? extends NonEmptyVector<A>> grouped(int n, Vector<A> source) {
+        requirePositive("n", n);
+        return VectorWindows.vectorWindows(n, n, true, source);
+    }
+
     static <A> ImmutableNonEmptyFiniteIterable<Vector<A>> inits(Vector<A> source) {
         return nonEmptyRange(source.size() + 1).fmap(source::dropRight);
     }
 
+    @SuppressWarnings("unchecked")
     static <A, B> Vector<B> map(Fn1<? super A, ? extends B> f, Vector<A> source) {
-        return maybeNonEmptyWrap(source)
-                .match(__ -> empty(),
-                        nonEmpty -> nonEmptyMap(f, nonEmpty));
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new MappedVector<>(mapperChain((Fn1<Object, Object>) f), (Vector<Object>) source);
+        }
     }
 
     static <A> Maybe<NonEmptyVector<A>> maybeNonEmptyWrap(A[] arr) {
@@ -115,7 +134,7 @@ final class Vectors {
         if (vec instanceof NonEmptyVector<?>) {
             return just((NonEmptyVector<A>) vec);
         } else if (!vec.isEmpty()) {
-            return just(new VectorCons<>(vec.unsafeGet(0), vec.drop(1)));
+            return just(new NonEmptyVectorAdapter<>(vec));
         } else {
             return nothing();
         }
@@ -155,15 +174,32 @@ final class Vectors {
     }
 
     static <A> NonEmptyVector<A> nonEmptyWrapOrThrow(A[] arr) {
-        return getNonEmptyOrThrow(maybeNonEmptyWrap(arr));
+        Objects.requireNonNull(arr);
+        if (arr.length == 0) {
+            throw nonEmptyError().apply();
+        } else {
+            return new WrappedArrayVector<>(arr);
+        }
     }
 
     static <A> NonEmptyVector<A> nonEmptyWrapOrThrow(List<A> list) {
-        return getNonEmptyOrThrow(maybeNonEmptyWrap(list));
+        Objects.requireNonNull(list);
+        if (list.isEmpty()) {
+            throw nonEmptyError().apply();
+        } else {
+            return new WrappedListVector<>(list);
+        }
     }
 
     static <A> NonEmptyVector<A> nonEmptyWrapOrThrow(Vector<A> vec) {
-        return getNonEmptyOrThrow(maybeNonEmptyWrap(vec));
+        Objects.requireNonNull(vec);
+        if (vec instanceof NonEmptyVector<?>) {
+            return (NonEmptyVector<A>) vec;
+        } else if (vec.isEmpty()) {
+            throw nonEmptyError().apply();
+        } else {
+            return new NonEmptyVectorAdapter<>(vec);
+        }
     }
 
     static <A, B, C> NonEmptyVector<C> nonEmptyZipWith(Fn2<A, B, C> fn, NonEmptyVector<A> first, NonEmptyVector<B> second) {
@@ -187,6 +223,14 @@ final class Vectors {
         }
     }
 
+    static void reverseInPlace(Object[] array, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            Object temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+
     static <A> Vector<A> slice(int startIndex, int endIndexExclusive, Vector<A> source) {
         return sliceFromIterable(startIndex, endIndexExclusive, source);
     }
@@ -210,17 +254,13 @@ final class Vectors {
     }
 
     static <A> FiniteIterable<? extends NonEmptyVector<A>> slide(int k, Vector<A> source) {
-        if (k < 1) {
-            throw new IllegalArgumentException("k must be >= 1");
-        }
-        int size = source.size();
-        if (size == 0) {
-            return emptyFiniteIterable();
-        } else {
-            final int windowSize = Math.min(k, size);
-            final int maxIndex = 1 + size - windowSize;
-            return () -> new VectorSlidingIterator<>(source, windowSize, maxIndex);
-        }
+        return slide(k, 1, source);
+    }
+
+    static <A> Vector<? extends NonEmptyVector<A>> slide(int k, int step, Vector<A> source) {
+        requirePositive("k", k);
+        requirePositive("step", step);
+        return VectorWindows.vectorWindows(k, step, false, source);
     }
 
     static <A> Tuple2<Vector<A>, Vector<A>> splitAt(int index, Vector<A> source) {
@@ -247,6 +287,14 @@ final class Vectors {
         }
     }
 
+    static <A> A[] toArray(IntFunction<A[]> generator, Vector<A> source) {
+        Objects.requireNonNull(generator);
+        int size = source.size();
+        A[] result = generator.apply(size);
+        source.copyInto(result, 0, 0, size);
+        return result;
+    }
+
     static <A> Vector<A> wrap(A[] arr) {
         Objects.requireNonNull(arr);
         if (arr.length == 0) {
@@ -265,11 +313,20 @@ final class Vectors {
         }
     }
 
+    static <A> Vector<A> wrap(ByteBuffer underlying, int recordSize, RecordDecoder<? extends A> decoder) {
+        Objects.requireNonNull(underlying);
+        Objects.requireNonNull(decoder);
+        return ByteBufferVector.byteBufferVector(underlying, recordSize, decoder);
+    }
+
     static <A, B, C> Vector<C> zipWith(Fn2<A, B, C> fn, Vector<A> first, Vector<B> second) {
-        return second.toNonEmpty().<Tuple2<NonEmptyVector<A>, NonEmptyVector<B>>>zip(first.toNonEmpty()
-                .fmap(tupler()))
-                .match(__ -> empty(),
-                        into((ne1, ne2) -> nonEmptyZipWith(fn, ne1, ne2)));
+        Objects.requireNonNull(second);
+        if (first.isEmpty() || second.isEmpty()) {
+            return empty();
+        } else {
+            Objects.requireNonNull(fn);
+            return VectorZip.vectorZip(fn, first, second);
+        }
     }
 
     static <A> Vector<Tuple2<A, Integer>> zipWithIndex(Vector<A> vec) {
@@ -277,8 +334,4 @@ final class Vectors {
         return zipWith(tupler(), vec, vec.indices());
     }
 
-    private static <A> NonEmptyVector<A> getNonEmptyOrThrow(Maybe<NonEmptyVector<A>> maybeResult) {
-        return maybeResult.orElseThrow(Vectors.nonEmptyError());
-    }
-
 }
@@ -2,6 +2,8 @@ package software.kes.collectionviews;
 
 import java.util.Arrays;
 
+import static software.kes.collectionviews.Validation.validateCopyInto;
+
 final class WrappedArrayVector<A> extends ConcreteVector<A>
         implements NonEmptyVector<A>, Primitive {
     /**
@@ -31,6 +33,12 @@ final class WrappedArrayVector<A> extends ConcreteVector<A>
         return underlying[index];
     }
 
+    @Override
+    public void copyInto(Object[] dest, int destOffset, int srcFrom, int srcTo) {
+        validateCopyInto(dest, destOffset, srcFrom, srcTo, this);
+        System.arraycopy(underlying, srcFrom, dest, destOffset, srcTo - srcFrom);
+    }
+
     @Override
     public ImmutableNonEmptyVector<A> toImmutable() {
         A[] copied = Arrays.copyOf(underlying, underlying.length);
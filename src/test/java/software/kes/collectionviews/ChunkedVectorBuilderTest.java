@@ -0,0 +1,88 @@
+package software.kes.collectionviews;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.kes.collectionviews.EmptyVector.emptyVector;
+
+class ChunkedVectorBuilderTest {
+
+    // A chunk shift of 2 gives chunks of 4 elements, so that small vectors span several chunks.
+
+    private static ImmutableVector<Integer> buildRange(int size) {
+        ChunkedVectorBuilder<Integer> builder = ChunkedVectorBuilder.chunkedBuilder(2);
+        for (int i = 0; i < size; i++) {
+            builder.add(i);
+        }
+        return builder.build();
+    }
+
+    @Test
+    void emptyBuilderYieldsEmptyVector() {
+        assertSame(emptyVector(), Vector.<String>chunkedBuilder().build());
+    }
+
+    @Test
+    void singleChunk() {
+        ImmutableVector<Integer> result = buildRange(3);
+        assertEquals(Vector.of(0, 1, 2), result);
+        assertEquals(0, result.viewDepth());
+    }
+
+    @Test
+    void manyChunks() {
+        ImmutableVector<Integer> result = buildRange(11);
+        assertEquals(Vector.range(11), result);
+        assertEquals(Vector.range(11).hashCode(), result.hashCode());
+        assertThrows(IndexOutOfBoundsException.class, () -> result.unsafeGet(11));
+    }
+
+    @Test
+    void defaultChunkSize() {
+        ChunkedVectorBuilder<Integer> builder = Vector.chunkedBuilder();
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 40000; i++) {
+            builder.add(i);
+            expected.add(i);
+        }
+        assertEquals(40000, builder.size());
+        assertEquals(Vector.copyFrom(expected), builder.build());
+    }
+
+    @Test
+    void copyIntoAcrossChunks() {
+        Integer[] dest = new Integer[6];
+        buildRange(11).copyInto(dest, 1, 2, 7);
+        assertArrayEquals(new Integer[]{null, 2, 3, 4, 5, 6}, dest);
+        assertArrayEquals(new Integer[]{3, 4, 5, 6, 7, 8}, buildRange(11).slice(3, 9).toArray(Integer[]::new));
+    }
+
+    @Test
+    void addAll() {
+        ImmutableVector<Integer> result = ChunkedVectorBuilder.<Integer>chunkedBuilder(2)
+                .add(-1)
+                .addAll(Vector.range(9))
+                .addAll(asList(100, 101))
+                .addAll(Vector.range(3).reverse())
+                .build();
+        assertThat(result, contains(-1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 100, 101, 2, 1, 0));
+    }
+
+    @Test
+    void cannotBeUsedAfterBuild() {
+        ChunkedVectorBuilder<Integer> builder = Vector.<Integer>chunkedBuilder().add(1);
+        assertEquals(Vector.of(1), builder.build());
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, () -> builder.add(2));
+        assertThrows(IllegalStateException.class, () -> builder.addAll(Vector.empty()));
+    }
+
+}
@@ -0,0 +1,84 @@
+package software.kes.collectionviews;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DoubleVectorTest {
+
+    @Test
+    void wrapsAndCopies() {
+        double[] underlying = {1.0, 2.0, 3.0};
+        DoubleVector wrapped = DoubleVector.wrap(underlying);
+        ImmutableDoubleVector copied = DoubleVector.copyFrom(underlying);
+        underlying[0] = 10.0;
+        assertThat(wrapped, contains(10.0, 2.0, 3.0));
+        assertThat(copied, contains(1.0, 2.0, 3.0));
+        assertSame(DoubleVector.empty(), DoubleVector.wrap(new double[]{}));
+    }
+
+    @Test
+    void fill() {
+        assertThat(DoubleVector.fill(2, 0.5), contains(0.5, 0.5));
+        assertSame(DoubleVector.empty(), DoubleVector.fill(0, 0.5));
+    }
+
+    @Test
+    void slicesAndReverses() {
+        DoubleVector subject = DoubleVector.wrap(new double[]{1.0, 2.0, 3.0, 4.0});
+        assertThat(subject.drop(1).reverse(), contains(4.0, 3.0, 2.0));
+        assertArrayEquals(new double[]{3.0, 2.0}, subject.reverse().slice(1, 3).toDoubleArray(), 0.0);
+    }
+
+    @Test
+    void slidingMinAndMax() {
+        DoubleVector subject = DoubleVector.of(1.0, 3.0, Double.NaN, 0.0, -0.0, 4.0);
+        assertThat(subject.slidingMin(2), contains(1.0, 3.0, 0.0, -0.0, -0.0));
+        assertThat(subject.slidingMax(2), contains(3.0, Double.NaN, Double.NaN, 0.0, 4.0));
+    }
+
+    @Test
+    void slidingSumIsCompensated() {
+        DoubleVector sums = DoubleVector.of(1e100, 1.0, -1e100, 1.0, 0.1, 0.2).slidingSum(3);
+        assertEquals(1.0, sums.unsafeGetDouble(0));
+        assertEquals(-1e100, sums.unsafeGetDouble(1));
+        assertEquals(1.3, sums.unsafeGetDouble(3), 1e-15);
+        assertEquals(0.3, DoubleVector.fill(10_000, 0.1).slidingSum(3).unsafeGetDouble(9_997), 1e-15);
+    }
+
+    @Test
+    void slidingSumConfinesNonFiniteValuesToTheirWindows() {
+        DoubleVector subject = DoubleVector.of(1.0, Double.POSITIVE_INFINITY, 2.0, Double.NEGATIVE_INFINITY, 3.0,
+                Double.NaN, 4.0, 5.0);
+        assertThat(subject.slidingSum(2), contains(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN, Double.NaN, 9.0));
+        assertThat(subject.slidingSum(3).take(1), contains(Double.POSITIVE_INFINITY));
+        assertEquals(Double.NaN, subject.slidingSum(4).unsafeGetDouble(0));
+        assertSame(DoubleVector.empty(), DoubleVector.empty().slidingSum(2));
+    }
+
+    @Test
+    void mapToDoubleAndMapToObj() {
+        DoubleVector subject = DoubleVector.of(1.0, 2.0);
+        assertThat(subject.mapToDouble(d -> d / 2), contains(0.5, 1.0));
+        assertThat(subject.mapToObj(d -> (int) d), contains(1, 2));
+    }
+
+    @Test
+    void equalityMatchesBoxedDoubles() {
+        DoubleVector subject = DoubleVector.of(1.0, Double.NaN);
+        Vector<Double> boxed = Vector.of(1.0, Double.NaN);
+        assertEquals(boxed, subject);
+        assertEquals(subject, boxed);
+        assertEquals(subject, DoubleVector.of(1.0, Double.NaN));
+        assertEquals(boxed.hashCode(), subject.hashCode());
+        assertNotEquals(DoubleVector.of(0.0), DoubleVector.of(-0.0));
+        assertNotEquals(Vector.of(0.0), DoubleVector.of(-0.0));
+    }
+
+}
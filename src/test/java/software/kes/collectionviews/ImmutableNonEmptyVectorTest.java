@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import software.kes.enhancediterables.NonEmptyIterable;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -765,4 +766,38 @@ class ImmutableNonEmptyVectorTest {
 
     }
 
+    @Nested
+    @DisplayName("toNonEmpty")
+    class ToNonEmpty {
+
+        @Test
+        void sliceIsAlreadyNonEmpty() {
+            ImmutableVector<Integer> subject = Vector.of(1, 2, 3, 4).slice(1, 3);
+            assertSame(subject, subject.toNonEmptyOrThrow());
+        }
+
+        @Test
+        void adaptsOtherVectorsWithoutAddingAView() {
+            ImmutableVector<Integer> sorted = ImmutableSortedVector.wrap(Comparator.naturalOrder(),
+                    Vector.copyFrom(asList(1, 2, 3, 4)));
+            ImmutableNonEmptyVector<Integer> subject = sorted.toNonEmptyOrThrow();
+            assertEquals(sorted.viewDepth(), subject.viewDepth());
+            assertThat(subject, contains(1, 2, 3, 4));
+            assertEquals(1, subject.head());
+            assertThat(subject.tail(), contains(2, 3, 4));
+            assertEquals(sorted.drop(1).viewDepth(), subject.drop(1).viewDepth());
+            assertThat(subject.reverse(), contains(4, 3, 2, 1));
+            assertEquals(sorted, subject);
+        }
+
+        @Test
+        void slidingWindowsAreSlices() {
+            ImmutableVector<Integer> source = Vector.copyFrom(asList(1, 2, 3, 4, 5));
+            for (ImmutableNonEmptyVector<Integer> window : source.slide(3)) {
+                assertEquals(1, window.viewDepth());
+            }
+        }
+
+    }
+
 }
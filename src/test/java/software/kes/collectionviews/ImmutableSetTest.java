@@ -5,15 +5,22 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -709,4 +716,207 @@ class ImmutableSetTest {
 
     }
 
+
+    @Nested
+    @DisplayName("persistent operations")
+    class PersistentOperations {
+
+        @Test
+        void addToEmpty() {
+            ImmutableNonEmptySet<String> subject = Set.<String>empty().add("foo");
+            assertThat(subject, contains("foo"));
+            assertEquals(1, subject.size());
+        }
+
+        @Test
+        void addLeavesOriginalUnchanged() {
+            ImmutableSet<Integer> original = Set.of(1, 2, 3);
+            ImmutableSet<Integer> added = original.add(4);
+            assertThat(added, containsInAnyOrder(1, 2, 3, 4));
+            assertThat(original, containsInAnyOrder(1, 2, 3));
+        }
+
+        @Test
+        void addExistingElementReturnsEqualSet() {
+            ImmutableNonEmptySet<Integer> original = Set.of(1, 2, 3);
+            assertEquals(original, original.add(2));
+            assertSame(original.add(2), original.add(2).add(2));
+        }
+
+        @Test
+        void algebraOfImmutableSetsIsImmutable() {
+            ImmutableSet<Integer> first = Set.of(1, 2, 3);
+            ImmutableSet<Integer> second = Set.of(2, 3, 4);
+            ImmutableSet<Integer> intersection = first.intersect(second);
+            ImmutableSet<Integer> difference = first.difference(second);
+            ImmutableSet<Integer> symmetricDifference = first.symmetricDifference(second);
+            assertThat(intersection, containsInAnyOrder(2, 3));
+            assertThat(difference, containsInAnyOrder(1));
+            assertThat(symmetricDifference, containsInAnyOrder(1, 4));
+            assertThat(difference.add(5), containsInAnyOrder(1, 5));
+        }
+
+        @Test
+        void removeLeavesOriginalUnchanged() {
+            ImmutableSet<Integer> original = Set.of(1, 2, 3);
+            ImmutableSet<Integer> removed = original.remove(2);
+            assertThat(removed, containsInAnyOrder(1, 3));
+            assertThat(original, containsInAnyOrder(1, 2, 3));
+        }
+
+        @Test
+        void removeMissingElementReturnsItself() {
+            ImmutableSet<Integer> original = Set.of(1, 2, 3);
+            assertSame(original, original.remove(4));
+            assertSame(Set.<Integer>empty(), Set.<Integer>empty().remove(4));
+        }
+
+        @Test
+        void removeLastElementYieldsEmpty() {
+            assertSame(Set.empty(), Set.of(1).remove(1));
+        }
+
+        @Test
+        void supportsNull() {
+            ImmutableSet<String> subject = Set.of("foo").add(null);
+            assertTrue(subject.contains(null));
+            assertEquals(2, subject.size());
+            assertFalse(subject.remove(null).contains(null));
+        }
+
+        @Test
+        void handlesHashCollisions() {
+            List<Collider> elements = new ArrayList<>();
+            ImmutableSet<Collider> subject = Set.empty();
+            for (int i = 0; i < 20; i++) {
+                Collider element = new Collider(i, i % 2 == 0 ? 7 : -7);
+                elements.add(element);
+                subject = subject.add(element);
+            }
+            assertEquals(20, subject.size());
+            assertThat(subject, containsInAnyOrder(elements.toArray()));
+            for (Collider element : elements) {
+                assertTrue(subject.contains(element));
+                subject = subject.remove(element);
+                assertFalse(subject.contains(element));
+            }
+            assertSame(Set.empty(), subject);
+        }
+
+        @Test
+        void unionOfDisjointSets() {
+            ImmutableSet<Integer> first = Set.of(1, 2, 3);
+            ImmutableSet<Integer> second = Set.of(4, 5);
+            assertThat(first.union(second), containsInAnyOrder(1, 2, 3, 4, 5));
+            assertThat(second.union(first), containsInAnyOrder(1, 2, 3, 4, 5));
+        }
+
+        @Test
+        void unionOfOverlappingSets() {
+            ImmutableNonEmptySet<Integer> first = Set.of(1, 2, 3);
+            ImmutableNonEmptySet<Integer> union = first.union(Set.of(3, 4));
+            assertEquals(4, union.size());
+            assertThat(union, containsInAnyOrder(1, 2, 3, 4));
+        }
+
+        @Test
+        void unionWithEmpty() {
+            ImmutableSet<Integer> subject = Set.of(1, 2, 3);
+            assertSame(subject, subject.union(Set.empty()));
+            assertSame(subject, Set.<Integer>empty().union(subject));
+        }
+
+        @Test
+        void randomOperationsMatchHashSet() {
+            Random random = new Random(42);
+            java.util.Set<Integer> model = new HashSet<>();
+            ImmutableSet<Integer> subject = Set.empty();
+            for (int i = 0; i < 20_000; i++) {
+                int element = random.nextInt(5_000) - 2_500;
+                if (random.nextInt(3) == 0) {
+                    model.remove(element);
+                    subject = subject.remove(element);
+                } else {
+                    model.add(element);
+                    subject = subject.add(element);
+                }
+                assertEquals(model.size(), subject.size());
+            }
+            assertEquals(model, toCollection(HashSet::new, subject));
+            assertEquals(Set.copyFrom(model), subject);
+            assertEquals(Set.copyFrom(model).hashCode(), subject.hashCode());
+            for (int element = -2_500; element < 2_500; element++) {
+                assertEquals(model.contains(element), subject.contains(element));
+            }
+        }
+
+    }
+
+    private static final class Collider {
+        private final int id;
+        private final int hash;
+
+        Collider(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collider && ((Collider) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyFrom sized sources")
+    class CopyFromSizedSources {
+
+        @Test
+        void copyFromCollection() {
+            assertEquals(Set.of(1, 2, 3), Set.copyFrom(new ArrayDeque<>(asList(1, 2, 3, 2))));
+            assertTrue(Set.copyFrom(new ArrayDeque<Integer>()).isEmpty());
+        }
+
+        @Test
+        void copyFromWithMaxCount() {
+            assertEquals(Set.of(1, 2), Set.copyFrom(2, asList(1, 2, 3)));
+            assertEquals(Set.of(2, 3), Set.copyFrom(2, Vector.of(1, 2, 3).drop(1)));
+            assertEquals(Set.of(1, 2, 3), Set.copyFrom(5, new ArrayDeque<>(asList(1, 2, 3))));
+            assertEquals(2, Set.copyFrom(2, new ArrayDeque<>(asList(1, 2, 3))).size());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("toImmutableSet")
+    class ToImmutableSet {
+
+        @Test
+        void emptyStream() {
+            assertTrue(Stream.empty().collect(ImmutableSet.toImmutableSet()).isEmpty());
+        }
+
+        @Test
+        void removesDuplicates() {
+            ImmutableSet<Integer> result = Stream.of(1, 2, 1, 3, 2).collect(ImmutableSet.toImmutableSet());
+            assertThat(result, containsInAnyOrder(1, 2, 3));
+            assertEquals(3, result.size());
+        }
+
+        @Test
+        void parallelStream() {
+            ImmutableSet<Integer> result = IntStream.range(0, 50000).parallel().map(n -> n % 20000).boxed()
+                    .collect(ImmutableSet.toImmutableSet());
+            assertEquals(20000, result.size());
+            assertEquals(Set.copyFrom(Vector.range(20000)), result);
+        }
+
+    }
+
 }
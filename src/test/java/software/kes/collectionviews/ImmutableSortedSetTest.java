@@ -0,0 +1,287 @@
+package software.kes.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.emptyIterable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImmutableSortedSetTest {
+
+    private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+    @Nested
+    @DisplayName("copyFrom")
+    class CopyFrom {
+
+        @Test
+        void throwsOnNullArguments() {
+            assertThrows(NullPointerException.class, () -> ImmutableSortedSet.copyFrom(null, asList(1, 2)));
+            assertThrows(NullPointerException.class, () -> ImmutableSortedSet.copyFrom(NATURAL, (Iterable<Integer>) null));
+            assertThrows(NullPointerException.class, () -> ImmutableSortedSet.copyFrom(NATURAL, (Integer[]) null));
+        }
+
+        @Test
+        void sortsAndRemovesDuplicates() {
+            ImmutableSortedSet<Integer> subject = ImmutableSortedSet.copyFrom(NATURAL, asList(3, 1, 2, 3, 1, 5));
+            assertThat(subject, contains(1, 2, 3, 5));
+            assertEquals(4, subject.size());
+        }
+
+        @Test
+        void keepsFirstOfEqualElements() {
+            ImmutableSortedSet<String> subject = ImmutableSortedSet.copyFrom(Comparator.comparingInt(String::length),
+                    new String[]{"bb", "a", "cc", "b"});
+            assertThat(subject, contains("a", "bb"));
+        }
+
+        @Test
+        void fromEmpty() {
+            ImmutableSortedSet<Integer> subject = ImmutableSortedSet.copyFrom(NATURAL, new Integer[]{});
+            assertTrue(subject.isEmpty());
+            assertThat(subject, emptyIterable());
+            assertEquals(nothing(), subject.first());
+        }
+
+        @Test
+        void equalToOtherSetsWithSameElements() {
+            ImmutableSortedSet<Integer> subject = ImmutableSortedSet.copyFrom(NATURAL, asList(3, 1, 2));
+            assertEquals(Set.of(1, 2, 3), subject);
+            assertEquals(subject, Set.wrap(new HashSet<>(asList(2, 3, 1))));
+            assertEquals(Set.of(1, 2, 3).hashCode(), subject.hashCode());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("queries")
+    class Queries {
+        private final ImmutableSortedSet<Integer> subject = ImmutableSortedSet.copyFrom(NATURAL, asList(10, 20, 30, 40));
+
+        @Test
+        void containsUsesBinarySearch() {
+            assertTrue(subject.contains(10));
+            assertTrue(subject.contains(40));
+            assertFalse(subject.contains(25));
+            assertFalse(subject.contains(50));
+        }
+
+        @Test
+        void firstAndLast() {
+            assertEquals(just(10), subject.first());
+            assertEquals(just(40), subject.last());
+        }
+
+        @Test
+        void ceiling() {
+            assertEquals(just(10), subject.ceiling(5));
+            assertEquals(just(20), subject.ceiling(20));
+            assertEquals(just(30), subject.ceiling(21));
+            assertEquals(nothing(), subject.ceiling(41));
+        }
+
+        @Test
+        void floor() {
+            assertEquals(nothing(), subject.floor(5));
+            assertEquals(just(20), subject.floor(20));
+            assertEquals(just(20), subject.floor(29));
+            assertEquals(just(40), subject.floor(100));
+        }
+
+        @Test
+        void headSet() {
+            assertThat(subject.headSet(30), contains(10, 20));
+            assertThat(subject.headSet(5), emptyIterable());
+            assertSame(subject, subject.headSet(50));
+        }
+
+        @Test
+        void tailSet() {
+            assertThat(subject.tailSet(25), contains(30, 40));
+            assertThat(subject.tailSet(41), emptyIterable());
+            assertSame(subject, subject.tailSet(10));
+        }
+
+        @Test
+        void subSet() {
+            assertThat(subject.subSet(20, 40), contains(20, 30));
+            assertThat(subject.subSet(15, 16), emptyIterable());
+            assertThat(subject.subSet(40, 20), emptyIterable());
+            assertTrue(subject.subSet(20, 40).contains(30));
+            assertFalse(subject.subSet(20, 40).contains(40));
+            assertThat(subject.subSet(20, 40).tailSet(30), contains(30));
+        }
+
+        @Test
+        void toVectorIsSorted() {
+            assertThat(subject.toVector(), contains(10, 20, 30, 40));
+            assertEquals(2, subject.toVector().binarySearch(30));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("union and intersect")
+    class UnionAndIntersect {
+        private final ImmutableSortedSet<Integer> evens = ImmutableSortedSet.copyFrom(NATURAL, asList(0, 2, 4, 6, 8));
+        private final ImmutableSortedSet<Integer> low = ImmutableSortedSet.copyFrom(NATURAL, asList(0, 1, 2, 3));
+
+        @Test
+        void union() {
+            ImmutableSortedSet<Integer> subject = evens.union(low);
+            assertThat(subject, contains(0, 1, 2, 3, 4, 6, 8));
+            assertTrue(subject.contains(3));
+        }
+
+        @Test
+        void unionWithSubsetReturnsSuperset() {
+            assertSame(evens, evens.union(evens.headSet(5)));
+            assertSame(evens, evens.headSet(5).union(evens));
+        }
+
+        @Test
+        void intersect() {
+            assertThat(evens.intersect(low), contains(0, 2));
+            assertThat(low.intersect(evens), contains(0, 2));
+        }
+
+        @Test
+        void intersectWithDisjointIsEmpty() {
+            assertTrue(evens.intersect(ImmutableSortedSet.copyFrom(NATURAL, asList(1, 3, 5))).isEmpty());
+        }
+
+        @Test
+        void intersectSmallWithLarge() {
+            ImmutableSortedSet<Integer> large = ImmutableSortedSet.copyFrom(NATURAL, Vector.range(10000));
+            ImmutableSortedSet<Integer> small = ImmutableSortedSet.copyFrom(NATURAL, asList(-1, 5, 9999, 10000));
+            assertThat(small.intersect(large), contains(5, 9999));
+            assertThat(large.intersect(small), contains(5, 9999));
+        }
+
+        @Test
+        void differentComparatorsUseOrderOfFirst() {
+            ImmutableSortedSet<Integer> descending = ImmutableSortedSet.copyFrom(NATURAL.reversed(), asList(1, 3, 5));
+            assertThat(low.union(descending), contains(0, 1, 2, 3, 5));
+            assertThat(descending.union(low), contains(5, 3, 2, 1, 0));
+            assertThat(descending.intersect(low), contains(3, 1));
+        }
+
+        @Test
+        void agreesWithTreeSet() {
+            Random random = new Random(42);
+            for (int round = 0; round < 50; round++) {
+                TreeSet<Integer> expectedFirst = new TreeSet<>();
+                TreeSet<Integer> expectedSecond = new TreeSet<>();
+                for (int i = 0; i < random.nextInt(100); i++) {
+                    expectedFirst.add(random.nextInt(200));
+                }
+                for (int i = 0; i < random.nextInt(400); i++) {
+                    expectedSecond.add(random.nextInt(200));
+                }
+                ImmutableSortedSet<Integer> first = ImmutableSortedSet.copyFrom(NATURAL, expectedFirst);
+                ImmutableSortedSet<Integer> second = ImmutableSortedSet.copyFrom(NATURAL, expectedSecond);
+                TreeSet<Integer> expectedUnion = new TreeSet<>(expectedFirst);
+                expectedUnion.addAll(expectedSecond);
+                TreeSet<Integer> expectedIntersection = new TreeSet<>(expectedFirst);
+                expectedIntersection.retainAll(expectedSecond);
+                assertEquals(Vector.copyFrom(expectedUnion), first.union(second).toVector());
+                assertEquals(Vector.copyFrom(expectedIntersection), first.intersect(second).toVector());
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("ImmutableSortedIntSet")
+    class SortedIntSet {
+        private final ImmutableSortedIntSet subject = ImmutableSortedIntSet.copyFrom(new int[]{30, 10, 20, 10, 40});
+
+        @Test
+        void sortsAndRemovesDuplicates() {
+            assertThat(subject, contains(10, 20, 30, 40));
+            assertEquals(IntVector.of(10, 20, 30, 40), subject.toIntVector());
+        }
+
+        @Test
+        void containsInt() {
+            assertTrue(subject.containsInt(20));
+            assertFalse(subject.containsInt(25));
+            assertFalse(subject.contains(null));
+        }
+
+        @Test
+        void viewsAreIntSets() {
+            ImmutableSortedIntSet range = subject.subSet(15, 40);
+            assertThat(range, contains(20, 30));
+            assertTrue(range.containsInt(30));
+            assertThat(subject.headSet(20), contains(10));
+            assertThat(subject.tailSet(35), contains(40));
+        }
+
+        @Test
+        void ceilingAndFloor() {
+            assertEquals(just(20), subject.ceiling(11));
+            assertEquals(just(10), subject.floor(19));
+            assertEquals(nothing(), subject.floor(9));
+        }
+
+        @Test
+        void unionAndIntersect() {
+            ImmutableSortedIntSet other = ImmutableSortedIntSet.copyFrom(new int[]{5, 20, 40, 50});
+            assertThat(subject.union(other), contains(5, 10, 20, 30, 40, 50));
+            assertThat(subject.intersect(other), contains(20, 40));
+            assertSame(subject, subject.union(ImmutableSortedIntSet.empty()));
+        }
+
+        @Test
+        void interoperatesWithGenericSortedSets() {
+            ImmutableSortedSet<Integer> generic = ImmutableSortedSet.copyFrom(NATURAL, asList(10, 15));
+            assertThat(generic.union(subject), contains(10, 15, 20, 30, 40));
+            assertEquals(ImmutableSortedSet.copyFrom(NATURAL, asList(10, 20, 30, 40)), subject);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("ImmutableSortedLongSet")
+    class SortedLongSet {
+        private final ImmutableSortedLongSet subject = ImmutableSortedLongSet.copyFrom(new long[]{3L, 1L, 2L, 3L});
+
+        @Test
+        void sortsAndRemovesDuplicates() {
+            assertThat(subject, contains(1L, 2L, 3L));
+        }
+
+        @Test
+        void queries() {
+            assertTrue(subject.containsLong(2L));
+            assertFalse(subject.containsLong(4L));
+            assertThat(subject.subSet(2L, 10L), contains(2L, 3L));
+            assertEquals(just(3L), subject.last());
+        }
+
+        @Test
+        void unionAndIntersect() {
+            ImmutableSortedLongSet other = ImmutableSortedLongSet.copyFrom(new long[]{2L, 4L});
+            assertThat(subject.union(other), contains(1L, 2L, 3L, 4L));
+            assertThat(subject.intersect(other), contains(2L));
+        }
+
+    }
+
+}
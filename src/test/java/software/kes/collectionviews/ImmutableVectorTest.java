@@ -4,15 +4,23 @@ import com.jnape.palatable.lambda.adt.hlist.Tuple2;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.builtin.fn1.Id;
 import com.jnape.palatable.lambda.functions.builtin.fn2.Eq;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
@@ -31,6 +39,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
@@ -991,6 +1000,63 @@ class ImmutableVectorTest {
             }
 
         }
+
+        @Nested
+        @DisplayName("copyFrom sized sources")
+        class CopyFromSizedSources {
+
+            @Test
+            void copyFromCollection() {
+                ImmutableVector<Integer> subject = Vector.copyFrom(new ArrayDeque<>(asList(1, 2, 3)));
+                assertEquals(Vector.of(1, 2, 3), subject);
+                assertEquals(0, subject.viewDepth());
+            }
+
+            @Test
+            void copyFromSet() {
+                ImmutableVector<Integer> subject = Vector.copyFrom(Set.of(1, 2, 3));
+                assertEquals(3, subject.size());
+                assertThat(subject, containsInAnyOrder(1, 2, 3));
+            }
+
+            @Test
+            void copyFromEmptyCollection() {
+                assertSame(emptyVector(), Vector.copyFrom(new ArrayDeque<Integer>()));
+                assertSame(emptyVector(), Vector.copyFrom(Set.empty()));
+            }
+
+            @Test
+            void copyFromWithMaxCount() {
+                ArrayDeque<Integer> source = new ArrayDeque<>(asList(1, 2, 3, 4));
+                assertEquals(Vector.of(1, 2), Vector.copyFrom(2, source));
+                assertEquals(Vector.of(1, 2, 3, 4), Vector.copyFrom(10, source));
+                assertEquals(Vector.of(2, 3), Vector.copyFrom(2, Vector.wrap(asList(1, 2, 3)).drop(1)));
+                assertEquals(2, Vector.copyFrom(2, Set.of(1, 2, 3)).size());
+            }
+
+            @Test
+            void copyFromUnsizedIterableWithMaxCount() {
+                Iterable<Integer> source = () -> asList(1, 2, 3, 4).iterator();
+                assertEquals(Vector.of(1, 2, 3), Vector.copyFrom(3, source));
+                assertEquals(Vector.of(1, 2, 3, 4), Vector.copyFrom(10, source));
+            }
+
+            @Test
+            void copySliceFromCollection() {
+                ArrayDeque<Integer> source = new ArrayDeque<>(asList(1, 2, 3, 4, 5));
+                assertEquals(Vector.of(2, 3, 4), Vector.copySliceFrom(1, 4, source));
+                assertEquals(Vector.of(4, 5), Vector.copySliceFrom(3, 10, source));
+                assertTrue(Vector.copySliceFrom(5, 10, source).isEmpty());
+            }
+
+            @Test
+            void maybeNonEmptyCopyFromCollection() {
+                assertEquals(just(Vector.of(1, 2)), NonEmptyVector.maybeCopyFrom(new ArrayDeque<>(asList(1, 2))));
+                assertEquals(nothing(), NonEmptyVector.maybeCopyFrom(new ArrayDeque<Integer>()));
+                assertEquals(nothing(), NonEmptyVector.maybeCopyFrom(0, new ArrayDeque<>(asList(1, 2))));
+            }
+
+        }
     }
 
     @Nested
@@ -2814,4 +2880,801 @@ class ImmutableVectorTest {
                     contains(equalTo(Vector.of(0, 1, 2, 3))));
         }
     }
+
+    @Nested
+    @DisplayName("slide with step and grouped")
+    class SlideWithStepAndGrouped {
+        @Test
+        void windowsAreImmutable() {
+            ImmutableVector<? extends ImmutableNonEmptyVector<Integer>> windows = Vector.of(0, 1, 2, 3, 4).slide(2, 2);
+            assertThat(windows, contains(equalTo(Vector.of(0, 1)), equalTo(Vector.of(2, 3))));
+            ImmutableVector<? extends ImmutableNonEmptyVector<Integer>> chunks = Vector.of(0, 1, 2, 3, 4).grouped(2);
+            assertThat(chunks, contains(equalTo(Vector.of(0, 1)), equalTo(Vector.of(2, 3)), equalTo(Vector.of(4))));
+        }
+
+        @Test
+        void windowsOfPersistentVectorShareStructure() {
+            ImmutableVector<Integer> subject = Vector.range(100).append(100);
+            ImmutableNonEmptyVector<Integer> chunk = subject.grouped(32).unsafeGet(3);
+            assertThat(chunk, contains(96, 97, 98, 99, 100));
+            assertEquals(0, chunk.viewDepth());
+        }
+    }
+
+    @Nested
+    @DisplayName("append")
+    class Append {
+
+        @Test
+        void appendToEmpty() {
+            ImmutableNonEmptyVector<Integer> result = Vector.<Integer>empty().append(1);
+            assertThat(result, contains(1));
+        }
+
+        @Test
+        void appendToNonPersistent() {
+            ImmutableVector<Integer> source = Vector.copyFrom(asList(1, 2, 3));
+            assertThat(source.append(4), contains(1, 2, 3, 4));
+            assertThat(source, contains(1, 2, 3));
+        }
+
+        @Test
+        void successiveAppendsDoNotAffectEarlierVersions() {
+            ImmutableVector<Integer> v0 = Vector.empty();
+            ImmutableVector<Integer> v1 = v0.append(0);
+            ImmutableVector<Integer> v2 = v1.append(1);
+            ImmutableVector<Integer> v3a = v2.append(2);
+            ImmutableVector<Integer> v3b = v2.append(-2);
+            assertThat(v1, contains(0));
+            assertThat(v2, contains(0, 1));
+            assertThat(v3a, contains(0, 1, 2));
+            assertThat(v3b, contains(0, 1, -2));
+        }
+
+        @Test
+        void manyAppends() {
+            ImmutableVector<Integer> result = Vector.empty();
+            for (int i = 0; i < 100_000; i++) {
+                result = result.append(i);
+            }
+            assertEquals(100_000, result.size());
+            assertEquals(Vector.range(100_000), result);
+        }
+
+        @Test
+        void appendNull() {
+            assertThat(Vector.of(1, 2).append(null), contains(1, 2, null));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("prepend")
+    class Prepend {
+
+        @Test
+        void prependToEmpty() {
+            ImmutableNonEmptyVector<Integer> result = Vector.<Integer>empty().prepend(1);
+            assertThat(result, contains(1));
+        }
+
+        @Test
+        void prependToNonPersistent() {
+            ImmutableVector<Integer> source = Vector.copyFrom(asList(1, 2, 3));
+            assertThat(source.prepend(0), contains(0, 1, 2, 3));
+            assertThat(source, contains(1, 2, 3));
+        }
+
+        @Test
+        void manyPrepends() {
+            ImmutableVector<Integer> result = Vector.empty();
+            for (int i = 99_999; i >= 0; i--) {
+                result = result.prepend(i);
+            }
+            assertEquals(Vector.range(100_000), result);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("updated")
+    class Updated {
+
+        @Test
+        void throwsOnEmpty() {
+            assertThrows(IndexOutOfBoundsException.class, () -> Vector.<Integer>empty().updated(0, 1));
+        }
+
+        @Test
+        void throwsOnIndexOutOfRange() {
+            ImmutableVector<Integer> subject = Vector.of(1, 2, 3);
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.updated(-1, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.updated(3, 0));
+        }
+
+        @Test
+        void replacesOneElement() {
+            ImmutableVector<Integer> subject = Vector.of(1, 2, 3);
+            assertThat(subject.updated(0, 0), contains(0, 2, 3));
+            assertThat(subject.updated(1, 0), contains(1, 0, 3));
+            assertThat(subject.updated(2, 0), contains(1, 2, 0));
+            assertThat(subject, contains(1, 2, 3));
+        }
+
+        @Test
+        void updatesLargeVector() {
+            ImmutableVector<Integer> source = Vector.range(10_000);
+            ImmutableVector<Integer> result = source;
+            for (int i = 0; i < 10_000; i += 7) {
+                result = result.updated(i, -i);
+            }
+            for (int i = 0; i < 10_000; i++) {
+                assertEquals(i % 7 == 0 ? -i : i, result.unsafeGet(i));
+                assertEquals(i, source.unsafeGet(i));
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("concat")
+    class Concat {
+
+        @Test
+        void throwsOnNullArgument() {
+            assertThrows(NullPointerException.class, () -> Vector.of(1).concat((ImmutableVector<Integer>) null));
+        }
+
+        @Test
+        void emptyWithEmpty() {
+            assertSame(Vector.empty(), Vector.<Integer>empty().concat(Vector.<Integer>empty()));
+        }
+
+        @Test
+        void emptyInputReturnsOther() {
+            ImmutableNonEmptyVector<Integer> subject = Vector.of(1, 2, 3);
+            assertSame(subject, subject.concat(Vector.<Integer>empty()));
+            assertSame(subject, Vector.<Integer>empty().concat(subject));
+        }
+
+        @Test
+        void twoSmallVectors() {
+            ImmutableNonEmptyVector<Integer> result = Vector.of(1, 2, 3).concat(Vector.of(4, 5));
+            assertThat(result, contains(1, 2, 3, 4, 5));
+        }
+
+        @Test
+        void vectorsOfDifferentDepths() {
+            ImmutableVector<Integer> big = Vector.range(50_000);
+            ImmutableVector<Integer> small = Vector.copyFrom(asList(-1, -2, -3));
+            ImmutableVector<Integer> bigThenSmall = big.concat(small);
+            ImmutableVector<Integer> smallThenBig = small.concat(big);
+            assertEquals(50_003, bigThenSmall.size());
+            assertEquals(50_003, smallThenBig.size());
+            assertEquals(big, bigThenSmall.take(50_000));
+            assertThat(bigThenSmall.drop(50_000), contains(-1, -2, -3));
+            assertThat(smallThenBig.take(3), contains(-1, -2, -3));
+            assertEquals(big, smallThenBig.drop(3));
+        }
+
+        @Test
+        void repeatedConcatenation() {
+            ImmutableVector<Integer> result = Vector.empty();
+            int expectedSize = 0;
+            for (int i = 1; i <= 300; i++) {
+                result = result.concat(Vector.range(i).fmap(n -> n * 2));
+                expectedSize += i;
+            }
+            assertEquals(expectedSize, result.size());
+            int index = 0;
+            for (int i = 1; i <= 300; i++) {
+                for (int n = 0; n < i; n++) {
+                    assertEquals(n * 2, result.unsafeGet(index++));
+                }
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("persistent operations")
+    class PersistentOperations {
+
+        @Test
+        void agreeWithArrayListModel() {
+            Random random = new Random(42);
+            ImmutableVector<Integer> subject = Vector.empty();
+            ArrayList<Integer> model = new ArrayList<>();
+            for (int step = 0; step < 5_000; step++) {
+                int op = random.nextInt(6);
+                int value = random.nextInt();
+                if (op == 0) {
+                    subject = subject.append(value);
+                    model.add(value);
+                } else if (op == 1) {
+                    subject = subject.prepend(value);
+                    model.add(0, value);
+                } else if (op == 2 && !model.isEmpty()) {
+                    int index = random.nextInt(model.size());
+                    subject = subject.updated(index, value);
+                    model.set(index, value);
+                } else if (op == 3) {
+                    int count = random.nextInt(100);
+                    ImmutableVector<Integer> other = Vector.range(count).fmap(n -> n + value);
+                    subject = subject.concat(other);
+                    for (Integer n : other) {
+                        model.add(n);
+                    }
+                } else if (op == 4 && model.size() > 10) {
+                    int from = random.nextInt(model.size() / 10);
+                    int to = model.size() - random.nextInt(model.size() / 10);
+                    subject = subject.slice(from, to);
+                    model = new ArrayList<>(model.subList(from, to));
+                } else {
+                    subject = subject.concat(subject);
+                    model.addAll(new ArrayList<>(model));
+                    if (model.size() > 20_000) {
+                        subject = subject.take(1_000);
+                        model = new ArrayList<>(model.subList(0, 1_000));
+                    }
+                }
+                assertEquals(model.size(), subject.size());
+            }
+            assertEquals(Vector.copyFrom(model), subject);
+        }
+
+        @Test
+        void slicesOfPersistentVectorsAreCompact() {
+            ImmutableVector<Integer> subject = Vector.range(10_000).append(10_000);
+            ImmutableVector<Integer> slice = subject.slice(5_000, 5_100);
+            assertTrue(slice instanceof PersistentVector<?>);
+            assertEquals(Vector.range(100).fmap(n -> n + 5_000), slice);
+        }
+
+        @Test
+        void copyFromDoesNotCopyPersistentVector() {
+            ImmutableVector<Integer> subject = Vector.of(1, 2, 3).append(4);
+            assertSame(subject, Vector.copyFrom(subject));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("parallel operations")
+    class ParallelOperations {
+        private ForkJoinPool pool;
+
+        @BeforeEach
+        void setUp() {
+            pool = new ForkJoinPool(4);
+        }
+
+        @AfterEach
+        void tearDown() {
+            pool.shutdown();
+        }
+
+        @Test
+        void parallelCount() {
+            ImmutableVector<Integer> subject = Vector.range(100_000);
+            assertEquals(50_000, subject.parallelCount(pool, n -> n % 2 == 0));
+            assertEquals(0, subject.parallelCount(pool, n -> n < 0));
+            assertEquals(3, Vector.of(1, 2, 3).parallelCount(pool, n -> true));
+            assertEquals(0, Vector.<Integer>empty().parallelCount(pool, n -> true));
+        }
+
+        @Test
+        void parallelFindIndexReturnsFirstMatch() {
+            ImmutableVector<Integer> subject = Vector.range(100_000).fmap(n -> n % 30_000);
+            assertEquals(just(12_345), subject.parallelFindIndex(pool, n -> n == 12_345));
+            assertEquals(just(29_999), subject.parallelFindIndex(pool, n -> n >= 29_999));
+            assertEquals(just(0), subject.parallelFindIndex(pool, n -> true));
+            assertEquals(nothing(), subject.parallelFindIndex(pool, n -> n < 0));
+            assertEquals(nothing(), Vector.<Integer>empty().parallelFindIndex(pool, n -> true));
+        }
+
+        @Test
+        void parallelFindIndexOnCommonPool() {
+            assertEquals(just(99_999), Vector.range(100_000).parallelFindIndex(n -> n == 99_999));
+        }
+
+        @Test
+        void parallelMapPreservesOrder() {
+            ImmutableNonEmptyVector<Integer> subject = Vector.range(100_000).toNonEmptyOrThrow();
+            ImmutableNonEmptyVector<String> result = subject.parallelMap(pool, String::valueOf);
+            assertEquals(subject.fmap(String::valueOf), result);
+        }
+
+        @Test
+        void parallelMapCallsFunctionOncePerElement() {
+            AtomicInteger calls = new AtomicInteger();
+            Vector.range(100_000).parallelMap(pool, n -> calls.incrementAndGet());
+            assertEquals(100_000, calls.get());
+        }
+
+        @Test
+        void parallelMapEmpty() {
+            assertSame(Vector.empty(), Vector.<Integer>empty().parallelMap(pool, n -> n));
+        }
+
+        @Test
+        void parallelReduceIsOrdered() {
+            ImmutableVector<String> subject = Vector.range(5_000).fmap(n -> String.valueOf(n % 10));
+            String expected = foldLeft((acc, n) -> acc + n, "", subject);
+            assertEquals(just(expected), subject.parallelReduce(pool, (a, b) -> a + b));
+        }
+
+        @Test
+        void parallelReduceSum() {
+            assertEquals(just(4_999_950_000L),
+                    Vector.range(100_000).fmap(Integer::longValue).parallelReduce(pool, Long::sum));
+            assertEquals(just(1), Vector.of(1).parallelReduce(pool, Integer::sum));
+            assertEquals(nothing(), Vector.<Integer>empty().parallelReduce(pool, Integer::sum));
+        }
+
+        @Test
+        void parallelReduceToNull() {
+            assertEquals(nothing(), Vector.of("a", "b").parallelReduce(pool, (x, y) -> null));
+            assertEquals(nothing(), Vector.fill(10_000, "a").parallelReduce(pool, (x, y) -> null));
+            ImmutableVector<Integer> mostlyNull = Vector.range(10_000).fmap(n -> n == 7_777 ? n : null);
+            assertEquals(just(7_777), mostlyNull.parallelReduce(pool, (x, y) -> x == null ? y : x));
+        }
+
+        @Test
+        void propagatesExceptions() {
+            assertThrows(IllegalStateException.class, () -> Vector.range(100_000).parallelCount(pool, n -> {
+                if (n == 77_777) {
+                    throw new IllegalStateException();
+                }
+                return true;
+            }));
+        }
+
+        @Test
+        void throwsOnNullArguments() {
+            ImmutableVector<Integer> subject = Vector.of(1, 2, 3);
+            assertThrows(NullPointerException.class, () -> subject.parallelCount(null, n -> true));
+            assertThrows(NullPointerException.class, () -> subject.parallelFindIndex(pool, null));
+            assertThrows(NullPointerException.class, () -> subject.parallelMap(pool, null));
+            assertThrows(NullPointerException.class, () -> subject.parallelReduce(pool, null));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("force")
+    class Force {
+
+        @Test
+        void viewDepthOfFlatVectorsIsZero() {
+            assertEquals(0, Vector.empty().viewDepth());
+            assertEquals(0, Vector.copyFrom(asList(1, 2, 3)).viewDepth());
+            assertEquals(0, Vector.range(10).viewDepth());
+            assertEquals(0, Vector.fill(10, "a").viewDepth());
+        }
+
+        @Test
+        void viewDepthCountsTransformations() {
+            ImmutableVector<Integer> source = Vector.copyFrom(asList(1, 2, 3, 4, 5));
+            assertEquals(1, source.reverse().viewDepth());
+            assertEquals(2, source.reverse().fmap(n -> n * 2).viewDepth());
+            assertEquals(3, source.reverse().fmap(n -> n * 2).slice(1, 4).viewDepth());
+            assertEquals(1, source.zipWith(Integer::sum, source).viewDepth());
+            assertEquals(3, source.zipWith(Integer::sum, source.reverse().fmap(n -> n * 2)).viewDepth());
+        }
+
+        @Test
+        void returnsItselfWhenAlreadyFlat() {
+            ImmutableVector<Integer> subject = Vector.copyFrom(asList(1, 2, 3));
+            assertSame(subject, subject.force());
+            assertSame(Vector.empty(), Vector.empty().force());
+        }
+
+        @Test
+        void collapsesViewStack() {
+            ImmutableVector<Integer> subject = Vector.range(100).reverse().fmap(n -> n * 2).slice(10, 20);
+            ImmutableVector<Integer> forced = subject.force();
+            assertEquals(0, forced.viewDepth());
+            assertEquals(subject, forced);
+            assertThat(forced, contains(178, 176, 174, 172, 170, 168, 166, 164, 162, 160));
+        }
+
+        @Test
+        void evaluatesEachElementOnce() {
+            AtomicInteger calls = new AtomicInteger();
+            ImmutableVector<Integer> forced = Vector.range(50).fmap(n -> {
+                calls.incrementAndGet();
+                return n + 1;
+            }).force();
+            assertEquals(50, calls.get());
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i + 1, forced.unsafeGet(i));
+            }
+            assertEquals(50, calls.get());
+        }
+
+        @Test
+        void copiesSliceOfArray() {
+            ImmutableVector<String> subject = Vector.copyFrom(new String[]{"a", "b", "c", "d", "e"}).slice(1, 4);
+            assertEquals(1, subject.viewDepth());
+            assertThat(subject.force(), contains("b", "c", "d"));
+        }
+
+        @Test
+        void forcesEmptySlice() {
+            ImmutableVector<Integer> subject = Vector.range(10).fmap(n -> n).slice(5, 5);
+            assertThat(subject.force(), emptyIterable());
+        }
+
+        @Test
+        void nonEmptyStaysNonEmpty() {
+            ImmutableNonEmptyVector<Integer> forced = Vector.of(1, 2, 3).reverse().force();
+            assertThat(forced, contains(3, 2, 1));
+            assertEquals(0, forced.viewDepth());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("memoize")
+    class Memoize {
+
+        @Test
+        void returnsItselfWhenAlreadyFlat() {
+            ImmutableVector<Integer> subject = Vector.copyFrom(asList(1, 2, 3));
+            assertSame(subject, subject.memoize());
+            assertSame(Vector.empty(), Vector.empty().memoize());
+        }
+
+        @Test
+        void returnsItselfWhenAlreadyMemoized() {
+            ImmutableNonEmptyVector<Integer> subject = NonEmptyVector.lazyFill(10, n -> n).memoize();
+            assertSame(subject, subject.memoize());
+            assertSame(subject, subject.memoize(4));
+        }
+
+        @Test
+        void countsSourceInViewDepth() {
+            ImmutableVector<Integer> subject = Vector.range(10).fmap(n -> n + 1).memoize();
+            assertEquals(2, subject.viewDepth());
+        }
+
+        @Test
+        void forceCopiesMemoizedElements() {
+            AtomicInteger calls = new AtomicInteger();
+            ImmutableVector<Integer> subject = Vector.lazyFill(10, n -> {
+                calls.incrementAndGet();
+                return n * n;
+            }).memoize();
+            ImmutableVector<Integer> forced = subject.force();
+            assertNotSame(subject, forced);
+            assertEquals(0, forced.viewDepth());
+            assertThat(forced, contains(0, 1, 4, 9, 16, 25, 36, 49, 64, 81));
+            assertEquals(10, calls.get());
+            ImmutableNonEmptyVector<Integer> nonEmptyForced = subject.toNonEmptyOrThrow().force();
+            assertNotSame(subject, nonEmptyForced);
+            assertEquals(0, nonEmptyForced.viewDepth());
+            assertEquals(10, calls.get());
+        }
+
+        @Test
+        void computesEachElementOnce() {
+            AtomicInteger calls = new AtomicInteger();
+            ImmutableVector<Integer> subject = Vector.lazyFill(100, n -> {
+                calls.incrementAndGet();
+                return n * n;
+            }).memoize();
+            assertEquals(0, calls.get());
+            for (int pass = 0; pass < 3; pass++) {
+                for (int i = 0; i < 100; i++) {
+                    assertEquals(i * i, subject.unsafeGet(i));
+                }
+            }
+            assertEquals(100, calls.get());
+        }
+
+        @Test
+        void cachesMappedElements() {
+            AtomicInteger calls = new AtomicInteger();
+            ImmutableVector<Integer> subject = Vector.range(10).fmap(n -> {
+                calls.incrementAndGet();
+                return n + 1;
+            }).memoize();
+            assertThat(subject, contains(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+            assertThat(subject.reverse(), contains(10, 9, 8, 7, 6, 5, 4, 3, 2, 1));
+            assertEquals(10, calls.get());
+        }
+
+        @Test
+        void cachesNullElements() {
+            AtomicInteger calls = new AtomicInteger();
+            ImmutableVector<String> subject = Vector.lazyFill(3, n -> {
+                calls.incrementAndGet();
+                return n == 1 ? null : "x";
+            }).memoize();
+            assertThat(subject, contains("x", null, "x"));
+            assertThat(subject, contains("x", null, "x"));
+            assertEquals(3, calls.get());
+        }
+
+        @Test
+        void computesWholeChunkOnMiss() {
+            List<Integer> computed = Collections.synchronizedList(new ArrayList<>());
+            ImmutableVector<Integer> subject = Vector.lazyFill(10, n -> {
+                computed.add(n);
+                return n;
+            }).memoize(4);
+            assertEquals(5, subject.unsafeGet(5));
+            assertEquals(asList(4, 5, 6, 7), computed);
+            assertEquals(9, subject.unsafeGet(9));
+            assertEquals(asList(4, 5, 6, 7, 8, 9), computed);
+            assertEquals(6, subject.unsafeGet(6));
+            assertEquals(6, computed.size());
+        }
+
+        @Test
+        void throwsOnInvalidChunkSize() {
+            assertThrows(IllegalArgumentException.class, () -> Vector.lazyFill(10, n -> n).memoize(0));
+        }
+
+        @Test
+        void throwsOnIndexOutOfRange() {
+            ImmutableVector<Integer> subject = Vector.lazyFill(10, n -> n).memoize();
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGet(-1));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGet(10));
+        }
+
+        @Test
+        void concurrentReadersSeeSameValues() throws InterruptedException {
+            ImmutableVector<Object> subject = Vector.lazyFill(10_000, n -> new Object()).memoize();
+            Object[][] seen = new Object[4][10_000];
+            Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                Object[] results = seen[t];
+                threads[t] = new Thread(() -> {
+                    for (int i = 0; i < results.length; i++) {
+                        results[i] = subject.unsafeGet(i);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            for (int i = 0; i < 10_000; i++) {
+                for (int t = 0; t < threads.length; t++) {
+                    assertSame(subject.unsafeGet(i), seen[t][i]);
+                }
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("view rewriting")
+    class ViewRewriting {
+        private final ImmutableVector<Integer> source = Vector.copyFrom(asList(1, 2, 3, 4, 5, 6, 7, 8));
+
+        @Test
+        void fusedFmapsAreStackSafe() {
+            ImmutableVector<Integer> lazy = Vector.lazyFill(10, i -> i);
+            ImmutableVector<Integer> range = Vector.range(10);
+            ImmutableVector<Integer> zip = Vector.range(10).zipWith(Integer::sum, Vector.range(10));
+            for (int i = 0; i < 100_000; i++) {
+                lazy = lazy.fmap(n -> n + 1);
+                range = range.fmap(n -> n + 1);
+                zip = zip.fmap(n -> n + 1);
+            }
+            assertEquals(100_003, lazy.unsafeGet(3));
+            assertEquals(100_003, range.unsafeGet(3));
+            assertEquals(100_006, zip.unsafeGet(3));
+            assertEquals(100_004, lazy.slice(2, 6).unsafeGet(2));
+            assertEquals(100_010, zip.slice(2, 6).unsafeGet(3));
+        }
+
+        @Test
+        void sliceIsPushedBelowMapping() {
+            ImmutableVector<Integer> subject = source.fmap(n -> n * 10).slice(2, 6).fmap(n -> n + 1);
+            assertEquals(2, subject.viewDepth());
+            assertThat(subject, contains(31, 41, 51, 61));
+        }
+
+        @Test
+        void sliceIsPushedBelowReverse() {
+            ImmutableVector<Integer> subject = source.reverse().slice(1, 7).slice(1, 4);
+            assertEquals(2, subject.viewDepth());
+            assertThat(subject, contains(6, 5, 4));
+        }
+
+        @Test
+        void singleElementSliceOfReverseIsNotReversed() {
+            ImmutableVector<Integer> subject = source.reverse().slice(2, 3);
+            assertEquals(1, subject.viewDepth());
+            assertThat(subject, contains(6));
+        }
+
+        @Test
+        void reverseIsPushedBelowMapping() {
+            ImmutableVector<Integer> reversed = source.fmap(n -> n * 10).reverse();
+            assertEquals(2, reversed.viewDepth());
+            assertThat(reversed.take(3), contains(80, 70, 60));
+            assertEquals(1, reversed.reverse().viewDepth());
+            assertEquals(source.fmap(n -> n * 10), reversed.reverse());
+        }
+
+        @Test
+        void fmapIsFusedIntoLazyVector() {
+            ImmutableVector<Integer> subject = Vector.lazyFill(6, n -> n * 2).fmap(n -> n + 1).drop(2);
+            assertEquals(1, subject.viewDepth());
+            assertThat(subject, contains(5, 7, 9, 11));
+        }
+
+        @Test
+        void fmapOverRangeIsLazyVector() {
+            ImmutableVector<String> subject = Vector.range(5).fmap(n -> "x" + n).slice(1, 4);
+            assertEquals(1, subject.viewDepth());
+            assertThat(subject, contains("x1", "x2", "x3"));
+            assertThat(Vector.range(4).reverse().fmap(n -> n * 2), contains(6, 4, 2, 0));
+            assertThat(LongVector.range(3).fmap(n -> n + 1), contains(1L, 2L, 3L));
+        }
+
+        @Test
+        void zipReadsSlicesDirectly() {
+            ImmutableVector<Integer> subject = source.drop(1).zipWith(Integer::sum, source.take(4));
+            assertEquals(1, subject.viewDepth());
+            assertThat(subject, contains(3, 5, 7, 9));
+        }
+
+        @Test
+        void sliceAndFmapAreFusedIntoZip() {
+            ImmutableVector<Integer> subject = source.zipWith(Integer::sum, source.drop(2))
+                    .slice(1, 4)
+                    .fmap(n -> n * 10);
+            assertEquals(1, subject.viewDepth());
+            assertThat(subject, contains(60, 80, 100));
+        }
+
+        @Test
+        void dropOverConsSlicesTail() {
+            ImmutableNonEmptyVector<Integer> subject = Vector.of(1, 2, 3, 4, 5);
+            assertEquals(0, subject.drop(1).viewDepth());
+            assertEquals(1, subject.drop(2).viewDepth());
+            assertEquals(1, subject.drop(2).drop(1).viewDepth());
+            assertThat(subject.drop(2).drop(1), contains(4, 5));
+            assertThat(subject.take(3), contains(1, 2, 3));
+            assertEquals(Vector.of(2, 3, 4, 5), subject.tail());
+        }
+
+        @Test
+        void rewrittenSlicesMatchCopies() {
+            List<ImmutableVector<Integer>> views = asList(
+                    source.fmap(n -> n * 3).reverse(),
+                    source.reverse().fmap(n -> n - 1).drop(1),
+                    source.zipWith(Integer::sum, source.reverse().drop(1)),
+                    Vector.of(0, 1, 2, 3, 4).fmap(n -> n * n).reverse(),
+                    Vector.range(9).fmap(n -> n * 2).reverse());
+            for (ImmutableVector<Integer> view : views) {
+                List<Integer> expected = elements(view);
+                for (int start = 0; start <= view.size(); start++) {
+                    for (int end = start; end <= view.size() + 1; end++) {
+                        List<Integer> expectedSlice = elements(expected.subList(start, Math.min(end, view.size())));
+                        assertEquals(expectedSlice, elements(view.slice(start, end)));
+                        Collections.reverse(expectedSlice);
+                        assertEquals(expectedSlice, elements(view.slice(start, end).reverse()));
+                    }
+                }
+            }
+        }
+
+        private List<Integer> elements(Iterable<Integer> source) {
+            List<Integer> result = new ArrayList<>();
+            source.forEach(result::add);
+            return result;
+        }
+
+    }
+
+    @Nested
+    @DisplayName("hashCode")
+    class HashCode {
+
+        @Test
+        void repeatingMatchesElementwiseHash() {
+            for (int size : new int[]{1, 2, 3, 7, 31, 32, 33, 1000, 65_537}) {
+                ImmutableVector<String> repeating = Vector.fill(size, "x");
+                ImmutableVector<String> copied = Vector.copyFrom(repeating.toArray(String[]::new));
+                assertEquals(VectorHelpers.vectorHashCode(copied), repeating.hashCode(), "size " + size);
+                assertEquals(copied.hashCode(), repeating.hashCode(), "size " + size);
+            }
+        }
+
+        @Test
+        void repeatingNull() {
+            ImmutableVector<String> repeating = Vector.fill(100, null);
+            assertEquals(VectorHelpers.vectorHashCode(repeating), repeating.hashCode());
+        }
+
+        @Test
+        void cachedHashCodeIsStable() {
+            ImmutableVector<Integer> subject = Vector.copyFrom(asList(1, 2, 3));
+            int expected = VectorHelpers.vectorHashCode(subject);
+            assertEquals(expected, subject.hashCode());
+            assertEquals(expected, subject.hashCode());
+            assertEquals(expected, subject.append(4).init().hashCode());
+        }
+
+        @Test
+        void equalsSkipsElementsWhenCachedHashCodesDiffer() {
+            AtomicInteger comparisons = new AtomicInteger();
+            class Element {
+                private final int value;
+
+                Element(int value) {
+                    this.value = value;
+                }
+
+                @Override
+                public boolean equals(Object o) {
+                    comparisons.incrementAndGet();
+                    return o instanceof Element && ((Element) o).value == value;
+                }
+
+                @Override
+                public int hashCode() {
+                    return value;
+                }
+            }
+            ImmutableVector<Element> first = Vector.copyFrom(new Element[]{new Element(1), new Element(2)});
+            ImmutableVector<Element> second = Vector.copyFrom(new Element[]{new Element(1), new Element(3)});
+            first.hashCode();
+            second.hashCode();
+            assertNotEquals(first, second);
+            assertEquals(0, comparisons.get());
+            assertEquals(first, Vector.copyFrom(new Element[]{new Element(1), new Element(2)}));
+            assertEquals(2, comparisons.get());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("toImmutableVector")
+    class ToImmutableVector {
+
+        @Test
+        void emptyStream() {
+            assertSame(emptyVector(), Stream.empty().collect(ImmutableVector.toImmutableVector()));
+        }
+
+        @Test
+        void preservesEncounterOrder() {
+            ImmutableVector<Integer> result = IntStream.range(0, 10000).boxed()
+                    .collect(ImmutableVector.toImmutableVector());
+            assertEquals(Vector.range(10000), result);
+        }
+
+        @Test
+        void parallelStream() {
+            ImmutableVector<Integer> result = IntStream.range(0, 100000).parallel().boxed()
+                    .collect(ImmutableVector.toImmutableVector());
+            assertEquals(Vector.range(100000), result);
+        }
+
+        @Test
+        void singleSegmentIsNotSliced() {
+            ImmutableVector<String> result = Stream.of("foo", "bar").collect(ImmutableVector.toImmutableVector());
+            assertThat(result, contains("foo", "bar"));
+            assertEquals(0, result.viewDepth());
+        }
+
+        @Test
+        void nonEmpty() {
+            ImmutableNonEmptyVector<Integer> result = Stream.of(1, 2, 3)
+                    .collect(ImmutableNonEmptyVector.toImmutableNonEmptyVector());
+            assertEquals(just(1), result.get(0));
+            assertEquals(Vector.of(1, 2, 3), result);
+            assertThrows(IllegalArgumentException.class,
+                    () -> Stream.<Integer>empty().collect(ImmutableNonEmptyVector.toImmutableNonEmptyVector()));
+        }
+
+    }
 }
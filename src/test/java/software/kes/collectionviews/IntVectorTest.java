@@ -0,0 +1,604 @@
+package software.kes.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Spliterator;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntVectorTest {
+
+    @Nested
+    @DisplayName("empty")
+    class Empty {
+
+        @Test
+        void alwaysYieldsSameReference() {
+            assertSame(IntVector.empty(), IntVector.wrap(new int[]{}));
+            assertSame(IntVector.empty(), IntVector.copyFrom(new int[]{}));
+        }
+
+        @Test
+        void isEmpty() {
+            assertTrue(IntVector.empty().isEmpty());
+            assertThat(IntVector.empty(), emptyIterable());
+        }
+
+        @Test
+        void unsafeGetIntThrows() {
+            assertThrows(IndexOutOfBoundsException.class, () -> IntVector.empty().unsafeGetInt(0));
+        }
+
+        @Test
+        void equalToEmptyVector() {
+            assertEquals(Vector.empty(), IntVector.empty());
+            assertEquals(IntVector.empty(), Vector.empty());
+            assertEquals(Vector.empty().hashCode(), IntVector.empty().hashCode());
+        }
+
+        @Test
+        void toNonEmptyIsNothing() {
+            assertEquals(nothing(), IntVector.empty().toNonEmpty());
+            assertThrows(IllegalArgumentException.class, () -> IntVector.empty().toNonEmptyOrThrow());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap")
+    class Wrap {
+
+        @Test
+        void throwsOnNullArgument() {
+            assertThrows(NullPointerException.class, () -> IntVector.wrap((int[]) null));
+        }
+
+        @Test
+        void iteratesCorrectly() {
+            assertThat(IntVector.wrap(new int[]{1, 2, 3}), contains(1, 2, 3));
+        }
+
+        @Test
+        void unsafeGetInt() {
+            IntVector subject = IntVector.wrap(new int[]{1, 2, 3});
+            assertEquals(1, subject.unsafeGetInt(0));
+            assertEquals(3, subject.unsafeGetInt(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGetInt(-1));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGetInt(3));
+        }
+
+        @Test
+        void willNotMakeCopiesOfUnderlying() {
+            int[] underlying = {1, 2, 3};
+            IntVector subject = IntVector.wrap(underlying);
+            underlying[0] = 10;
+            assertThat(subject, contains(10, 2, 3));
+        }
+
+        @Test
+        void toImmutableMakesACopy() {
+            int[] underlying = {1, 2, 3};
+            ImmutableIntVector subject = IntVector.wrap(underlying).toImmutable();
+            underlying[0] = 10;
+            assertThat(subject, contains(1, 2, 3));
+        }
+
+        @Test
+        void maybeWrap() {
+            assertEquals(nothing(), NonEmptyIntVector.maybeWrap(new int[]{}));
+            assertThat(NonEmptyIntVector.maybeWrap(new int[]{1, 2}).orElseThrow(AssertionError::new), contains(1, 2));
+        }
+
+        @Test
+        void wrapOrThrow() {
+            assertThrows(IllegalArgumentException.class, () -> NonEmptyIntVector.wrapOrThrow(new int[]{}));
+            assertThat(NonEmptyIntVector.wrapOrThrow(new int[]{1, 2}), contains(1, 2));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyFrom")
+    class CopyFrom {
+
+        @Test
+        void throwsOnNullArgument() {
+            assertThrows(NullPointerException.class, () -> IntVector.copyFrom(null));
+        }
+
+        @Test
+        void makesACopy() {
+            int[] source = {1, 2, 3};
+            ImmutableIntVector subject = IntVector.copyFrom(source);
+            source[0] = 10;
+            assertThat(subject, contains(1, 2, 3));
+        }
+
+        @Test
+        void maxCount() {
+            assertThat(IntVector.copyFrom(2, new int[]{1, 2, 3}), contains(1, 2));
+            assertThat(IntVector.copyFrom(5, new int[]{1, 2, 3}), contains(1, 2, 3));
+            assertSame(IntVector.empty(), IntVector.copyFrom(0, new int[]{1, 2, 3}));
+            assertThrows(IllegalArgumentException.class, () -> IntVector.copyFrom(-1, new int[]{1, 2, 3}));
+        }
+
+        @Test
+        void nonEmpty() {
+            assertEquals(nothing(), NonEmptyIntVector.maybeCopyFrom(new int[]{}));
+            assertThrows(IllegalArgumentException.class, () -> NonEmptyIntVector.copyFromOrThrow(new int[]{}));
+            assertThat(NonEmptyIntVector.copyFromOrThrow(new int[]{1, 2}), contains(1, 2));
+        }
+
+        @Test
+        void of() {
+            assertThat(IntVector.of(1), contains(1));
+            assertThat(IntVector.of(1, 2, 3), contains(1, 2, 3));
+            assertThat(ImmutableNonEmptyIntVector.of(1, 2, 3), contains(1, 2, 3));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("fill")
+    class Fill {
+
+        @Test
+        void throwsOnNegativeSize() {
+            assertThrows(IllegalArgumentException.class, () -> IntVector.fill(-1, 0));
+            assertThrows(IllegalArgumentException.class, () -> NonEmptyIntVector.fill(0, 0));
+        }
+
+        @Test
+        void sizeZeroIsEmpty() {
+            assertSame(IntVector.empty(), IntVector.fill(0, 1));
+        }
+
+        @Test
+        void repeatsValue() {
+            assertThat(IntVector.fill(3, 7), contains(7, 7, 7));
+            assertThat(NonEmptyIntVector.fill(2, 7), contains(7, 7));
+        }
+
+        @Test
+        void slices() {
+            assertThat(IntVector.fill(10, 7).slice(2, 5), contains(7, 7, 7));
+        }
+
+        @Test
+        void equalToBoxedFill() {
+            assertEquals(Vector.fill(5, 7), IntVector.fill(5, 7));
+            assertEquals(Vector.fill(5, 7).hashCode(), IntVector.fill(5, 7).hashCode());
+            assertEquals(IntVector.copyFrom(new int[]{-3, -3, -3, -3}).hashCode(), IntVector.fill(4, -3).hashCode());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("range")
+    class Range {
+
+        @Test
+        void throwsOnNegativeSize() {
+            assertThrows(IllegalArgumentException.class, () -> IntVector.range(-1));
+            assertThrows(IllegalArgumentException.class, () -> NonEmptyIntVector.range(0));
+        }
+
+        @Test
+        void sizeZeroIsEmpty() {
+            assertSame(IntVector.empty(), IntVector.range(0));
+        }
+
+        @Test
+        void elementsAreIndices() {
+            assertThat(IntVector.range(5), contains(0, 1, 2, 3, 4));
+            assertThat(NonEmptyIntVector.range(3), contains(0, 1, 2));
+        }
+
+        @Test
+        void slicesAndReverses() {
+            ImmutableIntVector subject = IntVector.range(10);
+            assertThat(subject.slice(3, 6), contains(3, 4, 5));
+            assertThat(subject.reverse().take(3), contains(9, 8, 7));
+            assertThat(subject.slice(3, 6).reverse(), contains(5, 4, 3));
+            assertThat(subject.reverse().slice(3, 6).reverse(), contains(4, 5, 6));
+        }
+
+        @Test
+        void vectorRangeIsAnIntVector() {
+            assertThat(Vector.range(3), instanceOf(ImmutableIntVector.class));
+            assertEquals(IntVector.range(3), Vector.range(3));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("slicing")
+    class Slicing {
+        private final IntVector subject = IntVector.wrap(new int[]{1, 2, 3, 4, 5});
+
+        @Test
+        void throwsOnNegativeArguments() {
+            assertThrows(IllegalArgumentException.class, () -> subject.slice(-1, 2));
+            assertThrows(IllegalArgumentException.class, () -> subject.slice(0, -1));
+            assertThrows(IllegalArgumentException.class, () -> subject.take(-1));
+            assertThrows(IllegalArgumentException.class, () -> subject.drop(-1));
+            assertThrows(IllegalArgumentException.class, () -> subject.takeRight(-1));
+            assertThrows(IllegalArgumentException.class, () -> subject.dropRight(-1));
+        }
+
+        @Test
+        void slice() {
+            assertThat(subject.slice(1, 3), contains(2, 3));
+            assertThat(subject.slice(3, 100), contains(4, 5));
+            assertThat(subject.slice(5, 100), emptyIterable());
+            assertThat(subject.slice(3, 2), emptyIterable());
+            assertSame(subject, subject.slice(0, 5));
+        }
+
+        @Test
+        void takeAndDrop() {
+            assertThat(subject.take(2), contains(1, 2));
+            assertThat(subject.drop(2), contains(3, 4, 5));
+            assertThat(subject.takeRight(2), contains(4, 5));
+            assertThat(subject.dropRight(2), contains(1, 2, 3));
+            assertThat(subject.drop(10), emptyIterable());
+            assertThat(subject.dropRight(10), emptyIterable());
+            assertSame(subject, subject.take(10));
+            assertSame(subject, subject.takeRight(10));
+        }
+
+        @Test
+        void nestedSlices() {
+            assertThat(subject.drop(1).take(3).drop(1), contains(3, 4));
+            assertEquals(3, subject.drop(1).take(3).slice(1, 2).unsafeGetInt(0));
+        }
+
+        @Test
+        void reverse() {
+            assertThat(subject.reverse(), contains(5, 4, 3, 2, 1));
+            assertThat(subject.reverse().reverse(), contains(1, 2, 3, 4, 5));
+            assertThat(subject.reverse().slice(1, 3), contains(4, 3));
+            assertThat(subject.slice(1, 4).reverse(), contains(4, 3, 2));
+            assertArrayEquals(new int[]{4, 3, 2}, subject.slice(1, 4).reverse().toIntArray());
+        }
+
+        @Test
+        void immutableSlicesAreImmutable() {
+            ImmutableIntVector immutable = subject.toImmutable();
+            ImmutableIntVector sliced = immutable.drop(1).take(3).reverse();
+            assertThat(sliced, contains(4, 3, 2));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("mapToInt")
+    class MapToInt {
+
+        @Test
+        void throwsOnNullFunction() {
+            assertThrows(NullPointerException.class, () -> IntVector.of(1).mapToInt(null));
+        }
+
+        @Test
+        void mapsElements() {
+            assertThat(IntVector.of(1, 2, 3).mapToInt(n -> n * 10), contains(10, 20, 30));
+        }
+
+        @Test
+        void successiveMapsAreApplied() {
+            assertThat(IntVector.of(1, 2, 3).mapToInt(n -> n + 1).mapToInt(n -> n * 10), contains(20, 30, 40));
+        }
+
+        @Test
+        void slicesAndReverses() {
+            ImmutableIntVector mapped = IntVector.range(10).mapToInt(n -> n * 2);
+            assertThat(mapped.slice(1, 4), contains(2, 4, 6));
+            assertThat(mapped.reverse().take(2), contains(18, 16));
+        }
+
+        @Test
+        void willNotMakeCopiesOfUnderlying() {
+            int[] underlying = {1, 2, 3};
+            IntVector mapped = IntVector.wrap(underlying).mapToInt(n -> n * 2);
+            underlying[0] = 10;
+            assertThat(mapped, contains(20, 4, 6));
+        }
+
+        @Test
+        void stackSafe() {
+            IntUnaryOperator increment = n -> n + 1;
+            ImmutableIntVector mapped = IntVector.of(1, 2, 3);
+            for (int i = 0; i < 10_000; i++) {
+                mapped = mapped.mapToInt(increment);
+            }
+            assertThat(mapped, contains(10_001, 10_002, 10_003));
+        }
+
+        @Test
+        void emptyStaysEmpty() {
+            assertSame(IntVector.empty(), IntVector.empty().mapToInt(n -> n + 1));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("sliding aggregations")
+    class SlidingAggregations {
+
+        @Test
+        void throwOnZeroArgument() {
+            assertThrows(IllegalArgumentException.class, () -> IntVector.of(1).slidingSum(0));
+            assertThrows(IllegalArgumentException.class, () -> IntVector.of(1).slidingMin(0));
+            assertThrows(IllegalArgumentException.class, () -> IntVector.of(1).slidingMax(0));
+        }
+
+        @Test
+        void emptyYieldsEmpty() {
+            assertSame(LongVector.empty(), IntVector.empty().slidingSum(3));
+            assertSame(IntVector.empty(), IntVector.empty().slidingMin(3));
+            assertSame(IntVector.empty(), IntVector.empty().slidingMax(3));
+        }
+
+        @Test
+        void aggregatesEachWindow() {
+            IntVector subject = IntVector.of(1, 3, 2, 5, 4, 0);
+            assertThat(subject.slidingSum(2), contains(4L, 5L, 7L, 9L, 4L));
+            assertThat(subject.slidingMin(3), contains(1, 2, 2, 0));
+            assertThat(subject.slidingMax(3), contains(3, 5, 5, 5));
+            assertThat(subject.slidingSum(10), contains(15L));
+        }
+
+        @Test
+        void sumsDoNotOverflow() {
+            assertThat(IntVector.fill(3, Integer.MAX_VALUE).slidingSum(2),
+                    contains(2L * Integer.MAX_VALUE, 2L * Integer.MAX_VALUE));
+        }
+
+        @Test
+        void agreeWithSlide() {
+            IntVector subject = IntVector.range(500).mapToInt(n -> (n * 7919) % 31 - 15);
+            for (int k = 1; k <= 40; k += 3) {
+                long[] sums = new long[subject.size() - k + 1];
+                int[] mins = new int[sums.length];
+                int[] maxes = new int[sums.length];
+                for (int i = 0; i < sums.length; i++) {
+                    IntVector window = subject.slice(i, i + k);
+                    sums[i] = window.intStream().sum();
+                    mins[i] = window.intStream().min().getAsInt();
+                    maxes[i] = window.intStream().max().getAsInt();
+                }
+                assertArrayEquals(sums, subject.slidingSum(k).toLongArray());
+                assertArrayEquals(mins, subject.slidingMin(k).toIntArray());
+                assertArrayEquals(maxes, subject.slidingMax(k).toIntArray());
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("mapToObj")
+    class MapToObj {
+
+        @Test
+        void throwsOnNullFunction() {
+            assertThrows(NullPointerException.class, () -> IntVector.of(1).mapToObj(null));
+        }
+
+        @Test
+        void mapsElements() {
+            assertThat(IntVector.of(1, 2, 3).mapToObj(Integer::toString), contains("1", "2", "3"));
+        }
+
+        @Test
+        void immutableSourceYieldsImmutableVector() {
+            ImmutableNonEmptyVector<String> mapped = IntVector.of(1, 2, 3).mapToObj(Integer::toString);
+            assertThat(mapped, contains("1", "2", "3"));
+        }
+
+        @Test
+        void emptyYieldsEmpty() {
+            assertSame(Vector.empty(), IntVector.empty().mapToObj(Integer::toString));
+        }
+
+        @Test
+        void equalToFmap() {
+            ImmutableIntVector source = IntVector.range(5);
+            assertEquals(source.fmap(n -> n * 3), source.mapToObj(n -> n * 3));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("equality")
+    class Equality {
+
+        @Test
+        void equalToBoxedVector() {
+            IntVector subject = IntVector.of(1, 2, 3);
+            Vector<Integer> boxed = Vector.of(1, 2, 3);
+            assertEquals(boxed, subject);
+            assertEquals(subject, boxed);
+            assertEquals(boxed.hashCode(), subject.hashCode());
+        }
+
+        @Test
+        void equalAcrossImplementations() {
+            assertEquals(IntVector.range(3), IntVector.of(0, 1, 2));
+            assertEquals(IntVector.of(2, 1, 0), IntVector.range(3).reverse());
+            assertEquals(IntVector.of(0, 2, 4), IntVector.range(3).mapToInt(n -> n * 2));
+        }
+
+        @Test
+        void notEqual() {
+            assertNotEquals(IntVector.of(1, 2), IntVector.of(1, 2, 3));
+            assertNotEquals(IntVector.of(1, 2, 4), IntVector.of(1, 2, 3));
+            assertNotEquals(IntVector.of(1, 2), LongVector.of(1, 2));
+            assertFalse(IntVector.of(1).equals(null));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("toIntArray")
+    class ToIntArray {
+
+        @Test
+        void returnsACopy() {
+            int[] underlying = {1, 2, 3};
+            int[] result = IntVector.wrap(underlying).toIntArray();
+            assertArrayEquals(underlying, result);
+            result[0] = 10;
+            assertEquals(1, underlying[0]);
+        }
+
+        @Test
+        void worksForAllImplementations() {
+            assertArrayEquals(new int[]{}, IntVector.empty().toIntArray());
+            assertArrayEquals(new int[]{0, 1, 2}, IntVector.range(3).toIntArray());
+            assertArrayEquals(new int[]{5, 5}, IntVector.fill(2, 5).toIntArray());
+            assertArrayEquals(new int[]{2, 4}, IntVector.of(1, 2).mapToInt(n -> n * 2).toIntArray());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("intStream")
+    class IntStreamTests {
+
+        @Test
+        void sequential() {
+            assertArrayEquals(new int[]{1, 2, 3}, IntVector.of(1, 2, 3).intStream().toArray());
+            assertEquals(0, IntVector.empty().intStream().count());
+        }
+
+        @Test
+        void parallelSum() {
+            int[] underlying = new int[100_000];
+            for (int i = 0; i < underlying.length; i++) {
+                underlying[i] = i;
+            }
+            assertEquals(4_999_950_000L, IntVector.wrap(underlying).intStream().parallel().asLongStream().sum());
+        }
+
+        @Test
+        void parallelPreservesOrder() {
+            IntVector subject = IntVector.range(10_000).mapToInt(n -> n * 3);
+            assertArrayEquals(subject.toIntArray(), subject.intStream().parallel().toArray());
+        }
+
+        @Test
+        void spliteratorIsPrimitive() {
+            assertThat(IntVector.range(10).spliterator(), instanceOf(Spliterator.OfInt.class));
+            assertTrue(IntVector.range(10).spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+            assertFalse(IntVector.wrap(new int[]{1}).spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+        }
+
+        @Test
+        void boxedStream() {
+            assertEquals(asList(0, 1, 2), IntVector.range(3).stream().collect(Collectors.toList()));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("force")
+    class Force {
+
+        @Test
+        void returnsItselfWhenAlreadyFlat() {
+            ImmutableIntVector subject = IntVector.range(10);
+            assertSame(subject, subject.force());
+        }
+
+        @Test
+        void collapsesMappedView() {
+            ImmutableNonEmptyIntVector subject = ImmutableNonEmptyIntVector.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).mapToInt(n -> n * n).reverse();
+            assertEquals(1, subject.viewDepth());
+            ImmutableNonEmptyIntVector forced = subject.force();
+            assertEquals(0, forced.viewDepth());
+            assertArrayEquals(new int[]{81, 64, 49, 36, 25, 16, 9, 4, 1, 0}, forced.toIntArray());
+        }
+
+        @Test
+        void boxedViewDepth() {
+            assertEquals(1, IntVector.range(10).mapToObj(Integer::toString).viewDepth());
+            assertEquals(2, IntVector.range(10).mapToInt(n -> n + 1).mapToObj(Integer::toString).viewDepth());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap IntBuffer")
+    class WrapIntBuffer {
+
+        @Test
+        void throwsOnNullArgument() {
+            assertThrows(NullPointerException.class, () -> IntVector.wrap((IntBuffer) null));
+        }
+
+        @Test
+        void wrapsRemainingElements() {
+            IntBuffer buffer = IntBuffer.wrap(new int[]{0, 1, 2, 3, 4});
+            buffer.position(1);
+            IntVector subject = IntVector.wrap(buffer);
+            buffer.position(4);
+            assertThat(subject, contains(1, 2, 3, 4));
+            assertEquals(4, subject.unsafeGetInt(3));
+        }
+
+        @Test
+        void emptyBufferYieldsEmptyVector() {
+            assertTrue(IntVector.wrap(IntBuffer.allocate(0)).isEmpty());
+        }
+
+        @Test
+        void viewOfDirectByteBuffer() {
+            ByteBuffer bytes = ByteBuffer.allocateDirect(16);
+            for (int i = 0; i < 4; i++) {
+                bytes.putInt(i * 4, i * 10);
+            }
+            IntVector subject = IntVector.wrap(bytes.asIntBuffer());
+            assertThat(subject, contains(0, 10, 20, 30));
+            bytes.putInt(0, 5);
+            assertEquals(5, subject.unsafeGetInt(0));
+        }
+
+        @Test
+        void slicesAndReverseAreBufferVectors() {
+            IntVector subject = IntVector.wrap(IntBuffer.wrap(new int[]{1, 2, 3, 4, 5}));
+            assertThat(subject.slice(1, 4), contains(2, 3, 4));
+            assertThat(subject.reverse().drop(1), contains(4, 3, 2, 1));
+            assertArrayEquals(new int[]{4, 3, 2}, subject.reverse().slice(1, 4).toIntArray());
+            assertEquals(0, subject.reverse().slice(1, 4).viewDepth());
+        }
+
+        @Test
+        void toImmutableCopies() {
+            int[] underlying = {1, 2, 3};
+            ImmutableIntVector subject = IntVector.wrap(IntBuffer.wrap(underlying)).toImmutable();
+            underlying[0] = 10;
+            assertThat(subject, contains(1, 2, 3));
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package software.kes.collectionviews;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongVectorTest {
+
+    @Test
+    void wrapsAndCopies() {
+        long[] underlying = {1L, 2L, 3L};
+        LongVector wrapped = LongVector.wrap(underlying);
+        ImmutableLongVector copied = LongVector.copyFrom(underlying);
+        underlying[0] = 10L;
+        assertThat(wrapped, contains(10L, 2L, 3L));
+        assertThat(copied, contains(1L, 2L, 3L));
+        assertSame(LongVector.empty(), LongVector.wrap(new long[]{}));
+    }
+
+    @Test
+    void holdsValuesBeyondIntRange() {
+        long big = Integer.MAX_VALUE + 1L;
+        LongVector subject = LongVector.of(big, -big);
+        assertEquals(big, subject.unsafeGetLong(0));
+        assertThat(subject.mapToLong(n -> n * 2), contains(2 * big, -2 * big));
+    }
+
+    @Test
+    void range() {
+        assertThat(LongVector.range(4), contains(0L, 1L, 2L, 3L));
+        assertThat(LongVector.range(4).reverse().drop(1), contains(2L, 1L, 0L));
+        assertThrows(IllegalArgumentException.class, () -> LongVector.range(-1));
+    }
+
+    @Test
+    void fill() {
+        assertThat(LongVector.fill(3, 5L), contains(5L, 5L, 5L));
+        assertSame(LongVector.empty(), LongVector.fill(0, 5L));
+    }
+
+    @Test
+    void slicesAndReverses() {
+        LongVector subject = LongVector.wrap(new long[]{1L, 2L, 3L, 4L, 5L});
+        assertThat(subject.slice(1, 4), contains(2L, 3L, 4L));
+        assertThat(subject.reverse().slice(1, 4), contains(4L, 3L, 2L));
+        assertArrayEquals(new long[]{4L, 3L, 2L}, subject.reverse().slice(1, 4).toLongArray());
+    }
+
+    @Test
+    void slidingAggregations() {
+        LongVector subject = LongVector.of(1L, 3L, 2L, 5L, 4L);
+        assertThat(subject.slidingSum(2), contains(4L, 5L, 7L, 9L));
+        assertThat(subject.slidingMin(3), contains(1L, 2L, 2L));
+        assertThat(subject.slidingMax(3), contains(3L, 5L, 5L));
+        assertThat(LongVector.of(Long.MAX_VALUE, 1L).slidingSum(2), contains(Long.MIN_VALUE));
+        assertSame(LongVector.empty(), LongVector.empty().slidingSum(2));
+    }
+
+    @Test
+    void mapToObj() {
+        assertThat(LongVector.of(1L, 2L).mapToObj(Long::toString), contains("1", "2"));
+    }
+
+    @Test
+    void equalToBoxedVector() {
+        LongVector subject = LongVector.of(1L, 2L, 3L);
+        Vector<Long> boxed = Vector.of(1L, 2L, 3L);
+        assertEquals(boxed, subject);
+        assertEquals(subject, boxed);
+        assertEquals(boxed.hashCode(), subject.hashCode());
+        assertNotEquals(Vector.of(1, 2, 3), subject);
+    }
+
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
 import java.util.List;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
@@ -362,4 +363,36 @@ class NonEmptyVectorTest {
 
     }
 
+
+    @Nested
+    @DisplayName("toNonEmpty")
+    class ToNonEmpty {
+
+        @Test
+        void sliceIsAlreadyNonEmpty() {
+            Vector<Integer> subject = Vector.wrap(asList(1, 2, 3, 4)).drop(1);
+            assertSame(subject, subject.toNonEmptyOrThrow());
+        }
+
+        @Test
+        void adaptsOtherVectorsWithoutAddingAView() {
+            Vector<Integer> sorted = SortedVector.wrap(Comparator.naturalOrder(), Vector.wrap(asList(1, 2, 3, 4)));
+            NonEmptyVector<Integer> subject = sorted.toNonEmptyOrThrow();
+            assertEquals(sorted.viewDepth(), subject.viewDepth());
+            assertThat(subject, contains(1, 2, 3, 4));
+            assertEquals(1, subject.head());
+            assertThat(subject.tail(), contains(2, 3, 4));
+            assertEquals(sorted.drop(1).viewDepth(), subject.drop(1).viewDepth());
+            assertEquals(sorted, subject);
+        }
+
+        @Test
+        void emptyVectorThrows() {
+            Vector<Integer> empty = SortedVector.wrap(Comparator.<Integer>naturalOrder(), Vector.wrap(emptyList()));
+            assertEquals(nothing(), empty.toNonEmpty());
+            assertThrows(IllegalArgumentException.class, empty::toNonEmptyOrThrow);
+        }
+
+    }
+
 }
@@ -0,0 +1,185 @@
+package software.kes.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapArenaTest {
+
+    // Arenas opened with a chunk shift of 2 use chunks of 4 elements, so that small vectors span several chunks.
+
+    private static ImmutableLongVector buildLongs(OffHeapArena arena, int size) {
+        OffHeapLongVectorBuilder builder = arena.longVectorBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.add(i * 10L);
+        }
+        return builder.build();
+    }
+
+    @Nested
+    @DisplayName("building")
+    class Building {
+
+        @Test
+        void buildsAcrossChunks() {
+            try (OffHeapArena arena = OffHeapArena.open(2)) {
+                ImmutableLongVector subject = buildLongs(arena, 11);
+                assertEquals(11, subject.size());
+                assertEquals(LongVector.range(11).mapToLong(n -> n * 10L), subject);
+                assertEquals(100L, subject.unsafeGetLong(10));
+                assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGetLong(11));
+            }
+        }
+
+        @Test
+        void buildsWithDefaultChunkSize() {
+            try (OffHeapArena arena = OffHeapArena.open()) {
+                ImmutableLongVector subject = buildLongs(arena, 1000);
+                assertEquals(9990L, subject.unsafeGetLong(999));
+                assertEquals(1000, subject.size());
+            }
+        }
+
+        @Test
+        void emptyBuilderYieldsEmptyVector() {
+            try (OffHeapArena arena = OffHeapArena.open()) {
+                assertTrue(arena.intVectorBuilder().build().isEmpty());
+            }
+        }
+
+        @Test
+        void addAll() {
+            try (OffHeapArena arena = OffHeapArena.open(2)) {
+                OffHeapIntVectorBuilder builder = arena.intVectorBuilder().add(-1).addAll(IntVector.range(6));
+                assertEquals(7, builder.size());
+                assertThat(builder.build(), contains(-1, 0, 1, 2, 3, 4, 5));
+            }
+        }
+
+        @Test
+        void doubleVector() {
+            try (OffHeapArena arena = OffHeapArena.open(2)) {
+                ImmutableDoubleVector subject = arena.doubleVectorBuilder().add(0.5).add(1.5).add(2.5).add(3.5).add(4.5)
+                        .build();
+                assertThat(subject, contains(0.5, 1.5, 2.5, 3.5, 4.5));
+                assertArrayEquals(new double[]{4.5, 3.5, 2.5}, subject.reverse().take(3).toDoubleArray());
+            }
+        }
+
+        @Test
+        void canOnlyBuildOnce() {
+            try (OffHeapArena arena = OffHeapArena.open()) {
+                OffHeapLongVectorBuilder builder = arena.longVectorBuilder().add(1L);
+                builder.build();
+                assertThrows(IllegalStateException.class, builder::build);
+                assertThrows(IllegalStateException.class, () -> builder.add(2L));
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("views")
+    class Views {
+
+        @Test
+        void sliceAcrossChunkBoundary() {
+            try (OffHeapArena arena = OffHeapArena.open(2)) {
+                ImmutableLongVector subject = buildLongs(arena, 11).slice(3, 9);
+                assertThat(subject, contains(30L, 40L, 50L, 60L, 70L, 80L));
+                assertArrayEquals(new long[]{30L, 40L, 50L, 60L, 70L, 80L}, subject.toLongArray());
+                assertEquals(0, subject.viewDepth());
+            }
+        }
+
+        @Test
+        void reverse() {
+            try (OffHeapArena arena = OffHeapArena.open(2)) {
+                ImmutableLongVector subject = buildLongs(arena, 6).reverse();
+                assertThat(subject, contains(50L, 40L, 30L, 20L, 10L, 0L));
+                assertThat(subject.drop(1).take(3), contains(40L, 30L, 20L));
+                assertArrayEquals(new long[]{40L, 30L, 20L}, subject.slice(1, 4).toLongArray());
+            }
+        }
+
+        @Test
+        void toImmutableCopiesOntoHeap() {
+            try (OffHeapArena arena = OffHeapArena.open(2)) {
+                ImmutableLongVector subject = buildLongs(arena, 5);
+                assertNotSame(subject, subject.toImmutable());
+                assertEquals(subject, subject.toImmutable());
+            }
+        }
+
+        @Test
+        void copyOnHeapOutlivesArena() {
+            ImmutableLongVector copy;
+            try (OffHeapArena arena = OffHeapArena.open(2)) {
+                copy = LongVector.copyFrom(buildLongs(arena, 5).reverse().toLongArray());
+            }
+            assertThat(copy, contains(40L, 30L, 20L, 10L, 0L));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("close")
+    class Close {
+
+        @Test
+        void vectorsAreUnusableAfterClose() {
+            OffHeapArena arena = OffHeapArena.open(2);
+            ImmutableLongVector subject = buildLongs(arena, 9);
+            ImmutableLongVector slice = subject.drop(5);
+            arena.close();
+            assertFalse(arena.isOpen());
+            assertThrows(IllegalStateException.class, () -> subject.unsafeGetLong(0));
+            assertThrows(IllegalStateException.class, () -> slice.unsafeGetLong(0));
+            assertThrows(IllegalStateException.class, subject::toLongArray);
+        }
+
+        @Test
+        void copiesSurviveClose() {
+            OffHeapArena arena = OffHeapArena.open(2);
+            ImmutableLongVector subject = buildLongs(arena, 9);
+            ImmutableVector<Long> copied = Vector.copyFrom(subject);
+            ImmutableVector<Long> copiedSlice = Vector.copySliceFrom(2, 5, subject);
+            ImmutableLongVector immutable = subject.toImmutable();
+            ImmutableLongVector forced = subject.reverse().force();
+            arena.close();
+            assertEquals(LongVector.range(9).mapToLong(n -> n * 10L), copied);
+            assertThat(copiedSlice, contains(20L, 30L, 40L));
+            assertEquals(LongVector.range(9).mapToLong(n -> n * 10L), immutable);
+            assertEquals(80L, forced.unsafeGetLong(0));
+        }
+
+        @Test
+        void closeIsIdempotent() {
+            OffHeapArena arena = OffHeapArena.open();
+            assertTrue(arena.isOpen());
+            arena.close();
+            arena.close();
+            assertFalse(arena.isOpen());
+        }
+
+        @Test
+        void cannotBuildAfterClose() {
+            OffHeapArena arena = OffHeapArena.open();
+            OffHeapIntVectorBuilder builder = arena.intVectorBuilder().add(1);
+            arena.close();
+            assertThrows(IllegalStateException.class, builder::build);
+            assertThrows(IllegalStateException.class, arena::longVectorBuilder);
+        }
+
+    }
+
+}
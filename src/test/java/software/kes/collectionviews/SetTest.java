@@ -383,4 +383,141 @@ class SetTest {
 
     }
 
+    @Nested
+    @DisplayName("set algebra")
+    class Algebra {
+        private Set<Integer> small;
+        private Set<Integer> large;
+
+        @BeforeEach
+        void setUp() {
+            small = Set.wrap(new HashSet<>(asList(1, 2, 3)));
+            large = Set.wrap(new HashSet<>(asList(2, 3, 4, 5, 6)));
+        }
+
+        @Test
+        void union() {
+            Set<Integer> subject = small.union(large);
+            assertThat(subject, containsInAnyOrder(1, 2, 3, 4, 5, 6));
+            assertEquals(6, subject.size());
+            assertTrue(subject.contains(1));
+            assertTrue(subject.contains(6));
+            assertFalse(subject.contains(7));
+            assertEquals(subject, large.union(small));
+        }
+
+        @Test
+        void viewsReflectChangesToWrappedSets() {
+            HashSet<Integer> underlying = new HashSet<>(asList(1, 2, 3));
+            Set<Integer> wrapped = Set.wrap(underlying);
+            Set<Integer> union = wrapped.union(large);
+            Set<Integer> intersection = wrapped.intersect(large);
+            Set<Integer> difference = wrapped.difference(large);
+            assertEquals(6, union.size());
+            assertEquals(2, intersection.size());
+            assertEquals(1, difference.size());
+            underlying.add(99);
+            assertEquals(7, union.size());
+            assertThat(union, containsInAnyOrder(1, 2, 3, 4, 5, 6, 99));
+            assertEquals(2, difference.size());
+            assertThat(difference, containsInAnyOrder(1, 99));
+            underlying.remove(2);
+            underlying.remove(3);
+            assertEquals(0, intersection.size());
+            assertTrue(intersection.isEmpty());
+            underlying.add(4);
+            assertFalse(intersection.isEmpty());
+        }
+
+        @Test
+        void unionWithEmptyReturnsSameSet() {
+            assertSame(small, small.union(Set.empty()));
+            assertSame(small, Set.<Integer>empty().union(small));
+        }
+
+        @Test
+        void intersect() {
+            Set<Integer> subject = small.intersect(large);
+            assertThat(subject, containsInAnyOrder(2, 3));
+            assertEquals(2, subject.size());
+            assertTrue(subject.contains(2));
+            assertFalse(subject.contains(1));
+            assertFalse(subject.contains(4));
+            assertEquals(subject, large.intersect(small));
+        }
+
+        @Test
+        void intersectWithEmptyIsEmpty() {
+            assertTrue(small.intersect(Set.empty()).isEmpty());
+            assertTrue(Set.<Integer>empty().intersect(small).isEmpty());
+        }
+
+        @Test
+        void intersectOfDisjointSetsIsEmpty() {
+            Set<Integer> subject = small.intersect(Set.wrap(new HashSet<>(asList(7, 8))));
+            assertTrue(subject.isEmpty());
+            assertThat(subject, emptyIterable());
+        }
+
+        @Test
+        void difference() {
+            assertThat(small.difference(large), containsInAnyOrder(1));
+            assertThat(large.difference(small), containsInAnyOrder(4, 5, 6));
+            assertEquals(3, large.difference(small).size());
+            assertFalse(large.difference(small).contains(2));
+        }
+
+        @Test
+        void differenceWithSelfIsEmpty() {
+            assertTrue(small.difference(small).isEmpty());
+        }
+
+        @Test
+        void symmetricDifference() {
+            Set<Integer> subject = small.symmetricDifference(large);
+            assertThat(subject, containsInAnyOrder(1, 4, 5, 6));
+            assertEquals(4, subject.size());
+            assertTrue(subject.contains(1));
+            assertTrue(subject.contains(4));
+            assertFalse(subject.contains(2));
+            assertEquals(subject, large.symmetricDifference(small));
+        }
+
+        @Test
+        void isSubsetOf() {
+            assertTrue(small.intersect(large).isSubsetOf(small));
+            assertTrue(small.intersect(large).isSubsetOf(large));
+            assertTrue(Set.<Integer>empty().isSubsetOf(small));
+            assertTrue(small.isSubsetOf(small));
+            assertFalse(small.isSubsetOf(large));
+            assertFalse(large.isSubsetOf(small));
+        }
+
+        @Test
+        void disjoint() {
+            assertFalse(small.disjoint(large));
+            assertFalse(large.disjoint(small));
+            assertTrue(small.difference(large).disjoint(large));
+            assertTrue(small.disjoint(Set.empty()));
+        }
+
+        @Test
+        void iteratorsDoNotSupportRemove() {
+            Iterator<Integer> iterator = small.union(large).iterator();
+            iterator.next();
+            assertThrows(UnsupportedOperationException.class, iterator::remove);
+        }
+
+        @Test
+        void argumentsMustNotBeNull() {
+            assertThrows(NullPointerException.class, () -> small.union(null));
+            assertThrows(NullPointerException.class, () -> small.intersect(null));
+            assertThrows(NullPointerException.class, () -> small.difference(null));
+            assertThrows(NullPointerException.class, () -> small.symmetricDifference(null));
+            assertThrows(NullPointerException.class, () -> small.isSubsetOf(null));
+            assertThrows(NullPointerException.class, () -> small.disjoint(null));
+        }
+
+    }
+
 }
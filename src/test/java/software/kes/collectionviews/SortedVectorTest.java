@@ -0,0 +1,239 @@
+package software.kes.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.emptyIterable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedVectorTest {
+
+    private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+    @Nested
+    @DisplayName("sort")
+    class Sort {
+
+        @Test
+        void throwsOnNullComparator() {
+            assertThrows(NullPointerException.class, () -> Vector.of(1, 2).sort(null));
+        }
+
+        @Test
+        void sortsElements() {
+            assertThat(Vector.of(5, 3, 1, 4, 2).sort(NATURAL), contains(1, 2, 3, 4, 5));
+        }
+
+        @Test
+        void sortsEmptyVector() {
+            ImmutableSortedVector<Integer> subject = Vector.<Integer>empty().sort(NATURAL);
+            assertTrue(subject.isEmpty());
+            assertEquals(-1, subject.binarySearch(1));
+        }
+
+        @Test
+        void sortIsStable() {
+            Vector<String> source = Vector.of("bb", "a", "cc", "b", "aa", "c");
+            assertThat(source.sort(Comparator.comparingInt(String::length)),
+                    contains("a", "b", "c", "bb", "cc", "aa"));
+        }
+
+        @Test
+        void doesNotAlterSource() {
+            Integer[] underlying = {3, 1, 2};
+            Vector.wrap(underlying).sort(NATURAL);
+            assertThat(asList(underlying), contains(3, 1, 2));
+        }
+
+        @Test
+        void equalToUnsortedVectorWithSameElements() {
+            assertEquals(Vector.of(1, 2, 3), Vector.of(3, 2, 1).sort(NATURAL));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("searching")
+    class Searching {
+        private final ImmutableSortedVector<Integer> subject = Vector.of(10, 20, 20, 20, 30, 40).sort(NATURAL);
+
+        @Test
+        void binarySearchFindsPresentElements() {
+            assertEquals(0, subject.binarySearch(10));
+            assertEquals(5, subject.binarySearch(40));
+            assertEquals(20, subject.unsafeGet(subject.binarySearch(20)));
+        }
+
+        @Test
+        void binarySearchReturnsInsertionPointForMissingElements() {
+            assertEquals(-1, subject.binarySearch(5));
+            assertEquals(-2, subject.binarySearch(15));
+            assertEquals(-5, subject.binarySearch(25));
+            assertEquals(-7, subject.binarySearch(50));
+        }
+
+        @Test
+        void lowerBound() {
+            assertEquals(0, subject.lowerBound(5));
+            assertEquals(1, subject.lowerBound(20));
+            assertEquals(4, subject.lowerBound(25));
+            assertEquals(6, subject.lowerBound(50));
+        }
+
+        @Test
+        void upperBound() {
+            assertEquals(0, subject.upperBound(5));
+            assertEquals(4, subject.upperBound(20));
+            assertEquals(4, subject.upperBound(25));
+            assertEquals(6, subject.upperBound(40));
+        }
+
+        @Test
+        void usesComparator() {
+            ImmutableSortedVector<Integer> descending = Vector.of(1, 3, 2).sort(NATURAL.reversed());
+            assertThat(descending, contains(3, 2, 1));
+            assertEquals(2, descending.binarySearch(1));
+            assertEquals(1, descending.lowerBound(2));
+        }
+
+        @Test
+        void agreesWithLinearSearchOnLargeVector() {
+            List<Integer> elements = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                elements.add((i * 7919) % 500);
+            }
+            ImmutableSortedVector<Integer> large = Vector.copyFrom(elements).sort(NATURAL);
+            for (int key = -1; key <= 500; key++) {
+                int expectedLower = 0;
+                while (expectedLower < large.size() && large.unsafeGet(expectedLower) < key) {
+                    expectedLower++;
+                }
+                int expectedUpper = expectedLower;
+                while (expectedUpper < large.size() && large.unsafeGet(expectedUpper) <= key) {
+                    expectedUpper++;
+                }
+                assertEquals(expectedLower, large.lowerBound(key));
+                assertEquals(expectedUpper, large.upperBound(key));
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("range")
+    class Range {
+        private final ImmutableSortedVector<Integer> subject = Vector.of(1, 2, 3, 4, 5, 6).sort(NATURAL);
+
+        @Test
+        void returnsElementsInHalfOpenRange() {
+            assertThat(subject.range(2, 5), contains(2, 3, 4));
+        }
+
+        @Test
+        void boundsNeedNotBePresent() {
+            assertThat(subject.range(0, 3), contains(1, 2));
+            assertThat(subject.range(4, 100), contains(4, 5, 6));
+        }
+
+        @Test
+        void emptyWhenToIsNotGreaterThanFrom() {
+            assertThat(subject.range(4, 4), emptyIterable());
+            assertThat(subject.range(5, 2), emptyIterable());
+        }
+
+        @Test
+        void returnsItselfIfRangeCoversEverything() {
+            assertSame(subject, subject.range(0, 7));
+        }
+
+        @Test
+        void resultIsSearchable() {
+            ImmutableSortedVector<Integer> range = subject.range(2, 6);
+            assertEquals(1, range.binarySearch(3));
+            assertThat(range.range(3, 5), contains(3, 4));
+        }
+
+        @Test
+        void rangeOfMutableSortedVectorIsView() {
+            Integer[] underlying = {1, 2, 3, 4};
+            SortedVector<Integer> range = SortedVector.wrap(NATURAL, Vector.wrap(underlying)).range(2, 4);
+            underlying[1] = 0;
+            assertThat(range, contains(0, 3));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("merge")
+    class Merge {
+
+        @Test
+        void mergesInOrder() {
+            ImmutableSortedVector<Integer> first = Vector.of(1, 4, 6, 9).sort(NATURAL);
+            ImmutableSortedVector<Integer> second = Vector.of(2, 3, 7, 10, 11).sort(NATURAL);
+            assertThat(first.merge(second), contains(1, 2, 3, 4, 6, 7, 9, 10, 11));
+        }
+
+        @Test
+        void mergeIsStable() {
+            Comparator<String> byLength = Comparator.comparingInt(String::length);
+            ImmutableSortedVector<String> first = Vector.of("a", "bb").sort(byLength);
+            ImmutableSortedVector<String> second = Vector.of("c", "dd").sort(byLength);
+            assertThat(first.merge(second), contains("a", "c", "bb", "dd"));
+        }
+
+        @Test
+        void mergeWithEmpty() {
+            ImmutableSortedVector<Integer> subject = Vector.of(1, 2).sort(NATURAL);
+            ImmutableSortedVector<Integer> empty = Vector.<Integer>empty().sort(NATURAL);
+            assertSame(subject, subject.merge(empty));
+            assertSame(subject, empty.merge(subject));
+        }
+
+        @Test
+        void throwsOnDifferentComparators() {
+            ImmutableSortedVector<Integer> first = Vector.of(1, 2).sort(NATURAL);
+            ImmutableSortedVector<Integer> second = Vector.of(1, 2).sort(NATURAL.reversed());
+            assertThrows(IllegalArgumentException.class, () -> first.merge(second));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap")
+    class Wrap {
+
+        @Test
+        void throwsOnNullArguments() {
+            assertThrows(NullPointerException.class, () -> SortedVector.wrap(null, Vector.of(1)));
+            assertThrows(NullPointerException.class, () -> SortedVector.<Integer>wrap(NATURAL, null));
+        }
+
+        @Test
+        void wrappingImmutableVectorYieldsImmutableSortedVector() {
+            assertTrue(SortedVector.wrap(NATURAL, Vector.of(1, 2, 3)) instanceof ImmutableSortedVector<?>);
+        }
+
+        @Test
+        void toImmutableMakesCopy() {
+            Integer[] underlying = {1, 2, 3};
+            ImmutableSortedVector<Integer> subject = SortedVector.wrap(NATURAL, Vector.wrap(underlying)).toImmutable();
+            underlying[0] = 0;
+            assertThat(subject, contains(1, 2, 3));
+            assertEquals(0, subject.binarySearch(1));
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+package software.kes.collectionviews;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.kes.collectionviews.EmptyVector.emptyVector;
+
+class TransientVectorBuilderTest {
+
+    @Test
+    void emptyBuilderYieldsEmptyVector() {
+        assertSame(emptyVector(), Vector.<String>transientBuilder().build());
+    }
+
+    @Test
+    void throwsOnNegativeInitialCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> Vector.transientBuilder(-1));
+    }
+
+    @Test
+    void add() {
+        assertEquals(Vector.of("foo", "bar"), Vector.<String>transientBuilder().add("foo").add("bar").build());
+    }
+
+    @Test
+    void addReturnsSameBuilder() {
+        TransientVectorBuilder<String> builder = Vector.transientBuilder();
+        assertSame(builder, builder.add("foo"));
+        assertSame(builder, builder.addAll(asList("bar", "baz")));
+        assertEquals(3, builder.size());
+    }
+
+    @Test
+    void growsBeyondInitialCapacity() {
+        TransientVectorBuilder<Integer> builder = Vector.transientBuilder(0);
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            builder.add(i);
+            expected.add(i);
+        }
+        assertEquals(Vector.copyFrom(expected), builder.build());
+    }
+
+    @Test
+    void exactCapacityIsNotSliced() {
+        ImmutableVector<Integer> result = Vector.<Integer>transientBuilder(3).add(1).add(2).add(3).build();
+        assertEquals(Vector.of(1, 2, 3), result);
+        assertEquals(0, result.viewDepth());
+    }
+
+    @Test
+    void addAllVector() {
+        ImmutableVector<Integer> result = Vector.<Integer>transientBuilder(1)
+                .add(0)
+                .addAll(Vector.range(20).drop(1))
+                .addAll(Vector.of(100, 101).reverse())
+                .build();
+        assertEquals(Vector.range(20).concat(Vector.of(101, 100)), result);
+    }
+
+    @Test
+    void addAllCollectionAndIterable() {
+        ImmutableVector<String> result = Vector.<String>transientBuilder(0)
+                .addAll(asList("foo", "bar"))
+                .addAll(Set.of("baz"))
+                .build();
+        assertThat(result, contains("foo", "bar", "baz"));
+        assertThat(Vector.<String>transientBuilder().addAll(new HashSet<>(asList("a", "b"))).build(),
+                containsInAnyOrder("a", "b"));
+    }
+
+    @Test
+    void cannotBeUsedAfterBuild() {
+        TransientVectorBuilder<Integer> builder = Vector.<Integer>transientBuilder().add(1);
+        assertEquals(Vector.of(1), builder.build());
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, () -> builder.add(2));
+        assertThrows(IllegalStateException.class, () -> builder.addAll(asList(2, 3)));
+    }
+
+}
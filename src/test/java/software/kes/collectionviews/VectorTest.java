@@ -9,10 +9,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
@@ -26,13 +37,17 @@ import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.Comparator.naturalOrder;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -1898,6 +1913,49 @@ class VectorTest {
 
     }
 
+    @Nested
+    @DisplayName("getOrElse and getOrNull")
+    class GetOrElse {
+        private final Vector<String> subject = Vector.wrap(new String[]{"foo", null, "baz"});
+
+        @Test
+        void getOrElseReturnsElementInRange() {
+            assertEquals("foo", subject.getOrElse(0, "default"));
+            assertEquals("baz", subject.getOrElse(2, "default"));
+        }
+
+        @Test
+        void getOrElseReturnsDefaultForNullElement() {
+            assertEquals("default", subject.getOrElse(1, "default"));
+        }
+
+        @Test
+        void getOrElseReturnsDefaultOutOfRange() {
+            assertEquals("default", subject.getOrElse(-1, "default"));
+            assertEquals("default", subject.getOrElse(3, "default"));
+            assertEquals("default", Vector.<String>empty().getOrElse(0, "default"));
+        }
+
+        @Test
+        void getOrNullReturnsElementOrNull() {
+            assertEquals("foo", subject.getOrNull(0));
+            assertNull(subject.getOrNull(1));
+            assertEquals("baz", subject.getOrNull(2));
+            assertNull(subject.getOrNull(-1));
+            assertNull(subject.getOrNull(3));
+        }
+
+        @Test
+        void agreesWithGet() {
+            Vector<Integer> vector = Vector.range(10).fmap(n -> n * 2).drop(3);
+            for (int i = -1; i <= vector.size(); i++) {
+                assertEquals(vector.get(i).orElse(-1), vector.getOrElse(i, -1));
+                assertEquals(vector.get(i).orElse(null), vector.getOrNull(i));
+            }
+        }
+
+    }
+
     @Nested
     @DisplayName("cross")
     class Cross {
@@ -2221,4 +2279,515 @@ class VectorTest {
                     contains(equalTo(Vector.of(0, 1, 2, 3))));
         }
     }
+
+    @Nested
+    @DisplayName("slide with step")
+    class SlideWithStep {
+        @Test
+        void throwsOnZeroArguments() {
+            assertThrows(IllegalArgumentException.class, () -> Vector.of(1).slide(0, 1));
+            assertThrows(IllegalArgumentException.class, () -> Vector.of(1).slide(1, 0));
+        }
+
+        @Test
+        void onEmpty() {
+            assertTrue(Vector.wrap(emptyList()).slide(2, 2).isEmpty());
+        }
+
+        @Test
+        void stepOfOneMatchesSlide() {
+            Vector<Integer> subject = Vector.wrap(asList(0, 1, 2, 3, 4));
+            for (int k = 1; k <= 6; k++) {
+                assertEquals(Vector.copyFrom(subject.slide(k)), subject.slide(k, 1));
+            }
+        }
+
+        @Test
+        void windowsStartEveryStep() {
+            Vector<Integer> subject = Vector.wrap(asList(0, 1, 2, 3, 4, 5, 6));
+            assertThat(subject.slide(3, 2),
+                    contains(equalTo(Vector.of(0, 1, 2)),
+                            equalTo(Vector.of(2, 3, 4)),
+                            equalTo(Vector.of(4, 5, 6))));
+            assertThat(subject.slide(2, 3),
+                    contains(equalTo(Vector.of(0, 1)),
+                            equalTo(Vector.of(3, 4))));
+            assertThat(subject.slide(10, 3), contains(equalTo(Vector.of(0, 1, 2, 3, 4, 5, 6))));
+        }
+
+        @Test
+        void windowsAreIndexable() {
+            Vector<? extends NonEmptyVector<Integer>> windows = Vector.range(1_000_000).slide(10, 7);
+            assertEquals(142_856, windows.size());
+            assertThat(windows.unsafeGet(100_000), contains(700_000, 700_001, 700_002, 700_003, 700_004,
+                    700_005, 700_006, 700_007, 700_008, 700_009));
+            assertThrows(IndexOutOfBoundsException.class, () -> windows.unsafeGet(142_856));
+        }
+
+        @Test
+        void windowsAreViewsOfSource() {
+            Integer[] underlying = {0, 1, 2, 3};
+            Vector<? extends NonEmptyVector<Integer>> windows = Vector.wrap(underlying).slide(2, 2);
+            underlying[2] = 20;
+            assertThat(windows.unsafeGet(1), contains(20, 3));
+        }
+    }
+
+    @Nested
+    @DisplayName("grouped")
+    class Grouped {
+        @Test
+        void throwsOnZeroArgument() {
+            assertThrows(IllegalArgumentException.class, () -> Vector.of(1).grouped(0));
+        }
+
+        @Test
+        void onEmpty() {
+            assertTrue(Vector.wrap(emptyList()).grouped(3).isEmpty());
+        }
+
+        @Test
+        void lastChunkIsRagged() {
+            assertThat(Vector.wrap(asList(0, 1, 2, 3, 4)).grouped(2),
+                    contains(equalTo(Vector.of(0, 1)),
+                            equalTo(Vector.of(2, 3)),
+                            equalTo(Vector.of(4))));
+            assertThat(Vector.wrap(asList(0, 1, 2, 3)).grouped(2),
+                    contains(equalTo(Vector.of(0, 1)),
+                            equalTo(Vector.of(2, 3))));
+            assertThat(Vector.wrap(asList(0, 1, 2)).grouped(5), contains(equalTo(Vector.of(0, 1, 2))));
+        }
+
+        @Test
+        void chunksCoverEveryElementOnce() {
+            Vector<Integer> subject = Vector.range(1_001);
+            ImmutableVector<Integer> flattened = Vector.copyFrom(subject.grouped(10).stream()
+                    .flatMap(Vector::stream)
+                    .collect(Collectors.toList()));
+            assertEquals(subject, flattened);
+            assertEquals(101, subject.grouped(10).size());
+            assertThat(subject.grouped(10).unsafeGet(100), contains(1_000));
+        }
+
+        @Test
+        void preservesPrimitiveSlices() {
+            assertThat(IntVector.range(5).grouped(2).unsafeGet(1), instanceOf(IntVector.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("slidingCount")
+    class SlidingCount {
+        @Test
+        void throwsOnZeroArgument() {
+            assertThrows(IllegalArgumentException.class, () -> Vector.of(1).slidingCount(0, n -> true));
+        }
+
+        @Test
+        void onEmpty() {
+            assertSame(IntVector.empty(), Vector.<Integer>empty().slidingCount(2, n -> true));
+        }
+
+        @Test
+        void countsMatchesInEachWindow() {
+            assertThat(Vector.of(1, 2, 4, 5, 7, 8).slidingCount(3, n -> n % 2 == 0), contains(2, 2, 1, 1));
+        }
+
+        @Test
+        void windowLargerThanVector() {
+            assertThat(Vector.of(1, 2, 4).slidingCount(5, n -> n % 2 == 0), contains(2));
+        }
+
+        @Test
+        void callsPredicateOncePerElement() {
+            int[] calls = {0};
+            Vector.range(100).slidingCount(7, n -> {
+                calls[0] += 1;
+                return n % 3 == 0;
+            });
+            assertEquals(100, calls[0]);
+        }
+    }
+
+    @Nested
+    @DisplayName("slidingMin and slidingMax")
+    class SlidingMinAndMax {
+        @Test
+        void throwsOnZeroArgument() {
+            assertThrows(IllegalArgumentException.class, () -> Vector.of(1).slidingMin(0, naturalOrder()));
+            assertThrows(IllegalArgumentException.class, () -> Vector.of(1).slidingMax(0, naturalOrder()));
+        }
+
+        @Test
+        void onEmpty() {
+            assertTrue(Vector.<Integer>empty().slidingMin(2, naturalOrder()).isEmpty());
+            assertTrue(Vector.<Integer>empty().slidingMax(2, naturalOrder()).isEmpty());
+        }
+
+        @Test
+        void findsExtremesOfEachWindow() {
+            Vector<Integer> subject = Vector.of(1, 3, 2, 5, 4, 0);
+            assertThat(subject.slidingMin(3, naturalOrder()), contains(1, 2, 2, 0));
+            assertThat(subject.slidingMax(3, naturalOrder()), contains(3, 5, 5, 5));
+            assertThat(subject.slidingMin(1, naturalOrder()), contains(1, 3, 2, 5, 4, 0));
+            assertThat(subject.slidingMax(10, naturalOrder()), contains(5));
+        }
+
+        @Test
+        void choosesFirstOfEqualElements() {
+            Vector<String> subject = Vector.of("b", "A", "a", "B");
+            Comparator<String> ignoringCase = String.CASE_INSENSITIVE_ORDER;
+            assertThat(subject.slidingMin(3, ignoringCase), contains("A", "A"));
+            assertThat(subject.slidingMax(3, ignoringCase), contains("b", "B"));
+        }
+
+        @Test
+        void agreesWithSlide() {
+            Vector<Integer> subject = Vector.range(500).fmap(n -> (n * 7919) % 31);
+            for (int k = 1; k <= 40; k += 3) {
+                assertEquals(Vector.copyFrom(subject.slide(k).fmap(w -> w.stream().min(naturalOrder()).get())),
+                        subject.slidingMin(k, naturalOrder()));
+                assertEquals(Vector.copyFrom(subject.slide(k).fmap(w -> w.stream().max(naturalOrder()).get())),
+                        subject.slidingMax(k, naturalOrder()));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("slidingWindowCursor")
+    class SlidingWindowCursorTests {
+        @Test
+        void throwsOnZeroArgument() {
+            assertThrows(IllegalArgumentException.class, () -> Vector.of(1).slidingWindowCursor(0));
+        }
+
+        @Test
+        void onEmpty() {
+            SlidingWindowCursor<Integer> cursor = Vector.<Integer>empty().slidingWindowCursor(2);
+            assertEquals(0, cursor.windowCount());
+            assertFalse(cursor.advance());
+            assertThrows(IllegalStateException.class, cursor::window);
+        }
+
+        @Test
+        void visitsSameWindowsAsSlide() {
+            Vector<Integer> subject = Vector.range(10);
+            for (int k = 1; k <= 12; k++) {
+                SlidingWindowCursor<Integer> cursor = subject.slidingWindowCursor(k);
+                List<Vector<Integer>> windows = new ArrayList<>();
+                while (cursor.advance()) {
+                    windows.add(cursor.window().toImmutable());
+                }
+                assertEquals(Vector.copyFrom(subject.slide(k)), Vector.copyFrom(windows));
+                assertEquals(windows.size(), cursor.windowCount());
+            }
+        }
+
+        @Test
+        void reusesOneWindow() {
+            SlidingWindowCursor<Integer> cursor = Vector.of(1, 2, 3, 4).slidingWindowCursor(2);
+            assertThrows(IllegalStateException.class, cursor::window);
+            assertEquals(-1, cursor.position());
+            assertTrue(cursor.advance());
+            NonEmptyVector<Integer> window = cursor.window();
+            Vector<Integer> tail = window.tail();
+            ImmutableVector<Integer> copy = window.toImmutable();
+            assertTrue(cursor.advance());
+            assertSame(window, cursor.window());
+            assertEquals(1, cursor.position());
+            assertThat(window, contains(2, 3));
+            assertThat(tail, contains(3));
+            assertThat(copy, contains(1, 2));
+        }
+
+        @Test
+        void notPositionedAfterLastWindow() {
+            SlidingWindowCursor<Integer> cursor = Vector.of(1, 2).slidingWindowCursor(2);
+            assertTrue(cursor.advance());
+            assertFalse(cursor.advance());
+            assertFalse(cursor.advance());
+            assertEquals(-1, cursor.position());
+            assertThrows(IllegalStateException.class, cursor::window);
+        }
+    }
+
+    @Nested
+    @DisplayName("stream")
+    class StreamTests {
+
+        @Test
+        void emptyStream() {
+            assertEquals(0, Vector.empty().stream().count());
+        }
+
+        @Test
+        void sequentialStreamPreservesOrder() {
+            assertEquals(asList(1, 2, 3), Vector.wrap(asList(1, 2, 3)).stream().collect(Collectors.toList()));
+        }
+
+        @Test
+        void parallelStreamPreservesOrder() {
+            Vector<Integer> subject = Vector.range(10_000).fmap(n -> n * 2);
+            List<Integer> result = subject.parallelStream().collect(Collectors.toList());
+            assertEquals(subject, Vector.wrap(result));
+        }
+
+        @Test
+        void parallelStreamSum() {
+            Integer[] underlying = new Integer[100_000];
+            for (int i = 0; i < underlying.length; i++) {
+                underlying[i] = i;
+            }
+            long sum = Vector.wrap(underlying).parallelStream().mapToLong(n -> n).sum();
+            assertEquals(4_999_950_000L, sum);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("spliterator")
+    class SpliteratorTests {
+
+        @Test
+        void isSizedAndOrdered() {
+            Spliterator<Integer> spliterator = Vector.wrap(asList(1, 2, 3)).spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+            assertFalse(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+            assertEquals(3, spliterator.getExactSizeIfKnown());
+        }
+
+        @Test
+        void immutableVectorsAreImmutable() {
+            assertTrue(Vector.of(1, 2, 3).spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+        }
+
+        @Test
+        void splitsInHalf() {
+            Spliterator<Integer> right = Vector.wrap(asList(0, 1, 2, 3, 4)).spliterator();
+            Spliterator<Integer> left = right.trySplit();
+            assertEquals(2, left.estimateSize());
+            assertEquals(3, right.estimateSize());
+            List<Integer> elements = new ArrayList<>();
+            left.forEachRemaining(elements::add);
+            assertEquals(asList(0, 1), elements);
+            assertTrue(right.tryAdvance(elements::add));
+            assertEquals(asList(0, 1, 2), elements);
+            assertEquals(2, right.estimateSize());
+        }
+
+        @Test
+        void doesNotSplitSingleElement() {
+            Spliterator<Integer> spliterator = Vector.wrap(singletonList(1)).spliterator();
+            assertNull(spliterator.trySplit());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyInto")
+    class CopyInto {
+
+        @Test
+        void copiesWrappedArray() {
+            Object[] dest = new Object[5];
+            Vector.wrap(new String[]{"a", "b", "c", "d"}).copyInto(dest, 1, 1, 4);
+            assertArrayEquals(new Object[]{null, "b", "c", "d", null}, dest);
+        }
+
+        @Test
+        void copiesSliceOfArray() {
+            Object[] dest = new Object[3];
+            Vector.copyFrom(new Integer[]{1, 2, 3, 4, 5, 6}).slice(2, 6).copyInto(dest, 0, 1, 4);
+            assertArrayEquals(new Object[]{4, 5, 6}, dest);
+        }
+
+        @Test
+        void copiesReversed() {
+            Object[] dest = new Object[4];
+            Vector.wrap(new Integer[]{1, 2, 3, 4, 5}).reverse().copyInto(dest, 0, 1, 5);
+            assertArrayEquals(new Object[]{4, 3, 2, 1}, dest);
+        }
+
+        @Test
+        void copiesRepeatingAndLazy() {
+            Object[] dest = new Object[4];
+            Vector.fill(10, "x").copyInto(dest, 1, 3, 6);
+            assertArrayEquals(new Object[]{null, "x", "x", "x"}, dest);
+            Vector.lazyFill(10, n -> n * 10).drop(2).copyInto(dest, 0, 0, 4);
+            assertArrayEquals(new Object[]{20, 30, 40, 50}, dest);
+        }
+
+        @Test
+        void copiesMappedView() {
+            Object[] dest = new Object[3];
+            Vector.range(5).fmap(n -> n + 1).copyInto(dest, 0, 2, 5);
+            assertArrayEquals(new Object[]{3, 4, 5}, dest);
+        }
+
+        @Test
+        void emptyRangeCopiesNothing() {
+            Object[] dest = new Object[0];
+            Vector.of(1, 2, 3).copyInto(dest, 0, 2, 2);
+            Vector.empty().copyInto(dest, 0, 0, 0);
+        }
+
+        @Test
+        void throwsOnInvalidRange() {
+            Vector<Integer> subject = Vector.wrap(new Integer[]{1, 2, 3});
+            Object[] dest = new Object[3];
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.copyInto(dest, 0, -1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.copyInto(dest, 0, 0, 4));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.copyInto(dest, 0, 2, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.copyInto(dest, 1, 0, 3));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.copyInto(dest, -1, 0, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.reverse().copyInto(dest, 1, 0, 3));
+            assertThrows(NullPointerException.class, () -> subject.copyInto(null, 0, 0, 1));
+        }
+
+        @Test
+        void toArrayUsesGenerator() {
+            String[] result = Vector.wrap(asList("a", "b", "c")).reverse().toArray(String[]::new);
+            assertArrayEquals(new String[]{"c", "b", "a"}, result);
+            assertEquals(0, Vector.<String>empty().toArray(String[]::new).length);
+        }
+
+        @Test
+        void toImmutableCopiesElements() {
+            Integer[] underlying = {1, 2, 3};
+            ImmutableVector<Integer> copied = Vector.wrap(underlying).slice(1, 3).toImmutable();
+            underlying[1] = 0;
+            assertThat(copied, contains(2, 3));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap ByteBuffer")
+    class WrapByteBuffer {
+
+        private ByteBuffer pairs(int... values) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+            for (int value : values) {
+                buffer.putInt(value);
+            }
+            buffer.flip();
+            return buffer;
+        }
+
+        private final RecordDecoder<Tuple2<Integer, Integer>> decoder =
+                (buffer, offset) -> tuple(buffer.getInt(offset), buffer.getInt(offset + 4));
+
+        @Test
+        void throwsOnInvalidArguments() {
+            assertThrows(NullPointerException.class, () -> Vector.wrap((ByteBuffer) null, 8, decoder));
+            assertThrows(NullPointerException.class, () -> Vector.wrap(pairs(1, 2), 8, null));
+            assertThrows(IllegalArgumentException.class, () -> Vector.wrap(pairs(1, 2), 0, decoder));
+            assertThrows(IllegalArgumentException.class, () -> Vector.wrap(pairs(1, 2, 3), 8, decoder));
+        }
+
+        @Test
+        void decodesRecordsOnDemand() {
+            Vector<Tuple2<Integer, Integer>> subject = Vector.wrap(pairs(1, 2, 3, 4, 5, 6), 8, decoder);
+            assertEquals(3, subject.size());
+            assertThat(subject, contains(tuple(1, 2), tuple(3, 4), tuple(5, 6)));
+        }
+
+        @Test
+        void emptyBufferYieldsEmptyVector() {
+            assertTrue(Vector.wrap(pairs(), 8, decoder).isEmpty());
+        }
+
+        @Test
+        void startsAtPositionAndDoesNotAlterBuffer() {
+            ByteBuffer buffer = pairs(9, 9, 1, 2, 3, 4);
+            buffer.position(8);
+            Vector<Tuple2<Integer, Integer>> subject = Vector.wrap(buffer, 8, decoder);
+            buffer.position(0);
+            buffer.limit(4);
+            assertThat(subject, contains(tuple(1, 2), tuple(3, 4)));
+        }
+
+        @Test
+        void writesToBufferAreVisible() {
+            ByteBuffer buffer = pairs(1, 2, 3, 4);
+            Vector<Tuple2<Integer, Integer>> subject = Vector.wrap(buffer, 8, decoder);
+            buffer.putInt(8, 30);
+            assertEquals(tuple(30, 4), subject.unsafeGet(1));
+        }
+
+        @Test
+        void slicesRemainOverBuffer() {
+            Vector<Tuple2<Integer, Integer>> subject = Vector.wrap(pairs(1, 2, 3, 4, 5, 6, 7, 8), 8, decoder);
+            Vector<Tuple2<Integer, Integer>> sliced = subject.drop(1).take(2);
+            assertThat(sliced, contains(tuple(3, 4), tuple(5, 6)));
+            assertEquals(0, sliced.viewDepth());
+            assertThat(subject.slice(3, 10), contains(tuple(7, 8)));
+            assertThrows(IndexOutOfBoundsException.class, () -> sliced.unsafeGet(2));
+        }
+
+        @Test
+        void readsMappedFile() throws IOException {
+            Path file = Files.createTempFile("records", ".bin");
+            try {
+                ByteBuffer contents = pairs(1, 2, 3, 4);
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    channel.write(contents);
+                    MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    mapped.order(ByteOrder.LITTLE_ENDIAN);
+                    assertThat(Vector.wrap(mapped, 8, decoder), contains(tuple(1, 2), tuple(3, 4)));
+                }
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("view rewriting")
+    class ViewRewriting {
+        private final Integer[] underlying = {1, 2, 3, 4, 5, 6, 7, 8};
+
+        @Test
+        void sliceIsPushedBelowMapping() {
+            Vector<Integer> subject = Vector.wrap(underlying).fmap(n -> n * 10).slice(2, 6).fmap(n -> n + 1);
+            assertEquals(2, subject.viewDepth());
+            assertThat(subject, contains(31, 41, 51, 61));
+        }
+
+        @Test
+        void sliceIsPushedBelowReverse() {
+            Vector<Integer> subject = Vector.wrap(underlying).reverse().slice(1, 7).slice(1, 4);
+            assertEquals(2, subject.viewDepth());
+            assertThat(subject, contains(6, 5, 4));
+        }
+
+        @Test
+        void reverseIsPushedBelowMapping() {
+            Vector<Integer> reversed = Vector.wrap(underlying).fmap(n -> n * 10).reverse();
+            assertThat(reversed.take(3), contains(80, 70, 60));
+            assertEquals(1, reversed.reverse().viewDepth());
+        }
+
+        @Test
+        void zipReadsSlicesDirectly() {
+            Vector<Integer> source = Vector.wrap(underlying);
+            Vector<Integer> subject = source.drop(1).zipWith(Integer::sum, source.take(4)).slice(1, 3);
+            assertEquals(1, subject.viewDepth());
+            assertThat(subject, contains(5, 7));
+            assertThat(subject.fmap(n -> -n), contains(-5, -7));
+            assertEquals(1, subject.fmap(n -> -n).viewDepth());
+        }
+
+        @Test
+        void viewsReflectChangesToUnderlying() {
+            Integer[] array = {1, 2, 3, 4};
+            Vector<Integer> subject = Vector.wrap(array).fmap(n -> n * 10).reverse().drop(1);
+            array[0] = 9;
+            assertThat(subject, contains(30, 20, 90));
+        }
+
+    }
 }